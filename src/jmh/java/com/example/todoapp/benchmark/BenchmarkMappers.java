@@ -0,0 +1,37 @@
+package com.example.todoapp.benchmark;
+
+import com.example.todoapp.common.dto.json.PageResponseJsonSerializer;
+import com.example.todoapp.etag.dto.json.ETagResponseJsonSerializer;
+import com.example.todoapp.todo.dto.json.TodoResponseJsonSerializer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * ベンチマーク用の {@link ObjectMapper} を生成するユーティリティクラス
+ * <p>
+ * アプリケーションの {@code WebConfig} と同じシリアライザを登録する。
+ */
+final class BenchmarkMappers {
+
+    private BenchmarkMappers() {}
+
+    /**
+     * アプリケーションと同じシリアライザを登録した {@link ObjectMapper} を生成する。
+     *
+     * @param factory 出力形式の {@link JsonFactory}
+     * @return {@link ObjectMapper}
+     */
+    static ObjectMapper create(JsonFactory factory) {
+        return JsonMapper.builder(factory)
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule()
+                .addSerializer(new TodoResponseJsonSerializer())
+                .addSerializer(new ETagResponseJsonSerializer())
+                .addSerializer(new PageResponseJsonSerializer())
+            )
+            .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todoapp.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
+
+/**
+ * エラー処理の比較ベンチマーク
+ * <p>
+ * スタックトレースの有無による例外生成のコストと、{@link String#formatted} と
+ * {@link ErrorCode#formatMessage} によるメッセージ生成のコストを計測する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private final UUID id = UUID.randomUUID();
+
+    @Benchmark
+    public RuntimeException exceptionWithStackTrace() {
+        return new IllegalStateException("Todo Not Found");
+    }
+
+    @Benchmark
+    public RuntimeException stacklessException() {
+        return new TodoEntityNotFoundException(id);
+    }
+
+    @Benchmark
+    public String formattedMessage() {
+        return ErrorCode.INVALID_TODO_FIELD.getMessageTemplate().formatted("title", "blank");
+    }
+
+    @Benchmark
+    public String templateMessage() {
+        return ErrorCode.INVALID_TODO_FIELD.formatMessage("title", "blank");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.todoapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.dto.proto.TodoRequestMessage;
+import com.example.todoapp.todo.dto.protobuf.TodoProtobufMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * 一覧取得レスポンスの符号化と {@link TodoRequest} の復号を出力形式ごとに比較するベンチマーク
+ * <p>
+ * 各形式のペイロードサイズはセットアップ時に標準出力へ出力する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile", "protobuf" })
+    private String format;
+
+    @Param({ "100" })
+    private int size;
+
+    private ObjectMapper mapper;
+
+    private PageResponse<ETagResponse<TodoResponse>> pageResponse;
+    private byte[] encodedRequest;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> BenchmarkMappers.create(new JsonFactory());
+            case "cbor" -> BenchmarkMappers.create(new CBORFactory());
+            case "smile" -> BenchmarkMappers.create(new SmileFactory());
+            default -> null;
+        };
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 34, 56);
+        List<ETagResponse<TodoResponse>> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            content.add(new ETagResponse<>(
+                new TodoResponse(id, "タスク " + i, i % 2 == 0, now, now.plusSeconds(i)),
+                "\"" + Integer.toHexString(id.hashCode()) + "\""
+            ));
+        }
+        pageResponse = new PageResponse<>(content, 0, size, size * 10L, 10);
+
+        TodoRequest request = new TodoRequest("買い物に行く", Boolean.FALSE);
+        encodedRequest = mapper == null
+            ? TodoRequestMessage.newBuilder()
+                .setTitle(request.title())
+                .setCompleted(request.completed())
+                .build()
+                .toByteArray()
+            : mapper.writeValueAsBytes(request);
+
+        System.out.printf(
+            "%n[%s] page=%d bytes, request=%d bytes%n",
+            format,
+            encodePage(),
+            encodedRequest.length
+        );
+    }
+
+    @Benchmark
+    public int encodePage() throws IOException {
+        out.reset();
+        if (mapper == null) {
+            TodoProtobufMapper.toMessage(pageResponse).writeTo(out);
+        } else {
+            mapper.writeValue(out, pageResponse);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public TodoRequest decodeRequest() throws IOException {
+        if (mapper == null) {
+            return TodoProtobufMapper.toRequest(TodoRequestMessage.parseFrom(encodedRequest));
+        }
+        return mapper.readValue(encodedRequest, TodoRequest.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.todoapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 一覧取得レスポンスのJSON変換の比較ベンチマーク
+ * <p>
+ * {@code reflection*} は {@link Page} と {@link JsonFormat} を使ったリフレクションによる変換、
+ * {@code direct*} は {@link PageResponse} とアプリケーションに登録したシリアライザによる変換を計測する。
+ * {@code -prof gc} と組み合わせて1操作あたりの割り当て量を比較する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int size;
+
+    private ObjectMapper reflectionMapper;
+    private ObjectMapper directMapper;
+
+    private Page<ETagResponse<TodoResponse>> page;
+    private PageResponse<ETagResponse<TodoResponse>> pageResponse;
+    private ETagResponse<TodoResponse> item;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    /**
+     * 変更前の {@link TodoResponse} の日時書式
+     */
+    abstract static class LegacyTodoResponseFormat {
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        abstract LocalDateTime createdAt();
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        abstract LocalDateTime updatedAt();
+    }
+
+    @Setup
+    public void setUp() {
+        reflectionMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addMixIn(TodoResponse.class, LegacyTodoResponseFormat.class)
+            .build();
+
+        directMapper = BenchmarkMappers.create(new JsonFactory());
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 34, 56, 789_000_000);
+        List<ETagResponse<TodoResponse>> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            LocalDateTime updatedAt = now.plusSeconds(i);
+            content.add(new ETagResponse<>(
+                new TodoResponse(id, "タスク " + i, i % 2 == 0, now, updatedAt),
+                "\"" + Integer.toHexString(id.hashCode()) + "\""
+            ));
+        }
+
+        page = new PageImpl<>(
+            content,
+            PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "updatedAt")),
+            size * 10L
+        );
+        pageResponse = PageResponse.from(page);
+        item = content.get(0);
+    }
+
+    @Benchmark
+    public int reflectionPage() throws IOException {
+        return write(reflectionMapper, page);
+    }
+
+    @Benchmark
+    public int directPage() throws IOException {
+        return write(directMapper, pageResponse);
+    }
+
+    @Benchmark
+    public int reflectionItem() throws IOException {
+        return write(reflectionMapper, item.data());
+    }
+
+    @Benchmark
+    public int directItem() throws IOException {
+        return write(directMapper, item.data());
+    }
+
+    private int write(ObjectMapper mapper, Object value) throws IOException {
+        out.reset();
+        mapper.writeValue(out, value);
+        return out.size();
+    }
+}
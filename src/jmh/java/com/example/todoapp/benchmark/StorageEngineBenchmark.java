@@ -0,0 +1,137 @@
+package com.example.todoapp.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.example.todoapp.TodoappApplication;
+import com.example.todoapp.common.order.TailKeyGenerator;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoRepository;
+
+/**
+ * To-doの永続化方式（インメモリH2へのJPA、プロセス内のMVCCストア、セグメントログ）の比較ベンチマーク
+ * <p>
+ * アプリケーションを起動して {@link TodoRepository} に {@code rows} 件のTo-doを登録し、
+ * ID指定の取得・先頭ページの取得・取得してからの更新を計測する。
+ * 取得は {@code -t} で複数スレッドから実行して並行時のスループットも比較できる
+ * （更新は同じTo-doの競合で失敗しうるため1スレッドで計測する）。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageEngineBenchmark {
+
+    /** アプリケーション設定（コマンドライン引数として最優先で適用） */
+    private static final String[] APPLICATION_ARGS = {
+        "--server.port=0",
+        "--spring.jpa.show-sql=false",
+        "--spring.h2.console.enabled=false",
+        "--app.warmup.enabled=false",
+        "--logging.level.root=WARN",
+        "--logging.level.com.example.todoapp=WARN"
+    };
+
+    @Param({ "h2", "memory", "log" })
+    private String engine;
+
+    @Param({ "10000" })
+    private int rows;
+
+    @Param({ "20" })
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private UUID[] ids;
+    private Path logDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> args = new ArrayList<>(List.of(APPLICATION_ARGS));
+        switch (engine) {
+            case "memory" -> args.add("--spring.profiles.active=dev,memory");
+            case "log" -> {
+                logDirectory = Files.createTempDirectory("todo-log");
+                args.add("--spring.profiles.active=dev,log");
+                args.add("--app.storage.log.directory=" + logDirectory);
+            }
+            default -> args.add("--spring.datasource.url=jdbc:h2:mem:storage_benchmark;DB_CLOSE_DELAY=-1");
+        }
+
+        context = SpringApplication.run(TodoappApplication.class, args.toArray(String[]::new));
+        todoRepository = context.getBean(TodoRepository.class);
+
+        ids = new UUID[rows];
+        for (int i = 0; i < rows; i++) {
+            TodoEntity todo = new TodoEntity("タスク " + i, i % 2 == 0);
+            todo.setPosition(TailKeyGenerator.next());
+            ids[i] = todoRepository.save(todo).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        if (logDirectory != null) {
+            try (Stream<Path> files = Files.walk(logDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public TodoEntity findById() {
+        return todoRepository.findById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public Page<TodoEntity> findFirstPage() {
+        return todoRepository.findAll(
+            PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "updatedAt", "id"))
+        );
+    }
+
+    @Benchmark
+    public TodoEntity update() {
+        TodoEntity todo = todoRepository.findById(randomId()).orElseThrow();
+        todo.setCompleted(!todo.isCompleted());
+
+        return todoRepository.save(todo);
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
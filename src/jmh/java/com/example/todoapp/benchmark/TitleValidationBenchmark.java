@@ -0,0 +1,83 @@
+package com.example.todoapp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.todoapp.common.validation.TrimmedText;
+
+/**
+ * タイトルの検証と正規化の比較ベンチマーク
+ * <p>
+ * {@code legacy} は変更前の処理（{@code chars()} とラムダ式による空白の検証の後に、
+ * {@code trim()}・{@code isBlank()}・{@code length()} で正規化）、
+ * {@code singlePass} は {@link TrimmedText} による1回の走査を計測する。
+ * {@code -prof gc} と組み合わせて1操作あたりの割り当て量を比較する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TitleValidationBenchmark {
+
+    private static final int MAX_LENGTH = 100;
+
+    @Param({ "ascii", "japanese", "padded" })
+    private String kind;
+
+    private String title;
+
+    @Setup
+    public void setUp() {
+        title = switch (kind) {
+            case "ascii" -> "Submit the weekly report to the project manager";
+            case "japanese" -> "週次レポートをまとめてプロジェクトマネージャーに提出する";
+            default -> "  買い物に行く（牛乳・卵・食パン）\t";
+        };
+    }
+
+    @Benchmark
+    public String legacy() {
+        boolean notWhitespace = title.chars().anyMatch(c -> !Character.isWhitespace(c));
+        if (!notWhitespace) {
+            throw new IllegalArgumentException("Field 'title' must not be blank.");
+        }
+
+        String trimmed = title.trim();
+        if (trimmed.isBlank()) {
+            throw new IllegalArgumentException("Field 'title' must not be blank.");
+        }
+        if (trimmed.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                "Field '%s' must not exceed %d characters.".formatted("title", MAX_LENGTH)
+            );
+        }
+
+        return trimmed;
+    }
+
+    @Benchmark
+    public String singlePass() {
+        long range = TrimmedText.scan(title);
+        if (range == TrimmedText.BLANK) {
+            throw new IllegalArgumentException("Field 'title' must not be blank.");
+        }
+        if (TrimmedText.length(range) > MAX_LENGTH) {
+            throw new IllegalArgumentException("Field 'title' must not exceed 100 characters.");
+        }
+
+        return TrimmedText.substring(title, range);
+    }
+}
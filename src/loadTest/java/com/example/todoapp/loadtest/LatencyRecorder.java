@@ -0,0 +1,130 @@
+package com.example.todoapp.loadtest;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 操作ごとのレイテンシをHDRヒストグラムに記録するクラス
+ * <p>
+ * レイテンシはマイクロ秒単位で記録し、{@link #reset()} でウォームアップ中の記録を破棄する。
+ */
+public final class LatencyRecorder {
+
+    /** 記録可能な最大レイテンシ（マイクロ秒） */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    /** 有効桁数 */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> conflicts = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+            conflicts.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 操作のレイテンシを記録する。
+     *
+     * @param operation    対象の操作
+     * @param elapsedNanos 経過時間（ナノ秒）
+     */
+    public void record(Operation operation, long elapsedNanos) {
+        long micros = Math.min(
+            TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+            HIGHEST_TRACKABLE_MICROS
+        );
+        recorders.get(operation).recordValue(micros);
+    }
+
+    /**
+     * 想定外のステータスまたは例外を記録する。
+     *
+     * @param operation 対象の操作
+     */
+    public void recordError(Operation operation) {
+        errors.get(operation).increment();
+    }
+
+    /**
+     * {@code If-Match} の不一致（412 Precondition Failed）を記録する。
+     *
+     * @param operation 対象の操作
+     */
+    public void recordConflict(Operation operation) {
+        conflicts.get(operation).increment();
+    }
+
+    /**
+     * これまでの記録を破棄する。
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        conflicts.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 記録したレイテンシのパーセンタイルを出力する。
+     *
+     * @param out            出力先
+     * @param elapsedSeconds 計測時間（秒）
+     */
+    public void report(PrintStream out, double elapsedSeconds) {
+        out.printf(
+            "%-8s %10s %10s %10s %10s %10s %10s %8s %8s%n",
+            "op", "count", "ops/s", "p50(us)", "p99(us)", "p999(us)", "max(us)", "errors", "412"
+        );
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            total.add(histogram);
+            printRow(
+                out,
+                operation.name().toLowerCase(),
+                histogram,
+                elapsedSeconds,
+                errors.get(operation).sum(),
+                conflicts.get(operation).sum()
+            );
+        }
+
+        long totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        long totalConflicts = conflicts.values().stream().mapToLong(LongAdder::sum).sum();
+        printRow(out, "total", total, elapsedSeconds, totalErrors, totalConflicts);
+    }
+
+    private static void printRow(
+        PrintStream out,
+        String name,
+        Histogram histogram,
+        double elapsedSeconds,
+        long errorCount,
+        long conflictCount
+    ) {
+        out.printf(
+            "%-8s %10d %10.1f %10d %10d %10d %10d %8d %8d%n",
+            name,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / elapsedSeconds,
+            histogram.getValueAtPercentile(50.0),
+            histogram.getValueAtPercentile(99.0),
+            histogram.getValueAtPercentile(99.9),
+            histogram.getMaxValue(),
+            errorCount,
+            conflictCount
+        );
+    }
+}
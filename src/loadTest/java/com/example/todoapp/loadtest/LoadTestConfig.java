@@ -0,0 +1,75 @@
+package com.example.todoapp.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定
+ * <p>
+ * {@code loadtest.*} システムプロパティから読み込む。
+ *
+ * @param clients   同時実行するクライアント数
+ * @param warmup    計測前のウォームアップ時間
+ * @param duration  計測時間
+ * @param seedTodos 試験開始前に作成するTo-doの件数
+ * @param pageSize  一覧取得の表示件数
+ * @param mix       操作ごとの重み
+ */
+public record LoadTestConfig(
+    int clients,
+    Duration warmup,
+    Duration duration,
+    int seedTodos,
+    int pageSize,
+    Map<Operation, Integer> mix
+) {
+
+    /**
+     * システムプロパティから負荷試験の設定を読み込む。
+     * <ul>
+     *   <li>{@code loadtest.clients} - クライアント数（デフォルト: 64）</li>
+     *   <li>{@code loadtest.warmupSeconds} - ウォームアップ秒数（デフォルト: 10）</li>
+     *   <li>{@code loadtest.durationSeconds} - 計測秒数（デフォルト: 30）</li>
+     *   <li>{@code loadtest.seedTodos} - 初期データ件数（デフォルト: 500）</li>
+     *   <li>{@code loadtest.pageSize} - 一覧取得の表示件数（デフォルト: 20）</li>
+     *   <li>{@code loadtest.mix} - 操作の重み（デフォルト: {@code list=30,get=40,create=10,update=15,delete=5}）</li>
+     * </ul>
+     *
+     * @return 負荷試験の設定
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Integer.getInteger("loadtest.clients", 64),
+            Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+            Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30)),
+            Integer.getInteger("loadtest.seedTodos", 500),
+            Integer.getInteger("loadtest.pageSize", 20),
+            parseMix(System.getProperty(
+                "loadtest.mix",
+                "list=30,get=40,create=10,update=15,delete=5"
+            ))
+        );
+    }
+
+    /**
+     * {@code name=weight} のカンマ区切り文字列を操作ごとの重みに変換する。
+     *
+     * @param value 変換対象の文字列
+     * @return 操作ごとの重み
+     * @throws IllegalArgumentException 書式または操作名が不正な場合
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> result = new EnumMap<>(Operation.class);
+
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: '%s'".formatted(entry));
+            }
+            result.put(Operation.fromName(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.todoapp.loadtest;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.todoapp.TodoappApplication;
+
+/**
+ * {@code /api/todos} の負荷試験を実行するエントリポイント
+ * <p>
+ * アプリケーションをランダムポートとインメモリH2で起動し、
+ * 設定された操作の重みに従って多数のクライアントから並行にリクエストを送信する。
+ * 計測結果は操作ごとのp50/p99/p999として標準出力に出力する。
+ */
+public final class LoadTestMain {
+
+    /** 負荷試験時のアプリケーション設定（コマンドライン引数として最優先で適用） */
+    private static final String[] APPLICATION_ARGS = {
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "--spring.jpa.show-sql=false",
+        "--spring.h2.console.enabled=false",
+        "--logging.level.root=WARN",
+        "--logging.level.com.example.todoapp=WARN"
+    };
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(
+            TodoappApplication.class,
+            APPLICATION_ARGS
+        )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            run(config, port);
+        }
+    }
+
+    private static void run(LoadTestConfig config, int port) throws InterruptedException {
+        ExecutorService executor = newClientExecutor(config.clients());
+        TodoApiClient client = new TodoApiClient(port);
+        TodoPool pool = new TodoPool(Math.max(config.seedTodos() * 2, 16));
+        OperationMix mix = new OperationMix(config.mix());
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        for (int i = 0; i < config.seedTodos(); i++) {
+            var created = client.create("seed-" + i);
+            pool.add(created.id(), created.etag());
+        }
+
+        System.out.printf(
+            "Load test: port=%d, clients=%d, warmup=%ds, duration=%ds, mix=%s%n",
+            port,
+            config.clients(),
+            config.warmup().toSeconds(),
+            config.duration().toSeconds(),
+            config.mix()
+        );
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < config.clients(); i++) {
+            executor.execute(() -> {
+                while (running.get()) {
+                    Operation operation = mix.next();
+                    while (!execute(operation, client, pool, recorder, config.pageSize())
+                        && running.get()) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(config.warmup().toMillis());
+        recorder.reset();
+
+        long start = System.nanoTime();
+        Thread.sleep(config.duration().toMillis());
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        recorder.report(System.out, elapsedSeconds);
+    }
+
+    /**
+     * 1回の操作を実行し、レイテンシを記録する。
+     * <p>
+     * 対象のTo-doが必要な操作でプールが空の場合は、操作を変えずに実行を見送る（呼び出し元で再試行する）。
+     *
+     * @return 操作を実行した場合は {@code true}、プールが空のため見送った場合は {@code false}
+     */
+    private static boolean execute(
+        Operation operation,
+        TodoApiClient client,
+        TodoPool pool,
+        LatencyRecorder recorder,
+        int pageSize
+    ) {
+        TodoPool.Slot slot = null;
+        if (operation == Operation.GET
+            || operation == Operation.UPDATE
+            || operation == Operation.DELETE) {
+            slot = pool.pick();
+            if (slot == null) {
+                return false;
+            }
+        }
+
+        long start = System.nanoTime();
+        TodoApiClient.Result result;
+        try {
+            result = switch (operation) {
+                case LIST -> client.list(ThreadLocalRandom.current().nextInt(5), pageSize);
+                case GET -> client.get(slot.entry().id());
+                case CREATE -> client.create("load-" + UUID.randomUUID());
+                case UPDATE -> client.update(
+                    slot.entry().id(),
+                    slot.entry().etag(),
+                    "updated-" + System.nanoTime(),
+                    ThreadLocalRandom.current().nextBoolean()
+                );
+                case DELETE -> client.delete(slot.entry().id(), slot.entry().etag());
+            };
+        } catch (RuntimeException e) {
+            recorder.record(operation, System.nanoTime() - start);
+            recorder.recordError(operation);
+            return true;
+        }
+        recorder.record(operation, System.nanoTime() - start);
+        apply(operation, result, client, pool, slot, recorder);
+
+        return true;
+    }
+
+    /**
+     * 操作の結果をプールに反映する。
+     * <p>
+     * {@code If-Match} が一致しなかった場合は、最新のETagを再取得してプールを更新する。
+     * 再取得は計測対象の操作ではないため、レイテンシとエラーを記録しない。
+     */
+    private static void apply(
+        Operation operation,
+        TodoApiClient.Result result,
+        TodoApiClient client,
+        TodoPool pool,
+        TodoPool.Slot slot,
+        LatencyRecorder recorder
+    ) {
+        if (result.status() == 412) {
+            recorder.recordConflict(operation);
+            refresh(client, pool, slot);
+            return;
+        }
+        if (result.status() == 404 && slot != null) {
+            pool.remove(slot);
+            return;
+        }
+        if (!result.isSuccess()) {
+            recorder.recordError(operation);
+            return;
+        }
+
+        switch (operation) {
+            case CREATE -> pool.add(result.id(), result.etag());
+            case GET, UPDATE -> pool.update(slot, result.etag());
+            case DELETE -> pool.remove(slot);
+            default -> {}
+        }
+    }
+
+    /**
+     * 最新のETagを再取得してプールを更新する。
+     * <p>
+     * 再取得に失敗した場合はプールを変更せず、次の操作で改めて競合を検出させる。
+     */
+    private static void refresh(TodoApiClient client, TodoPool pool, TodoPool.Slot slot) {
+        TodoApiClient.Result latest;
+        try {
+            latest = client.get(slot.entry().id());
+        } catch (RuntimeException e) {
+            return;
+        }
+
+        if (latest.isSuccess()) {
+            pool.update(slot, latest.etag());
+        } else if (latest.status() == 404) {
+            pool.remove(slot);
+        }
+    }
+
+    /**
+     * クライアント用の {@link ExecutorService} を生成する。
+     * <p>
+     * 実行環境が仮想スレッドに対応している場合（Java 21以上）は仮想スレッドを使用し、
+     * それ以外の場合はクライアント数の固定スレッドプールを使用する。
+     * HTTPクライアントの非同期処理には使用しない（全スレッドが送信で待機すると非同期処理が進まないため）。
+     *
+     * @param clients クライアント数
+     * @return {@link ExecutorService}
+     */
+    private static ExecutorService newClientExecutor(int clients) {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                .findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+                )
+                .invoke();
+
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Executors.newFixedThreadPool(clients);
+
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create the client executor.", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.todoapp.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 負荷試験で実行する {@code /api/todos} の操作
+ */
+public enum Operation {
+
+    /** 一覧取得（GET /api/todos） */
+    LIST,
+
+    /** 単体取得（GET /api/todos/{id}） */
+    GET,
+
+    /** 作成（POST /api/todos） */
+    CREATE,
+
+    /** 更新（PUT /api/todos/{id}） */
+    UPDATE,
+
+    /** 削除（DELETE /api/todos/{id}） */
+    DELETE;
+
+    /**
+     * 小文字の操作名から {@link Operation} を取得する。
+     *
+     * @param name 操作名
+     * @return {@link Operation}
+     */
+    public static Operation fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
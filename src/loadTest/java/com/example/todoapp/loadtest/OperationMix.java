@@ -0,0 +1,50 @@
+package com.example.todoapp.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 重みに従って {@link Operation} を選択するクラス
+ */
+public final class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    /**
+     * 操作ごとの重みから {@link OperationMix} を生成する。
+     *
+     * @param weights 操作ごとの重み
+     * @throws IllegalArgumentException 重みの合計が0以下の場合
+     */
+    public OperationMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += Math.max(0, weights.get(operations[i]));
+            cumulativeWeights[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Operation mix must have a positive total weight.");
+        }
+        this.totalWeight = sum;
+    }
+
+    /**
+     * 重みに従って次の操作を選択する。
+     *
+     * @return 選択された {@link Operation}
+     */
+    public Operation next() {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.todoapp.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 負荷試験用の {@code /api/todos} クライアント
+ * <p>
+ * レスポンスの {@code ETag} ヘッダを保持し、更新・削除時に {@code If-Match} ヘッダとして送信する。
+ */
+public final class TodoApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+
+    /**
+     * 指定されたポートのアプリケーションに接続するクライアントを生成する。
+     * <p>
+     * HTTPクライアントの非同期処理には、クライアントの送信スレッドとは別の専用の {@link Executor} を使用する。
+     *
+     * @param port 接続先ポート
+     */
+    public TodoApiClient(int port) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .executor(Executors.newCachedThreadPool(TodoApiClient::newDaemonThread))
+            .build();
+        this.objectMapper = new ObjectMapper();
+        this.baseUri = URI.create("http://localhost:%d/api/todos".formatted(port));
+    }
+
+    /**
+     * To-doを作成する。
+     *
+     * @param title タイトル
+     * @return 作成されたTo-doのIDとETag
+     */
+    public Result create(String title) {
+        HttpRequest request = newRequest(baseUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(title, null)))
+            .build();
+        HttpResponse<String> response = send(request);
+
+        UUID id = response.statusCode() == 201 ? readId(response.body()) : null;
+        return new Result(response.statusCode(), id, etagOf(response));
+    }
+
+    /**
+     * 指定されたIDのTo-doを取得する。
+     *
+     * @param id 取得対象のTo-doのID
+     * @return ステータスとETag
+     */
+    public Result get(UUID id) {
+        HttpResponse<String> response = send(newRequest(itemUri(id)).GET().build());
+
+        return new Result(response.statusCode(), id, etagOf(response));
+    }
+
+    /**
+     * To-doの一覧を取得する。
+     *
+     * @param page ページ番号
+     * @param size 表示件数
+     * @return ステータス
+     */
+    public Result list(int page, int size) {
+        URI uri = URI.create("%s?page=%d&size=%d".formatted(baseUri, page, size));
+        HttpResponse<String> response = send(newRequest(uri).GET().build());
+
+        return new Result(response.statusCode(), null, null);
+    }
+
+    /**
+     * 指定されたIDのTo-doを更新する。
+     *
+     * @param id        更新対象のTo-doのID
+     * @param ifMatch   If-MatchヘッダのETag文字列値
+     * @param title     タイトル
+     * @param completed 完了状態
+     * @return ステータスと更新後のETag
+     */
+    public Result update(UUID id, String ifMatch, String title, boolean completed) {
+        HttpRequest request = newRequest(itemUri(id))
+            .header("Content-Type", "application/json")
+            .header("If-Match", ifMatch)
+            .PUT(HttpRequest.BodyPublishers.ofString(toJson(title, completed)))
+            .build();
+        HttpResponse<String> response = send(request);
+
+        return new Result(response.statusCode(), id, etagOf(response));
+    }
+
+    /**
+     * 指定されたIDのTo-doを削除する。
+     *
+     * @param id      削除対象のTo-doのID
+     * @param ifMatch If-MatchヘッダのETag文字列値
+     * @return ステータス
+     */
+    public Result delete(UUID id, String ifMatch) {
+        HttpRequest request = newRequest(itemUri(id))
+            .header("If-Match", ifMatch)
+            .DELETE()
+            .build();
+        HttpResponse<String> response = send(request);
+
+        return new Result(response.statusCode(), id, null);
+    }
+
+    private HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+    }
+
+    private URI itemUri(UUID id) {
+        return URI.create("%s/%s".formatted(baseUri, id));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending request.", e);
+        }
+    }
+
+    private String toJson(String title, Boolean completed) {
+        try {
+            var node = objectMapper.createObjectNode().put("title", title);
+            if (completed != null) {
+                node.put("completed", completed);
+            }
+            return objectMapper.writeValueAsString(node);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private UUID readId(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return UUID.fromString(node.get("id").asText());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable task) {
+        Thread thread = new Thread(task, "loadtest-http-client");
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+    private static String etagOf(HttpResponse<?> response) {
+        return response.headers().firstValue("ETag").orElse(null);
+    }
+
+    /**
+     * API呼び出しの結果
+     *
+     * @param status HTTPステータスコード
+     * @param id     対象のTo-doのID
+     * @param etag   レスポンスのETag文字列値
+     */
+    public record Result(int status, UUID id, String etag) {
+
+        /**
+         * 2xxのステータスであるかを返す。
+         *
+         * @return 2xxの場合は {@code true}
+         */
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
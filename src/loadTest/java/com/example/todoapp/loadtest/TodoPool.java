@@ -0,0 +1,148 @@
+package com.example.todoapp.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 負荷試験中に操作対象となるTo-doのIDと最新のETagを保持するプール
+ * <p>
+ * 登録済みのTo-doだけを隙間なく保持し（追加は末尾、削除は末尾の要素との入れ替え）、
+ * プールが空でない限り {@link #pick} は必ずTo-doを返す。
+ * 配列の変更だけをロックで保護し、ETagの更新は要素ごとのCASで行う。
+ */
+public final class TodoPool {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Handle> handles;
+
+    /**
+     * 指定された初期容量のプールを生成する。
+     *
+     * @param initialCapacity 初期容量
+     */
+    public TodoPool(int initialCapacity) {
+        this.handles = new ArrayList<>(initialCapacity);
+    }
+
+    /**
+     * To-doを登録する。
+     *
+     * @param id   To-doのID
+     * @param etag ETag文字列値
+     */
+    public void add(UUID id, String etag) {
+        Handle handle = new Handle(new Entry(id, etag));
+        lock.lock();
+        try {
+            handle.index = handles.size();
+            handles.add(handle);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 登録済みのTo-doを無作為に取得する。
+     *
+     * @return 取得したスロット。プールが空の場合は {@code null}
+     */
+    public Slot pick() {
+        lock.lock();
+        try {
+            if (handles.isEmpty()) {
+                return null;
+            }
+            Handle handle = handles.get(ThreadLocalRandom.current().nextInt(handles.size()));
+
+            return new Slot(handle, handle.entry.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * スロットのETagを更新する。
+     * <p>
+     * 取得後に他のクライアントが更新または削除していた場合は何もしない。
+     *
+     * @param slot 取得時のスロット
+     * @param etag 新しいETag文字列値
+     */
+    public void update(Slot slot, String etag) {
+        slot.handle().entry.compareAndSet(slot.entry(), new Entry(slot.entry().id(), etag));
+    }
+
+    /**
+     * スロットのTo-doをプールから取り除く。
+     * <p>
+     * 取得後に他のクライアントが更新または削除していた場合は何もしない。
+     *
+     * @param slot 取得時のスロット
+     */
+    public void remove(Slot slot) {
+        Handle handle = slot.handle();
+        lock.lock();
+        try {
+            if (handle.index < 0 || !handle.entry.compareAndSet(slot.entry(), null)) {
+                return;
+            }
+            Handle last = handles.remove(handles.size() - 1);
+            if (last != handle) {
+                last.index = handle.index;
+                handles.set(handle.index, last);
+            }
+            handle.index = -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 登録済みのTo-doの件数を返す。
+     *
+     * @return 件数
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return handles.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * プール内の要素
+     */
+    public static final class Handle {
+
+        private final AtomicReference<Entry> entry;
+
+        /** 配列内の位置（取り除いた後は {@code -1}、ロックで保護） */
+        private int index;
+
+        private Handle(Entry entry) {
+            this.entry = new AtomicReference<>(entry);
+        }
+    }
+
+    /**
+     * To-doのIDとETag
+     *
+     * @param id   To-doのID
+     * @param etag ETag文字列値
+     */
+    public record Entry(UUID id, String etag) {}
+
+    /**
+     * プール内の要素と取得時のエントリ
+     *
+     * @param handle プール内の要素
+     * @param entry  取得時のエントリ
+     */
+    public record Slot(Handle handle, Entry entry) {}
+}
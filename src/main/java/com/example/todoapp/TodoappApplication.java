@@ -2,13 +2,17 @@ package com.example.todoapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
-@EnableJpaAuditing
 public class TodoappApplication {
 
-        public static void main(String[] args) {
-        SpringApplication.run(TodoappApplication.class, args);
+    /** 起動処理のステップを記録する最大数 */
+    private static final int STARTUP_STEP_CAPACITY = 8192;
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(TodoappApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
@@ -0,0 +1,106 @@
+package com.example.todoapp.bulkhead;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 同時実行数と待機数を制限する処理区画
+ * <p>
+ * 同時実行数が上限に達している場合は待機数の上限まで最大待機時間だけ到着順に待機させ、
+ * それを超えるリクエストは即座に拒否する。
+ * 1つの区画が占有できるリクエスト処理スレッドは同時実行数と待機数の合計までとなる。
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * 処理区画を生成する。
+     *
+     * @param name          処理区画の名前
+     * @param maxConcurrent 同時実行数の上限
+     * @param maxQueue      待機数の上限
+     * @param maxWaitNanos  最大待機時間（ナノ秒）
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, long maxWaitNanos) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("maxConcurrent must be >= 1 and maxQueue must be >= 0.");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWaitNanos;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 処理区画に入る。
+     * <p>
+     * {@code true} を返した場合は処理の完了後に必ず {@link #release} を呼び出すこと。
+     *
+     * @return 入れた場合は {@code true}、拒否した場合は {@code false}
+     */
+    public boolean tryAcquire() {
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            if (maxQueue == 0 || maxWaitNanos <= 0) {
+                return false;
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                return false;
+            }
+            try {
+                return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } finally {
+                queued.decrementAndGet();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 処理区画から出る。
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 処理区画の名前を取得する。
+     *
+     * @return 処理区画の名前
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 実行中のリクエスト数を取得する。
+     *
+     * @return 実行中のリクエスト数
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 待機中のリクエスト数を取得する。
+     *
+     * @return 待機中のリクエスト数
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+}
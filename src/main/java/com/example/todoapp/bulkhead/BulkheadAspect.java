@@ -0,0 +1,80 @@
+package com.example.todoapp.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.Counter;
+
+import com.example.todoapp.bulkhead.exception.BulkheadFullException;
+import com.example.todoapp.replica.DataSourceRole;
+import com.example.todoapp.replica.DataSourceRoutingContext;
+
+/**
+ * Query/Commandのコントローラの呼び出しをそれぞれの {@link Bulkhead} で隔離するアスペクト
+ * <p>
+ * 参照系は読み込み用、更新系はプライマリのコネクションプールに接続するよう {@link DataSourceRoutingContext} を設定する。
+ * 処理区画に入れない場合は {@link BulkheadFullException} をスローする。
+ */
+@Aspect
+public class BulkheadAspect {
+
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+    private final Counter readRejectedCounter;
+    private final Counter writeRejectedCounter;
+    private final long retryAfterSeconds;
+
+    /**
+     * アスペクトを生成する。
+     *
+     * @param readBulkhead         参照系の {@link Bulkhead}
+     * @param writeBulkhead        更新系の {@link Bulkhead}
+     * @param readRejectedCounter  参照系の拒否したリクエストのカウンタ
+     * @param writeRejectedCounter 更新系の拒否したリクエストのカウンタ
+     * @param retryAfterSeconds    クライアントに通知する再試行までの秒数
+     */
+    public BulkheadAspect(
+        Bulkhead readBulkhead,
+        Bulkhead writeBulkhead,
+        Counter readRejectedCounter,
+        Counter writeRejectedCounter,
+        long retryAfterSeconds
+    ) {
+        this.readBulkhead = readBulkhead;
+        this.writeBulkhead = writeBulkhead;
+        this.readRejectedCounter = readRejectedCounter;
+        this.writeRejectedCounter = writeRejectedCounter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Around("within(com.example.todoapp.todo.controller.query.TodoQueryController)")
+    public Object isolateRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        return isolate(joinPoint, readBulkhead, readRejectedCounter, DataSourceRole.REPLICA);
+    }
+
+    @Around("within(com.example.todoapp.todo.controller.command.TodoCommandController)")
+    public Object isolateWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        return isolate(joinPoint, writeBulkhead, writeRejectedCounter, DataSourceRole.PRIMARY);
+    }
+
+    private Object isolate(
+        ProceedingJoinPoint joinPoint,
+        Bulkhead bulkhead,
+        Counter rejectedCounter,
+        DataSourceRole role
+    ) throws Throwable {
+        if (!bulkhead.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new BulkheadFullException(bulkhead.getName(), retryAfterSeconds);
+        }
+
+        DataSourceRole previous = DataSourceRoutingContext.set(role);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+            bulkhead.release();
+        }
+    }
+}
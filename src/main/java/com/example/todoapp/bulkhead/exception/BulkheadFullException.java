@@ -0,0 +1,62 @@
+package com.example.todoapp.bulkhead.exception;
+
+import org.springframework.http.ProblemDetail;
+
+import lombok.Getter;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 処理区画の同時実行数と待機数が上限に達したためにリクエストを拒否した場合の例外クラス
+ * <p>
+ * 過負荷時に大量に発生するため、スタックトレースは取得しない。
+ */
+@Getter
+public final class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Bulkhead Full";
+
+    /** エラーコード */
+    private final ErrorCode errorCode = ErrorCode.BULKHEAD_FULL;
+
+    /** 処理区画の名前 */
+    private final String bulkhead;
+
+    /** 再試行までの秒数 */
+    private final long retryAfterSeconds;
+
+    /**
+     * 処理区画の同時実行数と待機数が上限に達したためにリクエストを拒否した場合の例外を生成する。
+     *
+     * @param bulkhead          処理区画の名前
+     * @param retryAfterSeconds 再試行までの秒数
+     */
+    public BulkheadFullException(String bulkhead, long retryAfterSeconds) {
+        super(ERROR_TITLE, null, false, false);
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 処理区画の同時実行数と待機数が上限に達したためにリクエストを拒否した場合の詳細情報を返す。
+     *
+     * @return 例外の詳細情報
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [bulkhead=" + getBulkhead() + ", retryAfterSeconds=" + getRetryAfterSeconds() + "]";
+    }
+
+    /**
+     * {@link ProblemDetail#title} に設定するエラータイトルを取得する。
+     *
+     * @return エラータイトル
+     */
+    public String getErrorTitle() {
+        return getMessage();
+    }
+}
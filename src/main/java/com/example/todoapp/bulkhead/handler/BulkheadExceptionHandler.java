@@ -0,0 +1,74 @@
+package com.example.todoapp.bulkhead.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+import com.example.todoapp.bulkhead.exception.BulkheadFullException;
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.common.error.builder.ExceptionResponseBuilder;
+import com.example.todoapp.common.error.handler.GlobalExceptionHandler;
+
+/**
+ * 処理区画に関するエラーハンドラクラス
+ * <p>
+ * クライアントに {@link ProblemDetail} とHTTPステータスを返却する。
+ * {@link GlobalExceptionHandler} の {@link Exception} の処理より先に適用されるよう優先度を指定する。
+ */
+@RestControllerAdvice(basePackages = "com.example.todoapp")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class BulkheadExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        BulkheadExceptionHandler.class
+    );
+
+    private final ExceptionResponseBuilder exceptionResponseBuilder;
+
+    /**
+     * 処理区画の同時実行数と待機数が上限に達した場合の例外処理
+     *
+     * @param ex          {@link BulkheadFullException}
+     * @param httpRequest HTTPリクエスト情報
+     * @return {@code Retry-After} ヘッダと {@link ProblemDetail} を含む {@link ResponseEntity}
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadFull(
+        BulkheadFullException ex,
+        HttpServletRequest httpRequest
+    ) {
+        HttpStatus httpStatus = HttpStatus.SERVICE_UNAVAILABLE;
+        ErrorCode errorCode = ex.getErrorCode();
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
+
+        ResponseEntity<ProblemDetail> response = exceptionResponseBuilder.build(
+            httpStatus,
+            errorCode,
+            ex.getErrorTitle(),
+            httpRequest,
+            ex.getBulkhead(),
+            ex.getRetryAfterSeconds()
+        );
+
+        return ResponseEntity
+            .status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(response.getBody());
+    }
+}
@@ -33,4 +33,17 @@ public abstract class Auditable {
     @Column(name = "updated_at")
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 監査情報を設定する。
+     * <p>
+     * JPAの監査機能を使用しない永続化方式が、保存時に付与した日時と保存済みの日時を反映するために使用する。
+     *
+     * @param createdAt 作成日時
+     * @param updatedAt 更新日時
+     */
+    public void restoreAuditInfo(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
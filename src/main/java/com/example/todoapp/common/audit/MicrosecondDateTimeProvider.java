@@ -0,0 +1,23 @@
+package com.example.todoapp.common.audit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 監査情報の日時をデータベースの列の精度（マイクロ秒）に切り捨てて提供するクラス
+ * <p>
+ * 保存直後のエンティティと再読み込みしたエンティティの日時を一致させ、ETagが変わらないようにする。
+ */
+@Component("auditingDateTimeProvider")
+public class MicrosecondDateTimeProvider implements DateTimeProvider {
+
+    @Override
+    public Optional<TemporalAccessor> getNow() {
+        return Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
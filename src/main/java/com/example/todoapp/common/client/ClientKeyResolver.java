@@ -0,0 +1,64 @@
+package com.example.todoapp.common.client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * リクエストの送信元クライアントを識別するクラス
+ * <p>
+ * 登録済みのAPIキーが指定された場合はそのクライアント名（{@code key:<名前>}）、
+ * それ以外の場合は接続元IPアドレス（{@code ip:<アドレス>}）で識別する。
+ * 未登録のAPIキーは無視するため、クライアントがAPIキーを付け替えても別のクライアントとはみなされない。
+ * 識別子にはAPIキーそのものを含めない。
+ */
+public final class ClientKeyResolver {
+
+    /** クライアント名の最大文字数 */
+    public static final int MAX_CLIENT_NAME_LENGTH = 128;
+
+    private final String apiKeyHeader;
+
+    /** APIキーからクライアント名への対応 */
+    private final Map<String, String> clientNames;
+
+    /**
+     * 識別クラスを生成する。
+     *
+     * @param apiKeyHeader APIキーのヘッダ名
+     * @param apiKeys      クライアント名からAPIキーへの対応
+     * @throws IllegalArgumentException クライアント名が長すぎる場合、またはAPIキーが重複している場合
+     */
+    public ClientKeyResolver(String apiKeyHeader, Map<String, String> apiKeys) {
+        this.apiKeyHeader = apiKeyHeader;
+        this.clientNames = new HashMap<>();
+        apiKeys.forEach((name, apiKey) -> {
+            if (name.length() > MAX_CLIENT_NAME_LENGTH) {
+                throw new IllegalArgumentException(
+                    "Client name must not exceed " + MAX_CLIENT_NAME_LENGTH + " characters: " + name
+                );
+            }
+            if (apiKey != null && !apiKey.isBlank() && clientNames.putIfAbsent(apiKey, name) != null) {
+                throw new IllegalArgumentException("Duplicate API key for client: " + name);
+            }
+        });
+    }
+
+    /**
+     * リクエストの送信元クライアントの識別子を返す。
+     *
+     * @param request HTTPリクエスト
+     * @return クライアントの識別子
+     */
+    public String resolve(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null) {
+            String name = clientNames.get(apiKey);
+            if (name != null) {
+                return "key:" + name;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
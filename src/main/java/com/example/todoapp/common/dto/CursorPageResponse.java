@@ -0,0 +1,19 @@
+package com.example.todoapp.common.dto;
+
+import java.util.List;
+
+/**
+ * キーセットページングの結果のレスポンスデータ転送オブジェクト
+ * <p>
+ * 総件数は数えず、次のページの取得に使用するカーソルのみを返す。
+ *
+ * @param <T>        要素の型
+ * @param content    現在のページの要素
+ * @param size       表示件数
+ * @param nextCursor 次のページのカーソル（最後のページの場合は {@code null}）
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    String nextCursor
+) {}
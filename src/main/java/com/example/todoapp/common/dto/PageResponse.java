@@ -0,0 +1,43 @@
+package com.example.todoapp.common.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * ページング結果のレスポンスデータ転送オブジェクト
+ * <p>
+ * {@link Page} の {@code pageable}/{@code sort} などの内部構造を公開せず、安定した最小限の項目のみを返す。
+ *
+ * @param <T>           要素の型
+ * @param content       現在のページの要素
+ * @param number        ページ番号
+ * @param size          表示件数
+ * @param totalElements 総件数
+ * @param totalPages    総ページ数
+ */
+public record PageResponse<T>(
+    List<T> content,
+    int number,
+    int size,
+    long totalElements,
+    int totalPages
+) {
+
+    /**
+     * {@link Page} から {@link PageResponse} を生成する。
+     *
+     * @param <T>  要素の型
+     * @param page {@link Page}
+     * @return {@link PageResponse}
+     */
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todoapp.common.dto.json;
+
+import java.io.IOException;
+
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link CursorPageResponse} を {@link JsonGenerator} に直接書き込むシリアライザ
+ * <p>
+ * 要素は {@link PageResponseJsonSerializer} と同じく、要素の型が変わった場合にのみシリアライザを取得し直す。
+ */
+public final class CursorPageResponseJsonSerializer extends StdSerializer<CursorPageResponse<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+    public CursorPageResponseJsonSerializer() {
+        super(CursorPageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(
+        CursorPageResponse<?> value,
+        JsonGenerator gen,
+        SerializerProvider provider
+    ) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(CONTENT);
+        PageResponseJsonSerializer.writeContent(value.content(), gen, provider);
+
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(value.size());
+        gen.writeFieldName(NEXT_CURSOR);
+        if (value.nextCursor() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.nextCursor());
+        }
+
+        gen.writeEndObject();
+    }
+}
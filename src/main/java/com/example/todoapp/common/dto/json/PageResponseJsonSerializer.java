@@ -0,0 +1,83 @@
+package com.example.todoapp.common.dto.json;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.todoapp.common.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link PageResponse} を {@link JsonGenerator} に直接書き込むシリアライザ
+ * <p>
+ * 要素のシリアライザは要素の型が変わった場合にのみ取得し直す。
+ */
+public final class PageResponseJsonSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    public PageResponseJsonSerializer() {
+        super(PageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(
+        PageResponse<?> value,
+        JsonGenerator gen,
+        SerializerProvider provider
+    ) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(CONTENT);
+        writeContent(value.content(), gen, provider);
+
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(value.number());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(value.size());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(value.totalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(value.totalPages());
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * 要素の配列を書き込む。
+     */
+    static void writeContent(
+        List<?> content,
+        JsonGenerator gen,
+        SerializerProvider provider
+    ) throws IOException {
+        int size = content.size();
+        gen.writeStartArray(content, size);
+
+        Class<?> serializerType = null;
+        JsonSerializer<Object> serializer = null;
+        for (int i = 0; i < size; i++) {
+            Object element = content.get(i);
+            if (element == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (element.getClass() != serializerType) {
+                serializerType = element.getClass();
+                serializer = provider.findValueSerializer(serializerType);
+            }
+            serializer.serialize(element, gen, provider);
+        }
+
+        gen.writeEndArray();
+    }
+}
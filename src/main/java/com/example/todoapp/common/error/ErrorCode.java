@@ -2,8 +2,8 @@ package com.example.todoapp.common.error;
 
 import org.springframework.http.ProblemDetail;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import com.example.todoapp.todo.dto.TodoRequest;
 
@@ -11,8 +11,9 @@ import com.example.todoapp.todo.dto.TodoRequest;
  * エラーコード設定
  * <p>
  * エラーコードと {@link ProblemDetail#detail} に設定するメッセージテンプレートを定義
+ * <p>
+ * メッセージテンプレートは {@link MessageTemplate} として事前に解析しておく。
  */
-@RequiredArgsConstructor
 @Getter
 public enum ErrorCode {
 
@@ -47,6 +48,17 @@ public enum ErrorCode {
         "ETag is missing."
     ),
 
+    /**
+     * 冪等キーが空または長すぎる場合のエラーコード
+     * <ul>
+     *   <li>%s - 冪等キーの最大文字数</li>
+     * </ul>
+     */
+    IDEMPOTENCY_KEY_INVALID(
+        "IDEMPOTENCY-400",
+        "Idempotency-Key must be 1 to %s characters."
+    ),
+
     /**
      * 指定されたIDのTo-doが存在しない場合のエラーコード
      */
@@ -55,6 +67,14 @@ public enum ErrorCode {
         "To-do with the specified ID does not exist."
     ),
 
+    /**
+     * 同じ冪等キーのリクエストが処理中の場合のエラーコード
+     */
+    IDEMPOTENCY_KEY_IN_PROGRESS(
+        "IDEMPOTENCY-409",
+        "A request with the same Idempotency-Key is still being processed."
+    ),
+
     /**
      * ETagの整合性の検証に失敗した場合のエラーコード
      */
@@ -63,6 +83,26 @@ public enum ErrorCode {
         "The ETag does not match the expected value."
     ),
 
+    /**
+     * 冪等キーが異なるリクエストボディで再利用された場合のエラーコード
+     */
+    IDEMPOTENCY_KEY_REUSED(
+        "IDEMPOTENCY-422",
+        "The Idempotency-Key was already used with a different request body."
+    ),
+
+    /**
+     * クライアントのリクエスト数が制限を超えた場合のエラーコード
+     * <ul>
+     *   <li>%s - ルートの分類</li>
+     *   <li>%s - 再試行までの秒数</li>
+     * </ul>
+     */
+    RATE_LIMIT_EXCEEDED(
+        "RATE-429",
+        "Rate limit exceeded for %s requests. Retry after %s seconds."
+    ),
+
     /**
      * ETagの生成に失敗した場合のエラーコード
      */
@@ -79,6 +119,37 @@ public enum ErrorCode {
         "An unexpected error occurred while handling request validation."
     ),
 
+    /**
+     * 同時実行数が上限に達したためにリクエストを拒否した場合のエラーコード
+     * <ul>
+     *   <li>%s - 再試行までの秒数</li>
+     * </ul>
+     */
+    SERVICE_OVERLOADED(
+        "SYS-503",
+        "The service is overloaded. Retry after %s seconds."
+    ),
+
+    /**
+     * 処理区画の同時実行数と待機数が上限に達したためにリクエストを拒否した場合のエラーコード
+     * <ul>
+     *   <li>%s - 処理区画の名前</li>
+     *   <li>%s - 再試行までの秒数</li>
+     * </ul>
+     */
+    BULKHEAD_FULL(
+        "SYS-503-BULKHEAD",
+        "The %s bulkhead is full. Retry after %s seconds."
+    ),
+
+    /**
+     * リクエストの期限を過ぎた場合のエラーコード
+     */
+    DEADLINE_EXCEEDED(
+        "SYS-504",
+        "The request deadline was exceeded."
+    ),
+
     /**
      * 想定外の例外が発生した場合のエラーコード
      */
@@ -93,6 +164,26 @@ public enum ErrorCode {
     /** {@link ProblemDetail#detail} に設定するメッセージテンプレート */
     private final String messageTemplate;
 
+    /** 解析済みのメッセージテンプレート */
+    @Getter(AccessLevel.NONE)
+    private final MessageTemplate parsedTemplate;
+
+    ErrorCode(String errorCode, String messageTemplate) {
+        this.errorCode = errorCode;
+        this.messageTemplate = messageTemplate;
+        this.parsedTemplate = MessageTemplate.parse(messageTemplate);
+    }
+
+    /**
+     * {@link #messageTemplate} に引数を埋め込んだメッセージを返す。
+     *
+     * @param messageArgs {@link #messageTemplate} の引数
+     * @return {@link ProblemDetail#detail} に設定するメッセージ
+     */
+    public String formatMessage(Object... messageArgs) {
+        return parsedTemplate.format(messageArgs);
+    }
+
     /**
      * エラーコードの文字列識別子を返す。
      *
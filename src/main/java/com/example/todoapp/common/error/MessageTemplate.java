@@ -0,0 +1,73 @@
+package com.example.todoapp.common.error;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 事前に解析したメッセージテンプレート
+ * <p>
+ * {@code %s} のみを書式指定子として扱い、{@link String#formatted} の書式解析を毎回行わずにメッセージを組み立てる。
+ * 書式指定子を含まないテンプレートは文字列をそのまま返す。
+ */
+public final class MessageTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    /** 書式指定子で分割したリテラル部分（要素数は書式指定子の数 + 1） */
+    private final String[] literals;
+
+    /** リテラル部分の合計文字数 */
+    private final int literalLength;
+
+    private MessageTemplate(String[] literals) {
+        this.literals = literals;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * メッセージテンプレートを解析する。
+     *
+     * @param template メッセージテンプレート
+     * @return {@link MessageTemplate}
+     */
+    public static MessageTemplate parse(String template) {
+        List<String> literals = new ArrayList<>();
+        int from = 0;
+        int index;
+        while ((index = template.indexOf(PLACEHOLDER, from)) >= 0) {
+            literals.add(template.substring(from, index));
+            from = index + PLACEHOLDER.length();
+        }
+        literals.add(template.substring(from));
+
+        return new MessageTemplate(literals.toArray(String[]::new));
+    }
+
+    /**
+     * 引数を埋め込んだメッセージを返す。
+     * <p>
+     * 引数が不足する書式指定子には {@code null} を埋め込み、余分な引数は無視する。
+     *
+     * @param args 書式指定子に埋め込む引数
+     * @return メッセージ
+     */
+    public String format(Object... args) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * (literals.length - 1));
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            builder.append(args != null && i - 1 < args.length ? args[i - 1] : null);
+            builder.append(literals[i]);
+        }
+
+        return builder.toString();
+    }
+}
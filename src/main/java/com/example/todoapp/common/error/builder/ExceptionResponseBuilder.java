@@ -1,5 +1,9 @@
 package com.example.todoapp.common.error.builder;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.http.HttpStatus;
@@ -7,6 +11,9 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import lombok.RequiredArgsConstructor;
 
 import com.example.todoapp.common.error.ErrorCode;
@@ -14,12 +21,22 @@ import com.example.todoapp.common.error.builder.factory.ProblemDetailFactory;
 
 /**
  * {@link ProblemDetail} を含む {@link ResponseEntity} を構築するためのビルダクラス
+ * <p>
+ * 構築したエラーレスポンスは {@link ErrorCode} とHTTPステータスごとに {@code todo.errors} として計数する。
+ * カウンタは初回の取得後にキャッシュする。
  */
 @Component
 @RequiredArgsConstructor
 public class ExceptionResponseBuilder {
 
+    /** エラーレスポンスのカウンタ名 */
+    private static final String ERROR_COUNTER_NAME = "todo.errors";
+
     private final ProblemDetailFactory problemDetailFactory;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<ErrorCode, Map<HttpStatus, Counter>> errorCounters =
+        new ConcurrentHashMap<>();
 
     /**
      * {@link ProblemDetail} を含む {@link ResponseEntity} を構築する。
@@ -45,7 +62,25 @@ public class ExceptionResponseBuilder {
             httpRequest,
             messageArgs
         );
+        errorCounter(errorCode, httpStatus).increment();
 
         return ResponseEntity.status(httpStatus).body(body);
     }
+
+    private Counter errorCounter(ErrorCode errorCode, HttpStatus httpStatus) {
+        Map<HttpStatus, Counter> byStatus = errorCounters.get(errorCode);
+        if (byStatus == null) {
+            byStatus = errorCounters.computeIfAbsent(errorCode, key -> new ConcurrentHashMap<>());
+        }
+
+        Counter counter = byStatus.get(httpStatus);
+        if (counter == null) {
+            counter = byStatus.computeIfAbsent(httpStatus, status -> meterRegistry.counter(
+                ERROR_COUNTER_NAME,
+                "errorCode", errorCode.getErrorCode(),
+                "status", String.valueOf(status.value())
+            ));
+        }
+        return counter;
+    }
 }
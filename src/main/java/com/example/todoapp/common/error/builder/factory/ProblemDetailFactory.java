@@ -36,7 +36,7 @@ public class ProblemDetailFactory {
         ProblemDetail result = ProblemDetail.forStatus(httpStatus);
         result.setProperty("errorCode", errorCode.getErrorCode());
         result.setTitle(errorTitle);
-        result.setDetail(errorCode.getMessageTemplate().formatted(messageArgs));
+        result.setDetail(errorCode.formatMessage(messageArgs));
         result.setInstance(URI.create(httpRequest.getRequestURI()));
 
         return result;
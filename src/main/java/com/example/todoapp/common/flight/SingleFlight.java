@@ -0,0 +1,195 @@
+package com.example.todoapp.common.flight;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.example.todoapp.deadline.DeadlineContext;
+import com.example.todoapp.deadline.exception.DeadlineExceededException;
+
+/**
+ * 同じキーの同時呼び出しを1回の実行にまとめるクラス
+ * <p>
+ * 最初の呼び出し（リーダー）だけが処理を実行し、実行中に到着した同じキーの呼び出し（フォロワー）は
+ * リーダーの結果または例外を共有する。結果はキャッシュせず、リーダーの完了とともに破棄する。
+ * 共有する結果は不変であること。
+ * <p>
+ * フォロワーは呼び出し側が指定した時刻より後に開始した実行にだけ合流する（自身の書き込みより前に
+ * 開始した読み込みの結果は共有しない）。合流できない場合は新しいリーダーとして実行し、以降の呼び出しは
+ * 新しい実行に合流する。フォロワーの待機は上限の時間までとし、超えた場合は自身で処理を実行する。
+ * <p>
+ * フォロワーは自身のリクエストの期限（{@link DeadlineContext}）までしか待たず、期限を過ぎた場合は
+ * {@link DeadlineExceededException} をスローする。リーダーが自身の期限切れで失敗した場合、その例外は
+ * フォロワーに共有せず、期限の残っているフォロワーが改めて実行する（フォロワー同士は再び1回にまとめる）。
+ * <p>
+ * 呼び出し数は {@code todo.singleflight.calls}（{@code role=leader|follower}）、
+ * 待機の上限を超えた回数は {@code todo.singleflight.join.timeouts}、
+ * 実行中のキー数は {@code todo.singleflight.inflight} として記録する。
+ *
+ * @param <K> キーの型
+ * @param <V> 結果の型
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final long maxJoinWaitNanos;
+    private final LongSupplier currentTimeMillis;
+
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter joinTimeoutCounter;
+
+    /**
+     * 指定された名前で {@link SingleFlight} を生成する。
+     *
+     * @param name          メトリクスのタグに設定する名前
+     * @param meterRegistry {@link MeterRegistry}
+     * @param maxJoinWait   フォロワーの待機時間の上限
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry, Duration maxJoinWait) {
+        this(name, meterRegistry, maxJoinWait, System::currentTimeMillis);
+    }
+
+    /**
+     * 指定された時刻の取得元を使用する {@link SingleFlight} を生成する。
+     *
+     * @param name              メトリクスのタグに設定する名前
+     * @param meterRegistry     {@link MeterRegistry}
+     * @param maxJoinWait       フォロワーの待機時間の上限
+     * @param currentTimeMillis 実行の開始時刻（エポックミリ秒）の取得元
+     */
+    public SingleFlight(
+        String name,
+        MeterRegistry meterRegistry,
+        Duration maxJoinWait,
+        LongSupplier currentTimeMillis
+    ) {
+        this.maxJoinWaitNanos = maxJoinWait.toNanos();
+        this.currentTimeMillis = currentTimeMillis;
+        this.leaderCounter = Counter.builder("todo.singleflight.calls")
+            .tag("name", name)
+            .tag("role", "leader")
+            .register(meterRegistry);
+        this.followerCounter = Counter.builder("todo.singleflight.calls")
+            .tag("name", name)
+            .tag("role", "follower")
+            .register(meterRegistry);
+        this.joinTimeoutCounter = Counter.builder("todo.singleflight.join.timeouts")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("todo.singleflight.inflight", inFlight, ConcurrentMap::size)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 同じキーの実行中の処理があればその結果を待ち、なければ処理を実行する。
+     *
+     * @param key    キー
+     * @param loader 処理
+     * @return 処理の結果
+     */
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, Long.MIN_VALUE, loader);
+    }
+
+    /**
+     * 同じキーの実行中の処理が指定された時刻より後に開始していればその結果を待ち、なければ処理を実行する。
+     *
+     * @param key       キー
+     * @param notBefore 合流できる実行の開始時刻の下限（エポックミリ秒、この時刻に開始した実行には合流しない）
+     * @param loader    処理
+     * @return 処理の結果
+     */
+    public V execute(K key, long notBefore, Supplier<V> loader) {
+        Flight<V> own = new Flight<>(new CompletableFuture<>(), currentTimeMillis.getAsLong());
+        Flight<V> current = inFlight.compute(
+            key,
+            (k, existing) -> existing != null && existing.startedAt() > notBefore ? existing : own
+        );
+        if (current != own) {
+            followerCounter.increment();
+            return await(current.future(), key, notBefore, loader);
+        }
+
+        leaderCounter.increment();
+        V result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error ex) {
+            // 再実行するフォロワーが完了済みの実行に合流しないよう、完了を通知する前に取り除く
+            inFlight.remove(key, own);
+            own.future().completeExceptionally(
+                DeadlineContext.isExpired() ? new LeaderDeadlineExceeded(ex) : ex
+            );
+            throw ex;
+        }
+        inFlight.remove(key, own);
+        own.future().complete(result);
+
+        return result;
+    }
+
+    private V await(CompletableFuture<V> future, K key, long notBefore, Supplier<V> loader) {
+        long remainingNanos = DeadlineContext.remainingNanos();
+        if (remainingNanos <= 0) {
+            throw new DeadlineExceededException();
+        }
+
+        boolean deadlineBound = remainingNanos < maxJoinWaitNanos;
+        try {
+            return future.get(deadlineBound ? remainingNanos : maxJoinWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            if (deadlineBound) {
+                throw new DeadlineExceededException();
+            }
+            joinTimeoutCounter.increment();
+            return loader.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof LeaderDeadlineExceeded) {
+                return execute(key, notBefore, loader);
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight call.", ex);
+        }
+    }
+
+    /**
+     * 実行中の処理
+     *
+     * @param future    処理の結果
+     * @param startedAt 開始時刻（エポックミリ秒）
+     */
+    private record Flight<V>(CompletableFuture<V> future, long startedAt) {}
+
+    /**
+     * リーダーが自身のリクエストの期限切れで失敗したことをフォロワーに伝える例外
+     */
+    private static final class LeaderDeadlineExceeded extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        LeaderDeadlineExceeded(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
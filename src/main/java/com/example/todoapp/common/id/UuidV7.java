@@ -0,0 +1,16 @@
+package com.example.todoapp.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 識別子を時刻順のUUIDv7で生成するアノテーション
+ */
+@IdGeneratorType(UuidV7IdGenerator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UuidV7 {}
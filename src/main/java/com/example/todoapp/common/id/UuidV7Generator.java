@@ -0,0 +1,72 @@
+package com.example.todoapp.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 時刻順のUUIDv7（RFC 9562）を生成するクラス
+ * <p>
+ * 上位48ビットにUNIXエポックからのミリ秒、{@code rand_a} の12ビットに同一ミリ秒内の連番を設定する。
+ * ミリ秒と連番はひとつの {@link AtomicLong} にまとめてCASで更新するため、
+ * ロックを使わずにプロセス内で単調増加する。
+ * 同一ミリ秒内で連番が尽きた場合は、タイムスタンプを1ミリ秒進めて単調性を維持する。
+ */
+public final class UuidV7Generator {
+
+    /** 連番のビット数 */
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final long VERSION_7 = 0x7L << 12;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    private static final UuidV7Generator INSTANCE = new UuidV7Generator(System::currentTimeMillis);
+
+    /** 直前に払い出したミリ秒と連番（{@code millis << 12 | sequence}） */
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    private final LongSupplier currentTimeMillis;
+
+    /**
+     * 指定された時刻の取得元を使用するジェネレータを生成する。
+     *
+     * @param currentTimeMillis UNIXエポックからのミリ秒の取得元
+     */
+    public UuidV7Generator(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * システム時刻を使用する共有インスタンスでUUIDv7を生成する。
+     *
+     * @return UUIDv7
+     */
+    public static UUID next() {
+        return INSTANCE.generate();
+    }
+
+    /**
+     * UUIDv7を生成する。
+     *
+     * @return UUIDv7
+     */
+    public UUID generate() {
+        long candidate = currentTimeMillis.getAsLong() << SEQUENCE_BITS;
+        long previous;
+        long current;
+        do {
+            previous = lastTimestampAndSequence.get();
+            current = Math.max(candidate, previous + 1);
+        } while (!lastTimestampAndSequence.compareAndSet(previous, current));
+
+        long millis = (current >>> SEQUENCE_BITS) & TIMESTAMP_MASK;
+        long mostSigBits = (millis << 16) | VERSION_7 | (current & SEQUENCE_MASK);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.todoapp.common.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * {@link UuidV7} を付与した識別子を {@link UuidV7Generator} で生成するHibernateのジェネレータ
+ */
+public class UuidV7IdGenerator implements BeforeExecutionGenerator {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object generate(
+        SharedSessionContractImplementor session,
+        Object owner,
+        Object currentValue,
+        EventType eventType
+    ) {
+        return UuidV7Generator.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
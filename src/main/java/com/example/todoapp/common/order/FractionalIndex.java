@@ -0,0 +1,142 @@
+package com.example.todoapp.common.order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文字列の辞書順で並ぶ位置キー（フラクショナルインデックス）を生成するクラス
+ * <p>
+ * 位置キーは62進数（{@code 0-9A-Za-z}）の小数部の桁を並べた文字列で、
+ * 末尾が {@code 0} でない限り、文字コード順の比較と数値としての比較が一致する。
+ * 2つのキーの間には常に新しいキーを生成できるため、並べ替えでは移動する行の位置キーだけを書き換える。
+ * 同じ場所への挿入を繰り返すと、およそ6回ごとにキーが1文字長くなる。
+ */
+public final class FractionalIndex {
+
+    /** 桁に使用する文字（文字コード順） */
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final int BASE = DIGITS.length();
+
+    private FractionalIndex() {}
+
+    /**
+     * 指定された位置キーが有効かを判定する。
+     *
+     * @param key 位置キー
+     * @return 空でなく、桁に使用する文字のみからなり、末尾が {@code 0} でない場合は {@code true}
+     */
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (digit(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 2つの位置キーの間に並ぶ位置キーを生成する。
+     * <p>
+     * 区間が広い場合は、なるべく短いキーを返す。
+     *
+     * @param lower 直前の位置キー（先頭に並べる場合は {@code null}）
+     * @param upper 直後の位置キー（末尾に並べる場合は {@code null}）
+     * @return {@code lower} より後で {@code upper} より前に並ぶ位置キー
+     * @throws IllegalArgumentException 位置キーが不正な場合、または {@code lower} が {@code upper} より前にない場合
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && !isValid(lower)) {
+            throw new IllegalArgumentException("Invalid position key: " + lower);
+        }
+        if (upper != null && !isValid(upper)) {
+            throw new IllegalArgumentException("Invalid position key: " + upper);
+        }
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException(
+                "Position key " + lower + " must be less than " + upper
+            );
+        }
+
+        return midpoint(lower == null ? "" : lower, upper);
+    }
+
+    /**
+     * 2つの位置キーの間に均等に並ぶ位置キーを生成する。
+     * <p>
+     * 区間を再帰的に二分するため、キーの長さは区間の両端の長さに件数の対数を加えた程度になる。
+     *
+     * @param lower 直前の位置キー（先頭から並べる場合は {@code null}）
+     * @param upper 直後の位置キー（末尾まで並べる場合は {@code null}）
+     * @param count 生成する件数
+     * @return 昇順に並んだ位置キー
+     * @throws IllegalArgumentException 位置キーが不正な場合、または {@code lower} が {@code upper} より前にない場合
+     */
+    public static List<String> spread(String lower, String upper, int count) {
+        List<String> keys = new ArrayList<>(count);
+        spread(lower, upper, count, keys);
+
+        return keys;
+    }
+
+    private static void spread(String lower, String upper, int count, List<String> keys) {
+        if (count <= 0) {
+            return;
+        }
+
+        String middle = between(lower, upper);
+        int left = (count - 1) / 2;
+        spread(lower, middle, left, keys);
+        keys.add(middle);
+        spread(middle, upper, count - 1 - left, keys);
+    }
+
+    /**
+     * {@code a} と {@code b} の間の小数を返す（{@code a} は空文字列が0、{@code b} は {@code null} が1を表す）。
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // 共通の接頭辞（a は末尾を0で補う）を除いた残りの区間で求める
+            int n = 0;
+            while (n < b.length() && digitCharAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.substring(Math.min(n, a.length())), b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : digit(a.charAt(0));
+        int digitB = b == null ? BASE : digit(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitCharAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+
+        return -1;
+    }
+}
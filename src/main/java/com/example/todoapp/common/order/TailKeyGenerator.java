@@ -0,0 +1,75 @@
+package com.example.todoapp.common.order;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 末尾に追加する行の位置キーを時刻から生成するクラス
+ * <p>
+ * UNIXエポックからのマイクロ秒を固定桁数の62進数で表した位置キーを払い出すため、
+ * 後から生成したキーほど後ろに並び、既存の行を読み込まずに末尾へ追加できる。
+ * 同一マイクロ秒内の生成は値を1ずつ進めて、プロセス内で単調増加させる。
+ * {@link FractionalIndex#between} で生成したキーの上限に使用すれば、
+ * 末尾へ移動した行もその後に追加される行より前に並ぶ。
+ */
+public final class TailKeyGenerator {
+
+    /** 位置キーの桁数（62^10マイクロ秒は西暦28000年以降） */
+    private static final int WIDTH = 10;
+
+    private static final TailKeyGenerator INSTANCE = new TailKeyGenerator(TailKeyGenerator::currentTimeMicros);
+
+    /** 直前に払い出した値 */
+    private final AtomicLong last = new AtomicLong();
+
+    private final LongSupplier currentTimeMicros;
+
+    /**
+     * 指定された時刻の取得元を使用するジェネレータを生成する。
+     *
+     * @param currentTimeMicros UNIXエポックからのマイクロ秒の取得元
+     */
+    public TailKeyGenerator(LongSupplier currentTimeMicros) {
+        this.currentTimeMicros = currentTimeMicros;
+    }
+
+    /**
+     * システム時刻を使用する共有インスタンスで位置キーを生成する。
+     *
+     * @return 位置キー
+     */
+    public static String next() {
+        return INSTANCE.generate();
+    }
+
+    /**
+     * 位置キーを生成する。
+     *
+     * @return これまでに生成したどのキーよりも後に並ぶ位置キー
+     */
+    public String generate() {
+        long candidate = currentTimeMicros.getAsLong();
+        long value = last.updateAndGet(previous -> Math.max(candidate, previous + 1));
+
+        char[] digits = new char[WIDTH];
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            digits[i] = FractionalIndex.DIGITS.charAt((int) (value % FractionalIndex.DIGITS.length()));
+            value /= FractionalIndex.DIGITS.length();
+        }
+
+        // 末尾の0を除いても並び順は変わらない
+        int length = WIDTH;
+        while (length > 1 && digits[length - 1] == FractionalIndex.DIGITS.charAt(0)) {
+            length--;
+        }
+
+        return new String(digits, 0, length);
+    }
+
+    private static long currentTimeMicros() {
+        Instant now = Instant.now();
+
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todoapp.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernateが準備するSQLステートメントを {@link SqlStatementCounter} に記録するインスペクタ
+ * <p>
+ * SQLは変更せずにそのまま返す。
+ */
+public final class CountingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * SQLステートメントを計数する。
+     *
+     * @param sql 準備されるSQL
+     * @return 変更していないSQL
+     */
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.recordStatement(sql);
+
+        return sql;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todoapp.common.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBCステートメントの実行時間を {@link SqlStatementCounter} に記録するセッションイベントリスナ
+ * <p>
+ * {@code hibernate.session.events.auto} によりセッションごとに生成される。
+ */
+public final class JdbcTimingSessionEventListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.recordJdbcTime(System.nanoTime() - statementStart);
+    }
+}
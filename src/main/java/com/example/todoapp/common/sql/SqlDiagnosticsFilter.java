@@ -0,0 +1,87 @@
+package com.example.todoapp.common.sql;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * HTTPリクエストごとにSQLステートメントの実行回数とJDBCの実行時間を計測するフィルタ
+ * <p>
+ * ヘッダの公開が有効な場合は、{@code X-Query-Count} と {@code X-Query-Time} をレスポンスに付与する。
+ * ヘッダはレスポンスボディの書き込み後に確定するため、その場合に限りレスポンスをバッファリングする。
+ */
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+    /** ステートメント数のレスポンスヘッダ名 */
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    /** JDBC実行時間（ミリ秒）のレスポンスヘッダ名 */
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        SqlDiagnosticsFilter.class
+    );
+
+    private final boolean exposeHeaders;
+
+    /**
+     * フィルタを生成する。
+     *
+     * @param exposeHeaders 計測値をレスポンスヘッダとして公開する場合は {@code true}
+     */
+    public SqlDiagnosticsFilter(boolean exposeHeaders) {
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String name = request.getMethod() + " " + request.getRequestURI();
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(name)) {
+            if (!exposeHeaders) {
+                filterChain.doFilter(request, response);
+                log(scope);
+                return;
+            }
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            try {
+                filterChain.doFilter(request, wrapper);
+            } finally {
+                wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(scope.getStatementCount()));
+                wrapper.setHeader(
+                    QUERY_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(scope.getJdbcNanos()))
+                );
+                wrapper.copyBodyToResponse();
+                log(scope);
+            }
+        }
+    }
+
+    private static void log(SqlStatementCounter.Scope scope) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "[{}] statements={}, jdbcTime={}us",
+                scope.getName(),
+                scope.getStatementCount(),
+                TimeUnit.NANOSECONDS.toMicros(scope.getJdbcNanos())
+            );
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.todoapp.common.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * スレッドごとにSQLステートメントの実行回数とJDBCの実行時間を計測するクラス
+ * <p>
+ * {@link #open(String)} で開始したスコープ内で実行されたステートメントを計数する。
+ * スコープは入れ子にでき、内側のスコープの計測値は外側のスコープにも加算される。
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {}
+
+    /**
+     * 計測スコープを開始する。
+     *
+     * @param name スコープ名（例: {@code "GET /api/todos"}）
+     * @return 開始した {@link Scope}
+     */
+    public static Scope open(String name) {
+        return open(name, false);
+    }
+
+    /**
+     * ステートメントのSQLも保持する計測スコープを開始する。
+     * <p>
+     * Hibernateが実際に出力したSQLを検証する場合に使用する。
+     *
+     * @param name スコープ名
+     * @return 開始した {@link Scope}
+     */
+    public static Scope capture(String name) {
+        return open(name, true);
+    }
+
+    private static Scope open(String name, boolean capturing) {
+        Scope scope = new Scope(name, CURRENT.get(), capturing);
+        CURRENT.set(scope);
+
+        return scope;
+    }
+
+    /**
+     * ステートメントの実行を現在のスコープに記録する。
+     *
+     * @param sql 準備されるSQL
+     */
+    static void recordStatement(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            if (scope.statements != null) {
+                scope.statements.add(sql);
+            }
+        }
+    }
+
+    /**
+     * JDBCの実行時間を現在のスコープに記録する。
+     *
+     * @param elapsedNanos 実行時間（ナノ秒）
+     */
+    static void recordJdbcTime(long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * SQLステートメントの計測スコープ
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final Scope parent;
+        private final List<String> statements;
+        private List<Scope> children;
+        private int statementCount;
+        private long jdbcNanos;
+
+        private Scope(String name, Scope parent, boolean capturing) {
+            this.name = name;
+            this.parent = parent;
+            this.statements = capturing ? new ArrayList<>() : null;
+        }
+
+        /**
+         * スコープ名を取得する。
+         *
+         * @return スコープ名
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 実行されたステートメント数を取得する。
+         *
+         * @return ステートメント数
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * 実行されたステートメントのSQLを取得する。
+         *
+         * @return 実行順のSQL（{@link SqlStatementCounter#capture} で開始したスコープ以外は空）
+         */
+        public List<String> getStatements() {
+            return statements == null ? List.of() : List.copyOf(statements);
+        }
+
+        /**
+         * JDBCの実行時間を取得する。
+         *
+         * @return 実行時間（ナノ秒）
+         */
+        public long getJdbcNanos() {
+            return jdbcNanos;
+        }
+
+        /**
+         * このスコープ内で終了した直下のスコープを取得する。
+         *
+         * @return 直下のスコープ
+         */
+        public List<Scope> getChildren() {
+            return children == null ? List.of() : List.copyOf(children);
+        }
+
+        /**
+         * スコープを終了し、外側のスコープを現在のスコープに戻す。
+         */
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+                return;
+            }
+            CURRENT.set(parent);
+            if (parent.children == null) {
+                parent.children = new ArrayList<>();
+            }
+            parent.children.add(this);
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.todoapp.common.validation;
 
-import java.util.Optional;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 /**
  * 空白文字のバリデータクラス
+ * <p>
+ * 空白の判定は {@link TrimmedText} で行い、サービス層のタイトルの正規化と同じ基準で検証する。
  */
 public final class NotWhitespaceValidator
     implements ConstraintValidator<NotWhitespace, String> {
@@ -19,12 +19,6 @@ public final class NotWhitespaceValidator
      */
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        return Optional
-            .ofNullable(value)
-            .map(v -> v
-                .chars()
-                .anyMatch(c -> !Character.isWhitespace(c))
-            )
-            .orElse(true);
+        return value == null || !TrimmedText.isBlank(value);
     }
 }
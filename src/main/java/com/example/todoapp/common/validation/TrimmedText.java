@@ -0,0 +1,104 @@
+package com.example.todoapp.common.validation;
+
+/**
+ * 文字列の前後の空白を除いた範囲を求めるクラス
+ * <p>
+ * {@link String#trim} と同じく {@code U+0020} 以下の文字を前後の空白として除き、
+ * 除いた範囲が {@link Character#isWhitespace} の文字だけの場合を空白のみとみなす
+ * （{@code trim().isBlank()} と同じ判定）。
+ * 文字列を1回だけ走査し、範囲は開始位置と終了位置を1つの {@code long} に詰めて返すため、
+ * 部分文字列やラムダ式を生成しない。
+ */
+public final class TrimmedText {
+
+    /** 空白のみ（または空文字列）の場合の範囲 */
+    public static final long BLANK = -1L;
+
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private TrimmedText() {}
+
+    /**
+     * 前後の空白を除いた範囲を求める。
+     *
+     * @param value 対象の文字列
+     * @return 開始位置を上位32ビット、終了位置を下位32ビットに詰めた範囲（空白のみの場合は {@link #BLANK}）
+     */
+    public static long scan(String value) {
+        int begin = -1;
+        int end = -1;
+        boolean content = false;
+        // 範囲内にあるかが後続の文字で決まる、空白以外の制御文字（U+0020以下）
+        boolean pendingControl = false;
+
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c > ' ') {
+                if (begin < 0) {
+                    begin = i;
+                }
+                end = i + 1;
+                if (pendingControl || !Character.isWhitespace(c)) {
+                    content = true;
+                }
+            } else if (begin >= 0 && !content && !Character.isWhitespace(c)) {
+                pendingControl = true;
+            }
+        }
+
+        return content ? (long) begin << 32 | end : BLANK;
+    }
+
+    /**
+     * 前後の空白を除いた文字列が空白のみかを判定する。
+     *
+     * @param value 対象の文字列
+     * @return 空白のみ（または空文字列）の場合は {@code true}
+     */
+    public static boolean isBlank(String value) {
+        return scan(value) == BLANK;
+    }
+
+    /**
+     * 範囲の開始位置を返す。
+     *
+     * @param range {@link #scan} の戻り値（{@link #BLANK} 以外）
+     * @return 開始位置
+     */
+    public static int begin(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /**
+     * 範囲の終了位置（含まない）を返す。
+     *
+     * @param range {@link #scan} の戻り値（{@link #BLANK} 以外）
+     * @return 終了位置
+     */
+    public static int end(long range) {
+        return (int) (range & INDEX_MASK);
+    }
+
+    /**
+     * 範囲の文字数（UTF-16のコード単位数）を返す。
+     *
+     * @param range {@link #scan} の戻り値（{@link #BLANK} 以外）
+     * @return 文字数
+     */
+    public static int length(long range) {
+        return end(range) - begin(range);
+    }
+
+    /**
+     * 範囲の文字列を返す。
+     * <p>
+     * 範囲が文字列全体の場合は、同じ文字列をそのまま返す。
+     *
+     * @param value 対象の文字列
+     * @param range {@link #scan} の戻り値（{@link #BLANK} 以外）
+     * @return 前後の空白を除いた文字列
+     */
+    public static String substring(String value, long range) {
+        return value.substring(begin(range), end(range));
+    }
+}
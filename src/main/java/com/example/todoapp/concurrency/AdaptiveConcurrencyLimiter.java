@@ -0,0 +1,140 @@
+package com.example.todoapp.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 応答時間の勾配に基づいて同時実行数の上限を調整するリミッタ
+ * <p>
+ * 長期の平均応答時間と直近の応答時間の比（勾配）が1を下回る、つまり処理が遅くなっている間は上限を縮め、
+ * 応答時間が安定している間は {@code √上限} ずつ広げる。
+ * 同時実行数の取得はCASのみで行い、上限の更新は他のスレッドが更新中であれば省略する。
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** 勾配の下限（1回の更新で上限を半分より小さくしない） */
+    private static final double MIN_GRADIENT = 0.5;
+
+    /** 長期の応答時間が直近の2倍を超えた場合の減衰率 */
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double longRttFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+
+    /** 上限の推定値（{@link #updateLock} で保護） */
+    private double estimatedLimit;
+
+    /** 長期の平均応答時間（ナノ秒、{@link #updateLock} で保護） */
+    private double longRttNanos;
+
+    /**
+     * リミッタを生成する。
+     *
+     * @param initialLimit 上限の初期値
+     * @param minLimit     上限の最小値
+     * @param maxLimit     上限の最大値
+     * @param smoothing    上限の更新の平滑化係数（0〜1）
+     * @param longWindow   長期の平均応答時間を求めるサンプル数
+     */
+    public AdaptiveConcurrencyLimiter(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double smoothing,
+        int longWindow
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("minLimit must be >= 1 and <= maxLimit.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * 同時実行の枠を取得する。
+     *
+     * @return 取得できた場合は {@code true}、上限に達している場合は {@code false}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 同時実行の枠を返却し、応答時間を上限の調整に反映する。
+     *
+     * @param rttNanos 処理時間（ナノ秒）
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(Math.max(1L, rttNanos), inFlightAtCompletion);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 現在の上限を返す。
+     *
+     * @return 同時実行数の上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 現在の同時実行数を返す。
+     *
+     * @return 同時実行数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rttNanos, int inFlightAtCompletion) {
+        double shortRtt = rttNanos;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * longRttFactor;
+        }
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+
+        // 上限の半分も使われていない間は、応答時間が上限の妥当性を示さないため調整しない
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        double next = estimatedLimit * (1 - smoothing) + target * smoothing;
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todoapp.concurrency;
+
+import java.util.function.LongSupplier;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.Counter;
+
+import com.example.todoapp.concurrency.exception.ConcurrencyLimitExceededException;
+
+/**
+ * To-doのサービス呼び出しの同時実行数を {@link AdaptiveConcurrencyLimiter} で制限するアスペクト
+ * <p>
+ * 上限に達している場合は待機させずに {@link ConcurrencyLimitExceededException} をスローする。
+ */
+@Aspect
+public class ConcurrencyLimitAspect {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Counter rejectedCounter;
+    private final long retryAfterSeconds;
+    private final LongSupplier nanoTime;
+
+    /**
+     * アスペクトを生成する。
+     *
+     * @param limiter           {@link AdaptiveConcurrencyLimiter}
+     * @param rejectedCounter   拒否したリクエストのカウンタ
+     * @param retryAfterSeconds クライアントに通知する再試行までの秒数
+     * @param nanoTime          処理時間の計測に使用するナノ秒の取得元
+     */
+    public ConcurrencyLimitAspect(
+        AdaptiveConcurrencyLimiter limiter,
+        Counter rejectedCounter,
+        long retryAfterSeconds,
+        LongSupplier nanoTime
+    ) {
+        this.limiter = limiter;
+        this.rejectedCounter = rejectedCounter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.nanoTime = nanoTime;
+    }
+
+    @Around(
+        "within(com.example.todoapp.todo.service.query.TodoQueryService)"
+            + " || within(com.example.todoapp.todo.service.command.TodoCommandService)"
+    )
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ConcurrencyLimitExceededException(limiter.getLimit(), retryAfterSeconds);
+        }
+
+        long start = nanoTime.getAsLong();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            limiter.release(nanoTime.getAsLong() - start);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.todoapp.concurrency.exception;
+
+import org.springframework.http.ProblemDetail;
+
+import lombok.Getter;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 同時実行数が上限に達したためにリクエストを拒否した場合の例外クラス
+ * <p>
+ * 過負荷時に大量に発生するため、スタックトレースは取得しない。
+ */
+@Getter
+public final class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Service Overloaded";
+
+    /** エラーコード */
+    private final ErrorCode errorCode = ErrorCode.SERVICE_OVERLOADED;
+
+    /** 拒否した時点の同時実行数の上限 */
+    private final int limit;
+
+    /** 再試行までの秒数 */
+    private final long retryAfterSeconds;
+
+    /**
+     * 同時実行数が上限に達したためにリクエストを拒否した場合の例外を生成する。
+     *
+     * @param limit             拒否した時点の同時実行数の上限
+     * @param retryAfterSeconds 再試行までの秒数
+     */
+    public ConcurrencyLimitExceededException(int limit, long retryAfterSeconds) {
+        super(ERROR_TITLE, null, false, false);
+        this.limit = limit;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 同時実行数が上限に達したためにリクエストを拒否した場合の詳細情報を返す。
+     *
+     * @return 例外の詳細情報
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [limit=" + getLimit() + ", retryAfterSeconds=" + getRetryAfterSeconds() + "]";
+    }
+
+    /**
+     * {@link ProblemDetail#title} に設定するエラータイトルを取得する。
+     *
+     * @return エラータイトル
+     */
+    public String getErrorTitle() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.bulkhead.Bulkhead;
+import com.example.todoapp.bulkhead.BulkheadAspect;
+import com.example.todoapp.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+/**
+ * 処理区画（バルクヘッド）設定
+ * <p>
+ * {@code TodoQueryController}（参照系）と {@code TodoCommandController}（更新系）の呼び出しを
+ * それぞれ同時実行数・待機数の上限を持つ区画に隔離し、更新系の集中で参照系が処理されなくなることを防ぐ。
+ * 永続化方式がJPAでレプリカを使用しない場合は、プライマリへのコネクションプールも参照系と更新系で分ける
+ * （参照系のプールを {@link ReplicaRoutingDataSource} のレプリカの役割として登録する）。
+ * 両方のプールに {@code spring.datasource.hikari.*} を適用したうえで、プール名・最大接続数・読み取り専用を
+ * 区画ごとに上書きする（レプリカを使用する場合は {@link ReplicaRoutingConfig} がプライマリとレプリカに同様に適用する）。
+ * 実行数・待機数・拒否数は {@code todo.bulkhead.*} として記録する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.bulkhead")
+@ConditionalOnProperty(
+    prefix = "app.bulkhead",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@Getter
+@Setter
+public class BulkheadConfig {
+
+    /** 処理区画を有効にするか */
+    private boolean enabled = true;
+
+    /** クライアントに通知する再試行までの時間 */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** 参照系の区画 */
+    private Compartment read = new Compartment(120, 40, Duration.ofMillis(100), 10);
+
+    /** 更新系の区画 */
+    private Compartment write = new Compartment(20, 20, Duration.ofMillis(500), 5);
+
+    /**
+     * 区画の設定
+     */
+    @Getter
+    @Setter
+    public static class Compartment {
+
+        /** 同時実行数の上限 */
+        private int maxConcurrent;
+
+        /** 待機数の上限 */
+        private int maxQueue;
+
+        /** 最大待機時間 */
+        private Duration maxWait;
+
+        /** コネクションプールの最大接続数 */
+        private int poolSize;
+
+        public Compartment() {}
+
+        Compartment(int maxConcurrent, int maxQueue, Duration maxWait, int poolSize) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+            this.poolSize = poolSize;
+        }
+    }
+
+    @Bean
+    public Bulkhead readBulkhead(MeterRegistry meterRegistry) {
+        return register(new Bulkhead("read", read.getMaxConcurrent(), read.getMaxQueue(),
+            read.getMaxWait().toNanos()), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead writeBulkhead(MeterRegistry meterRegistry) {
+        return register(new Bulkhead("write", write.getMaxConcurrent(), write.getMaxQueue(),
+            write.getMaxWait().toNanos()), meterRegistry);
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(
+        Bulkhead readBulkhead,
+        Bulkhead writeBulkhead,
+        MeterRegistry meterRegistry
+    ) {
+        return new BulkheadAspect(
+            readBulkhead,
+            writeBulkhead,
+            rejectedCounter(readBulkhead, meterRegistry),
+            rejectedCounter(writeBulkhead, meterRegistry),
+            Math.max(1L, retryAfter.toSeconds())
+        );
+    }
+
+    /**
+     * 参照系と更新系に分けたコネクションプールの設定
+     * <p>
+     * 永続化方式がJPAで、レプリカを使用しない場合に有効にする。
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(
+        prefix = "app.storage",
+        name = "engine",
+        havingValue = "jpa",
+        matchIfMissing = true
+    )
+    static class DataSourcePoolsConfig {
+
+        @Bean
+        @Primary
+        @ConditionalOnProperty(
+            prefix = "app.replica",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true
+        )
+        public ReplicaRoutingDataSource dataSource(
+            BulkheadConfig bulkheadConfig,
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+        ) {
+            Compartment read = bulkheadConfig.getRead();
+            Compartment write = bulkheadConfig.getWrite();
+            MicrometerMetricsTrackerFactory metricsTrackerFactory =
+                new MicrometerMetricsTrackerFactory(meterRegistry);
+
+            HikariDataSource writePool = DataSourcePools.create(
+                dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class),
+                environment,
+                "write",
+                write,
+                false,
+                metricsTrackerFactory
+            );
+            HikariDataSource readPool = DataSourcePools.create(
+                dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class),
+                environment,
+                "read",
+                read,
+                true,
+                metricsTrackerFactory
+            );
+
+            return new ReplicaRoutingDataSource(writePool, List.of(readPool));
+        }
+    }
+
+    private static Bulkhead register(Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        Gauge.builder("todo.bulkhead.active", bulkhead, Bulkhead::getActive)
+            .description("Active calls in the bulkhead")
+            .tag("bulkhead", bulkhead.getName())
+            .register(meterRegistry);
+        Gauge.builder("todo.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+            .description("Calls waiting to enter the bulkhead")
+            .tag("bulkhead", bulkhead.getName())
+            .register(meterRegistry);
+
+        return bulkhead;
+    }
+
+    private static Counter rejectedCounter(Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        return Counter.builder("todo.bulkhead.rejected")
+            .description("Calls rejected by the bulkhead")
+            .tag("bulkhead", bulkhead.getName())
+            .register(meterRegistry);
+    }
+}
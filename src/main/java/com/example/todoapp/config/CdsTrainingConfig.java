@@ -0,0 +1,36 @@
+package com.example.todoapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.warmup.CdsTrainingRunner;
+
+/**
+ * クラスデータ共有（CDS）アーカイブの訓練実行設定
+ * <p>
+ * {@code app.cds.training=true} の場合のみ有効で、Gradleの {@code cdsArchive} タスクから使用する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cds")
+@ConditionalOnProperty(prefix = "app.cds", name = "training", havingValue = "true")
+@Getter
+@Setter
+public class CdsTrainingConfig {
+
+    /** 訓練実行を行うか */
+    private boolean training = false;
+
+    /** 操作の繰り返し回数 */
+    private int iterations = 50;
+
+    @Bean
+    public CdsTrainingRunner cdsTrainingRunner(ConfigurableApplicationContext applicationContext) {
+        return new CdsTrainingRunner(applicationContext, iterations);
+    }
+}
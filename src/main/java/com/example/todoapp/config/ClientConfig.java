@@ -0,0 +1,36 @@
+package com.example.todoapp.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.common.client.ClientKeyResolver;
+
+/**
+ * クライアントの識別設定
+ * <p>
+ * レート制限と冪等キーの範囲は、登録済みのAPIキーまたは接続元IPアドレスで識別したクライアントごとに分ける。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.client")
+@Getter
+@Setter
+public class ClientConfig {
+
+    /** APIキーのヘッダ名 */
+    private String apiKeyHeader = "X-API-Key";
+
+    /** 登録済みのAPIキー（クライアント名からAPIキーへの対応） */
+    private Map<String, String> apiKeys = new LinkedHashMap<>();
+
+    @Bean
+    public ClientKeyResolver clientKeyResolver() {
+        return new ClientKeyResolver(apiKeyHeader, apiKeys);
+    }
+}
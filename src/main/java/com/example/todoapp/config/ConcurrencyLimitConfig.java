@@ -0,0 +1,94 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.concurrency.AdaptiveConcurrencyLimiter;
+import com.example.todoapp.concurrency.ConcurrencyLimitAspect;
+
+/**
+ * 同時実行数の制限設定
+ * <p>
+ * To-doのサービス呼び出しの同時実行数を応答時間に応じて調整し、上限を超えたリクエストを503で拒否する。
+ * 上限・同時実行数・拒否数は {@code todo.concurrency.*} として記録する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@ConditionalOnProperty(
+    prefix = "app.concurrency-limit",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@Getter
+@Setter
+public class ConcurrencyLimitConfig {
+
+    /** 同時実行数の制限を有効にするか */
+    private boolean enabled = true;
+
+    /** 上限の初期値 */
+    private int initialLimit = 20;
+
+    /** 上限の最小値 */
+    private int minLimit = 4;
+
+    /** 上限の最大値 */
+    private int maxLimit = 200;
+
+    /** 上限の更新の平滑化係数（0〜1） */
+    private double smoothing = 0.2;
+
+    /** 長期の平均応答時間を求めるサンプル数 */
+    private int longWindow = 600;
+
+    /** クライアントに通知する再試行までの時間 */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            initialLimit,
+            minLimit,
+            maxLimit,
+            smoothing,
+            longWindow
+        );
+        Gauge.builder("todo.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Adaptive concurrency limit of the to-do services")
+            .register(meterRegistry);
+        Gauge.builder("todo.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("In-flight calls of the to-do services")
+            .register(meterRegistry);
+
+        return limiter;
+    }
+
+    @Bean
+    public ConcurrencyLimitAspect concurrencyLimitAspect(
+        AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+        MeterRegistry meterRegistry
+    ) {
+        Counter rejectedCounter = Counter.builder("todo.concurrency.rejected")
+            .description("Calls rejected by the adaptive concurrency limit")
+            .register(meterRegistry);
+
+        return new ConcurrencyLimitAspect(
+            adaptiveConcurrencyLimiter,
+            rejectedCounter,
+            Math.max(1L, retryAfter.toSeconds()),
+            System::nanoTime
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todoapp.config;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+/**
+ * 処理区画・レプリカのコネクションプールを生成するクラス
+ * <p>
+ * レプリカの有無にかかわらず、{@code spring.datasource.hikari.*} を適用したうえで、
+ * プール名・読み取り専用と、処理区画の最大接続数（{@code app.bulkhead.read/write.pool-size}）を上書きする。
+ */
+final class DataSourcePools {
+
+    private DataSourcePools() {}
+
+    /**
+     * コネクションプールを生成する。
+     *
+     * @param builder               接続情報を設定した {@link DataSourceBuilder}
+     * @param environment           {@code spring.datasource.hikari.*} の取得元
+     * @param poolName              プール名
+     * @param compartment           最大接続数を適用する処理区画（処理区画が無効の場合は {@code null}）
+     * @param readOnly              読み取り専用の接続とする場合は {@code true}
+     * @param metricsTrackerFactory 接続の待ち時間などを記録する {@link MetricsTrackerFactory}
+     * @return 生成した {@link HikariDataSource}
+     */
+    static HikariDataSource create(
+        DataSourceBuilder<HikariDataSource> builder,
+        Environment environment,
+        String poolName,
+        BulkheadConfig.Compartment compartment,
+        boolean readOnly,
+        MetricsTrackerFactory metricsTrackerFactory
+    ) {
+        HikariDataSource pool = builder.build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+
+        pool.setPoolName(poolName);
+        if (compartment != null) {
+            pool.setMaximumPoolSize(compartment.getPoolSize());
+        }
+        if (readOnly) {
+            pool.setReadOnly(true);
+        }
+        pool.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        return pool;
+    }
+}
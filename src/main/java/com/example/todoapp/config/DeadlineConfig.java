@@ -0,0 +1,95 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.deadline.DeadlineAspect;
+import com.example.todoapp.deadline.DeadlineAwareJpaTransactionManager;
+import com.example.todoapp.deadline.DeadlineFilter;
+
+/**
+ * リクエストの期限設定
+ * <p>
+ * {@code X-Request-Deadline}/{@code X-Request-Timeout} ヘッダまたはデフォルトのタイムアウトから期限を決定し、
+ * 期限を過ぎたサービス呼び出しを開始前に取り消す。
+ * 期限までの残り時間はトランザクションとクエリのタイムアウトに反映する。
+ * 開始前に取り消した呼び出し数は {@code todo.deadline.cancelled} として記録する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.deadline")
+@ConditionalOnProperty(
+    prefix = "app.deadline",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@Getter
+@Setter
+public class DeadlineConfig {
+
+    /** リクエストの期限を有効にするか */
+    private boolean enabled = true;
+
+    /** ヘッダがない場合のタイムアウト */
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    /** タイムアウトの最大値 */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter() {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(
+            new DeadlineFilter(defaultTimeout.toMillis(), maxTimeout.toMillis())
+        );
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+
+        return registration;
+    }
+
+    @Bean
+    public DeadlineAspect deadlineAspect(MeterRegistry meterRegistry) {
+        Counter cancelledCounter = Counter.builder("todo.deadline.cancelled")
+            .description("Service calls cancelled because the request deadline had passed")
+            .register(meterRegistry);
+
+        return new DeadlineAspect(cancelledCounter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "app.storage",
+        name = "engine",
+        havingValue = "jpa",
+        matchIfMissing = true
+    )
+    public PlatformTransactionManager transactionManager(
+        EntityManagerFactory entityManagerFactory,
+        ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers
+    ) {
+        DeadlineAwareJpaTransactionManager transactionManager =
+            new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(
+            customizers -> customizers.customize(transactionManager)
+        );
+
+        return transactionManager;
+    }
+}
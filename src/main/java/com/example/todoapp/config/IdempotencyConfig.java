@@ -0,0 +1,58 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.idempotency.repository.IdempotencyKeyRepository;
+import com.example.todoapp.idempotency.store.IdempotencyStore;
+import com.example.todoapp.idempotency.store.InMemoryIdempotencyStore;
+import com.example.todoapp.idempotency.store.JpaIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 冪等キー設定
+ * <p>
+ * {@code store} が {@code memory} の場合はプロセス内、{@code jpa} の場合はデータベースに記録を保持する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyConfig {
+
+    /** 完了した記録の保持期間 */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** 処理中の記録の保持期間（この間に完了しなければ再試行を受け付ける） */
+    private Duration lease = Duration.ofSeconds(30);
+
+    /** プロセス内に保持する記録の上限数 */
+    private long maxEntries = 100_000;
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "app.idempotency",
+        name = "store",
+        havingValue = "memory",
+        matchIfMissing = true
+    )
+    public IdempotencyStore inMemoryIdempotencyStore() {
+        return new InMemoryIdempotencyStore(maxEntries);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jpa")
+    public IdempotencyStore jpaIdempotencyStore(
+        IdempotencyKeyRepository idempotencyKeyRepository,
+        ObjectMapper objectMapper
+    ) {
+        return new JpaIdempotencyStore(idempotencyKeyRepository, objectMapper);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todoapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * メトリクス設定
+ * <p>
+ * {@code @Timed} を付与したコントローラのメソッドごとにタイマーを記録する。
+ * リポジトリ呼び出し（{@code spring.data.repository.invocations}）と
+ * コネクションプールの待ち時間（{@code hikaricp.connections.acquire}）は自動構成で記録される。
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.todoapp.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.example.todoapp.common.audit.Auditable;
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.common.id.UuidV7IdGenerator;
+import com.example.todoapp.common.validation.NotWhitespaceValidator;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.idempotency.model.IdempotencyKeyEntity;
+import com.example.todoapp.todo.dto.TodoMoveRequest;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.dto.proto.ProblemDetailMessage;
+import com.example.todoapp.todo.dto.proto.TodoCursorPageResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoETagResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoPageResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoRequestMessage;
+import com.example.todoapp.todo.dto.proto.TodoResponseMessage;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoPositionRow;
+import com.example.todoapp.todo.service.query.TodoPositionCursor;
+
+/**
+ * ネイティブイメージ用の到達可能性ヒント設定
+ * <p>
+ * Spring AOTが自動で検出できない、リフレクションとリソースで利用するクラスとファイルを登録する。
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.TodoRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /** MapStructが生成する {@code TodoMapper} の実装クラス */
+    private static final String TODO_MAPPER_IMPL =
+        "com.example.todoapp.todo.service.mapper.TodoMapperImpl";
+
+    /**
+     * To-doアプリケーションの到達可能性ヒント
+     */
+    static class TodoRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar =
+            new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // MapStructの生成クラス
+            hints.reflection().registerTypeIfPresent(
+                classLoader,
+                TODO_MAPPER_IMPL,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+            );
+
+            // Hibernateのエンティティ（Lombokが生成するアクセサを含む）と識別子の生成クラス
+            for (Class<?> type : new Class<?>[] {
+                TodoEntity.class,
+                Auditable.class,
+                IdempotencyKeyEntity.class
+            }) {
+                hints.reflection().registerType(
+                    type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS
+                );
+            }
+            hints.reflection().registerType(
+                UuidV7IdGenerator.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS
+            );
+            hints.reflection().registerType(
+                NotWhitespaceValidator.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS
+            );
+
+            // セグメントログがメモリマップの解放に使用する型
+            hints.reflection().registerTypeIfPresent(
+                classLoader,
+                "sun.misc.Unsafe",
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+            );
+
+            // JPQLのコンストラクタ式で生成する射影とクエリパラメータの変換に使用する型
+            hints.reflection().registerType(
+                TodoPositionRow.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS
+            );
+            hints.reflection().registerType(
+                TodoPositionCursor.class,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+            );
+
+            // JSONで入出力・保存するデータ転送オブジェクト
+            bindingRegistrar.registerReflectionHints(
+                hints.reflection(),
+                TodoRequest.class,
+                TodoMoveRequest.class,
+                TodoResponse.class,
+                ETagResponse.class,
+                PageResponse.class,
+                CursorPageResponse.class,
+                StoredResponse.class
+            );
+
+            // Protocol Buffersの生成クラス（フィールドアクセサをリフレクションで解決する）
+            for (Class<?> type : new Class<?>[] {
+                TodoRequestMessage.class,
+                TodoResponseMessage.class,
+                TodoETagResponseMessage.class,
+                TodoPageResponseMessage.class,
+                TodoCursorPageResponseMessage.class,
+                ProblemDetailMessage.class
+            }) {
+                hints.reflection().registerType(
+                    type,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS
+                );
+                hints.reflection().registerTypeIfPresent(
+                    classLoader,
+                    type.getName() + "$Builder",
+                    MemberCategory.INVOKE_PUBLIC_METHODS
+                );
+            }
+
+            // 検証メッセージ
+            hints.resources().registerResourceBundle("messages");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.example.todoapp.common.client.ClientKeyResolver;
+import com.example.todoapp.common.error.builder.ExceptionResponseBuilder;
+import com.example.todoapp.ratelimit.RateLimitFilter;
+import com.example.todoapp.ratelimit.RouteClass;
+import com.example.todoapp.ratelimit.StripedTokenBuckets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * レート制限設定
+ * <p>
+ * クライアント（{@link ClientKeyResolver} で識別）ごと・{@link RouteClass} ごとにトークンバケットでリクエスト数を制限する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitConfig {
+
+    /** レート制限を有効にするか */
+    private boolean enabled = true;
+
+    /** 保持するクライアント数の上限 */
+    private int maxClients = 100_000;
+
+    /** バケットを保持するストライプ数 */
+    private int stripes = 16;
+
+    /** バケットを破棄するまでのアイドル時間 */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** 参照系の制限 */
+    private Limit read = new Limit(200, 100);
+
+    /** 更新系の制限 */
+    private Limit write = new Limit(20, 10);
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "app.rate-limit",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+        ClientKeyResolver clientKeyResolver,
+        ExceptionResponseBuilder exceptionResponseBuilder,
+        ObjectMapper objectMapper
+    ) {
+        long now = System.nanoTime();
+        Map<RouteClass, StripedTokenBuckets> buckets = new EnumMap<>(RouteClass.class);
+        buckets.put(RouteClass.READ, read.toBuckets(this, now));
+        buckets.put(RouteClass.WRITE, write.toBuckets(this, now));
+
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+            new RateLimitFilter(buckets, clientKeyResolver, exceptionResponseBuilder, objectMapper)
+        );
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+
+        return registration;
+    }
+
+    /**
+     * ルートの分類ごとの制限
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /** バケット容量（バースト時に許容するリクエスト数） */
+        private int capacity;
+
+        /** 1秒あたりのトークン補充数 */
+        private double refillPerSecond;
+
+        private StripedTokenBuckets toBuckets(RateLimitConfig config, long nowNanos) {
+            return new StripedTokenBuckets(
+                capacity,
+                refillPerSecond,
+                config.getStripes(),
+                config.getMaxClients(),
+                config.getIdleTimeout().toNanos(),
+                nowNanos
+            );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.replica.ReplicaRoutingAspect;
+import com.example.todoapp.replica.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+/**
+ * レプリカへの読み込み振り分け設定
+ * <p>
+ * Query操作をレプリカに、Command操作を {@code spring.datasource.*} のプライマリに接続する。
+ * 書き込み後の整合性トークンを付けた読み込みは、レプリカの最大遅延が経過するまでプライマリに接続する。
+ * コネクションプールの待ち時間はプールごとに {@code hikaricp.connections.acquire} として記録する。
+ * 各プールには {@code spring.datasource.hikari.*} を適用し、処理区画が有効な場合はプライマリに更新系、
+ * 各レプリカに参照系の最大接続数（{@code app.bulkhead.write/read.pool-size}）を適用する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.replica")
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+@Getter
+@Setter
+public class ReplicaRoutingConfig {
+
+    /** レプリカへの振り分けを有効にするか */
+    private boolean enabled = false;
+
+    /** レプリカの最大遅延（整合性トークンの発行からプライマリに接続する時間） */
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    /** レプリカの接続情報 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * レプリカの接続情報
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /** JDBC URL */
+        private String url;
+
+        /** ユーザ名 */
+        private String username;
+
+        /** パスワード */
+        private String password;
+
+        /** JDBCドライバのクラス名（省略時はURLから判定） */
+        private String driverClassName;
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(
+        DataSourceProperties dataSourceProperties,
+        ObjectProvider<BulkheadConfig> bulkheadConfigProvider,
+        Environment environment,
+        MeterRegistry meterRegistry
+    ) {
+        BulkheadConfig bulkheadConfig = bulkheadConfigProvider.getIfAvailable();
+        MicrometerMetricsTrackerFactory metricsTrackerFactory =
+            new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = DataSourcePools.create(
+            dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class),
+            environment,
+            "primary",
+            bulkheadConfig == null ? null : bulkheadConfig.getWrite(),
+            false,
+            metricsTrackerFactory
+        );
+
+        List<DataSource> replicaDataSources = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword());
+            if (replica.getDriverClassName() != null) {
+                builder.driverClassName(replica.getDriverClassName());
+            }
+
+            replicaDataSources.add(DataSourcePools.create(
+                builder,
+                environment,
+                "replica-" + i,
+                bulkheadConfig == null ? null : bulkheadConfig.getRead(),
+                true,
+                metricsTrackerFactory
+            ));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicaDataSources);
+    }
+
+    @Bean
+    public ReplicaRoutingAspect replicaRoutingAspect() {
+        return new ReplicaRoutingAspect(maxLag.toMillis());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.todoapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定期実行設定
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,103 @@
+package com.example.todoapp.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.todo.model.TodoEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernateの2次キャッシュ設定
+ * <p>
+ * {@link TodoEntity} をJCache（Caffeine）の件数上限付きのローカルキャッシュに保持し、
+ * 主キーによる取得（{@code TodoFinder}）でデータベースへの問い合わせを省く。
+ * 読み書き（{@code READ_WRITE}）戦略のため、更新・削除中のエントリはロックされ、
+ * トランザクションの完了時に新しい状態がキャッシュに反映される。
+ * リージョンごとのヒット・ミス・格納の数は {@code hibernate.second.level.cache.*} として記録する。
+ * <p>
+ * キャッシュからの取得はデータソースの振り分け（読み込みレプリカ）を経由しない。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.second-level-cache")
+@Getter
+@Setter
+public class SecondLevelCacheConfig {
+
+    /** 2次キャッシュを有効にするか */
+    private boolean enabled = true;
+
+    /** リージョンごとの最大件数 */
+    private long maximumSize = 10_000;
+
+    /** 格納してからの有効期間 */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * 2次キャッシュ用の {@link CacheManager} を生成する。
+     * <p>
+     * 同じJVMで起動した複数のアプリケーションコンテキスト（テストなど）が同じキャッシュを共有しないよう、
+     * コンテキストごとに固有のURIで生成する。
+     *
+     * @return {@link TodoEntity} のリージョンを作成した {@link CacheManager}
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+        prefix = "app.second-level-cache",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching
+            .getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(
+                URI.create("urn:todoapp:hibernate:" + UUID.randomUUID()),
+                getClass().getClassLoader()
+            );
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        cacheManager.createCache(TodoEntity.CACHE_REGION, configuration);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+        ObjectProvider<CacheManager> hibernateCacheManager
+    ) {
+        return properties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            if (cacheManager == null) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                return;
+            }
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.common.flight.SingleFlight;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.service.query.TodoIdKey;
+import com.example.todoapp.todo.service.query.TodoPageKey;
+
+/**
+ * 同時読み込みの集約設定
+ * <p>
+ * 同じTo-doの取得と同じパラメータの一覧取得を、実行中の1回のデータベースアクセスにまとめる。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.single-flight")
+@Getter
+@Setter
+public class SingleFlightConfig {
+
+    /** 実行中の処理の結果を待つ時間の上限（超えた場合は自身で実行する） */
+    private Duration maxJoinWait = Duration.ofSeconds(1);
+
+    @Bean
+    public SingleFlight<TodoIdKey, ETagResponse<TodoResponse>> todoSingleFlight(
+        MeterRegistry meterRegistry
+    ) {
+        return new SingleFlight<>("getTodo", meterRegistry, maxJoinWait);
+    }
+
+    @Bean
+    public SingleFlight<TodoPageKey, Page<ETagResponse<TodoResponse>>> todoPageSingleFlight(
+        MeterRegistry meterRegistry
+    ) {
+        return new SingleFlight<>("getTodoPage", meterRegistry, maxJoinWait);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todoapp.config;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.common.sql.CountingStatementInspector;
+import com.example.todoapp.common.sql.JdbcTimingSessionEventListener;
+import com.example.todoapp.common.sql.SqlDiagnosticsFilter;
+
+/**
+ * SQL診断設定
+ * <p>
+ * HTTPリクエストごとのSQLステートメント数とJDBC実行時間を計測する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-diagnostics")
+@Getter
+@Setter
+public class SqlDiagnosticsConfig {
+
+    /** 計測値を {@code X-Query-Count}/{@code X-Query-Time} ヘッダとして公開するか */
+    private boolean exposeHeaders = false;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlDiagnosticsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(
+                AvailableSettings.STATEMENT_INSPECTOR,
+                new CountingStatementInspector()
+            );
+            properties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                JdbcTimingSessionEventListener.class.getName()
+            );
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlDiagnosticsFilter> sqlDiagnosticsFilter() {
+        FilterRegistrationBean<SqlDiagnosticsFilter> registration =
+            new FilterRegistrationBean<>(new SqlDiagnosticsFilter(exposeHeaders));
+        registration.addUrlPatterns("/api/*");
+
+        return registration;
+    }
+}
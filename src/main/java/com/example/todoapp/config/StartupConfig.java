@@ -0,0 +1,69 @@
+package com.example.todoapp.config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.startup.StartupTimelineReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 起動処理の計測設定
+ * <p>
+ * 起動処理のステップの記録をログとファイルに出力する。
+ * 遅延初期化（{@code lazy} プロファイル）の場合でも、{@code app.startup.eager-beans} に指定した型のBeanは起動時に生成する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.startup")
+@Getter
+@Setter
+public class StartupConfig {
+
+    /** ステップの記録を書き出すファイル（未指定の場合は書き出さない） */
+    private Path timelineFile;
+
+    /** ログに出力する処理時間の長いステップの数 */
+    private int logSlowest = 10;
+
+    /** 遅延初期化の場合でも起動時に生成するBeanの型（完全修飾クラス名） */
+    private List<String> eagerBeans = new ArrayList<>();
+
+    @Bean
+    public StartupTimelineReporter startupTimelineReporter(ObjectMapper objectMapper) {
+        return new StartupTimelineReporter(objectMapper, timelineFile, logSlowest);
+    }
+
+    /**
+     * 遅延初期化から除外するBeanの型を登録する。
+     * <p>
+     * Bean定義の後処理の段階で使用されるため、プロパティはこのクラスのフィールドではなく {@link Environment} から読み込む。
+     *
+     * @param environment {@link Environment}
+     * @return {@link LazyInitializationExcludeFilter}
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeansExcludeFilter(Environment environment) {
+        ClassLoader classLoader = StartupConfig.class.getClassLoader();
+        Class<?>[] types = Binder.get(environment)
+            .bind("app.startup.eager-beans", Bindable.listOf(String.class))
+            .orElse(List.of())
+            .stream()
+            .filter(name -> ClassUtils.isPresent(name, classLoader))
+            .map(name -> ClassUtils.resolveClassName(name, classLoader))
+            .toArray(Class<?>[]::new);
+
+        return LazyInitializationExcludeFilter.forBeanTypes(types);
+    }
+}
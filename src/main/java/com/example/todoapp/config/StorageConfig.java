@@ -0,0 +1,163 @@
+package com.example.todoapp.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoRepository;
+import com.example.todoapp.todo.repository.log.SegmentLog;
+import com.example.todoapp.todo.repository.memory.InMemoryTodoRepository;
+import com.example.todoapp.todo.repository.memory.MvccTodoStore;
+
+/**
+ * To-doの永続化方式の設定
+ * <p>
+ * {@code engine} の値に応じて保持先を切り替える。
+ * <ul>
+ *   <li>{@code jpa}: データベース（{@code JpaTodoRepository}）</li>
+ *   <li>{@code memory}: プロセス内の {@link MvccTodoStore}（{@code memory} プロファイル）</li>
+ *   <li>{@code log}: {@link MvccTodoStore} と、コミットを追記する {@link SegmentLog}（{@code log} プロファイル）</li>
+ * </ul>
+ * {@code memory}・{@code log} のプロファイルではデータソースとJPAの自動構成を除外する。
+ * 件数・比較と交換に失敗した更新と削除の数・セグメントの状態は {@code todo.storage.*} として記録する。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.storage")
+@Getter
+@Setter
+public class StorageConfig {
+
+    /** 永続化方式（{@code jpa}、{@code memory} または {@code log}） */
+    private String engine = "jpa";
+
+    /** セグメントログの設定 */
+    private Log log = new Log();
+
+    /**
+     * セグメントログの設定
+     */
+    @Getter
+    @Setter
+    public static class Log {
+
+        /** セグメントを格納するディレクトリ */
+        private String directory = "./data/todo-log";
+
+        /** セグメントのサイズ */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /** 追記ごとにディスクへの書き込みを待つか */
+        private boolean sync = true;
+
+        /** コンパクションの対象とする、参照されていない記録の割合 */
+        private double compactionThreshold = 0.5;
+    }
+
+    /**
+     * JPAによる永続化の設定
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(
+        prefix = "app.storage",
+        name = "engine",
+        havingValue = "jpa",
+        matchIfMissing = true
+    )
+    @EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
+    static class JpaStorageConfig {}
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "memory")
+    public TodoRepository inMemoryTodoRepository(
+        DateTimeProvider auditingDateTimeProvider,
+        ETagGenerator<TodoEntity> eTagGenerator,
+        MeterRegistry meterRegistry
+    ) {
+        return repository(
+            "memory",
+            new MvccTodoStore(),
+            auditingDateTimeProvider,
+            eTagGenerator,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "log")
+    public SegmentLog todoSegmentLog(MeterRegistry meterRegistry) {
+        long segmentSize = log.getSegmentSize().toBytes();
+        if (segmentSize < 4096 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                "app.storage.log.segment-size must be between 4KB and 2GB: " + log.getSegmentSize()
+            );
+        }
+
+        SegmentLog segmentLog = SegmentLog.open(
+            Path.of(log.getDirectory()),
+            (int) segmentSize,
+            log.isSync(),
+            log.getCompactionThreshold()
+        );
+        Gauge.builder("todo.storage.log.segments", segmentLog, SegmentLog::getSegmentCount)
+            .description("Segment files of the log-structured storage engine")
+            .register(meterRegistry);
+        Gauge.builder("todo.storage.log.bytes", segmentLog, SegmentLog::getUsedBytes)
+            .description("Bytes written to the segment files")
+            .tag("state", "used")
+            .register(meterRegistry);
+        Gauge.builder("todo.storage.log.bytes", segmentLog, SegmentLog::getLiveBytes)
+            .description("Bytes written to the segment files")
+            .tag("state", "live")
+            .register(meterRegistry);
+
+        return segmentLog;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.storage", name = "engine", havingValue = "log")
+    public TodoRepository logTodoRepository(
+        SegmentLog todoSegmentLog,
+        DateTimeProvider auditingDateTimeProvider,
+        ETagGenerator<TodoEntity> eTagGenerator,
+        MeterRegistry meterRegistry
+    ) {
+        MvccTodoStore store = new MvccTodoStore(todoSegmentLog);
+        todoSegmentLog.restoreInto(store);
+
+        return repository("log", store, auditingDateTimeProvider, eTagGenerator, meterRegistry);
+    }
+
+    private static TodoRepository repository(
+        String engine,
+        MvccTodoStore store,
+        DateTimeProvider dateTimeProvider,
+        ETagGenerator<TodoEntity> eTagGenerator,
+        MeterRegistry meterRegistry
+    ) {
+        Gauge.builder("todo.storage.rows", store, MvccTodoStore::size)
+            .description("To-dos held by the storage engine")
+            .tag("engine", engine)
+            .register(meterRegistry);
+        Counter conflictCounter = Counter.builder("todo.storage.conflicts")
+            .description("Updates and deletes rejected because the to-do changed after the ETag check")
+            .tag("engine", engine)
+            .register(meterRegistry);
+
+        return new InMemoryTodoRepository(store, dateTimeProvider, eTagGenerator, conflictCounter);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todoapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.todo.repository.JpaTodoRepository;
+import com.example.todoapp.todo.service.position.TodoPositionRebalancer;
+
+/**
+ * 手動の並び順の位置キーの設定
+ * <p>
+ * 永続化方式が {@code jpa} の場合は、長くなった位置キーを定期的に割り当て直す（{@code rebalance-interval} ごと）。
+ * 割り当て直した行の数は {@code todo.position.rebalanced} として記録する。
+ * {@code memory}・{@code log} では位置キーはメモリとログにのみ保持するため、割り当て直さない。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.position")
+@Getter
+@Setter
+public class TodoPositionConfig {
+
+    /** 割り当て直しの対象とする位置キーの長さ（この長さを超えるキー） */
+    private int maxKeyLength = 32;
+
+    /** 割り当て直す区間の境界とする位置キーの長さの上限 */
+    private int targetKeyLength = 16;
+
+    /** 1回に対象とする位置キーの数と、1つのトランザクションで割り当て直す行の数の上限 */
+    private int batchSize = 100;
+
+    /** 割り当て直しの間隔 */
+    private Duration rebalanceInterval = Duration.ofMinutes(1);
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "app.storage",
+        name = "engine",
+        havingValue = "jpa",
+        matchIfMissing = true
+    )
+    public TodoPositionRebalancer todoPositionRebalancer(
+        JpaTodoRepository jpaTodoRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        if (targetKeyLength >= maxKeyLength) {
+            throw new IllegalStateException(
+                "app.position.target-key-length must be less than max-key-length: " + targetKeyLength
+            );
+        }
+
+        Counter rebalancedCounter = Counter.builder("todo.position.rebalanced")
+            .description("To-do positions reassigned because their keys grew too long")
+            .register(meterRegistry);
+
+        return new TodoPositionRebalancer(
+            jpaTodoRepository,
+            new TransactionTemplate(transactionManager),
+            maxKeyLength,
+            targetKeyLength,
+            batchSize,
+            rebalancedCounter
+        );
+    }
+}
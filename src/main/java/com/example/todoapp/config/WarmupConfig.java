@@ -0,0 +1,72 @@
+package com.example.todoapp.config;
+
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.todoapp.todo.service.command.TodoCommandService;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+import com.example.todoapp.warmup.WarmupRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 起動時の暖機設定
+ * <p>
+ * 暖機が完了するまでReadinessプローブ（{@code /actuator/health/readiness}）は {@code OUT_OF_SERVICE} を返す。
+ * トランザクションマネージャがない永続化方式（{@code memory}/{@code log}）では、作業用データを書き込まない。
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.warmup")
+@ConditionalOnProperty(
+    prefix = "app.warmup",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@Getter
+@Setter
+public class WarmupConfig {
+
+    /** 暖機を有効にするか */
+    private boolean enabled = true;
+
+    /** 作業用データに対する操作の繰り返し回数 */
+    private int iterations = 500;
+
+    /** 読み込む実データのページ数 */
+    private int preloadPages = 1;
+
+    /** 1ページの件数 */
+    private int pageSize = 20;
+
+    @Bean
+    public WarmupRunner warmupRunner(
+        TodoQueryService todoQueryService,
+        TodoCommandService todoCommandService,
+        ObjectProvider<PlatformTransactionManager> transactionManagerProvider,
+        ObjectMapper objectMapper,
+        Validator validator
+    ) {
+        PlatformTransactionManager transactionManager = transactionManagerProvider.getIfAvailable();
+
+        return new WarmupRunner(
+            todoQueryService,
+            todoCommandService,
+            transactionManager != null ? new TransactionTemplate(transactionManager) : null,
+            objectMapper,
+            validator,
+            iterations,
+            preloadPages,
+            pageSize
+        );
+    }
+}
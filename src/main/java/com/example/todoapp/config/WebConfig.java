@@ -3,30 +3,80 @@ package com.example.todoapp.config;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import lombok.RequiredArgsConstructor;
+
+import com.example.todoapp.common.dto.json.CursorPageResponseJsonSerializer;
+import com.example.todoapp.common.dto.json.PageResponseJsonSerializer;
+import com.example.todoapp.etag.dto.json.ETagResponseJsonSerializer;
+import com.example.todoapp.todo.dto.json.TodoResponseJsonSerializer;
+import com.example.todoapp.todo.dto.protobuf.TodoProtobufHttpMessageConverter;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
 /**
  * HTTPメッセージコンバータ設定
+ * <p>
+ * JSONに加えて、CBOR（{@code application/cbor}）・Smile（{@code application/x-jackson-smile}）・
+ * Protocol Buffers（{@code application/x-protobuf}）による入出力に対応する。
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider;
+
+    /**
+     * レスポンスデータ転送オブジェクトをリフレクションを介さずにJSONへ変換するモジュールを登録する。
+     *
+     * @return レスポンス用シリアライザを登録した {@link Module}
+     */
+    @Bean
+    public Module responseSerializerModule() {
+        return new SimpleModule("ResponseSerializerModule")
+            .addSerializer(new TodoResponseJsonSerializer())
+            .addSerializer(new ETagResponseJsonSerializer())
+            .addSerializer(new PageResponseJsonSerializer())
+            .addSerializer(new CursorPageResponseJsonSerializer());
+    }
+
     /**
      * JSON変換用コンバータのデフォルト文字コードをUTF-8に設定する。
+     * <p>
+     * CBOR・Smile変換用コンバータはJSONと同じモジュールと設定を適用したものに置き換え、
+     * Protocol Buffers変換用コンバータを追加する。
      */
     @Override
     public void extendMessageConverters(
         @NonNull
         List<HttpMessageConverter<?>> converters
     ) {
-        for (HttpMessageConverter<?> converter : converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            HttpMessageConverter<?> converter = converters.get(i);
             if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverters) {
                 jacksonConverters.setDefaultCharset(StandardCharsets.UTF_8);
+            } else if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+                converters.set(i, new MappingJackson2CborHttpMessageConverter(
+                    objectMapperBuilderProvider.getObject().factory(new CBORFactory()).build()
+                ));
+            } else if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                converters.set(i, new MappingJackson2SmileHttpMessageConverter(
+                    objectMapperBuilderProvider.getObject().factory(new SmileFactory()).build()
+                ));
             }
         }
+        converters.add(new TodoProtobufHttpMessageConverter());
     }
 }
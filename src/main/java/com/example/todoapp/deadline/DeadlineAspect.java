@@ -0,0 +1,40 @@
+package com.example.todoapp.deadline;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.Counter;
+
+import com.example.todoapp.deadline.exception.DeadlineExceededException;
+
+/**
+ * 期限を過ぎたリクエストのサービス呼び出しを開始前に取り消すアスペクト
+ */
+@Aspect
+public class DeadlineAspect {
+
+    private final Counter cancelledCounter;
+
+    /**
+     * アスペクトを生成する。
+     *
+     * @param cancelledCounter 開始前に取り消した呼び出しのカウンタ
+     */
+    public DeadlineAspect(Counter cancelledCounter) {
+        this.cancelledCounter = cancelledCounter;
+    }
+
+    @Around(
+        "within(com.example.todoapp.todo.service.query.TodoQueryService)"
+            + " || within(com.example.todoapp.todo.service.command.TodoCommandService)"
+    )
+    public Object checkDeadline(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (DeadlineContext.isExpired()) {
+            cancelledCounter.increment();
+            throw new DeadlineExceededException();
+        }
+
+        return joinPoint.proceed();
+    }
+}
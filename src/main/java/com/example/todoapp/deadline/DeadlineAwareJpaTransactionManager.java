@@ -0,0 +1,55 @@
+package com.example.todoapp.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * リクエストの期限をトランザクションのタイムアウトに反映する {@link JpaTransactionManager}
+ * <p>
+ * タイムアウトは期限までの残り時間（秒単位に切り上げ）と定義されたタイムアウトの短い方とする。
+ * Hibernateはトランザクションの残り時間を各ステートメントのクエリタイムアウトに設定するため、
+ * 期限を過ぎたクエリはJDBCドライバによって取り消される。
+ * 期限を過ぎている場合は接続を取得せずに {@link TransactionTimedOutException} をスローする。
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 指定された {@link EntityManagerFactory} のトランザクションマネージャを生成する。
+     *
+     * @param entityManagerFactory {@link EntityManagerFactory}
+     */
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+
+        long remainingNanos = DeadlineContext.remainingNanos();
+        if (remainingNanos == DeadlineContext.NO_DEADLINE) {
+            return timeout;
+        }
+        if (remainingNanos <= 0) {
+            throw new TransactionTimedOutException(
+                "Request deadline exceeded before the transaction started."
+            );
+        }
+
+        long remainingSeconds = TimeUnit.NANOSECONDS.toSeconds(
+            remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1
+        );
+        int deadlineTimeout = (int) Math.min(Integer.MAX_VALUE, remainingSeconds);
+
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT
+            ? deadlineTimeout
+            : Math.min(timeout, deadlineTimeout);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.todoapp.deadline;
+
+/**
+ * 現在のスレッドで処理中のリクエストの期限を保持するクラス
+ * <p>
+ * 期限は {@link System#nanoTime} の値として保持する。
+ */
+public final class DeadlineContext {
+
+    /** 期限が設定されていない場合の残り時間 */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {}
+
+    /**
+     * 現在のスレッドのリクエストの期限を設定する。
+     *
+     * @param deadlineNanos 期限（{@link System#nanoTime} の値）
+     */
+    public static void set(long deadlineNanos) {
+        CURRENT.set(deadlineNanos);
+    }
+
+    /**
+     * 現在のスレッドのリクエストの期限を削除する。
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 期限までの残り時間を取得する。
+     *
+     * @return 残り時間（ナノ秒、期限切れの場合は0以下、未設定の場合は {@link #NO_DEADLINE}）
+     */
+    public static long remainingNanos() {
+        Long deadlineNanos = CURRENT.get();
+        return deadlineNanos != null ? deadlineNanos - System.nanoTime() : NO_DEADLINE;
+    }
+
+    /**
+     * 期限を過ぎているかを判定する。
+     *
+     * @return 期限を過ぎている場合は {@code true}
+     */
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+}
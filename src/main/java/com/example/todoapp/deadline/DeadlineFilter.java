@@ -0,0 +1,86 @@
+package com.example.todoapp.deadline;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * リクエストの期限を決定して {@link DeadlineContext} に設定するフィルタ
+ * <p>
+ * 期限は {@value #DEADLINE_HEADER}（エポックミリ秒の絶対時刻）と {@value #TIMEOUT_HEADER}（ミリ秒の相対時間）の
+ * 早い方とし、どちらも指定されていない場合はデフォルトのタイムアウトを使用する。
+ * 解析できないヘッダは無視し、タイムアウトは最大値で切り詰める。
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    /** 期限（エポックミリ秒）のヘッダ名 */
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    /** タイムアウト（ミリ秒）のヘッダ名 */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final long defaultTimeoutMillis;
+    private final long maxTimeoutMillis;
+
+    /**
+     * フィルタを生成する。
+     *
+     * @param defaultTimeoutMillis ヘッダがない場合のタイムアウト（ミリ秒）
+     * @param maxTimeoutMillis     タイムアウトの最大値（ミリ秒）
+     */
+    public DeadlineFilter(long defaultTimeoutMillis, long maxTimeoutMillis) {
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.maxTimeoutMillis = maxTimeoutMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        long timeoutMillis = Math.min(resolveTimeoutMillis(request), maxTimeoutMillis);
+
+        DeadlineContext.set(startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.clear();
+        }
+    }
+
+    private long resolveTimeoutMillis(HttpServletRequest request) {
+        long timeoutMillis = Long.MAX_VALUE;
+
+        Long deadline = parse(request.getHeader(DEADLINE_HEADER));
+        if (deadline != null) {
+            timeoutMillis = deadline - System.currentTimeMillis();
+        }
+        Long timeout = parse(request.getHeader(TIMEOUT_HEADER));
+        if (timeout != null && timeout >= 0) {
+            timeoutMillis = Math.min(timeoutMillis, timeout);
+        }
+
+        return timeoutMillis == Long.MAX_VALUE ? defaultTimeoutMillis : timeoutMillis;
+    }
+
+    private static Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
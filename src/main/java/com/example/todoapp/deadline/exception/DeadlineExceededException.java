@@ -0,0 +1,50 @@
+package com.example.todoapp.deadline.exception;
+
+import org.springframework.http.ProblemDetail;
+
+import lombok.Getter;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * リクエストの期限を過ぎたために処理を開始しなかった場合の例外クラス
+ * <p>
+ * 障害時に大量に発生するため、スタックトレースは取得しない。
+ */
+@Getter
+public final class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Deadline Exceeded";
+
+    /** エラーコード */
+    private final ErrorCode errorCode = ErrorCode.DEADLINE_EXCEEDED;
+
+    /**
+     * リクエストの期限を過ぎたために処理を開始しなかった場合の例外を生成する。
+     */
+    public DeadlineExceededException() {
+        super(ERROR_TITLE, null, false, false);
+    }
+
+    /**
+     * リクエストの期限を過ぎたために処理を開始しなかった場合の詳細情報を返す。
+     *
+     * @return 例外の詳細情報
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getErrorTitle();
+    }
+
+    /**
+     * {@link ProblemDetail#title} に設定するエラータイトルを取得する。
+     *
+     * @return エラータイトル
+     */
+    public String getErrorTitle() {
+        return getMessage();
+    }
+}
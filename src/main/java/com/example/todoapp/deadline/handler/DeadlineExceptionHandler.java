@@ -0,0 +1,77 @@
+package com.example.todoapp.deadline.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.common.error.builder.ExceptionResponseBuilder;
+import com.example.todoapp.common.error.handler.GlobalExceptionHandler;
+import com.example.todoapp.deadline.exception.DeadlineExceededException;
+
+/**
+ * リクエストの期限に関するエラーハンドラクラス
+ * <p>
+ * 開始前の取り消し、トランザクションのタイムアウト、クエリのタイムアウトのいずれも
+ * 同じエラーコードの504 Gateway Timeoutとしてクライアントに返却する。
+ * {@link GlobalExceptionHandler} の {@link Exception} の処理より先に適用されるよう優先度を指定する。
+ */
+@RestControllerAdvice(basePackages = "com.example.todoapp")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DeadlineExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        DeadlineExceptionHandler.class
+    );
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Deadline Exceeded";
+
+    private final ExceptionResponseBuilder exceptionResponseBuilder;
+
+    /**
+     * リクエストの期限を過ぎた場合の例外処理
+     *
+     * @param ex          {@link DeadlineExceededException}、{@link TransactionTimedOutException}、
+     *                    {@link QueryTimeoutException}
+     * @param httpRequest HTTPリクエスト情報
+     * @return {@link ProblemDetail} を含む {@link ResponseEntity}
+     */
+    @ExceptionHandler({
+        DeadlineExceededException.class,
+        TransactionTimedOutException.class,
+        QueryTimeoutException.class
+    })
+    public ResponseEntity<ProblemDetail> handleDeadlineExceeded(
+        RuntimeException ex,
+        HttpServletRequest httpRequest
+    ) {
+        HttpStatus httpStatus = HttpStatus.GATEWAY_TIMEOUT;
+        ErrorCode errorCode = ErrorCode.DEADLINE_EXCEEDED;
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
+
+        return exceptionResponseBuilder.build(
+            httpStatus,
+            errorCode,
+            ERROR_TITLE,
+            httpRequest
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todoapp.etag.dto.json;
+
+import java.io.IOException;
+
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link ETagResponse} を {@link JsonGenerator} に直接書き込むシリアライザ
+ */
+public final class ETagResponseJsonSerializer extends StdSerializer<ETagResponse<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ETAG = new SerializedString("etag");
+
+    public ETagResponseJsonSerializer() {
+        super(ETagResponse.class, false);
+    }
+
+    @Override
+    public void serialize(
+        ETagResponse<?> value,
+        JsonGenerator gen,
+        SerializerProvider provider
+    ) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(DATA);
+        Object data = value.data();
+        if (data == null) {
+            gen.writeNull();
+        } else {
+            provider.findValueSerializer(data.getClass()).serialize(data, gen, provider);
+        }
+
+        gen.writeFieldName(ETAG);
+        gen.writeString(value.etag());
+
+        gen.writeEndObject();
+    }
+}
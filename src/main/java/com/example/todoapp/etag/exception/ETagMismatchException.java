@@ -28,7 +28,7 @@ public final class ETagMismatchException extends ETagException {
      * @param expected 比較対象のETag文字列値
      */
     public ETagMismatchException(String eTag, String expected) {
-        super(ErrorCode.ETAG_MISMATCH, ERROR_TITLE);
+        super(ErrorCode.ETAG_MISMATCH, ERROR_TITLE, false);
         this.eTag = eTag;
         this.expected = expected;
     }
@@ -40,12 +40,7 @@ public final class ETagMismatchException extends ETagException {
      */
     @Override
     public String toString() {
-        return "%s: %s [eTag=%s, expected=%s]"
-            .formatted(
-                getClass().getSimpleName(),
-                getErrorTitle(),
-                getETag(),
-                getExpected()
-            );
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [eTag=" + getETag() + ", expected=" + getExpected() + "]";
     }
 }
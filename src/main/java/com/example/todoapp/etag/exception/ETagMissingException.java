@@ -24,7 +24,7 @@ public class ETagMissingException extends ETagException {
      * @param eTag 検証対象のETag文字列値
      */
     public ETagMissingException(String eTag) {
-        super(ErrorCode.ETAG_MISSING, ERROR_TITLE);
+        super(ErrorCode.ETAG_MISSING, ERROR_TITLE, false);
         this.eTag = eTag;
     }
 
@@ -35,11 +35,7 @@ public class ETagMissingException extends ETagException {
      */
     @Override
     public String toString() {
-        return "%s: %s [eTag=%s]"
-            .formatted(
-                getClass().getSimpleName(),
-                getErrorTitle(),
-                getETag()
-            );
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [eTag=" + getETag() + "]";
     }
 }
@@ -49,7 +49,9 @@ public class ETagExceptionHandler {
         HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
         ErrorCode errorCode = ex.getErrorCode();
 
-        logger.warn("[{}] {}", errorCode, ex.toString());
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
 
         return exceptionResponseBuilder.build(
             httpStatus,
@@ -74,7 +76,9 @@ public class ETagExceptionHandler {
         HttpStatus httpStatus = HttpStatus.PRECONDITION_FAILED;
         ErrorCode errorCode = ex.getErrorCode();
 
-        logger.warn("[{}] {}", errorCode, ex.toString());
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
 
         return exceptionResponseBuilder.build(
             httpStatus,
@@ -0,0 +1,152 @@
+package com.example.todoapp.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.todoapp.config.IdempotencyConfig;
+import com.example.todoapp.idempotency.dto.IdempotencyOutcome;
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyInProgressException;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyReusedException;
+import com.example.todoapp.idempotency.exception.InvalidIdempotencyKeyException;
+import com.example.todoapp.idempotency.store.IdempotencyStore;
+import com.example.todoapp.todo.dto.TodoRequest;
+
+/**
+ * {@code Idempotency-Key} ヘッダ付きのリクエストを1回だけ処理するサービスクラス
+ * <p>
+ * 最初のリクエストのレスポンスを {@link IdempotencyStore} に保存し、同じ冪等キーの再試行には
+ * 処理を実行せずに保存したレスポンスを返す。
+ * 冪等キーはクライアントごとの範囲とし、他のクライアントが同じ冪等キーを使用しても干渉しない。
+ * 予約ごとに識別子を払い出し、リースの期限切れ後に他のリクエストが引き継いだ予約は完了・解除しない。
+ */
+@Service
+public class IdempotencyService {
+
+    /** 冪等キーの最大文字数 */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyConfig idempotencyConfig;
+    private final Clock clock;
+
+    /**
+     * システム時刻を使用するサービスを生成する。
+     *
+     * @param idempotencyStore  {@link IdempotencyStore}
+     * @param idempotencyConfig {@link IdempotencyConfig}
+     */
+    @Autowired
+    public IdempotencyService(IdempotencyStore idempotencyStore, IdempotencyConfig idempotencyConfig) {
+        this(idempotencyStore, idempotencyConfig, Clock.systemUTC());
+    }
+
+    /**
+     * 指定された時刻の取得元を使用するサービスを生成する。
+     *
+     * @param idempotencyStore  {@link IdempotencyStore}
+     * @param idempotencyConfig {@link IdempotencyConfig}
+     * @param clock             リースと有効期限の計算に使用する {@link Clock}
+     */
+    public IdempotencyService(
+        IdempotencyStore idempotencyStore,
+        IdempotencyConfig idempotencyConfig,
+        Clock clock
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.idempotencyConfig = idempotencyConfig;
+        this.clock = clock;
+    }
+
+    /**
+     * 冪等キーに対して処理を1回だけ実行する。
+     *
+     * @param client  リクエストの送信元クライアントの識別子
+     * @param key     冪等キー
+     * @param request リクエストの {@link TodoRequest}
+     * @param action  最初のリクエストで実行する処理
+     * @return 処理結果または保存済みのレスポンス
+     * @throws InvalidIdempotencyKeyException     冪等キーが空または長すぎる場合
+     * @throws IdempotencyKeyReusedException      冪等キーが異なるリクエストボディで使用済みの場合
+     * @throws IdempotencyKeyInProgressException  同じ冪等キーのリクエストが処理中の場合
+     */
+    public IdempotencyOutcome execute(
+        String client,
+        String key,
+        TodoRequest request,
+        Supplier<StoredResponse> action
+    ) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(key);
+        }
+
+        Instant now = clock.instant();
+        String fingerprint = fingerprint(request);
+        IdempotencyRecord pending = IdempotencyRecord.pending(
+            scope(client, key),
+            fingerprint,
+            UUID.randomUUID().toString(),
+            now.plus(idempotencyConfig.getLease())
+        );
+        Optional<IdempotencyRecord> existing = idempotencyStore.reserve(pending, now);
+
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            if (!record.isCompleted()) {
+                throw new IdempotencyKeyInProgressException(key);
+            }
+            return new IdempotencyOutcome(record.response(), true);
+        }
+
+        StoredResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            idempotencyStore.release(pending.key(), pending.owner());
+            throw ex;
+        }
+
+        idempotencyStore.complete(
+            pending.complete(response, clock.instant().plus(idempotencyConfig.getTtl()))
+        );
+
+        return new IdempotencyOutcome(response, false);
+    }
+
+    /**
+     * クライアントの識別子を含めた冪等キーを求める。
+     * <p>
+     * 識別子の長さを前置し、識別子と冪等キーの境界が曖昧にならないようにする。
+     */
+    private static String scope(String client, String key) {
+        return client.length() + ":" + client + key;
+    }
+
+    /**
+     * リクエストボディのフィンガープリント（SHA-256）を求める。
+     */
+    private static String fingerprint(TodoRequest request) {
+        String canonical = request.title() + '\u0000' + request.completed();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.todoapp.idempotency.dto;
+
+/**
+ * 冪等キー付きリクエストの処理結果
+ *
+ * @param response 返却するレスポンス
+ * @param replayed 保存済みのレスポンスを再送した場合は {@code true}
+ */
+public record IdempotencyOutcome(StoredResponse response, boolean replayed) {}
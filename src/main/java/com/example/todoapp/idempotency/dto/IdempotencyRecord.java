@@ -0,0 +1,83 @@
+package com.example.todoapp.idempotency.dto;
+
+import java.time.Instant;
+
+/**
+ * 冪等キーの記録
+ * <p>
+ * 最初のリクエストの処理中は {@code response} が {@code null} となる。
+ * 処理中の記録の有効期限は短いリースとし、処理中にプロセスが停止しても再試行を受け付けられるようにする。
+ * 完了と予約の解除は、予約したリクエスト（{@code owner} が一致するもの）だけが行える。
+ *
+ * @param key         クライアントごとの範囲を含めた冪等キー
+ * @param fingerprint リクエストボディのフィンガープリント
+ * @param owner       予約したリクエストの識別子
+ * @param response    保存したレスポンス（処理中の場合は {@code null}）
+ * @param expiresAt   有効期限
+ */
+public record IdempotencyRecord(
+    String key,
+    String fingerprint,
+    String owner,
+    StoredResponse response,
+    Instant expiresAt
+) {
+
+    /**
+     * 処理中の記録を生成する。
+     *
+     * @param key         冪等キー
+     * @param fingerprint リクエストボディのフィンガープリント
+     * @param owner       予約したリクエストの識別子
+     * @param expiresAt   リースの有効期限
+     * @return 処理中の {@link IdempotencyRecord}
+     */
+    public static IdempotencyRecord pending(
+        String key,
+        String fingerprint,
+        String owner,
+        Instant expiresAt
+    ) {
+        return new IdempotencyRecord(key, fingerprint, owner, null, expiresAt);
+    }
+
+    /**
+     * 処理中の記録を完了した記録に置き換えたものを生成する。
+     *
+     * @param response  保存するレスポンス
+     * @param expiresAt 完了した記録の有効期限
+     * @return 完了した {@link IdempotencyRecord}
+     */
+    public IdempotencyRecord complete(StoredResponse response, Instant expiresAt) {
+        return new IdempotencyRecord(key, fingerprint, owner, response, expiresAt);
+    }
+
+    /**
+     * 指定されたリクエストが予約した処理中の記録かを判定する。
+     *
+     * @param owner 予約したリクエストの識別子
+     * @return 処理中で予約したリクエストが一致する場合は {@code true}
+     */
+    public boolean isPendingFor(String owner) {
+        return !isCompleted() && this.owner != null && this.owner.equals(owner);
+    }
+
+    /**
+     * 最初のリクエストの処理が完了しているかを判定する。
+     *
+     * @return 完了している場合は {@code true}
+     */
+    public boolean isCompleted() {
+        return response != null;
+    }
+
+    /**
+     * 有効期限が切れているかを判定する。
+     *
+     * @param now 現在時刻
+     * @return 期限切れの場合は {@code true}
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.todoapp.idempotency.dto;
+
+import java.net.URI;
+
+import com.example.todoapp.todo.dto.TodoResponse;
+
+/**
+ * 冪等キーに対して保存する最初のレスポンス
+ *
+ * @param status           HTTPステータスコード
+ * @param body             レスポンスボディの {@link TodoResponse}
+ * @param etag             ETag文字列値
+ * @param location         Locationヘッダの {@link URI}
+ * @param consistencyToken 整合性トークン（{@code X-Consistency-Token} ヘッダ、発行されていない場合は {@code null}）
+ */
+public record StoredResponse(
+    int status,
+    TodoResponse body,
+    String etag,
+    URI location,
+    String consistencyToken
+) {}
@@ -0,0 +1,56 @@
+package com.example.todoapp.idempotency.exception;
+
+import org.springframework.http.ProblemDetail;
+
+import lombok.Getter;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 冪等キーに関する例外基底クラス
+ * <p>
+ * クライアントの再試行で発生する想定内のエラーのため、スタックトレースは取得しない。
+ */
+@Getter
+public abstract class IdempotencyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラーコード */
+    private final ErrorCode errorCode;
+
+    /** 冪等キー */
+    private final String key;
+
+    /**
+     * 冪等キーに関する例外を生成する。
+     *
+     * @param errorCode  エラーコード
+     * @param errorTitle エラータイトル
+     * @param key        冪等キー
+     */
+    protected IdempotencyException(ErrorCode errorCode, String errorTitle, String key) {
+        super(errorTitle, null, false, false);
+        this.errorCode = errorCode;
+        this.key = key;
+    }
+
+    /**
+     * 冪等キーに関する例外の詳細情報を返す。
+     *
+     * @return 例外の詳細情報
+     */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + getErrorTitle() + " [key=" + getKey() + "]";
+    }
+
+    /**
+     * {@link ProblemDetail#title} に設定するエラータイトルを取得する。
+     *
+     * @return エラータイトル
+     */
+    public String getErrorTitle() {
+        return getMessage();
+    }
+}
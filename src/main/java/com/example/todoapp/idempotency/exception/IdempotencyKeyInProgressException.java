@@ -0,0 +1,23 @@
+package com.example.todoapp.idempotency.exception;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 同じ冪等キーのリクエストが処理中の場合の例外クラス
+ */
+public final class IdempotencyKeyInProgressException extends IdempotencyException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Idempotency Key In Progress";
+
+    /**
+     * 同じ冪等キーのリクエストが処理中の場合の例外を生成する。
+     *
+     * @param key 冪等キー
+     */
+    public IdempotencyKeyInProgressException(String key) {
+        super(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS, ERROR_TITLE, key);
+    }
+}
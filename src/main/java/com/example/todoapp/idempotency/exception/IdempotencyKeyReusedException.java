@@ -0,0 +1,23 @@
+package com.example.todoapp.idempotency.exception;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 冪等キーが異なるリクエストボディで再利用された場合の例外クラス
+ */
+public final class IdempotencyKeyReusedException extends IdempotencyException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Idempotency Key Reused";
+
+    /**
+     * 冪等キーが異なるリクエストボディで再利用された場合の例外を生成する。
+     *
+     * @param key 冪等キー
+     */
+    public IdempotencyKeyReusedException(String key) {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED, ERROR_TITLE, key);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todoapp.idempotency.exception;
+
+import com.example.todoapp.common.error.ErrorCode;
+
+/**
+ * 冪等キーが空または長すぎる場合の例外クラス
+ */
+public final class InvalidIdempotencyKeyException extends IdempotencyException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** エラータイトル */
+    private static final String ERROR_TITLE = "Invalid Idempotency Key";
+
+    /**
+     * 冪等キーが空または長すぎる場合の例外を生成する。
+     *
+     * @param key 冪等キー
+     */
+    public InvalidIdempotencyKeyException(String key) {
+        super(ErrorCode.IDEMPOTENCY_KEY_INVALID, ERROR_TITLE, key);
+    }
+}
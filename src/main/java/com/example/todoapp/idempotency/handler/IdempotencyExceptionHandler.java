@@ -0,0 +1,122 @@
+package com.example.todoapp.idempotency.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.RequiredArgsConstructor;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.common.error.builder.ExceptionResponseBuilder;
+import com.example.todoapp.idempotency.IdempotencyService;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyInProgressException;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyReusedException;
+import com.example.todoapp.idempotency.exception.InvalidIdempotencyKeyException;
+
+/**
+ * 冪等キーに関するエラーハンドラクラス
+ * <p>
+ * クライアントに {@link ProblemDetail} とHTTPステータスを返却する。
+ */
+@RestControllerAdvice(basePackages = "com.example.todoapp")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IdempotencyExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        IdempotencyExceptionHandler.class
+    );
+
+    private final ExceptionResponseBuilder exceptionResponseBuilder;
+
+    /**
+     * 冪等キーが空または長すぎる場合の例外処理
+     *
+     * @param ex          {@link InvalidIdempotencyKeyException}
+     * @param httpRequest HTTPリクエスト情報
+     * @return {@link ProblemDetail} を含む {@link ResponseEntity}
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidIdempotencyKey(
+        InvalidIdempotencyKeyException ex,
+        HttpServletRequest httpRequest
+    ) {
+        HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+        ErrorCode errorCode = ex.getErrorCode();
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
+
+        return exceptionResponseBuilder.build(
+            httpStatus,
+            errorCode,
+            ex.getErrorTitle(),
+            httpRequest,
+            IdempotencyService.MAX_KEY_LENGTH
+        );
+    }
+
+    /**
+     * 同じ冪等キーのリクエストが処理中の場合の例外処理
+     *
+     * @param ex          {@link IdempotencyKeyInProgressException}
+     * @param httpRequest HTTPリクエスト情報
+     * @return {@link ProblemDetail} を含む {@link ResponseEntity}
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ProblemDetail> handleIdempotencyKeyInProgress(
+        IdempotencyKeyInProgressException ex,
+        HttpServletRequest httpRequest
+    ) {
+        HttpStatus httpStatus = HttpStatus.CONFLICT;
+        ErrorCode errorCode = ex.getErrorCode();
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
+
+        return exceptionResponseBuilder.build(
+            httpStatus,
+            errorCode,
+            ex.getErrorTitle(),
+            httpRequest
+        );
+    }
+
+    /**
+     * 冪等キーが異なるリクエストボディで再利用された場合の例外処理
+     *
+     * @param ex          {@link IdempotencyKeyReusedException}
+     * @param httpRequest HTTPリクエスト情報
+     * @return {@link ProblemDetail} を含む {@link ResponseEntity}
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ProblemDetail> handleIdempotencyKeyReused(
+        IdempotencyKeyReusedException ex,
+        HttpServletRequest httpRequest
+    ) {
+        HttpStatus httpStatus = HttpStatus.UNPROCESSABLE_ENTITY;
+        ErrorCode errorCode = ex.getErrorCode();
+
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
+
+        return exceptionResponseBuilder.build(
+            httpStatus,
+            errorCode,
+            ex.getErrorTitle(),
+            httpRequest
+        );
+    }
+}
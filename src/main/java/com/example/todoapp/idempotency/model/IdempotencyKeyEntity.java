@@ -0,0 +1,102 @@
+package com.example.todoapp.idempotency.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 冪等キーの記録を保持するエンティティクラス
+ * <p>
+ * 予約時に主キーの一意制約で重複を検出するため、新規作成時は常にINSERTする（{@link Persistable}）。
+ */
+@Entity
+@Table(
+    name = "idempotency_keys",
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Setter
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+    /** クライアントごとの範囲を含めた冪等キー */
+    @Id
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = 512)
+    private String key;
+
+    /** リクエストボディのフィンガープリント */
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    /** 予約したリクエストの識別子 */
+    @Column(name = "owner_token", length = 36)
+    private String ownerToken;
+
+    /** HTTPステータスコード（処理中の場合は {@code null}） */
+    @Column(name = "status")
+    private Integer status;
+
+    /** JSON形式のレスポンスボディ */
+    @Column(name = "response_body", length = 4000)
+    private String responseBody;
+
+    /** ETag文字列値 */
+    @Column(name = "etag", length = 255)
+    private String etag;
+
+    /** Locationヘッダの値 */
+    @Column(name = "location", length = 2048)
+    private String location;
+
+    /** 整合性トークン */
+    @Column(name = "consistency_token", length = 32)
+    private String consistencyToken;
+
+    /** 有効期限 */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** 新規作成されたエンティティか */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    /**
+     * 処理中の冪等キーの記録を生成する。
+     *
+     * @param key         冪等キー
+     * @param fingerprint リクエストボディのフィンガープリント
+     * @param ownerToken  予約したリクエストの識別子
+     * @param expiresAt   リースの有効期限
+     */
+    public IdempotencyKeyEntity(String key, String fingerprint, String ownerToken, Instant expiresAt) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.ownerToken = ownerToken;
+        this.expiresAt = expiresAt;
+        this.newEntity = true;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+}
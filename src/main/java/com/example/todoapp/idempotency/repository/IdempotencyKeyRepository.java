@@ -0,0 +1,115 @@
+package com.example.todoapp.idempotency.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.todoapp.idempotency.model.IdempotencyKeyEntity;
+
+/**
+ * 冪等キーの記録のデータベースにアクセスするリポジトリインタフェース
+ * <p>
+ * 期限切れの記録の引き継ぎ・完了・予約の解除は、条件付きの更新で行い、他のノードの予約を上書きしない。
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * 有効期限が切れた記録を、新しいリクエストの処理中の記録として引き継ぐ。
+     *
+     * @param key         冪等キー
+     * @param fingerprint リクエストボディのフィンガープリント
+     * @param ownerToken  予約したリクエストの識別子
+     * @param expiresAt   リースの有効期限
+     * @param now         現在時刻
+     * @return 更新した件数（他のノードが先に引き継いだ場合は {@code 0}）
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE IdempotencyKeyEntity e
+        SET e.fingerprint = :fingerprint,
+            e.ownerToken = :ownerToken,
+            e.expiresAt = :expiresAt,
+            e.status = NULL,
+            e.responseBody = NULL,
+            e.etag = NULL,
+            e.location = NULL,
+            e.consistencyToken = NULL
+        WHERE e.key = :key AND e.expiresAt <= :now
+        """)
+    int takeOverExpired(
+        @Param("key") String key,
+        @Param("fingerprint") String fingerprint,
+        @Param("ownerToken") String ownerToken,
+        @Param("expiresAt") Instant expiresAt,
+        @Param("now") Instant now
+    );
+
+    /**
+     * 指定されたリクエストが予約した処理中の記録を、完了した記録に更新する。
+     *
+     * @param key              冪等キー
+     * @param ownerToken       予約したリクエストの識別子
+     * @param status           HTTPステータスコード
+     * @param responseBody     JSON形式のレスポンスボディ
+     * @param etag             ETag文字列値
+     * @param location         Locationヘッダの値
+     * @param consistencyToken 整合性トークン
+     * @param expiresAt        完了した記録の有効期限
+     * @return 更新した件数（予約したリクエストが一致しない場合は {@code 0}）
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE IdempotencyKeyEntity e
+        SET e.status = :status,
+            e.responseBody = :responseBody,
+            e.etag = :etag,
+            e.location = :location,
+            e.consistencyToken = :consistencyToken,
+            e.expiresAt = :expiresAt
+        WHERE e.key = :key AND e.ownerToken = :ownerToken AND e.status IS NULL
+        """)
+    int completeOwned(
+        @Param("key") String key,
+        @Param("ownerToken") String ownerToken,
+        @Param("status") int status,
+        @Param("responseBody") String responseBody,
+        @Param("etag") String etag,
+        @Param("location") String location,
+        @Param("consistencyToken") String consistencyToken,
+        @Param("expiresAt") Instant expiresAt
+    );
+
+    /**
+     * 指定されたリクエストが予約した処理中の記録を削除する。
+     *
+     * @param key        冪等キー
+     * @param ownerToken 予約したリクエストの識別子
+     * @return 削除した件数
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        DELETE FROM IdempotencyKeyEntity e
+        WHERE e.key = :key AND e.ownerToken = :ownerToken AND e.status IS NULL
+        """)
+    int deleteOwned(@Param("key") String key, @Param("ownerToken") String ownerToken);
+
+    /**
+     * 有効期限が切れた記録を削除する。
+     *
+     * @param now 現在時刻
+     * @return 削除した件数
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKeyEntity e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,45 @@
+package com.example.todoapp.idempotency.store;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+
+/**
+ * 冪等キーの記録を保持するストアのインタフェース
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 冪等キーを予約する。
+     * <p>
+     * 有効な記録が存在しない場合は処理中の記録を登録して空を返し、存在する場合はその記録を返す。
+     *
+     * @param pending 登録する処理中の記録
+     * @param now     現在時刻
+     * @return 既存の有効な記録（予約できた場合は空）
+     */
+    Optional<IdempotencyRecord> reserve(IdempotencyRecord pending, Instant now);
+
+    /**
+     * 処理中の記録を完了した記録に置き換える。
+     * <p>
+     * 記録が同じリクエスト（{@link IdempotencyRecord#owner}）の処理中の記録の場合、
+     * またはリースの期限切れで記録が破棄されている場合だけ置き換える。
+     * リースの期限切れ後に他のリクエストが予約した記録は変更しない。
+     *
+     * @param completed 完了した記録
+     * @return 置き換えた場合は {@code true}
+     */
+    boolean complete(IdempotencyRecord completed);
+
+    /**
+     * 処理に失敗した冪等キーの予約を解除する。
+     * <p>
+     * 記録が同じリクエストの処理中の記録の場合だけ削除する。
+     *
+     * @param key   冪等キー
+     * @param owner 予約したリクエストの識別子
+     */
+    void release(String key, String owner);
+}
@@ -0,0 +1,82 @@
+package com.example.todoapp.idempotency.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 冪等キーの記録をプロセス内に保持するストア
+ * <p>
+ * 保持件数の上限を超えた記録と有効期限が切れた記録はCaffeineが破棄する。
+ * 完了と予約の解除は、対応するエントリのアトミックな更新で予約したリクエストを確認して行う。
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentMap<String, IdempotencyRecord> records;
+
+    /**
+     * システム時刻を使用するストアを生成する。
+     *
+     * @param maxEntries 保持する記録の上限数
+     */
+    public InMemoryIdempotencyStore(long maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    /**
+     * 指定された時刻の取得元を使用するストアを生成する。
+     *
+     * @param maxEntries 保持する記録の上限数
+     * @param clock      有効期限の判定に使用する {@link Clock}
+     */
+    public InMemoryIdempotencyStore(long maxEntries, Clock clock) {
+        Cache<String, IdempotencyRecord> cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .ticker(() -> toNanos(clock.instant()))
+            .expireAfter(Expiry.writing((String key, IdempotencyRecord value) ->
+                Duration.between(clock.instant(), value.expiresAt())
+            ))
+            .build();
+        this.records = cache.asMap();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(IdempotencyRecord pending, Instant now) {
+        while (true) {
+            IdempotencyRecord existing = records.putIfAbsent(pending.key(), pending);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            if (!existing.isExpired(now)) {
+                return Optional.of(existing);
+            }
+            if (records.replace(pending.key(), existing, pending)) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    @Override
+    public boolean complete(IdempotencyRecord completed) {
+        IdempotencyRecord result = records.compute(completed.key(), (key, current) ->
+            current == null || current.isPendingFor(completed.owner()) ? completed : current
+        );
+        return result == completed;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        records.computeIfPresent(key, (k, record) -> record.isPendingFor(owner) ? null : record);
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
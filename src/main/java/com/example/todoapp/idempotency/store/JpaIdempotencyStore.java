@@ -0,0 +1,186 @@
+package com.example.todoapp.idempotency.store;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.idempotency.model.IdempotencyKeyEntity;
+import com.example.todoapp.idempotency.repository.IdempotencyKeyRepository;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 冪等キーの記録をデータベースに保持するストア
+ * <p>
+ * 複数ノードで記録を共有する場合に使用する。予約の競合は主キーの一意制約で検出し、
+ * 期限切れの記録の引き継ぎ・完了・予約の解除は条件付きの更新で行う。
+ * 有効期限が切れた記録は定期的に削除する。
+ */
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        JpaIdempotencyStore.class
+    );
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ストアを生成する。
+     *
+     * @param repository   {@link IdempotencyKeyRepository}
+     * @param objectMapper レスポンスボディの変換に使用する {@link ObjectMapper}
+     */
+    public JpaIdempotencyStore(IdempotencyKeyRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(IdempotencyRecord pending, Instant now) {
+        Optional<IdempotencyKeyEntity> existing = repository.findById(pending.key());
+        if (existing.isPresent()) {
+            IdempotencyRecord record = toRecord(existing.get());
+            if (!record.isExpired(now)) {
+                return Optional.of(record);
+            }
+            int updated = repository.takeOverExpired(
+                pending.key(),
+                pending.fingerprint(),
+                pending.owner(),
+                pending.expiresAt(),
+                now
+            );
+            return updated > 0 ? Optional.empty() : findConflicting(pending);
+        }
+
+        try {
+            repository.saveAndFlush(new IdempotencyKeyEntity(
+                pending.key(),
+                pending.fingerprint(),
+                pending.owner(),
+                pending.expiresAt()
+            ));
+            return Optional.empty();
+        } catch (DataIntegrityViolationException ex) {
+            return findConflicting(pending);
+        }
+    }
+
+    @Override
+    public boolean complete(IdempotencyRecord completed) {
+        StoredResponse response = completed.response();
+        String body = writeBody(response.body());
+        String location = response.location() == null ? null : response.location().toString();
+
+        int updated = repository.completeOwned(
+            completed.key(),
+            completed.owner(),
+            response.status(),
+            body,
+            response.etag(),
+            location,
+            response.consistencyToken(),
+            completed.expiresAt()
+        );
+        if (updated > 0 || repository.existsById(completed.key())) {
+            return updated > 0;
+        }
+
+        // リースの期限切れで記録が削除されている場合は、完了した記録として登録する
+        IdempotencyKeyEntity entity = new IdempotencyKeyEntity(
+            completed.key(),
+            completed.fingerprint(),
+            completed.owner(),
+            completed.expiresAt()
+        );
+        entity.setStatus(response.status());
+        entity.setResponseBody(body);
+        entity.setEtag(response.etag());
+        entity.setLocation(location);
+        entity.setConsistencyToken(response.consistencyToken());
+        try {
+            repository.saveAndFlush(entity);
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        repository.deleteOwned(key, owner);
+    }
+
+    /**
+     * 有効期限が切れた記録を削除する。
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(Instant.now());
+        if (deleted > 0 && logger.isDebugEnabled()) {
+            logger.debug("Purged {} expired idempotency keys.", deleted);
+        }
+    }
+
+    /**
+     * 他のノードが同時に予約した記録を返す（記録が既に削除されている場合は処理中として扱う）。
+     */
+    private Optional<IdempotencyRecord> findConflicting(IdempotencyRecord pending) {
+        IdempotencyRecord inProgress = IdempotencyRecord.pending(
+            pending.key(),
+            pending.fingerprint(),
+            null,
+            pending.expiresAt()
+        );
+
+        return Optional.of(repository.findById(pending.key())
+            .map(this::toRecord)
+            .orElse(inProgress));
+    }
+
+    private IdempotencyRecord toRecord(IdempotencyKeyEntity entity) {
+        StoredResponse response = entity.getStatus() == null
+            ? null
+            : new StoredResponse(
+                entity.getStatus(),
+                readBody(entity.getResponseBody()),
+                entity.getEtag(),
+                entity.getLocation() == null ? null : URI.create(entity.getLocation()),
+                entity.getConsistencyToken()
+            );
+
+        return new IdempotencyRecord(
+            entity.getKey(),
+            entity.getFingerprint(),
+            entity.getOwnerToken(),
+            response,
+            entity.getExpiresAt()
+        );
+    }
+
+    private String writeBody(TodoResponse body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize the idempotent response body.", ex);
+        }
+    }
+
+    private TodoResponse readBody(String body) {
+        try {
+            return body == null ? null : objectMapper.readValue(body, TodoResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize the idempotent response body.", ex);
+        }
+    }
+}
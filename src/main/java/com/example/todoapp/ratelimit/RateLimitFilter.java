@@ -0,0 +1,112 @@
+package com.example.todoapp.ratelimit;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.todoapp.common.client.ClientKeyResolver;
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.common.error.builder.ExceptionResponseBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * クライアントごとにリクエスト数を制限するフィルタ
+ * <p>
+ * クライアントは {@link ClientKeyResolver} で登録済みのAPIキーまたは接続元IPアドレスで識別し、
+ * {@link RouteClass} ごとに制限する。
+ * 制限を超えたリクエストはコントローラに到達させず、{@code Retry-After} ヘッダ付きの429を返却する。
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ERROR_TITLE = "Rate Limit Exceeded";
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        RateLimitFilter.class
+    );
+
+    private final Map<RouteClass, StripedTokenBuckets> buckets;
+    private final ClientKeyResolver clientKeyResolver;
+    private final ExceptionResponseBuilder exceptionResponseBuilder;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * フィルタを生成する。
+     *
+     * @param buckets                  {@link RouteClass} ごとのトークンバケット
+     * @param clientKeyResolver        {@link ClientKeyResolver}
+     * @param exceptionResponseBuilder {@link ExceptionResponseBuilder}
+     * @param objectMapper             エラーレスポンスの変換に使用する {@link ObjectMapper}
+     */
+    public RateLimitFilter(
+        Map<RouteClass, StripedTokenBuckets> buckets,
+        ClientKeyResolver clientKeyResolver,
+        ExceptionResponseBuilder exceptionResponseBuilder,
+        ObjectMapper objectMapper
+    ) {
+        this.buckets = buckets;
+        this.clientKeyResolver = clientKeyResolver;
+        this.exceptionResponseBuilder = exceptionResponseBuilder;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RouteClass routeClass = RouteClass.of(request.getMethod());
+        String clientKey = clientKeyResolver.resolve(request);
+
+        long waitNanos = buckets.get(routeClass).tryAcquire(clientKey, System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1L, divideCeil(waitNanos, TimeUnit.SECONDS.toNanos(1)));
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "[{}] client={}, route={}, retryAfter={}s",
+                ErrorCode.RATE_LIMIT_EXCEEDED,
+                clientKey,
+                routeClass,
+                retryAfterSeconds
+            );
+        }
+
+        ResponseEntity<ProblemDetail> entity = exceptionResponseBuilder.build(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ErrorCode.RATE_LIMIT_EXCEEDED,
+            ERROR_TITLE,
+            request,
+            routeClass.name().toLowerCase(),
+            retryAfterSeconds
+        );
+
+        response.setStatus(entity.getStatusCode().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), entity.getBody());
+    }
+
+    private static long divideCeil(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todoapp.ratelimit;
+
+/**
+ * レート制限の対象ルートの分類
+ */
+public enum RouteClass {
+
+    /** 参照系（GET、HEAD、OPTIONS） */
+    READ,
+
+    /** 更新系（POST、PUT、PATCH、DELETE） */
+    WRITE;
+
+    /**
+     * HTTPメソッドからルートの分類を判定する。
+     *
+     * @param method HTTPメソッド
+     * @return ルートの分類
+     */
+    public static RouteClass of(String method) {
+        return switch (method) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.todoapp.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * クライアントごとの {@link TokenBucket} をストライプに分割して保持するクラス
+ * <p>
+ * 保持するクライアント数には上限があり、一定時間使われていないバケットは定期的に破棄する。
+ * 上限に達したストライプに新しいクライアントが来た場合は、満杯のバケット（破棄しても制限の状態を失わないもの）を破棄し、
+ * それでも空きがなければ次の掃除まで新しいクライアントのリクエストを拒否する。
+ * 既存のクライアントの制限を、他のクライアントと共有するバケットに移すことはない。
+ */
+public final class StripedTokenBuckets {
+
+    /** 上限到達時の掃除の最短間隔（ナノ秒）。空きがない場合の新しいクライアントの待ち時間にも使用する */
+    private static final long MIN_FORCED_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxClientsPerStripe;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long idleNanos;
+
+    /**
+     * クライアントごとのトークンバケットを生成する。
+     *
+     * @param capacity        バケット容量（バースト時に許容するリクエスト数）
+     * @param refillPerSecond 1秒あたりのトークン補充数
+     * @param stripes         ストライプ数（2のべき乗に切り上げる）
+     * @param maxClients      保持するクライアント数の上限
+     * @param idleNanos       バケットを破棄するまでのアイドル時間（ナノ秒）
+     * @param nowNanos        現在時刻（ナノ秒）
+     */
+    public StripedTokenBuckets(
+        int capacity,
+        double refillPerSecond,
+        int stripes,
+        int maxClients,
+        long idleNanos,
+        long nowNanos
+    ) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                "capacity must be >= 1 and refillPerSecond must be > 0."
+            );
+        }
+
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(nowNanos);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.maxClientsPerStripe = Math.max(1, maxClients / stripeCount);
+
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.idleNanos = idleNanos;
+    }
+
+    /**
+     * 指定されたクライアントのトークンを1つ取得する。
+     *
+     * @param clientKey クライアントの識別子
+     * @param nowNanos  現在時刻（ナノ秒）
+     * @return 取得できた場合は {@code 0}、できなかった場合は取得可能になるまでの待ち時間（ナノ秒）
+     */
+    public long tryAcquire(String clientKey, long nowNanos) {
+        int hash = clientKey.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+
+        TokenBucket bucket = stripe.buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = register(stripe, clientKey, nowNanos);
+            if (bucket == null) {
+                return MIN_FORCED_SWEEP_INTERVAL_NANOS;
+            }
+        } else {
+            stripe.sweepIfDue(nowNanos, idleNanos, idleNanos);
+        }
+
+        return bucket.tryAcquire(nowNanos, emissionIntervalNanos, burstToleranceNanos);
+    }
+
+    /**
+     * 保持しているクライアント数を返す。
+     *
+     * @return クライアント数
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    /**
+     * 新しいクライアントのバケットを登録する。
+     *
+     * @return 登録したバケット。ストライプに空きがない場合は {@code null}
+     */
+    private TokenBucket register(Stripe stripe, String clientKey, long nowNanos) {
+        if (stripe.buckets.size() >= maxClientsPerStripe) {
+            stripe.sweepIfDue(nowNanos, MIN_FORCED_SWEEP_INTERVAL_NANOS, 0L);
+            if (stripe.buckets.size() >= maxClientsPerStripe) {
+                return null;
+            }
+        }
+
+        return stripe.buckets.computeIfAbsent(clientKey, key -> new TokenBucket(nowNanos));
+    }
+
+    /**
+     * バケットの保持単位
+     */
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+        /** 最後に掃除した時刻（ナノ秒） */
+        private final AtomicLong lastSweepNanos;
+
+        private Stripe(long nowNanos) {
+            this.lastSweepNanos = new AtomicLong(nowNanos);
+        }
+
+        /**
+         * 前回の掃除から一定時間経過していれば、アイドル状態のバケットを破棄する。
+         * 同時に呼び出された場合は1スレッドのみが掃除する。
+         */
+        private void sweepIfDue(long nowNanos, long intervalNanos, long idleNanos) {
+            long last = lastSweepNanos.get();
+            if (nowNanos - last < intervalNanos || !lastSweepNanos.compareAndSet(last, nowNanos)) {
+                return;
+            }
+            buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos, idleNanos));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.todoapp.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ロックを使わないトークンバケット
+ * <p>
+ * トークン数の代わりに「次のトークンが補充される理論上の時刻」を1つの {@link AtomicLong} で保持し、
+ * CASで更新する（GCRA）。保持する時刻が現在時刻以前であればバケットは満杯である。
+ */
+final class TokenBucket {
+
+    /** 理論上の到着時刻（ナノ秒） */
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * トークンを1つ取得する。
+     *
+     * @param nowNanos              現在時刻（ナノ秒）
+     * @param emissionIntervalNanos トークン1つの補充間隔（ナノ秒）
+     * @param burstToleranceNanos   バケット容量分の補充時間（ナノ秒）
+     * @return 取得できた場合は {@code 0}、できなかった場合は取得可能になるまでの待ち時間（ナノ秒）
+     */
+    long tryAcquire(long nowNanos, long emissionIntervalNanos, long burstToleranceNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 満杯の状態で一定時間使われていないかを判定する。
+     *
+     * @param nowNanos  現在時刻（ナノ秒）
+     * @param idleNanos アイドルとみなす時間（ナノ秒）
+     * @return アイドル状態の場合は {@code true}
+     */
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return theoreticalArrival.get() + idleNanos < nowNanos;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todoapp.replica;
+
+import java.util.OptionalLong;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 整合性トークン（書き込みの完了時刻のエポックミリ秒）を扱うクラス
+ * <p>
+ * トークンは {@value #HEADER} ヘッダで受け渡し、解析できないトークンは指定されていないものとみなす。
+ * 現在時刻より {@value #MAX_CLOCK_SKEW_MILLIS} ミリ秒を超えて先のトークンは、サーバ間の時計のずれでは
+ * 説明できないため同様に無視する（プライマリからの読み込みを際限なく強制させないため）。
+ */
+public final class ConsistencyToken {
+
+    /** 整合性トークンのヘッダ名 */
+    public static final String HEADER = "X-Consistency-Token";
+
+    /** 許容するサーバ間の時計のずれ（ミリ秒） */
+    public static final long MAX_CLOCK_SKEW_MILLIS = 1_000L;
+
+    private ConsistencyToken() {}
+
+    /**
+     * 現在のリクエストの整合性トークンを取得する。
+     *
+     * @return 書き込みの完了時刻（エポックミリ秒）。リクエスト外・未指定・解析できない・先の時刻の場合は空
+     */
+    public static OptionalLong fromCurrentRequest() {
+        HttpServletRequest request =
+            RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+
+        return request != null
+            ? parse(request.getHeader(HEADER), System.currentTimeMillis())
+            : OptionalLong.empty();
+    }
+
+    /**
+     * 整合性トークンを解析する。
+     *
+     * @param token     整合性トークン
+     * @param nowMillis 現在時刻（エポックミリ秒）
+     * @return 書き込みの完了時刻（エポックミリ秒）。未指定・解析できない・先の時刻の場合は空
+     */
+    public static OptionalLong parse(String token, long nowMillis) {
+        if (token == null || token.isBlank()) {
+            return OptionalLong.empty();
+        }
+
+        long writtenAt;
+        try {
+            writtenAt = Long.parseLong(token.trim());
+        } catch (NumberFormatException ex) {
+            return OptionalLong.empty();
+        }
+
+        return writtenAt - nowMillis <= MAX_CLOCK_SKEW_MILLIS ? OptionalLong.of(writtenAt) : OptionalLong.empty();
+    }
+}
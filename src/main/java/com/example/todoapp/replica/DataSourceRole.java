@@ -0,0 +1,13 @@
+package com.example.todoapp.replica;
+
+/**
+ * 接続先データソースの役割
+ */
+public enum DataSourceRole {
+
+    /** 読み書きを行うプライマリ */
+    PRIMARY,
+
+    /** 読み込み専用のレプリカ */
+    REPLICA
+}
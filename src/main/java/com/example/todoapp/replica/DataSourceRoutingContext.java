@@ -0,0 +1,47 @@
+package com.example.todoapp.replica;
+
+/**
+ * 現在のスレッドの接続先データソースの役割を保持するクラス
+ * <p>
+ * 設定されていない場合はプライマリに接続する。
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<DataSourceRole> CURRENT = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {}
+
+    /**
+     * 現在のスレッドの接続先データソースの役割を取得する。
+     *
+     * @return 接続先データソースの役割（未設定の場合は {@code null}）
+     */
+    public static DataSourceRole current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 現在のスレッドの接続先データソースの役割を設定する。
+     *
+     * @param role 接続先データソースの役割
+     * @return 設定前の役割（{@link #restore} に渡す）
+     */
+    public static DataSourceRole set(DataSourceRole role) {
+        DataSourceRole previous = CURRENT.get();
+        CURRENT.set(role);
+        return previous;
+    }
+
+    /**
+     * 現在のスレッドの接続先データソースの役割を {@link #set} の前の状態に戻す。
+     *
+     * @param previous {@link #set} が返した設定前の役割
+     */
+    public static void restore(DataSourceRole previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todoapp.replica;
+
+import java.util.OptionalLong;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * To-doのサービス呼び出しの接続先データソースを決定するアスペクト
+ * <p>
+ * Command操作はプライマリに接続し、完了時刻（エポックミリ秒）を整合性トークンとして
+ * {@value #CONSISTENCY_TOKEN_HEADER} ヘッダで返す。
+ * Query操作はレプリカに接続するが、リクエストの整合性トークンからレプリカの最大遅延が経過していない場合は
+ * 自身の書き込みを読めるようにプライマリに接続する。解析できないトークンと、
+ * 時計のずれを超えて先の時刻のトークンは無視する（{@link ConsistencyToken}）。
+ */
+@Aspect
+public class ReplicaRoutingAspect {
+
+    /** 整合性トークンのヘッダ名 */
+    public static final String CONSISTENCY_TOKEN_HEADER = ConsistencyToken.HEADER;
+
+    private final long maxLagMillis;
+
+    /**
+     * アスペクトを生成する。
+     *
+     * @param maxLagMillis レプリカの最大遅延（ミリ秒）
+     */
+    public ReplicaRoutingAspect(long maxLagMillis) {
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Around("within(com.example.todoapp.todo.service.query.TodoQueryService)")
+    public Object routeQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        DataSourceRole role =
+            DataSourceRoutingContext.current() == DataSourceRole.PRIMARY || requiresPrimary()
+                ? DataSourceRole.PRIMARY
+                : DataSourceRole.REPLICA;
+
+        DataSourceRole previous = DataSourceRoutingContext.set(role);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+    }
+
+    @Around("within(com.example.todoapp.todo.service.command.TodoCommandService)")
+    public Object routeCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+        DataSourceRole previous = DataSourceRoutingContext.set(DataSourceRole.PRIMARY);
+        try {
+            Object result = joinPoint.proceed();
+            issueToken();
+            return result;
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+    }
+
+    private boolean requiresPrimary() {
+        OptionalLong token = ConsistencyToken.fromCurrentRequest();
+
+        return token.isPresent() && System.currentTimeMillis() - token.getAsLong() < maxLagMillis;
+    }
+
+    private void issueToken() {
+        HttpServletResponse response = currentAttributes() instanceof ServletRequestAttributes attributes
+            ? attributes.getResponse()
+            : null;
+        if (response != null && !response.isCommitted()) {
+            response.setHeader(CONSISTENCY_TOKEN_HEADER, Long.toString(System.currentTimeMillis()));
+        }
+    }
+
+    private static RequestAttributes currentAttributes() {
+        return RequestContextHolder.getRequestAttributes();
+    }
+}
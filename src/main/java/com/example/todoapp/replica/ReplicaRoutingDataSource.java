@@ -0,0 +1,73 @@
+package com.example.todoapp.replica;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link DataSourceRoutingContext} の役割に応じてプライマリとレプリカを切り替えるデータソース
+ * <p>
+ * レプリカが指定されている場合はラウンドロビンで選択し、それ以外はプライマリに接続する。
+ * 接続先は接続の取得時に決まるため、役割はトランザクションの開始前に設定すること。
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 指定されたプライマリとレプリカの {@link ReplicaRoutingDataSource} を生成する。
+     *
+     * @param primary  プライマリのデータソース
+     * @param replicas レプリカのデータソース
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRole.PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * レプリカのデータソースを取得する。
+     *
+     * @return レプリカのデータソース
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRoutingContext.current() != DataSourceRole.REPLICA || replicas.isEmpty()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
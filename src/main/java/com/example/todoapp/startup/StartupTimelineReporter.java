@@ -0,0 +1,122 @@
+package com.example.todoapp.startup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 起動処理のステップの記録を出力するリスナ
+ * <p>
+ * {@link BufferingApplicationStartup} で記録したステップのうち処理時間の長いものをログに出力し、
+ * 出力先が指定されている場合はすべてのステップをJSONファイルに書き出す。
+ * 記録は {@code /actuator/startup} でも参照できる。
+ */
+public class StartupTimelineReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimelineReporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path timelineFile;
+    private final int logSlowest;
+
+    /**
+     * リスナを生成する。
+     *
+     * @param objectMapper {@link ObjectMapper}
+     * @param timelineFile 出力先のファイル（出力しない場合は {@code null}）
+     * @param logSlowest   ログに出力するステップ数
+     */
+    public StartupTimelineReporter(ObjectMapper objectMapper, Path timelineFile, int logSlowest) {
+        this.objectMapper = objectMapper;
+        this.timelineFile = timelineFile;
+        this.logSlowest = logSlowest;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(timeline.getEvents());
+        events.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+
+        if (logger.isInfoEnabled()) {
+            for (StartupTimeline.TimelineEvent slow : events.subList(0, Math.min(logSlowest, events.size()))) {
+                logger.info(
+                    "Startup step {} ms: {} {}",
+                    slow.getDuration().toMillis(),
+                    slow.getStartupStep().getName(),
+                    tags(slow.getStartupStep())
+                );
+            }
+        }
+
+        if (timelineFile != null) {
+            write(timeline, events);
+        }
+    }
+
+    private void write(StartupTimeline timeline, List<StartupTimeline.TimelineEvent> events) {
+        List<Map<String, Object>> steps = new ArrayList<>(events.size());
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", step.getId());
+            json.put("parentId", step.getParentId());
+            json.put("name", step.getName());
+            json.put("tags", tags(step));
+            json.put("startTime", event.getStartTime().toString());
+            json.put("durationMillis", toMillis(event.getDuration()));
+            steps.add(json);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("startTime", timeline.getStartTime().toString());
+        json.put("steps", steps);
+
+        try {
+            Path parent = timelineFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(timelineFile.toFile(), json);
+            logger.info("Startup timeline written to {}", timelineFile.toAbsolutePath());
+        } catch (IOException ex) {
+            logger.warn("Failed to write startup timeline to {}: {}", timelineFile, ex.toString());
+        }
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (StartupStep.Tag tag : step.getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+
+        return tags;
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
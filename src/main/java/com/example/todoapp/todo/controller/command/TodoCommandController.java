@@ -3,9 +3,12 @@ package com.example.todoapp.todo.controller.command;
 import java.net.URI;
 import java.util.UUID;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -19,10 +22,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import io.micrometer.core.annotation.Timed;
+
 import lombok.RequiredArgsConstructor;
 
+import com.example.todoapp.common.client.ClientKeyResolver;
 import com.example.todoapp.etag.dto.ETagResponse;
 import com.example.todoapp.etag.validation.ETagValidator;
+import com.example.todoapp.idempotency.IdempotencyService;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.replica.ReplicaRoutingAspect;
+import com.example.todoapp.todo.dto.TodoMoveRequest;
 import com.example.todoapp.todo.dto.TodoRequest;
 import com.example.todoapp.todo.dto.TodoResponse;
 import com.example.todoapp.todo.service.command.TodoCommandService;
@@ -34,15 +44,27 @@ import com.example.todoapp.todo.service.command.TodoCommandService;
 @RequestMapping("/api/todos")
 @RequiredArgsConstructor
 @Validated
+@Timed("todo.controller")
 public class TodoCommandController {
 
+    /** 保存済みのレスポンスを再送したことを示すレスポンスヘッダ名 */
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final TodoCommandService todoCommandService;
     private final ETagValidator eTagValidator;
+    private final IdempotencyService idempotencyService;
+    private final ClientKeyResolver clientKeyResolver;
 
     /**
      * To-doを作成する。
+     * <p>
+     * {@code Idempotency-Key} ヘッダが指定された場合は、同じクライアントの同じキーの再試行に
+     * 最初のレスポンス（整合性トークンを含む）を再送する。
      *
-     * @param request 作成の {@link TodoRequest}
+     * @param request        作成の {@link TodoRequest}
+     * @param idempotencyKey Idempotency-Keyヘッダの冪等キー
+     * @param httpRequest    HTTPリクエスト情報
+     * @param httpResponse   HTTPレスポンス情報
      * @return 作成結果の {@link TodoResponse} を含むHTTP 201 Created {@link ResponseEntity}
      * @throws MethodArgumentNotValidException {@link TodoRequest} の検証に失敗した場合
      */
@@ -51,19 +73,26 @@ public class TodoCommandController {
         @RequestBody
         @NotNull
         @Valid
-        TodoRequest request
-    ) {
-        var result = todoCommandService.createTodo(request);
-        URI location = ServletUriComponentsBuilder
-            .fromCurrentRequest()
-            .path("/{id}")
-            .buildAndExpand(result.data().id())
-            .toUri();
+        TodoRequest request,
 
-        return ResponseEntity
-            .created(location)
-            .eTag(result.etag())
-            .body(result.data());
+        @RequestHeader(value = "Idempotency-Key", required = false)
+        String idempotencyKey,
+
+        HttpServletRequest httpRequest,
+        HttpServletResponse httpResponse
+    ) {
+        if (idempotencyKey == null) {
+            return toResponseEntity(create(request, httpResponse), false);
+        }
+
+        var outcome = idempotencyService.execute(
+            clientKeyResolver.resolve(httpRequest),
+            idempotencyKey,
+            request,
+            () -> create(request, httpResponse)
+        );
+
+        return toResponseEntity(outcome.response(), outcome.replayed());
     }
 
     /**
@@ -97,6 +126,35 @@ public class TodoCommandController {
             .body(result.data());
     }
 
+    /**
+     * 指定されたIDのTo-doを手動の並び順で移動する。
+     *
+     * @param id      移動対象のTo-doのID
+     * @param request 移動の {@link TodoMoveRequest}
+     * @param ifMatch If-MatchヘッダのETag文字列値
+     * @return 移動結果の {@link ETagResponse} を含む {@link ResponseEntity}
+     */
+    @PutMapping("/{id}/position")
+    public ResponseEntity<TodoResponse> moveTodo(
+        @PathVariable("id")
+        UUID id,
+
+        @RequestBody
+        @NotNull
+        TodoMoveRequest request,
+
+        @RequestHeader(value = "If-Match", required = false)
+        String ifMatch
+    ) {
+        eTagValidator.assertETagPresent(ifMatch);
+        var result = todoCommandService.moveTodo(id, request, ifMatch);
+
+        return ResponseEntity
+            .ok()
+            .eTag(result.etag())
+            .body(result.data());
+    }
+
     /**
      * 指定されたIDのTo-doを削除する。
      *
@@ -119,4 +177,39 @@ public class TodoCommandController {
             .noContent()
             .build();
     }
+
+    private StoredResponse create(TodoRequest request, HttpServletResponse httpResponse) {
+        var result = todoCommandService.createTodo(request);
+        URI location = ServletUriComponentsBuilder
+            .fromCurrentRequest()
+            .path("/{id}")
+            .buildAndExpand(result.data().id())
+            .toUri();
+
+        return new StoredResponse(
+            HttpStatus.CREATED.value(),
+            result.data(),
+            result.etag(),
+            location,
+            httpResponse.getHeader(ReplicaRoutingAspect.CONSISTENCY_TOKEN_HEADER)
+        );
+    }
+
+    private static ResponseEntity<TodoResponse> toResponseEntity(
+        StoredResponse response,
+        boolean replayed
+    ) {
+        var builder = ResponseEntity
+            .status(response.status())
+            .location(response.location())
+            .eTag(response.etag());
+        if (replayed) {
+            builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+            if (response.consistencyToken() != null) {
+                builder.header(ReplicaRoutingAspect.CONSISTENCY_TOKEN_HEADER, response.consistencyToken());
+            }
+        }
+
+        return builder.body(response.body());
+    }
 }
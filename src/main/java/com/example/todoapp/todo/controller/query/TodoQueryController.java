@@ -1,12 +1,14 @@
 package com.example.todoapp.todo.controller.query;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,11 +18,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import io.micrometer.core.annotation.Timed;
+
 import lombok.RequiredArgsConstructor;
 
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.dto.PageResponse;
 import com.example.todoapp.etag.dto.ETagResponse;
 import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.exception.TodoFieldValidationException;
+import com.example.todoapp.todo.repository.TodoListFilter;
+import com.example.todoapp.todo.service.query.TodoPositionCursor;
 import com.example.todoapp.todo.service.query.TodoQueryService;
+import com.example.todoapp.todo.service.query.TodoSortKey;
 
 /**
  * Query操作のREST APIコントローラクラス
@@ -29,6 +39,7 @@ import com.example.todoapp.todo.service.query.TodoQueryService;
 @RequestMapping("/api/todos")
 @RequiredArgsConstructor
 @Validated
+@Timed("todo.controller")
 public class TodoQueryController {
 
     private final TodoQueryService todoQueryService;
@@ -53,26 +64,77 @@ public class TodoQueryController {
     }
 
     /**
-     * {@link TodoResponse} の {@link Page} を取得する。
+     * {@link TodoResponse} の {@link PageResponse} を取得する。
+     * <p>
+     * 並び順は {@link TodoSortKey} に定義したものだけを受け付け、作成日時の範囲は作成日時の並び順の場合だけ指定できる。
      *
-     * @param page ページ番号
-     * @param size 表示件数
-     * @return 取得結果の {@link TodoResponse} の {@link Page} を含む {@link ResponseEntity}
+     * @param page          ページ番号
+     * @param size          表示件数
+     * @param sort          並び順（{@code updatedAt}・{@code createdAt}・{@code title}）
+     * @param completed     完了状態（絞り込まない場合は省略）
+     * @param createdAfter  作成日時の範囲の開始（含む）
+     * @param createdBefore 作成日時の範囲の終了（含まない）
+     * @return 取得結果の {@link TodoResponse} の {@link PageResponse} を含む {@link ResponseEntity}
      * @throws ConstraintViolationException        クエリパラメータの検証に失敗した場合
-     * @throws MethodArgumentTypeMismatchException クエリパラメータが数値ではない場合
+     * @throws MethodArgumentTypeMismatchException クエリパラメータの型変換に失敗した場合
+     * @throws TodoFieldValidationException        並び順と絞り込み条件の組み合わせに対応していない場合
      */
     @GetMapping
-    public ResponseEntity<Page<ETagResponse<TodoResponse>>> getTodos(
+    public ResponseEntity<PageResponse<ETagResponse<TodoResponse>>> getTodos(
         @RequestParam(value = "page", defaultValue = "0")
         @Min(0)
         int page,
 
+        @RequestParam(value = "size", defaultValue = "10")
+        @Min(1)
+        @Max(100)
+        int size,
+
+        @RequestParam(value = "sort", defaultValue = "updatedAt")
+        @Pattern(regexp = TodoSortKey.PARAMETER_PATTERN)
+        String sort,
+
+        @RequestParam(value = "completed", required = false)
+        Boolean completed,
+
+        @RequestParam(value = "createdAfter", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdAfter,
+
+        @RequestParam(value = "createdBefore", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime createdBefore
+    ) {
+        var body = PageResponse.from(todoQueryService.getTodoPage(
+            page,
+            size,
+            TodoSortKey.fromParameter(sort),
+            new TodoListFilter(completed, createdAfter, createdBefore)
+        ));
+
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 手動の並び順（{@code sort=position}）の {@link TodoResponse} の {@link CursorPageResponse} を取得する。
+     *
+     * @param cursor 前のページの {@code nextCursor}（先頭から取得する場合は省略）
+     * @param size   表示件数
+     * @return 取得結果の {@link TodoResponse} の {@link CursorPageResponse} を含む {@link ResponseEntity}
+     * @throws ConstraintViolationException        クエリパラメータの検証に失敗した場合
+     * @throws MethodArgumentTypeMismatchException カーソルの形式が不正な場合、または表示件数が数値ではない場合
+     */
+    @GetMapping(params = "sort=position")
+    public ResponseEntity<CursorPageResponse<ETagResponse<TodoResponse>>> getTodosByPosition(
+        @RequestParam(value = "cursor", required = false)
+        TodoPositionCursor cursor,
+
         @RequestParam(value = "size", defaultValue = "10")
         @Min(1)
         @Max(100)
         int size
     ) {
-        var body = todoQueryService.getTodoPage(page, size);
+        var body = todoQueryService.getTodoPositionPage(cursor, size);
 
         return ResponseEntity.ok(body);
     }
@@ -0,0 +1,12 @@
+package com.example.todoapp.todo.dto;
+
+import java.util.UUID;
+
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * {@link TodoEntity} の並べ替えで使用するリクエストデータ転送オブジェクト
+ *
+ * @param after 移動先の直前に並ぶTo-doのID（null: 先頭に移動）
+ */
+public record TodoMoveRequest(UUID after) {}
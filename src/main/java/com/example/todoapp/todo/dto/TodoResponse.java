@@ -3,11 +3,13 @@ package com.example.todoapp.todo.dto;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.example.todoapp.todo.dto.json.TodoResponseJsonSerializer;
 import com.example.todoapp.todo.model.TodoEntity;
-import com.fasterxml.jackson.annotation.JsonFormat;
 
 /**
  * {@link TodoEntity} のレスポンスデータ転送オブジェクト
+ * <p>
+ * JSONへの変換は {@link TodoResponseJsonSerializer} が行い、日時は {@code yyyy-MM-dd'T'HH:mm:ss} 形式で出力する。
  *
  * @param id        ID
  * @param title     タイトル
@@ -19,10 +21,6 @@ public record TodoResponse(
     UUID id,
     String title,
     boolean completed,
-
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime createdAt,
-
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime updatedAt
 ) {}
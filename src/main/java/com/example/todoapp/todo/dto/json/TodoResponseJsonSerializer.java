@@ -0,0 +1,102 @@
+package com.example.todoapp.todo.dto.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link TodoResponse} を {@link JsonGenerator} に直接書き込むシリアライザ
+ * <p>
+ * 日時は {@link DateTimeFormatter} を介さず {@code yyyy-MM-dd'T'HH:mm:ss} 形式の文字配列として書き込む。
+ */
+public final class TodoResponseJsonSerializer extends StdSerializer<TodoResponse> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString COMPLETED = new SerializedString("completed");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    /** 4桁の西暦に収まらない日時の出力形式 */
+    private static final DateTimeFormatter FALLBACK_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final int DATE_TIME_LENGTH = 19;
+
+    public TodoResponseJsonSerializer() {
+        super(TodoResponse.class);
+    }
+
+    @Override
+    public void serialize(
+        TodoResponse value,
+        JsonGenerator gen,
+        SerializerProvider provider
+    ) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(ID);
+        if (value.id() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.id().toString());
+        }
+
+        gen.writeFieldName(TITLE);
+        gen.writeString(value.title());
+
+        gen.writeFieldName(COMPLETED);
+        gen.writeBoolean(value.completed());
+
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(value.createdAt(), gen);
+
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(value.updatedAt(), gen);
+
+        gen.writeEndObject();
+    }
+
+    private static void writeDateTime(LocalDateTime dateTime, JsonGenerator gen) throws IOException {
+        if (dateTime == null) {
+            gen.writeNull();
+            return;
+        }
+
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(dateTime.format(FALLBACK_FORMATTER));
+            return;
+        }
+
+        char[] buf = new char[DATE_TIME_LENGTH];
+        writeDigits(buf, 0, year, 4);
+        buf[4] = '-';
+        writeDigits(buf, 5, dateTime.getMonthValue(), 2);
+        buf[7] = '-';
+        writeDigits(buf, 8, dateTime.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        writeDigits(buf, 11, dateTime.getHour(), 2);
+        buf[13] = ':';
+        writeDigits(buf, 14, dateTime.getMinute(), 2);
+        buf[16] = ':';
+        writeDigits(buf, 17, dateTime.getSecond(), 2);
+
+        gen.writeString(buf, 0, DATE_TIME_LENGTH);
+    }
+
+    private static void writeDigits(char[] buf, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
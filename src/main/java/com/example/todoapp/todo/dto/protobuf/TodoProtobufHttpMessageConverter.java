@@ -0,0 +1,117 @@
+package com.example.todoapp.todo.dto.protobuf;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.dto.proto.TodoRequestMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+
+/**
+ * {@code application/x-protobuf} のHTTPメッセージコンバータ
+ * <p>
+ * 読み込みは {@link TodoRequest}、書き込みは {@link TodoResponse}・{@link ETagResponse}・
+ * {@link PageResponse}・{@link CursorPageResponse}・{@link ProblemDetail} に対応する。
+ */
+public class TodoProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /** Protocol Buffersのメディアタイプ */
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public TodoProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return TodoRequest.class == clazz
+            || TodoResponse.class == clazz
+            || ETagResponse.class == clazz
+            || PageResponse.class == clazz
+            || CursorPageResponse.class == clazz
+            || ProblemDetail.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return TodoRequest.class == clazz && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, MediaType mediaType) {
+        return TodoRequest.class != clazz && supports(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(
+        @NonNull
+        Class<?> clazz,
+
+        @NonNull
+        HttpInputMessage inputMessage
+    ) throws IOException {
+        try {
+            return TodoProtobufMapper.toRequest(TodoRequestMessage.parseFrom(inputMessage.getBody()));
+        } catch (InvalidProtocolBufferException ex) {
+            throw new HttpMessageNotReadableException(
+                "Invalid protobuf message: " + ex.getMessage(),
+                ex,
+                inputMessage
+            );
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(
+        @NonNull
+        Object body,
+
+        @NonNull
+        HttpOutputMessage outputMessage
+    ) throws IOException {
+        Message message;
+        if (body instanceof TodoResponse response) {
+            message = TodoProtobufMapper.toMessage(response);
+        } else if (body instanceof ETagResponse<?> response && response.data() instanceof TodoResponse) {
+            message = TodoProtobufMapper.toMessage((ETagResponse<TodoResponse>) response);
+        } else if (body instanceof PageResponse<?> response && hasTodoContent(response.content())) {
+            message = TodoProtobufMapper.toMessage((PageResponse<ETagResponse<TodoResponse>>) response);
+        } else if (body instanceof CursorPageResponse<?> response && hasTodoContent(response.content())) {
+            message = TodoProtobufMapper.toMessage((CursorPageResponse<ETagResponse<TodoResponse>>) response);
+        } else if (body instanceof ProblemDetail problemDetail) {
+            message = TodoProtobufMapper.toMessage(problemDetail);
+        } else {
+            throw new HttpMessageNotWritableException(
+                "Unsupported protobuf body: " + body.getClass().getName()
+            );
+        }
+
+        message.writeTo(outputMessage.getBody());
+    }
+
+    private static boolean hasTodoContent(List<?> content) {
+        for (Object element : content) {
+            if (!(element instanceof ETagResponse<?> response)
+                || !(response.data() instanceof TodoResponse)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
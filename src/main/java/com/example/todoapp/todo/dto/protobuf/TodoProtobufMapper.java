@@ -0,0 +1,158 @@
+package com.example.todoapp.todo.dto.protobuf;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import org.springframework.http.ProblemDetail;
+
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.dto.proto.ProblemDetailMessage;
+import com.example.todoapp.todo.dto.proto.TodoCursorPageResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoETagResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoPageResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoRequestMessage;
+import com.example.todoapp.todo.dto.proto.TodoResponseMessage;
+
+/**
+ * データ転送オブジェクトとProtocol Buffersのメッセージを相互に変換するマッパークラス
+ * <p>
+ * 日時は {@link LocalDateTime} をサーバーのタイムゾーン（日時を生成したタイムゾーン）の日時とみなし、エポック秒に変換する。
+ */
+public final class TodoProtobufMapper {
+
+    private TodoProtobufMapper() {}
+
+    /**
+     * {@link TodoRequestMessage} を {@link TodoRequest} に変換する。
+     *
+     * @param message {@link TodoRequestMessage}
+     * @return {@link TodoRequest}（未設定の項目は {@code null}）
+     */
+    public static TodoRequest toRequest(TodoRequestMessage message) {
+        return new TodoRequest(
+            message.hasTitle() ? message.getTitle() : null,
+            message.hasCompleted() ? message.getCompleted() : null
+        );
+    }
+
+    /**
+     * {@link TodoResponse} を {@link TodoResponseMessage} に変換する。
+     *
+     * @param response {@link TodoResponse}
+     * @return {@link TodoResponseMessage}
+     */
+    public static TodoResponseMessage toMessage(TodoResponse response) {
+        TodoResponseMessage.Builder builder = TodoResponseMessage.newBuilder()
+            .setCompleted(response.completed());
+        if (response.id() != null) {
+            builder.setId(response.id().toString());
+        }
+        if (response.title() != null) {
+            builder.setTitle(response.title());
+        }
+        if (response.createdAt() != null) {
+            builder.setCreatedAt(toEpochSecond(response.createdAt()));
+        }
+        if (response.updatedAt() != null) {
+            builder.setUpdatedAt(toEpochSecond(response.updatedAt()));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * {@link ETagResponse} を {@link TodoETagResponseMessage} に変換する。
+     *
+     * @param response {@link TodoResponse} を保持する {@link ETagResponse}
+     * @return {@link TodoETagResponseMessage}
+     */
+    public static TodoETagResponseMessage toMessage(ETagResponse<TodoResponse> response) {
+        TodoETagResponseMessage.Builder builder = TodoETagResponseMessage.newBuilder()
+            .setData(toMessage(response.data()));
+        if (response.etag() != null) {
+            builder.setEtag(response.etag());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * {@link PageResponse} を {@link TodoPageResponseMessage} に変換する。
+     *
+     * @param response {@link TodoResponse} の {@link ETagResponse} を保持する {@link PageResponse}
+     * @return {@link TodoPageResponseMessage}
+     */
+    public static TodoPageResponseMessage toMessage(
+        PageResponse<ETagResponse<TodoResponse>> response
+    ) {
+        TodoPageResponseMessage.Builder builder = TodoPageResponseMessage.newBuilder()
+            .setNumber(response.number())
+            .setSize(response.size())
+            .setTotalElements(response.totalElements())
+            .setTotalPages(response.totalPages());
+        for (ETagResponse<TodoResponse> element : response.content()) {
+            builder.addContent(toMessage(element));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * {@link CursorPageResponse} を {@link TodoCursorPageResponseMessage} に変換する。
+     *
+     * @param response {@link TodoResponse} の {@link ETagResponse} を保持する {@link CursorPageResponse}
+     * @return {@link TodoCursorPageResponseMessage}
+     */
+    public static TodoCursorPageResponseMessage toMessage(
+        CursorPageResponse<ETagResponse<TodoResponse>> response
+    ) {
+        TodoCursorPageResponseMessage.Builder builder = TodoCursorPageResponseMessage.newBuilder()
+            .setSize(response.size());
+        for (ETagResponse<TodoResponse> element : response.content()) {
+            builder.addContent(toMessage(element));
+        }
+        if (response.nextCursor() != null) {
+            builder.setNextCursor(response.nextCursor());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * {@link ProblemDetail} を {@link ProblemDetailMessage} に変換する。
+     * <p>
+     * 拡張プロパティの値は文字列に変換する。
+     *
+     * @param problemDetail {@link ProblemDetail}
+     * @return {@link ProblemDetailMessage}
+     */
+    public static ProblemDetailMessage toMessage(ProblemDetail problemDetail) {
+        ProblemDetailMessage.Builder builder = ProblemDetailMessage.newBuilder()
+            .setType(problemDetail.getType().toString())
+            .setStatus(problemDetail.getStatus());
+        if (problemDetail.getTitle() != null) {
+            builder.setTitle(problemDetail.getTitle());
+        }
+        if (problemDetail.getDetail() != null) {
+            builder.setDetail(problemDetail.getDetail());
+        }
+        if (problemDetail.getInstance() != null) {
+            builder.setInstance(problemDetail.getInstance().toString());
+        }
+        Map<String, Object> properties = problemDetail.getProperties();
+        if (properties != null) {
+            properties.forEach((key, value) -> builder.putProperties(key, String.valueOf(value)));
+        }
+
+        return builder.build();
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
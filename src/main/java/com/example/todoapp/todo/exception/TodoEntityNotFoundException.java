@@ -26,7 +26,7 @@ public final class TodoEntityNotFoundException extends TodoException {
      * @param id 検索対象のTo-doのID
      */
     public TodoEntityNotFoundException(UUID id) {
-        super(ErrorCode.TODO_NOT_FOUND, ERROR_TITLE);
+        super(ErrorCode.TODO_NOT_FOUND, ERROR_TITLE, false);
         this.id = id;
     }
 
@@ -37,11 +37,7 @@ public final class TodoEntityNotFoundException extends TodoException {
      */
     @Override
     public String toString() {
-        return "%s: %s [id=%s]"
-            .formatted(
-                getClass().getSimpleName(),
-                getErrorTitle(),
-                getId()
-            );
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [id=" + getId() + "]";
     }
 }
@@ -40,6 +40,21 @@ public abstract class TodoException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    /**
+     * To-doに関する例外を生成する。
+     * <p>
+     * {@code writableStackTrace} が {@code false} の場合はスタックトレースを取得しない。
+     * クライアント起因の想定内のエラーで、例外生成のコストを抑えるために使用する。
+     *
+     * @param errorCode          エラーコード
+     * @param errorTitle         エラータイトル
+     * @param writableStackTrace スタックトレースを取得するかどうか
+     */
+    protected TodoException(ErrorCode errorCode, String errorTitle, boolean writableStackTrace) {
+        super(errorTitle, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
     /**
      * {@link ProblemDetail#title} に設定するエラータイトルを取得する。
      *
@@ -13,8 +13,8 @@ public class TodoFieldValidationException extends TodoException {
 
     private static final long serialVersionUID = 1L;
 
-    /** エラータイトル */
-    private static final String ERROR_TITLE = "Invalid To-do Field '%s'";
+    /** エラータイトルの接頭辞 */
+    private static final String ERROR_TITLE_PREFIX = "Invalid To-do Field '";
 
     /** フィールド名 */
     private final String field;
@@ -37,7 +37,7 @@ public class TodoFieldValidationException extends TodoException {
         String fieldValue,
         String reason
     ) {
-        super(ErrorCode.INVALID_TODO_FIELD, ERROR_TITLE.formatted(field));
+        super(ErrorCode.INVALID_TODO_FIELD, ERROR_TITLE_PREFIX + field + "'", false);
         this.field = field;
         this.fieldValue = fieldValue;
         this.reason = reason;
@@ -50,13 +50,9 @@ public class TodoFieldValidationException extends TodoException {
      */
     @Override
     public String toString() {
-        return "%s: %s [field=%s, fieldValue=%s, reason=%s]"
-            .formatted(
-                getClass().getSimpleName(),
-                getErrorTitle(),
-                getField(),
-                getFieldValue(),
-                getReason()
-            );
+        return getClass().getSimpleName() + ": " + getErrorTitle()
+            + " [field=" + getField()
+            + ", fieldValue=" + getFieldValue()
+            + ", reason=" + getReason() + "]";
     }
 }
@@ -48,7 +48,9 @@ public class TodoExceptionHandler {
         HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
         ErrorCode errorCode = ex.getErrorCode();
 
-        logger.warn("[{}] {}", errorCode, ex.toString());
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
 
         return exceptionResponseBuilder.build(
             httpStatus,
@@ -75,7 +77,9 @@ public class TodoExceptionHandler {
         HttpStatus httpStatus = HttpStatus.NOT_FOUND;
         ErrorCode errorCode = ex.getErrorCode();
 
-        logger.warn("[{}] {}", errorCode, ex.toString());
+        if (logger.isWarnEnabled()) {
+            logger.warn("[{}] {}", errorCode, ex.toString());
+        }
 
         return exceptionResponseBuilder.build(
             httpStatus,
@@ -2,12 +2,15 @@ package com.example.todoapp.todo.model;
 
 import java.util.UUID;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,15 +18,21 @@ import lombok.Setter;
 import lombok.ToString;
 
 import com.example.todoapp.common.audit.Auditable;
+import com.example.todoapp.common.order.FractionalIndex;
+import com.example.todoapp.common.id.UuidV7;
 import com.example.todoapp.etag.factory.ETagSource;
 
 /**
  * To-doの情報を保持するエンティティクラス
  * <p>
  * 監査情報（作成・更新日時）の管理機能を提供する {@link Auditable} を継承
+ * <p>
+ * Hibernateの2次キャッシュ（{@link #CACHE_REGION} リージョン）に読み書き戦略で保持する。
  */
 @Entity
 @Table(name = "todos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TodoEntity.CACHE_REGION)
 @NoArgsConstructor
 @Getter
 @Setter
@@ -31,9 +40,12 @@ import com.example.todoapp.etag.factory.ETagSource;
 @ToString(onlyExplicitlyIncluded = true)
 public final class TodoEntity extends Auditable implements ETagSource {
 
-    /** 自動生成される一意の識別子 */
+    /** 2次キャッシュのリージョン名 */
+    public static final String CACHE_REGION = "todos";
+
+    /** 自動生成される一意の識別子（作成日時順に並ぶUUIDv7） */
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(name = "id", nullable = false, updatable = false)
     @EqualsAndHashCode.Include
     @ToString.Include
@@ -48,6 +60,15 @@ public final class TodoEntity extends Auditable implements ETagSource {
     @Column(name = "completed", nullable = false)
     private boolean completed;
 
+    /**
+     * 手動の並び順の位置キー（{@link FractionalIndex} の辞書順で並ぶ）
+     * <p>
+     * 移動と再配置でのみ書き換える。To-doの保存では取得し直したエンティティに位置キーを写さないため、
+     * 再配置の前に読み込んだエンティティを保存しても、古い位置キーで上書きしない。
+     */
+    @Column(name = "position", nullable = false, length = 255)
+    private String position;
+
     /**
      * 指定されたタイトルの {@link TodoEntity} を生成する。
      *
@@ -0,0 +1,280 @@
+package com.example.todoapp.todo.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * To-doのデータベースにアクセスするリポジトリインタフェース
+ * <p>
+ * CRUD操作を提供する {@link JpaRepository} を継承
+ * <p>
+ * 手動の並び順の取得は {@code (position, id)} のインデックスを範囲で走査する。
+ * 絞り込み条件を指定した一覧取得は {@link Specification} で条件を組み立てる。
+ * 保存・移動・位置キーの割り当て直しは {@link TodoPositionRepository} で行い、保存では位置キーを書き換えない。
+ */
+@Repository
+public interface JpaTodoRepository
+    extends JpaRepository<TodoEntity, UUID>, JpaSpecificationExecutor<TodoEntity>,
+        TodoRepository, TodoPositionRepository {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 完了状態はバインド変数ではなく定数の条件（{@code completed = true/false}）として出力し、
+     * PostgreSQLの部分インデックスを汎用の実行計画でも使用できるようにする。
+     * 完了状態で絞り込む場合は並び順の先頭にも完了状態を加え、H2で完了状態を先頭列に置いた
+     * インデックスを並べ替えに使用させる（絞り込み後は定数のため結果の順序は変わらない）。
+     */
+    @Override
+    default Page<TodoEntity> findAll(TodoListFilter filter, Pageable pageable) {
+        Pageable sorted = filter.completed() != null && pageable.isPaged()
+            ? PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                Sort.by("completed").and(pageable.getSort())
+            )
+            : pageable;
+
+        return findAll(toSpecification(filter), sorted);
+    }
+
+    @Override
+    @Query("SELECT t FROM TodoEntity t ORDER BY t.position, t.id")
+    List<TodoEntity> findPositionPage(Limit limit);
+
+    @Override
+    @Query("""
+        SELECT t FROM TodoEntity t
+        WHERE t.position >= :position
+          AND (t.position > :position OR t.id > :id)
+        ORDER BY t.position, t.id
+        """)
+    List<TodoEntity> findPositionPageAfter(
+        @Param("position") String position,
+        @Param("id") UUID id,
+        Limit limit
+    );
+
+    @Override
+    @Query("SELECT min(t.position) FROM TodoEntity t WHERE t.id <> :excludedId")
+    Optional<String> findFirstPosition(@Param("excludedId") UUID excludedId);
+
+    @Override
+    @Query("SELECT min(t.position) FROM TodoEntity t WHERE t.position > :position AND t.id <> :excludedId")
+    Optional<String> findNextPosition(
+        @Param("position") String position,
+        @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * 指定された長さを超える位置キーを持つ行を、手動の並び順で取得する。
+     *
+     * @param maxLength 位置キーの長さの上限
+     * @param limit     取得件数
+     * @return 取得結果の {@link TodoPositionRow}
+     */
+    @Query("""
+        SELECT new com.example.todoapp.todo.repository.TodoPositionRow(t.id, t.position)
+        FROM TodoEntity t
+        WHERE length(t.position) > :maxLength
+        ORDER BY t.position, t.id
+        """)
+    List<TodoPositionRow> findLongPositions(@Param("maxLength") int maxLength, Limit limit);
+
+    /**
+     * 指定された位置キーより前で、指定された長さ以下の最後の位置キーを取得する。
+     *
+     * @param position  位置キー
+     * @param maxLength 位置キーの長さの上限
+     * @return 位置キー（存在しない場合は空）
+     */
+    @Query("""
+        SELECT max(t.position) FROM TodoEntity t
+        WHERE t.position < :position AND length(t.position) <= :maxLength
+        """)
+    Optional<String> findShortPositionBefore(
+        @Param("position") String position,
+        @Param("maxLength") int maxLength
+    );
+
+    /**
+     * 指定された位置キーより後で、指定された長さ以下の最初の位置キーを取得する。
+     *
+     * @param position  位置キー
+     * @param maxLength 位置キーの長さの上限
+     * @return 位置キー（存在しない場合は空）
+     */
+    @Query("""
+        SELECT min(t.position) FROM TodoEntity t
+        WHERE t.position > :position AND length(t.position) <= :maxLength
+        """)
+    Optional<String> findShortPositionAfter(
+        @Param("position") String position,
+        @Param("maxLength") int maxLength
+    );
+
+    /**
+     * 指定された位置キーを持つ行を、ロックして取得する。
+     *
+     * @param positions 位置キー
+     * @return 取得結果の {@link TodoEntity}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TodoEntity t WHERE t.position IN :positions")
+    List<TodoEntity> lockByPositions(@Param("positions") Collection<String> positions);
+
+    /**
+     * 2つの位置キーの間にある最初の位置キーを取得する。
+     *
+     * @param lower 区間の下限（含まない、{@code null} の場合は先頭から）
+     * @param upper 区間の上限（含まない、{@code null} の場合は末尾まで）
+     * @return 位置キー（存在しない場合は空）
+     */
+    @Query("""
+        SELECT min(t.position) FROM TodoEntity t
+        WHERE (:lower IS NULL OR t.position > :lower)
+          AND (:upper IS NULL OR t.position < :upper)
+        """)
+    Optional<String> findFirstPositionBetween(
+        @Param("lower") String lower,
+        @Param("upper") String upper
+    );
+
+    /**
+     * 2つの位置キーの間にある最後の位置キーを取得する。
+     *
+     * @param lower 区間の下限（含まない、{@code null} の場合は先頭から）
+     * @param upper 区間の上限（含まない、{@code null} の場合は末尾まで）
+     * @return 位置キー（存在しない場合は空）
+     */
+    @Query("""
+        SELECT max(t.position) FROM TodoEntity t
+        WHERE (:lower IS NULL OR t.position > :lower)
+          AND (:upper IS NULL OR t.position < :upper)
+        """)
+    Optional<String> findLastPositionBetween(
+        @Param("lower") String lower,
+        @Param("upper") String upper
+    );
+
+    /**
+     * 2つの位置キーの間にある行の数を取得する。
+     *
+     * @param lower 区間の下限（含まない、{@code null} の場合は先頭から）
+     * @param upper 区間の上限（含まない、{@code null} の場合は末尾まで）
+     * @return 行の数
+     */
+    @Query("""
+        SELECT count(t) FROM TodoEntity t
+        WHERE (:lower IS NULL OR t.position > :lower)
+          AND (:upper IS NULL OR t.position < :upper)
+        """)
+    long countPositionsBetween(
+        @Param("lower") String lower,
+        @Param("upper") String upper
+    );
+
+    /**
+     * 指定されたIDの行を、手動の並び順で取得する。
+     *
+     * @param ids ID
+     * @return 取得結果の {@link TodoPositionRow}
+     */
+    @Query("""
+        SELECT new com.example.todoapp.todo.repository.TodoPositionRow(t.id, t.position)
+        FROM TodoEntity t
+        WHERE t.id IN :ids
+        ORDER BY t.position, t.id
+        """)
+    List<TodoPositionRow> findPositionRows(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 2つの位置キーの間にある先頭の側の行を、ロックして手動の並び順で取得する。
+     *
+     * @param lower 区間の下限（含まない、{@code null} の場合は先頭から）
+     * @param upper 区間の上限（含まない、{@code null} の場合は末尾まで）
+     * @param limit 取得件数
+     * @return 取得結果の {@link TodoEntity}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM TodoEntity t
+        WHERE (:lower IS NULL OR t.position > :lower)
+          AND (:upper IS NULL OR t.position < :upper)
+        ORDER BY t.position, t.id
+        """)
+    List<TodoEntity> lockPositionsBetween(
+        @Param("lower") String lower,
+        @Param("upper") String upper,
+        Limit limit
+    );
+
+    /**
+     * 2つの位置キーの間にある末尾の側の行を、ロックして手動の並び順の逆順で取得する。
+     *
+     * @param lower 区間の下限（含まない、{@code null} の場合は先頭から）
+     * @param upper 区間の上限（含まない、{@code null} の場合は末尾まで）
+     * @param limit 取得件数
+     * @return 取得結果の {@link TodoEntity}
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM TodoEntity t
+        WHERE (:lower IS NULL OR t.position > :lower)
+          AND (:upper IS NULL OR t.position < :upper)
+        ORDER BY t.position DESC, t.id DESC
+        """)
+    List<TodoEntity> lockLastPositionsBetween(
+        @Param("lower") String lower,
+        @Param("upper") String upper,
+        Limit limit
+    );
+
+    private static Specification<TodoEntity> toSpecification(TodoListFilter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>(3);
+            if (filter.completed() != null) {
+                predicates.add(builder.equal(
+                    root.get("completed"),
+                    builder.literal(filter.completed())
+                ));
+            }
+            if (filter.createdAfter() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(
+                    root.<LocalDateTime>get("createdAt"),
+                    filter.createdAfter()
+                ));
+            }
+            if (filter.createdBefore() != null) {
+                predicates.add(builder.lessThan(
+                    root.<LocalDateTime>get("createdAt"),
+                    filter.createdBefore()
+                ));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
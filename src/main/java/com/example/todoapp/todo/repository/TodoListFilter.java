@@ -0,0 +1,53 @@
+package com.example.todoapp.todo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * To-doの一覧取得の絞り込み条件
+ * <p>
+ * 作成日時の範囲は開始を含み、終了を含まない。
+ *
+ * @param completed     完了状態（絞り込まない場合は {@code null}）
+ * @param createdAfter  作成日時の範囲の開始（指定しない場合は {@code null}）
+ * @param createdBefore 作成日時の範囲の終了（指定しない場合は {@code null}）
+ */
+public record TodoListFilter(
+    Boolean completed,
+    LocalDateTime createdAfter,
+    LocalDateTime createdBefore
+) {
+
+    /** 絞り込まない条件 */
+    public static final TodoListFilter NONE = new TodoListFilter(null, null, null);
+
+    /**
+     * 絞り込み条件が指定されていないかを判定する。
+     *
+     * @return 絞り込み条件が指定されていない場合は {@code true}
+     */
+    public boolean isEmpty() {
+        return completed == null && !hasCreatedRange();
+    }
+
+    /**
+     * 作成日時の範囲が指定されているかを判定する。
+     *
+     * @return 範囲の開始または終了が指定されている場合は {@code true}
+     */
+    public boolean hasCreatedRange() {
+        return createdAfter != null || createdBefore != null;
+    }
+
+    /**
+     * 指定された完了状態と作成日時が絞り込み条件に一致するかを判定する。
+     *
+     * @param completed 完了状態
+     * @param createdAt 作成日時
+     * @return 一致する場合は {@code true}
+     */
+    public boolean matches(boolean completed, LocalDateTime createdAt) {
+        return (this.completed == null || this.completed == completed)
+            && (createdAfter == null || !createdAt.isBefore(createdAfter))
+            && (createdBefore == null || createdAt.isBefore(createdBefore));
+    }
+}
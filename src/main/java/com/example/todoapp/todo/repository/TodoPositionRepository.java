@@ -0,0 +1,49 @@
+package com.example.todoapp.todo.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * 位置キーの書き換えを保存から切り離すリポジトリインタフェース
+ * <p>
+ * {@link TodoEntity} の保存では位置キーを書き込まないため、移動と割り当て直しはこのインタフェースで行う。
+ * {@link JpaTodoRepository} が継承し、{@link TodoPositionRepositoryImpl} が実装する
+ * （{@link org.springframework.data.jpa.repository.JpaRepository} の保存より優先される）。
+ */
+public interface TodoPositionRepository {
+
+    /**
+     * {@link TodoEntity} を保存する。
+     * <p>
+     * IDがない場合は作成する。ある場合は取得し直したエンティティにタイトルと完了状態だけを写し、位置キーは書き換えない。
+     *
+     * @param <S>  {@link TodoEntity} の型
+     * @param todo 保存対象の {@link TodoEntity}（保存後の位置キーと監査情報を設定する）
+     * @return 保存結果の {@link TodoEntity}
+     * @see TodoRepository#save(TodoEntity)
+     */
+    <S extends TodoEntity> S save(S todo);
+
+    /**
+     * To-doを移動し、位置キーと更新日時を書き換える。
+     *
+     * @param todo  新しい位置キーを設定した、取得時の更新日時を持つ {@link TodoEntity}
+     * @param lower 直前の位置キー（先頭に移動する場合は {@code null}）
+     * @param upper 直後の位置キー（直後にTo-doがない場合は {@code null}）
+     * @return 移動した場合は {@code true}、前後の位置キーが変わっていた場合は {@code false}
+     * @see TodoRepository#move(TodoEntity, String, String)
+     */
+    boolean move(TodoEntity todo, String lower, String upper);
+
+    /**
+     * 複数のTo-doの位置キーをまとめて書き換える。
+     * <p>
+     * 更新日時とETagは変わらない。呼び出し側のトランザクションで対象の行をロックしておくこと。
+     *
+     * @param positions To-doのIDと新しい位置キー
+     * @return 更新した件数
+     */
+    int updatePositions(Map<UUID, String> positions);
+}
@@ -0,0 +1,134 @@
+package com.example.todoapp.todo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.example.todoapp.etag.exception.ETagMismatchException;
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * {@link TodoPositionRepository} のJPAの実装
+ * <p>
+ * 保存と移動は、永続化コンテキストで管理するエンティティの項目を書き換えて変更の検出で更新するため、
+ * Hibernateの2次キャッシュ（{@code todos} リージョン）は書き換えた1件だけが更新される。
+ * 保存では取得し直したエンティティにタイトルと完了状態だけを写すため、
+ * 移動・割り当て直しの前に読み込んだエンティティを保存しても、古い位置キーで上書きしない。
+ * <p>
+ * 移動は前後の位置キーを持つ行と移動するTo-doの行をロック（{@code SELECT ... FOR UPDATE}）してから書き換えるため、
+ * 並行する割り当て直しが前後の位置キーを書き換えた後の移動は、存在しない位置キーの間に割り当てられない。
+ * <p>
+ * 割り当て直しは更新日時を変えずに複数の行の位置キーを書き換えるため、{@code CASE} 式の一括更新を使用する。
+ * 一括更新は1文ごとに {@code todos} リージョン全体を無効にするため、割り当て直しは {@code app.position.batch-size} 件以下の区間の行を
+ * 1文にまとめて書き換え、無効化を区間ごとに1回に抑える。
+ */
+@RequiredArgsConstructor
+public class TodoPositionRepositoryImpl implements TodoPositionRepository {
+
+    /** 1文で書き換える位置キーの数の上限 */
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final ETagGenerator<TodoEntity> eTagGenerator;
+
+    @Override
+    @Transactional
+    public <S extends TodoEntity> S save(S todo) {
+        if (todo.getId() == null) {
+            entityManager.persist(todo);
+            return todo;
+        }
+
+        TodoEntity current = entityManager.find(TodoEntity.class, todo.getId());
+        if (current == null) {
+            throw new TodoEntityNotFoundException(todo.getId());
+        }
+        current.setTitle(todo.getTitle());
+        current.setCompleted(todo.isCompleted());
+        entityManager.flush();
+        todo.setPosition(current.getPosition());
+        todo.restoreAuditInfo(current.getCreatedAt(), current.getUpdatedAt());
+
+        return todo;
+    }
+
+    @Override
+    @Transactional
+    public boolean move(TodoEntity todo, String lower, String upper) {
+        List<String> bounds = Stream.of(lower, upper).filter(Objects::nonNull).toList();
+        if (!bounds.isEmpty()) {
+            List<String> locked = entityManager
+                .createQuery("SELECT t FROM TodoEntity t WHERE t.position IN :positions", TodoEntity.class)
+                .setParameter("positions", bounds)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultStream()
+                .map(TodoEntity::getPosition)
+                .toList();
+            if (!locked.containsAll(bounds)) {
+                return false;
+            }
+        }
+
+        // ロックを伴う取得は2次キャッシュを経由せず、データベースの最新の行を読み込む
+        TodoEntity current = entityManager.find(TodoEntity.class, todo.getId(), LockModeType.PESSIMISTIC_WRITE);
+        if (current == null) {
+            throw new TodoEntityNotFoundException(todo.getId());
+        }
+        if (!current.getUpdatedAt().equals(todo.getUpdatedAt())) {
+            throw new ETagMismatchException(
+                eTagGenerator.generate(todo),
+                eTagGenerator.generate(current)
+            );
+        }
+        current.setPosition(todo.getPosition());
+        entityManager.flush();
+        todo.restoreAuditInfo(current.getCreatedAt(), current.getUpdatedAt());
+
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int updatePositions(Map<UUID, String> positions) {
+        List<Map.Entry<UUID, String>> entries = List.copyOf(positions.entrySet());
+
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Map.Entry<UUID, String>> chunk = entries.subList(
+                from,
+                Math.min(from + UPDATE_CHUNK_SIZE, entries.size())
+            );
+
+            CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+            CriteriaUpdate<TodoEntity> update = builder.createCriteriaUpdate(TodoEntity.class);
+            Root<TodoEntity> root = update.from(TodoEntity.class);
+            CriteriaBuilder.SimpleCase<UUID, String> position = builder.selectCase(root.<UUID>get("id"));
+            List<UUID> ids = new ArrayList<>(chunk.size());
+            for (Map.Entry<UUID, String> entry : chunk) {
+                position.when(entry.getKey(), entry.getValue());
+                ids.add(entry.getKey());
+            }
+            update.set(root.<String>get("position"), position.otherwise(root.<String>get("position")));
+            update.where(root.<UUID>get("id").in(ids));
+
+            updated += entityManager.createQuery(update).executeUpdate();
+        }
+
+        return updated;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.todoapp.todo.repository;
+
+import java.util.UUID;
+
+/**
+ * To-doのIDと位置キー
+ *
+ * @param id       ID
+ * @param position 位置キー
+ */
+public record TodoPositionRow(UUID id, String position) {}
@@ -1,18 +1,119 @@
 package com.example.todoapp.todo.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import com.example.todoapp.etag.exception.ETagMismatchException;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
 import com.example.todoapp.todo.model.TodoEntity;
 
 /**
- * To-doのデータベースにアクセスするリポジトリインタフェース
+ * To-doの永続化を行うリポジトリインタフェース
  * <p>
- * CRUD操作を提供する {@link JpaRepository} を継承
+ * サービスが使用する操作のみを定義し、永続化方式（{@code app.storage.engine}）ごとに実装を切り替える。
+ * <ul>
+ *   <li>{@code jpa}: {@link JpaTodoRepository}</li>
+ *   <li>{@code memory}・{@code log}: {@link com.example.todoapp.todo.repository.memory.InMemoryTodoRepository}</li>
+ * </ul>
  */
-@Repository
-public interface TodoRepository extends JpaRepository<TodoEntity, UUID> {
-    // 必要に応じてクエリメソッドを定義
+public interface TodoRepository {
+
+    /**
+     * 指定されたIDの {@link TodoEntity} を取得する。
+     *
+     * @param id 取得対象のTo-doのID
+     * @return 取得結果の {@link TodoEntity}（存在しない場合は空）
+     */
+    Optional<TodoEntity> findById(UUID id);
+
+    /**
+     * 指定されたページの {@link TodoEntity} を取得する。
+     *
+     * @param pageable ページ番号・件数・並び順
+     * @return 取得結果の {@link Page}
+     */
+    Page<TodoEntity> findAll(Pageable pageable);
+
+    /**
+     * 絞り込み条件に一致する、指定されたページの {@link TodoEntity} を取得する。
+     *
+     * @param filter   絞り込み条件
+     * @param pageable ページ番号・件数・並び順
+     * @return 取得結果の {@link Page}
+     */
+    Page<TodoEntity> findAll(TodoListFilter filter, Pageable pageable);
+
+    /**
+     * 手動の並び順（位置キー・IDの昇順）で先頭から {@link TodoEntity} を取得する。
+     *
+     * @param limit 取得件数
+     * @return 取得結果の {@link TodoEntity}
+     */
+    List<TodoEntity> findPositionPage(Limit limit);
+
+    /**
+     * 手動の並び順（位置キー・IDの昇順）で、指定された行より後の {@link TodoEntity} を取得する。
+     *
+     * @param position 直前の行の位置キー
+     * @param id       直前の行のID
+     * @param limit    取得件数
+     * @return 取得結果の {@link TodoEntity}
+     */
+    List<TodoEntity> findPositionPageAfter(String position, UUID id, Limit limit);
+
+    /**
+     * 指定されたTo-doを除いて、先頭の位置キーを取得する。
+     *
+     * @param excludedId 除外するTo-doのID
+     * @return 先頭の位置キー（ほかにTo-doが存在しない場合は空）
+     */
+    Optional<String> findFirstPosition(UUID excludedId);
+
+    /**
+     * 指定されたTo-doを除いて、指定された位置キーより後で最初の位置キーを取得する。
+     *
+     * @param position   位置キー
+     * @param excludedId 除外するTo-doのID
+     * @return 次の位置キー（存在しない場合は空）
+     */
+    Optional<String> findNextPosition(String position, UUID excludedId);
+
+    /**
+     * {@link TodoEntity} を保存する。
+     * <p>
+     * IDがない場合は作成し、ある場合は更新する。
+     * 更新では位置キーを書き換えない（移動は {@link #move} で行う）。
+     *
+     * @param <S>  {@link TodoEntity} の型
+     * @param todo 保存対象の {@link TodoEntity}
+     * @return 保存結果の {@link TodoEntity}
+     */
+    <S extends TodoEntity> S save(S todo);
+
+    /**
+     * To-doを移動し、位置キーと更新日時を書き換える。
+     * <p>
+     * To-doが取得時から更新されておらず、移動先の前後の位置キーを持つ行が残っている場合に限り書き換える。
+     * 前後の位置キーが変わっていた場合は書き換えずに {@code false} を返すため、呼び出し側で前後を読み直して再試行する。
+     *
+     * @param todo  新しい位置キーを設定した、取得時の更新日時を持つ {@link TodoEntity}（移動後の更新日時を設定する）
+     * @param lower 新しい位置キーの生成に使用した直前の位置キー（先頭に移動する場合は {@code null}）
+     * @param upper 新しい位置キーの生成に使用した直後の位置キー（直後にTo-doがない場合は {@code null}）
+     * @return 移動した場合は {@code true}、前後の位置キーが変わっていた場合は {@code false}
+     * @throws ETagMismatchException       取得後に他のリクエストがTo-doを更新した場合
+     * @throws TodoEntityNotFoundException 取得後に他のリクエストがTo-doを削除した場合
+     */
+    boolean move(TodoEntity todo, String lower, String upper);
+
+    /**
+     * {@link TodoEntity} を削除する。
+     *
+     * @param todo 削除対象の {@link TodoEntity}
+     */
+    void delete(TodoEntity todo);
 }
@@ -0,0 +1,141 @@
+package com.example.todoapp.todo.repository.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import com.example.todoapp.todo.repository.memory.TodoVersion;
+
+/**
+ * セグメントログに記録するTo-doの版
+ * <p>
+ * 記録の形式は次のとおり（ビッグエンディアン）。CRCは長さ以降のすべてのバイトに対するCRC32C。
+ * <pre>
+ * crc(4) length(4) | version(1) type(1) id(16) createdAt(8) updatedAt(8) completed(1)
+ *                   | titleLength(4) title(n) positionLength(4) position(m)
+ * </pre>
+ * 日時はUTCとみなしたUNIXエポックからのマイクロ秒、文字列はUTF-8で記録する。
+ * 形式を変更する場合は {@code version} を上げ、古い形式の記録を書き込み途中の記録と区別できるようにする。
+ *
+ * @param deleted   削除の記録か
+ * @param id        ID
+ * @param title     タイトル
+ * @param completed 完了状態
+ * @param position  位置キー
+ * @param createdAt 作成日時
+ * @param updatedAt 更新日時
+ */
+record LogRecord(
+    boolean deleted,
+    UUID id,
+    String title,
+    boolean completed,
+    String position,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /** CRCと長さのバイト数 */
+    static final int HEADER_SIZE = 8;
+
+    /** タイトルと位置キーを除く本体のバイト数 */
+    private static final int FIXED_BODY_SIZE = 1 + 1 + 16 + 8 + 8 + 1 + 4 + 4;
+
+    /** 記録の形式のバージョン */
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_PUT = 1;
+    private static final byte TYPE_DELETE = 2;
+
+    /**
+     * 版の記録を生成する。
+     *
+     * @param version {@link TodoVersion}
+     * @return {@link LogRecord}
+     */
+    static LogRecord of(TodoVersion version) {
+        return new LogRecord(
+            version.deleted(),
+            version.id(),
+            version.title(),
+            version.completed(),
+            version.position(),
+            version.createdAt(),
+            version.updatedAt()
+        );
+    }
+
+    /**
+     * 本体を符号化する。
+     *
+     * @return 本体のバイト列（長さ以降、CRCの対象）
+     */
+    byte[] encodeBody() {
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        byte[] positionBytes = position.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(FIXED_BODY_SIZE + titleBytes.length + positionBytes.length);
+        body.put(FORMAT_VERSION);
+        body.put(deleted ? TYPE_DELETE : TYPE_PUT);
+        body.putLong(id.getMostSignificantBits());
+        body.putLong(id.getLeastSignificantBits());
+        body.putLong(toEpochMicros(createdAt));
+        body.putLong(toEpochMicros(updatedAt));
+        body.put(completed ? (byte) 1 : (byte) 0);
+        body.putInt(titleBytes.length);
+        body.put(titleBytes);
+        body.putInt(positionBytes.length);
+        body.put(positionBytes);
+
+        return body.array();
+    }
+
+    /**
+     * 本体を復号する。
+     *
+     * @param body 本体（位置から上限までを読み込む）
+     * @return {@link LogRecord}
+     * @throws IllegalArgumentException 本体の形式のバージョンが未対応か、形式が不正な場合
+     */
+    static LogRecord decodeBody(ByteBuffer body) {
+        byte version = body.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported record format version: " + version);
+        }
+        byte type = body.get();
+        if (type != TYPE_PUT && type != TYPE_DELETE) {
+            throw new IllegalArgumentException("Unknown record type: " + type);
+        }
+        UUID id = new UUID(body.getLong(), body.getLong());
+        LocalDateTime createdAt = fromEpochMicros(body.getLong());
+        LocalDateTime updatedAt = fromEpochMicros(body.getLong());
+        boolean completed = body.get() != 0;
+        byte[] titleBytes = new byte[body.getInt()];
+        body.get(titleBytes);
+        byte[] positionBytes = new byte[body.getInt()];
+        body.get(positionBytes);
+
+        return new LogRecord(
+            type == TYPE_DELETE,
+            id,
+            new String(titleBytes, StandardCharsets.UTF_8),
+            completed,
+            new String(positionBytes, StandardCharsets.UTF_8),
+            createdAt,
+            updatedAt
+        );
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+            ZoneOffset.UTC
+        );
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.todoapp.todo.repository.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * セグメントログを構成する固定長のファイル
+ * <p>
+ * ファイル全体を読み書き可能なメモリマップとして開き、記録を先頭から順に追記する。
+ * 未使用の領域はゼロで埋められているため、長さとCRCがゼロの位置を記録の終端とみなす。
+ * 長さかCRCが一致しない記録は書き込み途中の記録とみなし、CRCが一致するのに復号できない記録は形式の不一致として扱う。
+ * 追記と使用中のバイト数の更新は {@link SegmentLog} の追記用のロックを保持して行う。
+ */
+final class Segment implements Closeable {
+
+    /** メモリマップを解放する {@code sun.misc.Unsafe#invokeCleaner}（利用できない場合は {@code null}） */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    /**
+     * 記録を読み込んだときに呼び出される処理
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+
+        /**
+         * @param record 記録
+         * @param offset 記録の開始位置
+         * @param length 記録のバイト数（CRCと長さを含む）
+         */
+        void visit(LogRecord record, int offset, int length);
+    }
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    /** 次の記録の開始位置 */
+    private volatile int position;
+
+    /** 最新の版（または削除の記録）として参照されているバイト数 */
+    private volatile long liveBytes;
+
+    private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * セグメントを開く（存在しない場合は作成する）。
+     *
+     * @param sequence セグメントの番号
+     * @param path     ファイルのパス
+     * @param size     ファイルのバイト数
+     * @return {@link Segment}
+     * @throws IOException ファイルを開けない場合
+     */
+    static Segment open(long sequence, Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        try {
+            int mappedSize = (int) Math.max(size, channel.size());
+            return new Segment(
+                sequence,
+                path,
+                channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize)
+            );
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int position() {
+        return position;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * 参照されていないバイト数の割合を返す。
+     *
+     * @return 0.0（すべて参照されている）から1.0（すべて不要）までの割合
+     */
+    double garbageRatio() {
+        int used = position;
+        return used == 0 ? 0.0 : 1.0 - (double) liveBytes / used;
+    }
+
+    /**
+     * 記録を読み込み、終端までの記録を順に処理する。
+     * <p>
+     * 長さかCRCが一致しない記録で終わっている場合は、その位置を終端として {@code false} を返す。
+     * ただし、その記録の後ろに正常な記録が続く場合は、書き込み途中ではなく途中の記録の破損とみなす。
+     *
+     * @param visitor 記録ごとの処理
+     * @return 終端が正常（未使用の領域）の場合は {@code true}、壊れた記録で終わっている場合は {@code false}
+     * @throws IllegalStateException 途中の記録が壊れているか、CRCが一致する記録を復号できない場合
+     */
+    boolean scan(RecordVisitor visitor) {
+        int offset = 0;
+        int limit = buffer.capacity();
+        while (offset + LogRecord.HEADER_SIZE <= limit) {
+            int crc = buffer.getInt(offset);
+            int bodyLength = buffer.getInt(offset + 4);
+            if (crc == 0 && bodyLength == 0) {
+                position = offset;
+                return true;
+            }
+
+            if (!isIntact(offset, bodyLength, crc)) {
+                position = offset;
+                if (bodyLength > 0 && isIntactAt((long) offset + LogRecord.HEADER_SIZE + bodyLength)) {
+                    throw new IllegalStateException("Corrupted record in " + this + " at offset " + offset
+                        + " is followed by intact records");
+                }
+                return false;
+            }
+            int length = LogRecord.HEADER_SIZE + bodyLength;
+            visitor.visit(decode(offset, bodyLength), offset, length);
+            offset += length;
+        }
+        position = offset;
+
+        return true;
+    }
+
+    /**
+     * 指定された位置の記録を読み込む。
+     *
+     * @param offset 記録の開始位置
+     * @return {@link LogRecord}
+     * @throws IllegalStateException 記録が壊れているか、復号できない場合
+     */
+    LogRecord readAt(int offset) {
+        int bodyLength = buffer.getInt(offset + 4);
+        if (!isIntact(offset, bodyLength, buffer.getInt(offset))) {
+            throw new IllegalStateException("Corrupted record in " + this + " at offset " + offset);
+        }
+
+        return decode(offset, bodyLength);
+    }
+
+    /**
+     * 最後に読み込んだ正常な記録の後ろから終端までをゼロで埋め、壊れた記録を取り除く。
+     */
+    void truncate() {
+        int limit = buffer.capacity();
+        for (int offset = position; offset < limit; offset++) {
+            buffer.put(offset, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    /**
+     * 記録を追記する。
+     * <p>
+     * 長さと本体を書き込んでから、最後にCRCを書き込む。
+     *
+     * @param body 本体
+     * @param sync ディスクへの書き込みを待つか
+     * @return 記録の開始位置（空きがない場合は {@code -1}）
+     */
+    int append(byte[] body, boolean sync) {
+        int offset = position;
+        int length = LogRecord.HEADER_SIZE + body.length;
+        if (offset + length > buffer.capacity()) {
+            return -1;
+        }
+
+        buffer.putInt(offset + 4, body.length);
+        buffer.put(offset + LogRecord.HEADER_SIZE, body);
+        buffer.putInt(offset, checksum(offset, body.length));
+        if (sync) {
+            buffer.force(offset, length);
+        }
+        position = offset + length;
+
+        return offset;
+    }
+
+    /**
+     * 参照されているバイト数を加算する。
+     */
+    void retain(int length) {
+        liveBytes += length;
+    }
+
+    /**
+     * 参照されなくなったバイト数を減算する。
+     */
+    void release(int length) {
+        liveBytes -= length;
+    }
+
+    /**
+     * 書き込み済みの内容をディスクに書き込む。
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * セグメントを閉じ、メモリマップを解放してファイルを削除する。
+     * <p>
+     * 解放後にこのセグメントを読み書きしてはならない。
+     * 解放できない環境では、メモリマップはガベージコレクションで解放されるまで残る。
+     *
+     * @throws IOException ファイルを削除できない場合
+     */
+    void delete() throws IOException {
+        close();
+        try {
+            unmap();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return path.getFileName().toString();
+    }
+
+    private boolean isIntact(int offset, int bodyLength, int crc) {
+        return bodyLength > 0 && (long) offset + LogRecord.HEADER_SIZE + bodyLength <= buffer.capacity()
+            && checksum(offset, bodyLength) == crc;
+    }
+
+    private boolean isIntactAt(long offset) {
+        if (offset + LogRecord.HEADER_SIZE > buffer.capacity()) {
+            return false;
+        }
+        int next = (int) offset;
+        int crc = buffer.getInt(next);
+        int bodyLength = buffer.getInt(next + 4);
+
+        return !(crc == 0 && bodyLength == 0) && isIntact(next, bodyLength, crc);
+    }
+
+    private LogRecord decode(int offset, int bodyLength) {
+        try {
+            return LogRecord.decodeBody(buffer.slice(offset + LogRecord.HEADER_SIZE, bodyLength));
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("Undecodable record in " + this + " at offset " + offset, ex);
+        }
+    }
+
+    private int checksum(int offset, int bodyLength) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 4, 4 + bodyLength));
+
+        return (int) crc.getValue();
+    }
+
+    private void unmap() throws IOException {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable ex) {
+            throw new IOException("Failed to unmap " + this, ex);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.todoapp.todo.repository.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.todoapp.todo.repository.memory.MvccTodoStore;
+import com.example.todoapp.todo.repository.memory.TodoCommitLog;
+import com.example.todoapp.todo.repository.memory.TodoVersion;
+
+/**
+ * To-doの版を追記専用のセグメントに記録するログ構造の永続化
+ * <p>
+ * {@link MvccTodoStore} のコミットログとして、確定前の版をメモリマップしたセグメントの末尾に順に追記する。
+ * IDごとの最新の記録の位置はメモリ上のハッシュインデックスで管理し、
+ * 起動時はすべてのセグメントを番号順に読み込んでインデックスを再構築し、最新の版をストアに復元する。
+ * 記録はCRC32Cで検証し、最後のセグメントの末尾にある書き込み途中の記録は切り捨てる。
+ * それ以外の位置の壊れた記録と、CRCが一致するのに復号できない記録（形式のバージョンの不一致など）は、
+ * 記録を失わないよう起動を中止する。
+ * <p>
+ * 参照されていない記録の割合が閾値以上になったセグメントは、最新の記録だけを末尾に書き写し、
+ * ディスクへの書き込みを待ってから削除する（コンパクション）。
+ * 削除の記録は、それより古いセグメントがなくなった時点で取り除く。
+ */
+public class SegmentLog implements TodoCommitLog, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLog.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean sync;
+    private final double compactionThreshold;
+
+    /** セグメント（番号順） */
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    /** IDごとの最新の記録の位置（追記用のロックで保護） */
+    private final Map<UUID, Location> index = new HashMap<>();
+
+    /** 追記用のロック */
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    /** コンパクションの多重実行を防ぐロック */
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    /** 追記中のセグメント */
+    private Segment active;
+
+    /**
+     * 記録の位置
+     *
+     * @param segment 記録を含むセグメント
+     * @param offset  記録の開始位置
+     * @param length  記録のバイト数
+     * @param deleted 削除の記録か
+     */
+    private record Location(Segment segment, int offset, int length, boolean deleted) {}
+
+    private SegmentLog(Path directory, int segmentSize, boolean sync, double compactionThreshold) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * ログを開き、既存のセグメントからインデックスを再構築する。
+     *
+     * @param directory           セグメントを格納するディレクトリ
+     * @param segmentSize         セグメントのバイト数
+     * @param sync                追記ごとにディスクへの書き込みを待つか
+     * @param compactionThreshold コンパクションの対象とする参照されていない記録の割合
+     * @return {@link SegmentLog}
+     * @throws UncheckedIOException  ディレクトリまたはセグメントを開けない場合
+     * @throws IllegalStateException 最後のセグメントの末尾以外に壊れた記録があるか、復号できない記録がある場合
+     */
+    public static SegmentLog open(
+        Path directory,
+        int segmentSize,
+        boolean sync,
+        double compactionThreshold
+    ) {
+        SegmentLog log = new SegmentLog(directory, segmentSize, sync, compactionThreshold);
+        try {
+            log.recover();
+        } catch (IOException ex) {
+            log.close();
+            throw new UncheckedIOException("Failed to open the segment log in " + directory, ex);
+        } catch (RuntimeException ex) {
+            log.close();
+            throw ex;
+        }
+
+        return log;
+    }
+
+    /**
+     * 最新の版をストアに復元する。
+     *
+     * @param store 復元先の {@link MvccTodoStore}
+     * @return 復元した件数
+     */
+    public int restoreInto(MvccTodoStore store) {
+        appendLock.lock();
+        try {
+            int restored = 0;
+            for (Map.Entry<UUID, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (location.deleted()) {
+                    continue;
+                }
+                LogRecord record = location.segment().readAt(location.offset());
+                store.restore(
+                    record.id(),
+                    record.title(),
+                    record.completed(),
+                    record.position(),
+                    record.createdAt(),
+                    record.updatedAt()
+                );
+                restored++;
+            }
+
+            return restored;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void append(TodoVersion version) {
+        byte[] body = LogRecord.of(version).encodeBody();
+
+        appendLock.lock();
+        try {
+            write(version.id(), body, version.deleted());
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 参照されていない記録の割合が閾値以上のセグメントをコンパクションする。
+     */
+    @Scheduled(fixedDelayString = "${app.storage.log.compaction-interval:PT1M}")
+    public void compact() {
+        if (!compactionLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Segment segment : List.copyOf(segments.values())) {
+                if (segment != currentSegment() && segment.garbageRatio() >= compactionThreshold) {
+                    compact(segment);
+                }
+            }
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * セグメントの数を返す。
+     *
+     * @return セグメントの数
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * セグメントの使用中のバイト数の合計を返す。
+     *
+     * @return 使用中のバイト数
+     */
+    public long getUsedBytes() {
+        long used = 0;
+        for (Segment segment : segments.values()) {
+            used += segment.position();
+        }
+
+        return used;
+    }
+
+    /**
+     * 最新の記録として参照されているバイト数の合計を返す。
+     *
+     * @return 参照されているバイト数
+     */
+    public long getLiveBytes() {
+        long live = 0;
+        for (Segment segment : segments.values()) {
+            live += segment.liveBytes();
+        }
+
+        return live;
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.force();
+                segment.close();
+            }
+            segments.clear();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close the segment log in " + directory, ex);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files
+                .filter(path -> sequenceOf(path) >= 0)
+                .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                .toList();
+        }
+
+        for (int i = 0; i < paths.size(); i++) {
+            Path path = paths.get(i);
+            Segment segment = Segment.open(sequenceOf(path), path, segmentSize);
+            segments.put(segment.sequence(), segment);
+
+            boolean clean = segment.scan((record, offset, length) ->
+                index(record.id(), new Location(segment, offset, length, record.deleted()))
+            );
+            if (!clean) {
+                if (i < paths.size() - 1) {
+                    throw new IllegalStateException("Corrupted record in " + segment
+                        + " at offset " + segment.position());
+                }
+                logger.warn("Truncated a torn record in {} at offset {}", segment, segment.position());
+                segment.truncate();
+            }
+        }
+
+        active = segments.isEmpty() ? roll(1) : segments.lastEntry().getValue();
+        if (logger.isInfoEnabled()) {
+            logger.info(
+                "Recovered {} to-do records from {} segments in {} ms",
+                index.size(),
+                segments.size(),
+                (System.nanoTime() - start) / 1_000_000
+            );
+        }
+    }
+
+    private void compact(Segment segment) {
+        boolean oldest = segments.firstKey() == segment.sequence();
+        segment.scan((record, offset, length) -> {
+            appendLock.lock();
+            try {
+                Location location = index.get(record.id());
+                if (location == null || location.segment() != segment || location.offset() != offset) {
+                    return;
+                }
+                if (record.deleted() && oldest) {
+                    index.remove(record.id());
+                    segment.release(length);
+                } else {
+                    write(record.id(), record.encodeBody(), record.deleted());
+                }
+            } finally {
+                appendLock.unlock();
+            }
+        });
+
+        appendLock.lock();
+        try {
+            // 書き写した記録がディスクに届く前に元のセグメントを削除すると、クラッシュ時に記録を失うため、
+            // syncの設定によらず追記中のセグメントを書き込んでから削除する
+            active.force();
+            segments.remove(segment.sequence());
+            segment.delete();
+        } catch (IOException ex) {
+            logger.warn("Failed to delete the compacted segment {}: {}", segment, ex.toString());
+        } finally {
+            appendLock.unlock();
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Compacted segment {}", segment);
+        }
+    }
+
+    private void write(UUID id, byte[] body, boolean deleted) {
+        int offset = active.append(body, sync);
+        if (offset < 0) {
+            active.force();
+            active = roll(active.sequence() + 1);
+            offset = active.append(body, sync);
+            if (offset < 0) {
+                throw new IllegalStateException("Record of " + body.length + " bytes exceeds the segment size");
+            }
+        }
+
+        index(id, new Location(active, offset, LogRecord.HEADER_SIZE + body.length, deleted));
+    }
+
+    private void index(UUID id, Location location) {
+        Location previous = index.put(id, location);
+        if (previous != null) {
+            previous.segment().release(previous.length());
+        }
+        location.segment().retain(location.length());
+    }
+
+    private Segment roll(long sequence) {
+        Path path = directory.resolve("%s%020d%s".formatted(SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        try {
+            Segment segment = Segment.open(sequence, path, segmentSize);
+            segments.put(sequence, segment);
+
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create the segment " + path, ex);
+        }
+    }
+
+    private Segment currentSegment() {
+        appendLock.lock();
+        try {
+            return active;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(name.substring(
+                SEGMENT_PREFIX.length(),
+                name.length() - SEGMENT_SUFFIX.length()
+            ));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.todoapp.todo.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import io.micrometer.core.instrument.Counter;
+
+import com.example.todoapp.common.id.UuidV7Generator;
+import com.example.todoapp.etag.exception.ETagMismatchException;
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoListFilter;
+import com.example.todoapp.todo.repository.TodoRepository;
+
+/**
+ * To-doをプロセス内の {@link MvccTodoStore} に保持するリポジトリ
+ * <p>
+ * 永続化方式が {@code log} の場合も、コミットをセグメントログに記録するストアと組み合わせて使用する。
+ * <p>
+ * 取得した {@link TodoEntity} は保存済みの版の複製で、変更は保存するまでストアに反映されない。
+ * 更新・削除は取得時の更新日時（ETagのベース文字列値）を期待値とする比較・交換で行うため、
+ * ETagの検証から保存までの間に他のリクエストが更新した場合は {@link ETagMismatchException}、
+ * 削除した場合は {@link TodoEntityNotFoundException} を送出する。
+ */
+public class InMemoryTodoRepository implements TodoRepository {
+
+    private final MvccTodoStore store;
+    private final DateTimeProvider dateTimeProvider;
+    private final ETagGenerator<TodoEntity> eTagGenerator;
+    private final Counter conflictCounter;
+
+    /**
+     * リポジトリを生成する。
+     *
+     * @param store            {@link MvccTodoStore}
+     * @param dateTimeProvider 作成・更新日時の取得元
+     * @param eTagGenerator    競合時のETagを生成する {@link ETagGenerator}
+     * @param conflictCounter  比較・交換に失敗した更新・削除の数を記録する {@link Counter}
+     */
+    public InMemoryTodoRepository(
+        MvccTodoStore store,
+        DateTimeProvider dateTimeProvider,
+        ETagGenerator<TodoEntity> eTagGenerator,
+        Counter conflictCounter
+    ) {
+        this.store = store;
+        this.dateTimeProvider = dateTimeProvider;
+        this.eTagGenerator = eTagGenerator;
+        this.conflictCounter = conflictCounter;
+    }
+
+    @Override
+    public Optional<TodoEntity> findById(UUID id) {
+        return Optional.ofNullable(store.get(id)).map(TodoVersion::toEntity);
+    }
+
+    @Override
+    public Page<TodoEntity> findAll(Pageable pageable) {
+        return findAll(TodoListFilter.NONE, pageable);
+    }
+
+    @Override
+    public Page<TodoEntity> findAll(TodoListFilter filter, Pageable pageable) {
+        return store.findPage(filter, pageable).map(TodoVersion::toEntity);
+    }
+
+    @Override
+    public List<TodoEntity> findPositionPage(Limit limit) {
+        return toEntities(store.findByPosition(null, null, limit.max()));
+    }
+
+    @Override
+    public List<TodoEntity> findPositionPageAfter(String position, UUID id, Limit limit) {
+        return toEntities(store.findByPosition(position, id, limit.max()));
+    }
+
+    @Override
+    public Optional<String> findFirstPosition(UUID excludedId) {
+        return Optional.ofNullable(store.findNextPosition(null, excludedId));
+    }
+
+    @Override
+    public Optional<String> findNextPosition(String position, UUID excludedId) {
+        return Optional.ofNullable(store.findNextPosition(position, excludedId));
+    }
+
+    @Override
+    public <S extends TodoEntity> S save(S todo) {
+        TodoVersion saved;
+        if (todo.getId() == null) {
+            todo.setId(UuidV7Generator.next());
+            saved = store.insert(
+                todo.getId(),
+                todo.getTitle(),
+                todo.isCompleted(),
+                todo.getPosition(),
+                now()
+            );
+        } else {
+            saved = store.compareAndSet(
+                todo.getId(),
+                todo.getUpdatedAt(),
+                todo.getTitle(),
+                todo.isCompleted(),
+                todo.getPosition(),
+                now()
+            );
+            if (saved == null) {
+                throw conflict(todo);
+            }
+        }
+        todo.restoreAuditInfo(saved.createdAt(), saved.updatedAt());
+
+        return todo;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 位置キーを割り当て直さないため前後の位置キーは確認せず、取得時の更新日時を期待値とする比較・交換で書き換える。
+     * 前後のTo-doが並行して移動・削除されても、移動が先に行われた場合と同じ並び順になる。
+     */
+    @Override
+    public boolean move(TodoEntity todo, String lower, String upper) {
+        save(todo);
+
+        return true;
+    }
+
+    @Override
+    public void delete(TodoEntity todo) {
+        if (!store.compareAndDelete(todo.getId(), todo.getUpdatedAt())) {
+            throw conflict(todo);
+        }
+    }
+
+    private RuntimeException conflict(TodoEntity todo) {
+        conflictCounter.increment();
+
+        TodoVersion current = store.get(todo.getId());
+        if (current == null) {
+            return new TodoEntityNotFoundException(todo.getId());
+        }
+
+        return new ETagMismatchException(
+            eTagGenerator.generate(todo),
+            eTagGenerator.generate(current.toEntity())
+        );
+    }
+
+    private static List<TodoEntity> toEntities(List<TodoVersion> versions) {
+        return versions.stream().map(TodoVersion::toEntity).toList();
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.from(dateTimeProvider.getNow().orElseThrow());
+    }
+}
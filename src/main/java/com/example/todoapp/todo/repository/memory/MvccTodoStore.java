@@ -0,0 +1,588 @@
+package com.example.todoapp.todo.repository.memory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.example.todoapp.todo.repository.TodoListFilter;
+
+/**
+ * To-doをプロセス内に保持する多版同時実行制御（MVCC）のストア
+ * <p>
+ * 書き込みはコミットごとに番号を払い出して新しい版を追加し、最後に確定したコミットを公開する。
+ * 読み取りは開始時点で確定していたコミットの読み取りビューを開き、
+ * その時点の版だけを参照するため、ロックを取得せず書き込みとも互いに待たない。
+ * 一覧は {@code (updatedAt, id)} の降順に並べた並行ソート済みインデックスを走査し、絞り込み条件に一致しない版は読み飛ばす。
+ * 手動の並び順（位置キー）のインデックスは持たず、見えるすべての版を走査して必要な件数だけを選ぶ。
+ * <p>
+ * 書き込み同士はコミット用のロックで直列化し、更新・削除は現在の版の更新日時を期待値とする比較・交換で行う。
+ * どの読み取りビューからも参照されなくなった古い版・インデックスの項目・削除済みの印は、
+ * 後続のコミットの完了時に回収する。
+ * {@link TodoCommitLog} を指定した場合は、コミットを確定する前に新しい版を記録する。
+ */
+public class MvccTodoStore {
+
+    /** インデックスの並び順（更新日時の降順、IDの降順） */
+    static final Sort INDEX_ORDER = Sort.by(Sort.Direction.DESC, "updatedAt", "id");
+
+    private static final Comparator<IndexKey> INDEX_KEY_ORDER = Comparator
+        .comparing(IndexKey::updatedAt)
+        .thenComparing(IndexKey::id)
+        .reversed();
+
+    /** 手動の並び順（位置キーの昇順、IDの昇順） */
+    private static final Comparator<TodoVersion> POSITION_ORDER = Comparator
+        .comparing(TodoVersion::position)
+        .thenComparing(TodoVersion::id);
+
+    private static final Comparator<ReadView> READ_VIEW_ORDER = Comparator
+        .comparingLong((ReadView view) -> view.commit().number())
+        .thenComparingLong(ReadView::ticket);
+
+    /** コミットを確定する前に版を記録するログ */
+    private final TodoCommitLog commitLog;
+
+    /** IDごとの最新の版 */
+    private final Map<UUID, TodoVersion> rows = new ConcurrentHashMap<>();
+
+    /** {@code (updatedAt, id)} のインデックス */
+    private final ConcurrentSkipListMap<IndexKey, IndexEntry> index =
+        new ConcurrentSkipListMap<>(INDEX_KEY_ORDER);
+
+    /** 開いている読み取りビュー */
+    private final ConcurrentSkipListSet<ReadView> readViews =
+        new ConcurrentSkipListSet<>(READ_VIEW_ORDER);
+
+    private final AtomicLong tickets = new AtomicLong();
+
+    /** 書き込みを直列化するロック */
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    /** 回収待ちの項目（コミット順、コミット用のロックで保護） */
+    private final ArrayDeque<Garbage> garbage = new ArrayDeque<>();
+
+    /** 最後に確定したコミット */
+    private volatile Commit lastCommit = new Commit(0, 0);
+
+    /** 回収を開始したコミットの番号（これより古い読み取りビューは開き直す） */
+    private volatile long reclaimHorizon;
+
+    /**
+     * コミット
+     *
+     * @param number コミットの番号
+     * @param size   コミット時点で存在するTo-doの件数
+     */
+    private record Commit(long number, long size) {}
+
+    /**
+     * 読み取りビュー
+     *
+     * @param commit 参照するコミット
+     * @param ticket 同じコミットを参照するビューを区別する番号
+     */
+    private record ReadView(Commit commit, long ticket) {}
+
+    /**
+     * インデックスのキー
+     *
+     * @param updatedAt 更新日時
+     * @param id        ID
+     */
+    private record IndexKey(LocalDateTime updatedAt, UUID id) {
+
+        static IndexKey of(TodoVersion version) {
+            return new IndexKey(version.updatedAt(), version.id());
+        }
+    }
+
+    /**
+     * 回収待ちの項目
+     *
+     * @param retiredAt 不要になったコミットの番号
+     * @param reclaim   回収処理
+     */
+    private record Garbage(long retiredAt, Runnable reclaim) {}
+
+    /**
+     * インデックスの項目
+     * <p>
+     * 版が追加されたコミットから、置き換えられたコミットの直前までの読み取りビューから見える。
+     */
+    private static final class IndexEntry {
+
+        private final TodoVersion version;
+
+        /** 置き換えられたコミットの番号 */
+        private volatile long removedAt = Long.MAX_VALUE;
+
+        IndexEntry(TodoVersion version) {
+            this.version = version;
+        }
+
+        boolean visibleAt(long snapshot) {
+            return version.commit() <= snapshot && snapshot < removedAt;
+        }
+    }
+
+    /**
+     * コミットを記録しないストアを生成する。
+     */
+    public MvccTodoStore() {
+        this(TodoCommitLog.NONE);
+    }
+
+    /**
+     * 指定されたログにコミットを記録するストアを生成する。
+     *
+     * @param commitLog コミットを確定する前に版を記録する {@link TodoCommitLog}
+     */
+    public MvccTodoStore(TodoCommitLog commitLog) {
+        this.commitLog = commitLog;
+    }
+
+    /**
+     * 現在存在するTo-doの件数を返す。
+     *
+     * @return 最後に確定したコミット時点の件数
+     */
+    public long size() {
+        return lastCommit.size();
+    }
+
+    /**
+     * 指定されたIDの現在の版を取得する。
+     *
+     * @param id To-doのID
+     * @return 読み取りビューから見える版（存在しない場合は {@code null}）
+     */
+    TodoVersion get(UUID id) {
+        ReadView view = openReadView();
+        try {
+            TodoVersion head = rows.get(id);
+
+            return head == null ? null : head.visibleAt(view.commit().number());
+        } finally {
+            readViews.remove(view);
+        }
+    }
+
+    /**
+     * 絞り込み条件に一致する、指定されたページの版を取得する。
+     * <p>
+     * インデックスの並び順（またはその逆順）の場合はインデックスを走査し、
+     * それ以外の並び順の場合は条件に一致するすべての版を並べ替える。
+     * 絞り込む場合の総件数は、インデックス全体を走査して数える。
+     *
+     * @param filter   絞り込み条件
+     * @param pageable ページ番号・件数・並び順
+     * @return 読み取りビューから見える版の {@link Page}
+     * @throws IllegalArgumentException 並び順に未対応の項目が含まれる場合
+     */
+    Page<TodoVersion> findPage(TodoListFilter filter, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        Sort sort = pageable.getSort();
+
+        ReadView view = openReadView();
+        try {
+            long snapshot = view.commit().number();
+            List<TodoVersion> content;
+            long total;
+            if (sort.isUnsorted() || sort.equals(INDEX_ORDER) || sort.equals(INDEX_ORDER.ascending())) {
+                Iterator<IndexEntry> entries = sort.equals(INDEX_ORDER.ascending())
+                    ? index.descendingMap().values().iterator()
+                    : index.values().iterator();
+                content = scan(entries, snapshot, filter, offset, limit);
+                total = filter.isEmpty()
+                    ? view.commit().size()
+                    : count(index.values().iterator(), snapshot, filter);
+            } else {
+                List<TodoVersion> all = scan(index.values().iterator(), snapshot, filter, 0, Integer.MAX_VALUE);
+                all.sort(comparator(sort));
+                content = offset >= all.size()
+                    ? List.of()
+                    : all.subList((int) offset, (int) Math.min(all.size(), offset + limit));
+                total = all.size();
+            }
+
+            return new PageImpl<>(content, pageable, total);
+        } finally {
+            readViews.remove(view);
+        }
+    }
+
+    /**
+     * 手動の並び順（位置キー・IDの昇順）で、指定された行より後の版を取得する。
+     *
+     * @param afterPosition 直前の行の位置キー（先頭から取得する場合は {@code null}）
+     * @param afterId       直前の行のID（先頭から取得する場合は {@code null}）
+     * @param limit         取得件数
+     * @return 読み取りビューから見える版
+     */
+    List<TodoVersion> findByPosition(String afterPosition, UUID afterId, int limit) {
+        // 取得件数までの版を、並び順の最後を先頭にして保持する
+        PriorityQueue<TodoVersion> selected = new PriorityQueue<>(
+            Math.min(limit, 64) + 1,
+            POSITION_ORDER.reversed()
+        );
+
+        ReadView view = openReadView();
+        try {
+            long snapshot = view.commit().number();
+            for (IndexEntry entry : index.values()) {
+                if (!entry.visibleAt(snapshot)) {
+                    continue;
+                }
+                TodoVersion version = entry.version;
+                if (afterPosition != null && !isAfter(version, afterPosition, afterId)) {
+                    continue;
+                }
+                if (selected.size() < limit) {
+                    selected.add(version);
+                } else if (POSITION_ORDER.compare(version, selected.peek()) < 0) {
+                    selected.poll();
+                    selected.add(version);
+                }
+            }
+        } finally {
+            readViews.remove(view);
+        }
+
+        List<TodoVersion> content = new ArrayList<>(selected);
+        content.sort(POSITION_ORDER);
+
+        return content;
+    }
+
+    /**
+     * 指定されたTo-doを除いて、指定された位置キーより後で最初の位置キーを取得する。
+     *
+     * @param position   位置キー（先頭の位置キーを取得する場合は {@code null}）
+     * @param excludedId 除外するTo-doのID
+     * @return 読み取りビューから見える位置キー（存在しない場合は {@code null}）
+     */
+    String findNextPosition(String position, UUID excludedId) {
+        String next = null;
+
+        ReadView view = openReadView();
+        try {
+            long snapshot = view.commit().number();
+            for (IndexEntry entry : index.values()) {
+                if (!entry.visibleAt(snapshot) || entry.version.id().equals(excludedId)) {
+                    continue;
+                }
+                String candidate = entry.version.position();
+                if ((position == null || candidate.compareTo(position) > 0)
+                    && (next == null || candidate.compareTo(next) < 0)) {
+                    next = candidate;
+                }
+            }
+        } finally {
+            readViews.remove(view);
+        }
+
+        return next;
+    }
+
+    /**
+     * To-doを追加する。
+     *
+     * @param id        ID
+     * @param title     タイトル
+     * @param completed 完了状態
+     * @param position  位置キー
+     * @param now       作成日時
+     * @return 追加した版
+     * @throws IllegalStateException 同じIDのTo-doが存在する場合
+     */
+    TodoVersion insert(UUID id, String title, boolean completed, String position, LocalDateTime now) {
+        commitLock.lock();
+        try {
+            return add(id, title, completed, position, now, now, commitLog);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * ログから復元したTo-doを、ログに記録せずに追加する。
+     * <p>
+     * リクエストの受け付けを開始する前に呼び出す。
+     *
+     * @param id        ID
+     * @param title     タイトル
+     * @param completed 完了状態
+     * @param position  位置キー
+     * @param createdAt 作成日時
+     * @param updatedAt 更新日時
+     * @throws IllegalStateException 同じIDのTo-doが存在する場合
+     */
+    public void restore(
+        UUID id,
+        String title,
+        boolean completed,
+        String position,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        commitLock.lock();
+        try {
+            add(id, title, completed, position, createdAt, updatedAt, TodoCommitLog.NONE);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * 現在の版の更新日時が期待値と一致する場合に限り、To-doを更新する。
+     * <p>
+     * 更新日時は版ごとに一意になるよう、現在の版より必ず後の日時にする。
+     *
+     * @param id                更新対象のTo-doのID
+     * @param expectedUpdatedAt 期待する現在の版の更新日時
+     * @param title             タイトル
+     * @param completed         完了状態
+     * @param position          位置キー
+     * @param now               更新日時
+     * @return 更新後の版（存在しないか、現在の版の更新日時が期待値と異なる場合は {@code null}）
+     */
+    TodoVersion compareAndSet(
+        UUID id,
+        LocalDateTime expectedUpdatedAt,
+        String title,
+        boolean completed,
+        String position,
+        LocalDateTime now
+    ) {
+        commitLock.lock();
+        try {
+            TodoVersion current = currentVersion(id, expectedUpdatedAt);
+            if (current == null) {
+                return null;
+            }
+
+            Commit last = lastCommit;
+            long number = last.number() + 1;
+            LocalDateTime updatedAt = now.isAfter(current.updatedAt())
+                ? now
+                : current.updatedAt().plus(1, ChronoUnit.MICROS);
+            TodoVersion version = new TodoVersion(
+                id, title, completed, position, current.createdAt(), updatedAt, number, false, current
+            );
+            commitLog.append(version);
+            rows.put(id, version);
+            index.put(IndexKey.of(version), new IndexEntry(version));
+            retireIndexEntry(current, number);
+            garbage.add(new Garbage(number, version::detachPrevious));
+
+            publish(new Commit(number, last.size()));
+            return version;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * 現在の版の更新日時が期待値と一致する場合に限り、To-doを削除する。
+     *
+     * @param id                削除対象のTo-doのID
+     * @param expectedUpdatedAt 期待する現在の版の更新日時
+     * @return 削除した場合は {@code true}
+     */
+    boolean compareAndDelete(UUID id, LocalDateTime expectedUpdatedAt) {
+        commitLock.lock();
+        try {
+            TodoVersion current = currentVersion(id, expectedUpdatedAt);
+            if (current == null) {
+                return false;
+            }
+
+            Commit last = lastCommit;
+            long number = last.number() + 1;
+            TodoVersion tombstone = new TodoVersion(
+                id,
+                current.title(),
+                current.completed(),
+                current.position(),
+                current.createdAt(),
+                current.updatedAt(),
+                number,
+                true,
+                current
+            );
+            commitLog.append(tombstone);
+            rows.put(id, tombstone);
+            retireIndexEntry(current, number);
+            garbage.add(new Garbage(number, () -> rows.remove(id, tombstone)));
+
+            publish(new Commit(number, last.size() - 1));
+            return true;
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * 最後に確定したコミットを参照する読み取りビューを開く。
+     * <p>
+     * 登録前に回収が始まったコミットより古いビューは、回収対象を参照している可能性があるため開き直す。
+     * 回収側は {@link #reclaimHorizon} を更新してから登録済みのビューを確認するため、
+     * ここで確認を通過したビューが参照する版は回収されない。
+     */
+    private ReadView openReadView() {
+        while (true) {
+            ReadView view = new ReadView(lastCommit, tickets.incrementAndGet());
+            readViews.add(view);
+            if (view.commit().number() >= reclaimHorizon) {
+                return view;
+            }
+            readViews.remove(view);
+        }
+    }
+
+    private TodoVersion add(
+        UUID id,
+        String title,
+        boolean completed,
+        String position,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        TodoCommitLog log
+    ) {
+        if (rows.containsKey(id)) {
+            throw new IllegalStateException("To-do " + id + " already exists");
+        }
+
+        Commit last = lastCommit;
+        long number = last.number() + 1;
+        TodoVersion version = new TodoVersion(
+            id, title, completed, position, createdAt, updatedAt, number, false, null
+        );
+        log.append(version);
+        rows.put(id, version);
+        index.put(IndexKey.of(version), new IndexEntry(version));
+
+        publish(new Commit(number, last.size() + 1));
+        return version;
+    }
+
+    private TodoVersion currentVersion(UUID id, LocalDateTime expectedUpdatedAt) {
+        TodoVersion current = rows.get(id);
+        if (current == null || current.deleted() || !current.updatedAt().equals(expectedUpdatedAt)) {
+            return null;
+        }
+
+        return current;
+    }
+
+    private void retireIndexEntry(TodoVersion version, long number) {
+        IndexKey key = IndexKey.of(version);
+        IndexEntry entry = index.get(key);
+        entry.removedAt = number;
+        garbage.add(new Garbage(number, () -> index.remove(key, entry)));
+    }
+
+    /**
+     * コミットを公開し、どの読み取りビューからも参照されなくなった項目を回収する。
+     */
+    private void publish(Commit commit) {
+        lastCommit = commit;
+
+        reclaimHorizon = commit.number();
+        Iterator<ReadView> views = readViews.iterator();
+        long horizon = views.hasNext()
+            ? Math.min(commit.number(), views.next().commit().number())
+            : commit.number();
+
+        while (!garbage.isEmpty() && garbage.peekFirst().retiredAt() <= horizon) {
+            garbage.pollFirst().reclaim().run();
+        }
+    }
+
+    private static List<TodoVersion> scan(
+        Iterator<IndexEntry> entries,
+        long snapshot,
+        TodoListFilter filter,
+        long offset,
+        int limit
+    ) {
+        List<TodoVersion> content = new ArrayList<>(Math.min(limit, 64));
+        long skipped = 0;
+        while (content.size() < limit && entries.hasNext()) {
+            IndexEntry entry = entries.next();
+            if (!entry.visibleAt(snapshot) || !matches(entry.version, filter)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                content.add(entry.version);
+            }
+        }
+
+        return content;
+    }
+
+    private static long count(Iterator<IndexEntry> entries, long snapshot, TodoListFilter filter) {
+        long count = 0;
+        while (entries.hasNext()) {
+            IndexEntry entry = entries.next();
+            if (entry.visibleAt(snapshot) && matches(entry.version, filter)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static boolean matches(TodoVersion version, TodoListFilter filter) {
+        return filter.isEmpty() || filter.matches(version.completed(), version.createdAt());
+    }
+
+    private static boolean isAfter(TodoVersion version, String position, UUID id) {
+        int compared = version.position().compareTo(position);
+
+        return compared > 0 || compared == 0 && version.id().compareTo(id) > 0;
+    }
+
+    private static Comparator<TodoVersion> comparator(Sort sort) {
+        Comparator<TodoVersion> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<TodoVersion> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(TodoVersion::id);
+                case "title" -> Comparator.comparing(TodoVersion::title);
+                case "completed" -> Comparator.comparing(TodoVersion::completed);
+                case "position" -> Comparator.comparing(TodoVersion::position);
+                case "createdAt" -> Comparator.comparing(TodoVersion::createdAt);
+                case "updatedAt" -> Comparator.comparing(TodoVersion::updatedAt);
+                default -> throw new IllegalArgumentException(
+                    "Unsupported sort property: " + order.getProperty()
+                );
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        return comparator;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todoapp.todo.repository.memory;
+
+/**
+ * {@link MvccTodoStore} のコミットを確定する前に版を記録するログ
+ * <p>
+ * コミット用のロックを保持したまま呼び出されるため、記録の順序はコミットの順序と一致する。
+ * 例外を送出した場合、そのコミットはストアに反映されない。
+ */
+@FunctionalInterface
+public interface TodoCommitLog {
+
+    /** 何も記録しないログ */
+    TodoCommitLog NONE = version -> {};
+
+    /**
+     * 版を記録する。
+     *
+     * @param version 記録する版（削除の場合は {@link TodoVersion#deleted()} が {@code true}）
+     */
+    void append(TodoVersion version);
+}
@@ -0,0 +1,122 @@
+package com.example.todoapp.todo.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * {@link MvccTodoStore} が保持するTo-doの版
+ * <p>
+ * 版の内容は不変で、同じTo-doのひとつ前の版への参照を持つ。
+ * 削除は {@code deleted} の版（削除済みの印）として記録する。
+ * ひとつ前の版への参照は、どの読み取りビューからも参照されなくなった時点で切り離す。
+ */
+public final class TodoVersion {
+
+    private final UUID id;
+    private final String title;
+    private final boolean completed;
+    private final String position;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    /** この版を確定したコミットの番号 */
+    private final long commit;
+
+    /** 削除済みの印か */
+    private final boolean deleted;
+
+    /** ひとつ前の版（切り離し済みの場合は {@code null}） */
+    private volatile TodoVersion previous;
+
+    TodoVersion(
+        UUID id,
+        String title,
+        boolean completed,
+        String position,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long commit,
+        boolean deleted,
+        TodoVersion previous
+    ) {
+        this.id = id;
+        this.title = title;
+        this.completed = completed;
+        this.position = position;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.commit = commit;
+        this.deleted = deleted;
+        this.previous = previous;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public boolean completed() {
+        return completed;
+    }
+
+    public String position() {
+        return position;
+    }
+
+    public LocalDateTime createdAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime updatedAt() {
+        return updatedAt;
+    }
+
+    long commit() {
+        return commit;
+    }
+
+    public boolean deleted() {
+        return deleted;
+    }
+
+    /**
+     * 指定されたコミット時点で見える版を返す。
+     *
+     * @param snapshot 読み取りビューのコミットの番号
+     * @return 見える版（その時点で存在しないか削除済みの場合は {@code null}）
+     */
+    TodoVersion visibleAt(long snapshot) {
+        TodoVersion version = this;
+        while (version != null && version.commit > snapshot) {
+            version = version.previous;
+        }
+
+        return version == null || version.deleted ? null : version;
+    }
+
+    /**
+     * この版より前の版を切り離す。
+     */
+    void detachPrevious() {
+        previous = null;
+    }
+
+    /**
+     * この版の内容を持つ {@link TodoEntity} を生成する。
+     *
+     * @return {@link TodoEntity}
+     */
+    TodoEntity toEntity() {
+        TodoEntity entity = new TodoEntity(title, completed);
+        entity.setId(id);
+        entity.setPosition(position);
+        entity.restoreAuditInfo(createdAt, updatedAt);
+
+        return entity;
+    }
+}
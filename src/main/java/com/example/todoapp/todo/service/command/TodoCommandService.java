@@ -7,10 +7,14 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
 import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.etag.exception.ETagMismatchException;
 import com.example.todoapp.etag.factory.ETagGenerator;
 import com.example.todoapp.etag.validation.ETagValidator;
+import com.example.todoapp.todo.dto.TodoMoveRequest;
 import com.example.todoapp.todo.dto.TodoRequest;
 import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
+import com.example.todoapp.todo.exception.TodoFieldValidationException;
 import com.example.todoapp.todo.model.TodoEntity;
 import com.example.todoapp.todo.repository.TodoRepository;
 import com.example.todoapp.todo.service.factory.TodoFactory;
@@ -24,6 +28,9 @@ import com.example.todoapp.todo.service.mapper.TodoMapper;
 @RequiredArgsConstructor
 public class TodoCommandService {
 
+    /** 前後の位置キーが変わっていた場合に移動を試行する回数 */
+    private static final int MAX_MOVE_ATTEMPTS = 5;
+
     private final TodoFactory todoFactory;
     private final TodoFinder todoFinder;
     private final TodoRepository todoRepository;
@@ -74,6 +81,61 @@ public class TodoCommandService {
         );
     }
 
+    /**
+     * To-doを手動の並び順で移動し、{@link TodoResponse} を含む {@link ETagResponse} を返す。
+     * <p>
+     * 移動先の前後の位置キーの間に新しい位置キーを割り当てるため、書き換えるのは移動するTo-doのみ。
+     * 前後の位置キーが読み込んだ後に割り当て直し・移動で変わっていた場合は、読み直して再試行する。
+     *
+     * @param id      移動対象のTo-doのID
+     * @param request 移動の {@link TodoMoveRequest}
+     * @param ifMatch If-MatchヘッダのETag文字列値
+     * @return 移動結果の {@link TodoResponse} を含む {@link ETagResponse}
+     * @throws TodoEntityNotFoundException  移動対象または直前に並べるTo-doが存在しない場合
+     * @throws TodoFieldValidationException 直前に並べるTo-doが移動対象自身の場合
+     * @throws ETagMismatchException        取得後に他のリクエストが更新した場合、または前後の位置キーが変わり続けた場合
+     */
+    public ETagResponse<TodoResponse> moveTodo(
+        UUID id,
+        TodoMoveRequest request,
+        String ifMatch
+    ) {
+        TodoEntity existing = todoFinder.getTodoByIdOrThrow(id);
+        eTagValidator.assertETagEqualsExpected(
+            ifMatch,
+            eTagGenerator.generate(existing)
+        );
+
+        UUID after = request.after();
+        if (id.equals(after)) {
+            throw new TodoFieldValidationException(
+                "after",
+                after.toString(),
+                "must not be the moved to-do itself"
+            );
+        }
+        for (int attempt = 1; ; attempt++) {
+            String lower = after == null ? null : todoFinder.getTodoByIdOrThrow(after).getPosition();
+            String upper = after == null
+                ? todoRepository.findFirstPosition(id).orElse(null)
+                : todoRepository.findNextPosition(lower, id).orElse(null);
+            TodoEntity moved = todoFactory.applyMove(existing, lower, upper);
+            if (todoRepository.move(moved, lower, upper)) {
+                return new ETagResponse<TodoResponse>(
+                    todoMapper.toResponse(moved),
+                    eTagGenerator.generate(moved)
+                );
+            }
+            if (attempt == MAX_MOVE_ATTEMPTS) {
+                // 前後の位置キーが割り当て直しなどで変わり続けた場合は、競合として再試行を促す
+                throw new ETagMismatchException(
+                    eTagGenerator.generate(existing),
+                    eTagGenerator.generate(todoFinder.getTodoByIdOrThrow(id))
+                );
+            }
+        }
+    }
+
     /**
      * 指定されたIDのTo-doを削除する。
      *
@@ -6,6 +6,8 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+import com.example.todoapp.common.order.FractionalIndex;
+import com.example.todoapp.common.order.TailKeyGenerator;
 import com.example.todoapp.todo.dto.TodoRequest;
 import com.example.todoapp.todo.model.TodoEntity;
 import com.example.todoapp.todo.service.factory.normalize.TitleNormalizer;
@@ -21,14 +23,18 @@ public class TodoFactory {
 
     /**
      * {@link TodoRequest} から {@link TodoEntity} を作成する。
+     * <p>
+     * 手動の並び順では末尾に並べる。
      *
      * @param request {@link TodoEntity} 作成の {@link TodoRequest}
      * @return 作成結果の {@link TodoEntity}
      */
     public TodoEntity createNew (TodoRequest request) {
         String title = titleNormalizer.normalize(request.title());
+        TodoEntity todo = new TodoEntity(title);
+        todo.setPosition(TailKeyGenerator.next());
 
-        return new TodoEntity(title);
+        return todo;
     }
 
     /**
@@ -48,4 +54,24 @@ public class TodoFactory {
 
         return existing;
     }
+
+    /**
+     * {@link TodoEntity} を2つの位置キーの間に移動する。
+     * <p>
+     * 末尾に移動する場合は、その後に作成されるTo-doより前に並ぶよう、現在時刻の末尾の位置キーを上限にする。
+     *
+     * @param existing 移動対象の {@link TodoEntity}
+     * @param lower    移動先の直前の位置キー（先頭に移動する場合は {@code null}）
+     * @param upper    移動先の直後の位置キー（末尾に移動する場合は {@code null}）
+     * @return 移動結果の {@link TodoEntity}
+     */
+    public TodoEntity applyMove(TodoEntity existing, String lower, String upper) {
+        if (upper == null) {
+            String tail = TailKeyGenerator.next();
+            upper = lower == null || lower.compareTo(tail) < 0 ? tail : null;
+        }
+        existing.setPosition(FractionalIndex.between(lower, upper));
+
+        return existing;
+    }
 }
@@ -4,12 +4,16 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+import com.example.todoapp.common.validation.TrimmedText;
 import com.example.todoapp.config.TodoProperties;
 import com.example.todoapp.todo.dto.TodoRequest;
 import com.example.todoapp.todo.service.factory.validation.TodoValidator;
 
 /**
  * {@link TodoRequest#title} の正規化を行うクラス
+ * <p>
+ * 前後の空白の除去・空白のみの判定・文字数の計測を {@link TrimmedText} による1回の走査で行い、
+ * 前後に空白がない場合は同じ文字列をそのまま返す。
  */
 @Component
 @RequiredArgsConstructor
@@ -29,14 +33,15 @@ public class TitleNormalizer {
      */
     public String normalize(String title) {
         todoValidator.assertNotNull(FIELD_NAME, title);
-        String trimmed = title.trim();
-        todoValidator.assertNotBlank(FIELD_NAME, trimmed);
+        long range = TrimmedText.scan(title);
+        todoValidator.assertNotBlank(FIELD_NAME, title, range);
         todoValidator.assertMaxLength(
             FIELD_NAME,
-            trimmed,
+            title,
+            range,
             todoProperties.getTitleMaxLength()
         );
 
-        return trimmed;
+        return TrimmedText.substring(title, range);
     }
 }
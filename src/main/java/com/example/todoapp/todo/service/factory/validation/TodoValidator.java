@@ -2,66 +2,78 @@ package com.example.todoapp.todo.service.factory.validation;
 
 import org.springframework.stereotype.Component;
 
+import com.example.todoapp.common.error.MessageTemplate;
+import com.example.todoapp.common.validation.TrimmedText;
 import com.example.todoapp.todo.dto.TodoRequest;
 import com.example.todoapp.todo.exception.TodoFieldValidationException;
 
 /**
  * {@link TodoRequest} のフィールドを検証するバリデータクラス
+ * <p>
+ * 例外の理由は検証に失敗した場合にだけ、事前に解析した {@link MessageTemplate} から組み立てる。
  */
 @Component
 public class TodoValidator {
 
+    private static final MessageTemplate NOT_NULL_REASON =
+        MessageTemplate.parse("Field '%s' must not be null.");
+
+    private static final MessageTemplate NOT_BLANK_REASON =
+        MessageTemplate.parse("Field '%s' must not be blank.");
+
+    private static final MessageTemplate MAX_LENGTH_REASON =
+        MessageTemplate.parse("Field '%s' must not exceed %s characters.");
+
     /**
      * {@link TodoRequest} のフィールドが {@code null} ではないことを検証する。
      *
      * @param field      検証対象のフィールド名
      * @param fieldValue 検証対象のフィールドの値
-     * @return
      * @throws TodoFieldValidationException {@link TodoRequest} のフィールドの検証に失敗した場合
      */
     public void assertNotNull(String field, String fieldValue) {
         if (fieldValue == null) {
             throw new TodoFieldValidationException(
                 field,
-                fieldValue,
-                "Field '%s' must not be null.".formatted(field)
+                null,
+                NOT_NULL_REASON.format(field)
             );
         }
     }
 
     /**
-     * {@link TodoRequest} のフィールドが {@code blank} ではないことを検証する。
+     * {@link TodoRequest} のフィールドの前後の空白を除いた範囲が {@code blank} ではないことを検証する。
      *
      * @param field      検証対象のフィールド名
      * @param fieldValue 検証対象のフィールドの値
-     * @return
+     * @param range      {@link TrimmedText#scan} で求めた範囲
      * @throws TodoFieldValidationException {@link TodoRequest} のフィールドの検証に失敗した場合
      */
-    public void assertNotBlank(String field, String fieldValue) {
-        if (fieldValue.isBlank()) {
+    public void assertNotBlank(String field, String fieldValue, long range) {
+        if (range == TrimmedText.BLANK) {
             throw new TodoFieldValidationException(
                 field,
-                fieldValue,
-                "Field '%s' must not be blank.".formatted(field)
+                fieldValue.trim(),
+                NOT_BLANK_REASON.format(field)
             );
         }
     }
 
     /**
-     * {@link TodoRequest} のフィールドが最大文字数を超えないことを検証する。
+     * {@link TodoRequest} のフィールドの前後の空白を除いた範囲が最大文字数を超えないことを検証する。
      *
      * @param field      検証対象のフィールド名
      * @param fieldValue 検証対象のフィールドの値
+     * @param range      {@link TrimmedText#scan} で求めた範囲（{@link TrimmedText#BLANK} 以外）
      * @param maxLength  最大文字数
-     * @return
      * @throws TodoFieldValidationException {@link TodoRequest} のフィールドの検証に失敗した場合
      */
-    public void assertMaxLength(String field, String fieldValue, int maxLength) {
-        if (fieldValue.length() > maxLength) {
+    public void assertMaxLength(String field, String fieldValue, long range, int maxLength) {
+        if (TrimmedText.length(range) > maxLength) {
             throw new TodoFieldValidationException(
                 field,
-                fieldValue,
-                "Field '%s' must not exceed %d characters.".formatted(field, maxLength)
+                TrimmedText.substring(fieldValue, range),
+                MAX_LENGTH_REASON.format(field, maxLength)
             );
         }
     }
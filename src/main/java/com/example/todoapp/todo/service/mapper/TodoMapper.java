@@ -30,6 +30,7 @@ public interface TodoMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "title", source = "title")
     @Mapping(target = "completed", source = "completed")
+    @Mapping(target = "position", ignore = true)
     TodoEntity toEntity(TodoRequest request);
 
     /**
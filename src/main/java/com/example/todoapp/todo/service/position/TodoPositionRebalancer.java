@@ -0,0 +1,214 @@
+package com.example.todoapp.todo.service.position;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+
+import com.example.todoapp.common.order.FractionalIndex;
+import com.example.todoapp.common.order.TailKeyGenerator;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.JpaTodoRepository;
+import com.example.todoapp.todo.repository.TodoPositionRow;
+
+/**
+ * 長くなった位置キーを定期的に短く割り当て直すクラス
+ * <p>
+ * 同じ場所への移動が続くと位置キーが長くなるため、上限を超えたキーを含む区間を、
+ * その前後で目標の長さ以下のキーを持つ行を境界として、区間内に均等に割り当て直す。
+ * 区間の外の行と、区間内の行どうしの並び順は変わらない。
+ * <p>
+ * 区間ごとに1つのトランザクションで、境界と区間内の行をロック（{@code SELECT ... FOR UPDATE}）してから
+ * まとめて書き換えるため、並行する移動は割り当て直しの前後どちらかの位置キーの間に割り当てられる。
+ * 境界の行がロックまでの間に移動・削除された場合と、ロックを待つ間に区間へ他の行が移動された場合は、その区間を次回に持ち越す。
+ * 一括更新のため、更新日時とETagは変わらない。
+ * <p>
+ * 1つのトランザクションでロックする区間の行は {@code batchSize} 件＋1件までとする。
+ * 区間の行がそれを超える場合は、間に短い位置キーを生成できる（余裕のある）側の端から {@code batchSize} 件だけを、
+ * その次の行を境界として割り当て直し、残りは次の区間または次回に持ち越す。
+ * 区間の行が {@code batchSize} の数倍を超えると、端から割り当て直してもキーが短くならず、長いまま残ることがある。
+ */
+public class TodoPositionRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(
+        TodoPositionRebalancer.class
+    );
+
+    private final JpaTodoRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxKeyLength;
+    private final int targetKeyLength;
+    private final int batchSize;
+    private final Counter rebalancedCounter;
+
+    /**
+     * 区間の割り当て直しの結果
+     *
+     * @param count 割り当て直した行の数
+     * @param upper 割り当て直した範囲の上限（{@code null} の場合は末尾まで）
+     */
+    private record Rebalanced(int count, String upper) {}
+
+    /**
+     * 割り当て直しを行うクラスを生成する。
+     *
+     * @param repository          {@link JpaTodoRepository}
+     * @param transactionTemplate 区間ごとのトランザクションを開始する {@link TransactionTemplate}
+     * @param maxKeyLength        割り当て直しの対象とする位置キーの長さ（この長さを超えるキー）
+     * @param targetKeyLength     区間の境界とする位置キーの長さの上限
+     * @param batchSize           1回に対象とする位置キーの数と、1つの区間で割り当て直す行の数の上限
+     * @param rebalancedCounter   割り当て直した行の数を記録する {@link Counter}
+     */
+    public TodoPositionRebalancer(
+        JpaTodoRepository repository,
+        TransactionTemplate transactionTemplate,
+        int maxKeyLength,
+        int targetKeyLength,
+        int batchSize,
+        Counter rebalancedCounter
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxKeyLength = maxKeyLength;
+        this.targetKeyLength = targetKeyLength;
+        this.batchSize = batchSize;
+        this.rebalancedCounter = rebalancedCounter;
+    }
+
+    /**
+     * 上限を超えた位置キーを含む区間を割り当て直す。
+     *
+     * @return 割り当て直した行の数
+     */
+    @Scheduled(fixedDelayString = "${app.position.rebalance-interval:PT1M}")
+    public int rebalance() {
+        List<TodoPositionRow> longRows = repository.findLongPositions(maxKeyLength, Limit.of(batchSize));
+
+        int rebalanced = 0;
+        String covered = null;
+        for (TodoPositionRow row : longRows) {
+            // 直前に割り当て直した範囲に含まれていた行は対象外
+            if (covered != null && row.position().compareTo(covered) <= 0) {
+                continue;
+            }
+
+            String lower = repository.findShortPositionBefore(row.position(), targetKeyLength).orElse(null);
+            if (covered != null && (lower == null || lower.compareTo(covered) < 0)) {
+                // 直前の区間を途中まで割り当て直した場合は、その続きから割り当て直す
+                lower = covered;
+            }
+            String upper = repository.findShortPositionAfter(row.position(), targetKeyLength).orElse(null);
+            Rebalanced result = rebalance(lower, upper);
+            rebalanced += result.count();
+
+            if (result.upper() == null) {
+                break;
+            }
+            covered = result.upper();
+        }
+
+        if (rebalanced > 0) {
+            rebalancedCounter.increment(rebalanced);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Rebalanced {} to-do positions.", rebalanced);
+            }
+        }
+
+        return rebalanced;
+    }
+
+
+    private Rebalanced rebalance(String lower, String upper) {
+        Rebalanced rebalanced = transactionTemplate.execute(status -> {
+            // 境界の行を先にロックし、並行する移動が前後に使用している位置キーを書き換えない
+            List<String> bounds = Stream.of(lower, upper).filter(Objects::nonNull).toList();
+            if (!bounds.isEmpty()) {
+                List<String> locked = repository.lockByPositions(bounds).stream()
+                    .map(TodoEntity::getPosition)
+                    .toList();
+                if (!locked.containsAll(bounds)) {
+                    return new Rebalanced(0, upper);
+                }
+            }
+
+            // 区間の行が上限の件数を超える場合に備え、余裕のある側の端から上限の件数＋1行だけをロックする
+            Limit limit = Limit.of(batchSize + 1);
+            boolean fromUpper = hasMoreRoomAtUpper(lower, upper);
+            List<UUID> ids = (fromUpper
+                ? repository.lockLastPositionsBetween(lower, upper, limit)
+                : repository.lockPositionsBetween(lower, upper, limit)
+            ).stream()
+                .map(TodoEntity::getId)
+                .toList();
+            if (ids.isEmpty()) {
+                return new Rebalanced(0, upper);
+            }
+
+            // ロックを待つ間に書き換えられた位置キーを反映するため、ロックした行だけを読み直す
+            List<TodoPositionRow> rows = repository.findPositionRows(ids);
+            String from = lower;
+            String to = upper;
+            if (rows.size() > batchSize) {
+                // 上限の件数を超えた1行は書き換えず、割り当て直す範囲の境界にする
+                if (fromUpper) {
+                    from = rows.get(0).position();
+                    rows = rows.subList(1, rows.size());
+                } else {
+                    to = rows.get(batchSize).position();
+                    rows = rows.subList(0, batchSize);
+                }
+            }
+
+            // ロックを待つ間に他の行が範囲へ移動されていた場合は、並び順を崩さないよう次回に持ち越す
+            if (repository.countPositionsBetween(from, to) != rows.size()) {
+                return new Rebalanced(0, upper);
+            }
+
+            String spreadUpper = to;
+            if (spreadUpper == null) {
+                // 末尾の区間は、その後に作成されるTo-doより前に並ぶ範囲に割り当てる
+                String tail = TailKeyGenerator.next();
+                spreadUpper = from == null || from.compareTo(tail) < 0 ? tail : null;
+            }
+            List<String> positions = FractionalIndex.spread(from, spreadUpper, rows.size());
+
+            Map<UUID, String> changed = new LinkedHashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                if (!positions.get(i).equals(rows.get(i).position())) {
+                    changed.put(rows.get(i).id(), positions.get(i));
+                }
+            }
+
+            return new Rebalanced(changed.isEmpty() ? 0 : repository.updatePositions(changed), to);
+        });
+
+        return rebalanced == null ? new Rebalanced(0, upper) : rebalanced;
+    }
+
+    /**
+     * 区間の末尾の側の端が、先頭の側の端より境界との間に短い位置キーを生成できるかを判定する。
+     * <p>
+     * 同じ場所への移動が続いた区間では、挿入を繰り返した側の端と境界の間に短い位置キーが残らないため、
+     * 反対の側の端から割り当て直す。
+     */
+    private boolean hasMoreRoomAtUpper(String lower, String upper) {
+        String first = repository.findFirstPositionBetween(lower, upper).orElse(null);
+        String last = repository.findLastPositionBetween(lower, upper).orElse(null);
+        if (first == null || last == null) {
+            return false;
+        }
+
+        return FractionalIndex.between(last, upper).length() < FractionalIndex.between(lower, first).length();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.todoapp.todo.service.query;
+
+import java.util.UUID;
+
+import com.example.todoapp.replica.DataSourceRole;
+
+/**
+ * To-doの取得のパラメータ
+ *
+ * @param id   取得対象のTo-doのID
+ * @param role 接続先データソースの役割（振り分けが無効の場合は {@code null}）
+ */
+public record TodoIdKey(UUID id, DataSourceRole role) {}
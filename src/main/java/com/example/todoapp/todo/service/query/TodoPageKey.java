@@ -0,0 +1,21 @@
+package com.example.todoapp.todo.service.query;
+
+import com.example.todoapp.replica.DataSourceRole;
+import com.example.todoapp.todo.repository.TodoListFilter;
+
+/**
+ * To-doの一覧取得のパラメータ
+ *
+ * @param page    ページ番号
+ * @param size    表示件数
+ * @param sortKey 並び順
+ * @param filter  絞り込み条件
+ * @param role    接続先データソースの役割（振り分けが無効の場合は {@code null}）
+ */
+public record TodoPageKey(
+    int page,
+    int size,
+    TodoSortKey sortKey,
+    TodoListFilter filter,
+    DataSourceRole role
+) {}
@@ -0,0 +1,61 @@
+package com.example.todoapp.todo.service.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.example.todoapp.common.order.FractionalIndex;
+import com.example.todoapp.todo.model.TodoEntity;
+
+/**
+ * 手動の並び順の一覧取得のカーソル
+ * <p>
+ * ページの最後の行の位置キーとIDを {@code position.id} の形式でBase64URL（パディングなし）に符号化する。
+ * クエリパラメータからは {@link #valueOf} で変換する。
+ *
+ * @param position 直前の行の位置キー
+ * @param id       直前の行のID
+ */
+public record TodoPositionCursor(String position, UUID id) {
+
+    private static final char SEPARATOR = '.';
+
+    /**
+     * 指定された {@link TodoEntity} の直後から取得するカーソルを生成する。
+     *
+     * @param todo ページの最後の {@link TodoEntity}
+     * @return {@link TodoPositionCursor}
+     */
+    public static TodoPositionCursor after(TodoEntity todo) {
+        return new TodoPositionCursor(todo.getPosition(), todo.getId());
+    }
+
+    /**
+     * 符号化されたカーソルを復号する。
+     *
+     * @param value 符号化されたカーソル
+     * @return {@link TodoPositionCursor}
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    public static TodoPositionCursor valueOf(String value) {
+        String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        int separator = decoded.lastIndexOf(SEPARATOR);
+        String position = separator < 0 ? null : decoded.substring(0, separator);
+        if (!FractionalIndex.isValid(position)) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+
+        return new TodoPositionCursor(position, UUID.fromString(decoded.substring(separator + 1)));
+    }
+
+    /**
+     * カーソルを符号化する。
+     *
+     * @return 符号化されたカーソル
+     */
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((position + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,24 +1,35 @@
 package com.example.todoapp.todo.service.query;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.flight.SingleFlight;
 import com.example.todoapp.etag.dto.ETagResponse;
 import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.replica.ConsistencyToken;
+import com.example.todoapp.replica.DataSourceRoutingContext;
 import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.exception.TodoFieldValidationException;
 import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoListFilter;
 import com.example.todoapp.todo.repository.TodoRepository;
 import com.example.todoapp.todo.service.finder.TodoFinder;
 import com.example.todoapp.todo.service.mapper.TodoMapper;
 
 /**
  * Query操作のビジネスロジックを提供するサービスクラス
+ * <p>
+ * 同じIDの取得と同じパラメータの一覧取得が同時に行われた場合は、{@link SingleFlight} で
+ * 実行中の1回の取得結果を共有する。プライマリとレプリカの取得結果は共有しない。
+ * リクエストに整合性トークンがある場合は、トークンの書き込みより後に開始した取得結果だけを共有する。
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +39,8 @@ public class TodoQueryService {
     private final TodoRepository todoRepository;
     private final TodoMapper todoMapper;
     private final ETagGenerator<TodoEntity> eTagGenerator;
+    private final SingleFlight<TodoIdKey, ETagResponse<TodoResponse>> todoSingleFlight;
+    private final SingleFlight<TodoPageKey, Page<ETagResponse<TodoResponse>>> todoPageSingleFlight;
 
     /**
      * 指定されたIDの {@link TodoResponse} を含む {@link ETagResponse} を取得する。
@@ -36,6 +49,81 @@ public class TodoQueryService {
      * @return 取得結果の {@link TodoResponse} を含む {@link ETagResponse}
      */
     public ETagResponse<TodoResponse> getTodo(UUID id) {
+        return todoSingleFlight.execute(
+            new TodoIdKey(id, DataSourceRoutingContext.current()),
+            notBefore(),
+            () -> loadTodo(id)
+        );
+    }
+
+    /**
+     * 絞り込み条件に一致する {@link TodoResponse} の {@link Page} を取得する。
+     *
+     * @param page    ページ番号
+     * @param size    表示件数
+     * @param sortKey 並び順
+     * @param filter  絞り込み条件
+     * @return 取得結果の {@link TodoResponse} の {@link Page}
+     * @throws TodoFieldValidationException 並び順と絞り込み条件の組み合わせに対応していない場合
+     */
+    public Page<ETagResponse<TodoResponse>> getTodoPage(
+        int page,
+        int size,
+        TodoSortKey sortKey,
+        TodoListFilter filter
+    ) {
+        if (!sortKey.supports(filter)) {
+            boolean after = filter.createdAfter() != null;
+            throw new TodoFieldValidationException(
+                after ? "createdAfter" : "createdBefore",
+                String.valueOf(after ? filter.createdAfter() : filter.createdBefore()),
+                "requires sort=" + TodoSortKey.CREATED_AT.parameter()
+            );
+        }
+
+        return todoPageSingleFlight.execute(
+            new TodoPageKey(page, size, sortKey, filter, DataSourceRoutingContext.current()),
+            notBefore(),
+            () -> loadTodoPage(page, size, sortKey, filter)
+        );
+    }
+
+    /**
+     * 手動の並び順（位置キー・IDの昇順）の {@link TodoResponse} の {@link CursorPageResponse} を取得する。
+     * <p>
+     * 表示件数より1件多く取得して次のページの有無を判定し、総件数は数えない。
+     *
+     * @param cursor 前のページのカーソル（先頭から取得する場合は {@code null}）
+     * @param size   表示件数
+     * @return 取得結果の {@link TodoResponse} の {@link CursorPageResponse}
+     */
+    public CursorPageResponse<ETagResponse<TodoResponse>> getTodoPositionPage(
+        TodoPositionCursor cursor,
+        int size
+    ) {
+        Limit limit = Limit.of(size + 1);
+        List<TodoEntity> todos = cursor == null
+            ? todoRepository.findPositionPage(limit)
+            : todoRepository.findPositionPageAfter(cursor.position(), cursor.id(), limit);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoEntity> page = hasNext ? todos.subList(0, size) : todos;
+        List<ETagResponse<TodoResponse>> content = page.stream()
+            .map(todo -> new ETagResponse<TodoResponse>(
+                todoMapper.toResponse(todo),
+                eTagGenerator.generate(todo)
+            ))
+            .toList();
+        String nextCursor = hasNext ? TodoPositionCursor.after(page.get(size - 1)).encode() : null;
+
+        return new CursorPageResponse<>(content, size, nextCursor);
+    }
+
+    private static long notBefore() {
+        return ConsistencyToken.fromCurrentRequest().orElse(Long.MIN_VALUE);
+    }
+
+    private ETagResponse<TodoResponse> loadTodo(UUID id) {
         TodoEntity todo = todoFinder.getTodoByIdOrThrow(id);
 
         return new ETagResponse<TodoResponse>(
@@ -44,16 +132,15 @@ public class TodoQueryService {
         );
     }
 
-    /**
-     * {@link TodoResponse} の {@link Page} を取得する。
-     *
-     * @param page ページ番号
-     * @param size 表示件数
-     * @return 取得結果の {@link TodoResponse} の {@link Page}
-     */
-    public Page<ETagResponse<TodoResponse>> getTodoPage(int page, int size) {
+    private Page<ETagResponse<TodoResponse>> loadTodoPage(
+        int page,
+        int size,
+        TodoSortKey sortKey,
+        TodoListFilter filter
+    ) {
         Page<TodoEntity> todoPage = todoRepository.findAll(
-            PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updatedAt"))
+            filter,
+            PageRequest.of(page, size, sortKey.sort())
         );
 
         return todoPage.map(todo -> {
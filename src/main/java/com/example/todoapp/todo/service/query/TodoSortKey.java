@@ -0,0 +1,83 @@
+package com.example.todoapp.todo.service.query;
+
+import org.springframework.data.domain.Sort;
+
+import com.example.todoapp.todo.repository.TodoListFilter;
+
+/**
+ * To-doの一覧取得で指定できる並び順
+ * <p>
+ * 並び順ごとに {@code (項目, id)} のインデックス（完了状態で絞り込む場合はその部分インデックス）を用意しており、
+ * インデックスで処理できる絞り込み条件との組み合わせだけを受け付ける。
+ */
+public enum TodoSortKey {
+
+    /** 更新日時の降順（デフォルト） */
+    UPDATED_AT("updatedAt", Sort.Direction.DESC, false),
+
+    /** 作成日時の昇順（作成日時の範囲で絞り込める） */
+    CREATED_AT("createdAt", Sort.Direction.ASC, true),
+
+    /** タイトルの昇順 */
+    TITLE("title", Sort.Direction.ASC, false);
+
+    /** クエリパラメータ {@code sort} に指定できる値の正規表現 */
+    public static final String PARAMETER_PATTERN = "updatedAt|createdAt|title";
+
+    private final String parameter;
+    private final Sort sort;
+    private final boolean createdRangeSupported;
+
+    TodoSortKey(String parameter, Sort.Direction direction, boolean createdRangeSupported) {
+        this.parameter = parameter;
+        this.sort = Sort.by(direction, parameter, "id");
+        this.createdRangeSupported = createdRangeSupported;
+    }
+
+    /**
+     * クエリパラメータの値に対応する並び順を返す。
+     *
+     * @param parameter クエリパラメータ {@code sort} の値
+     * @return {@link TodoSortKey}
+     * @throws IllegalArgumentException 対応する並び順がない場合
+     */
+    public static TodoSortKey fromParameter(String parameter) {
+        for (TodoSortKey key : values()) {
+            if (key.parameter.equals(parameter)) {
+                return key;
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported sort: " + parameter);
+    }
+
+    /**
+     * クエリパラメータ {@code sort} の値を返す。
+     *
+     * @return クエリパラメータの値
+     */
+    public String parameter() {
+        return parameter;
+    }
+
+    /**
+     * 並び順（同じ値の場合はIDで順序を確定する）を返す。
+     *
+     * @return {@link Sort}
+     */
+    public Sort sort() {
+        return sort;
+    }
+
+    /**
+     * 指定された絞り込み条件をインデックスで処理できるかを判定する。
+     * <p>
+     * 作成日時の範囲は、作成日時の並び順の場合だけ指定できる。
+     *
+     * @param filter 絞り込み条件
+     * @return 処理できる場合は {@code true}
+     */
+    public boolean supports(TodoListFilter filter) {
+        return createdRangeSupported || !filter.hasCreatedRange();
+    }
+}
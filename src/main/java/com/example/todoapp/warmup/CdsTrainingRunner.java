@@ -0,0 +1,103 @@
+package com.example.todoapp.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * クラスデータ共有（CDS）アーカイブを作成するための訓練実行ランナー
+ * <p>
+ * 起動したアプリケーション自身の {@code /api/todos} に対してHTTPで作成・取得・一覧取得・更新・削除を繰り返し、
+ * Tomcat・Spring MVC・Jackson・Hibernateのリクエスト処理で使用するクラスを読み込ませた後にJVMを終了する。
+ * {@code -XX:ArchiveClassesAtExit} と組み合わせると、終了時に読み込まれたクラスがアーカイブに出力される。
+ */
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdsTrainingRunner.class);
+
+    private static final String BASE_URL = "/api/todos";
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final int iterations;
+
+    /**
+     * ランナーを生成する。
+     *
+     * @param applicationContext 終了させる {@link ConfigurableApplicationContext}
+     * @param iterations         操作の繰り返し回数
+     */
+    public CdsTrainingRunner(ConfigurableApplicationContext applicationContext, int iterations) {
+        this.applicationContext = applicationContext;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String port = applicationContext.getEnvironment().getProperty("local.server.port");
+        RestClient client = RestClient.create("http://localhost:" + port);
+
+        for (int i = 0; i < iterations; i++) {
+            exerciseOnce(client, i);
+        }
+        logger.info("CDS training run finished ({} iterations), exiting", iterations);
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private static void exerciseOnce(RestClient client, int i) {
+        JsonNode created = client.post()
+            .uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new TodoRequest("training " + i, null))
+            .retrieve()
+            .body(JsonNode.class);
+        String id = created.get("id").asText();
+
+        ResponseEntity<JsonNode> fetched = client.get()
+            .uri(BASE_URL + "/{id}", id)
+            .retrieve()
+            .toEntity(JsonNode.class);
+
+        client.get()
+            .uri(BASE_URL + "?page=0&size=20")
+            .retrieve()
+            .toBodilessEntity();
+
+        client.put()
+            .uri(BASE_URL + "/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, fetched.getHeaders().getETag())
+            .body(new TodoRequest("training " + i, Boolean.TRUE))
+            .retrieve()
+            .toBodilessEntity();
+
+        String eTag = client.get()
+            .uri(BASE_URL + "/{id}", id)
+            .retrieve()
+            .toBodilessEntity()
+            .getHeaders()
+            .getETag();
+        client.delete()
+            .uri(BASE_URL + "/{id}", id)
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .retrieve()
+            .toBodilessEntity();
+
+        client.get()
+            .uri(BASE_URL + "/{id}", id)
+            .retrieve()
+            .onStatus(status -> status.value() == 404, (request, response) -> {})
+            .toBodilessEntity();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.todoapp.warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import jakarta.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.todoapp.common.dto.PageResponse;
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.repository.TodoListFilter;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+import com.example.todoapp.todo.service.query.TodoSortKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 起動時にトラフィックを受け付ける前にアプリケーションを暖機するランナー
+ * <p>
+ * 繰り返しごとにロールバックするトランザクションを開始して作業用のTo-doを作成・取得・更新・削除し、
+ * ETagの生成、Hibernateのクエリプラン、JSON変換、{@link TodoRequest} の検証をJITコンパイルさせる
+ * （1回の繰り返しの間だけコネクションと永続化コンテキストを保持する）。
+ * トランザクションマネージャがない永続化方式（{@code memory}/{@code log}）では作業用データを書き込まず
+ * （ロールバックできず、セグメントログには不要な記録が残るため）、読み込み・JSON変換・検証だけを繰り返す。
+ * その後、実データの先頭ページを読み込み、コネクションと読み込みキャッシュを温める。
+ * Spring Bootはすべての {@link ApplicationRunner} の完了後にReadinessを {@code ACCEPTING_TRAFFIC} にするため、
+ * 暖機が終わるまでインスタンスはReady状態にならない。
+ * 暖機に失敗しても起動は継続する。
+ */
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final TodoQueryService todoQueryService;
+    private final TodoCommandService todoCommandService;
+    private final TransactionOperations rollbackTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int iterations;
+    private final int preloadPages;
+    private final int pageSize;
+
+    /**
+     * ランナーを生成する。
+     *
+     * @param todoQueryService   {@link TodoQueryService}
+     * @param todoCommandService {@link TodoCommandService}
+     * @param rollbackTemplate   作業用データをロールバックする {@link TransactionOperations}
+     *                           （トランザクションマネージャがない場合は {@code null}）
+     * @param objectMapper       {@link ObjectMapper}
+     * @param validator          {@link Validator}
+     * @param iterations         作業用データに対する操作の繰り返し回数
+     * @param preloadPages       読み込む実データのページ数
+     * @param pageSize           1ページの件数
+     */
+    public WarmupRunner(
+        TodoQueryService todoQueryService,
+        TodoCommandService todoCommandService,
+        TransactionOperations rollbackTemplate,
+        ObjectMapper objectMapper,
+        Validator validator,
+        int iterations,
+        int preloadPages,
+        int pageSize
+    ) {
+        this.todoQueryService = todoQueryService;
+        this.todoCommandService = todoCommandService;
+        this.rollbackTemplate = rollbackTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.iterations = iterations;
+        this.preloadPages = preloadPages;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        try {
+            exercise();
+            int preloaded = preload();
+            logger.info(
+                "Warm-up finished in {} ms ({} iterations, {} to-dos preloaded)",
+                (System.nanoTime() - start) / 1_000_000,
+                iterations,
+                preloaded
+            );
+        } catch (RuntimeException ex) {
+            logger.warn("Warm-up aborted after {} ms: {}", (System.nanoTime() - start) / 1_000_000, ex.toString());
+        }
+    }
+
+    private void exercise() {
+        for (int i = 0; i < iterations; i++) {
+            int iteration = i;
+            if (rollbackTemplate == null) {
+                exerciseReads(iteration);
+                continue;
+            }
+            rollbackTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                exerciseWrites(iteration);
+            });
+        }
+    }
+
+    private void exerciseReads(int i) {
+        validator.validate(readRequest("{\"title\":\"warm-up " + i + "\"}"));
+        validator.validate(new TodoRequest(" ", null));
+
+        writeValue(PageResponse.from(todoQueryService.getTodoPage(
+            0, pageSize, TodoSortKey.UPDATED_AT, TodoListFilter.NONE
+        )));
+    }
+
+    private void exerciseWrites(int i) {
+        TodoRequest createRequest = readRequest("{\"title\":\"warm-up " + i + "\"}");
+        validator.validate(createRequest);
+        validator.validate(new TodoRequest(" ", null));
+
+        ETagResponse<TodoResponse> created = todoCommandService.createTodo(createRequest);
+        ETagResponse<TodoResponse> fetched = todoQueryService.getTodo(created.data().id());
+        writeValue(fetched.data());
+
+        todoCommandService.updateTodo(
+            created.data().id(),
+            new TodoRequest("warm-up " + i, Boolean.TRUE),
+            fetched.etag()
+        );
+        writeValue(PageResponse.from(todoQueryService.getTodoPage(
+            0, pageSize, TodoSortKey.UPDATED_AT, TodoListFilter.NONE
+        )));
+
+        todoCommandService.deleteTodo(
+            created.data().id(),
+            todoQueryService.getTodo(created.data().id()).etag()
+        );
+    }
+
+    private int preload() {
+        int preloaded = 0;
+        for (int page = 0; page < preloadPages; page++) {
+            Page<ETagResponse<TodoResponse>> todoPage = todoQueryService.getTodoPage(
+                page, pageSize, TodoSortKey.UPDATED_AT, TodoListFilter.NONE
+            );
+            for (ETagResponse<TodoResponse> todo : todoPage) {
+                todoQueryService.getTodo(todo.data().id());
+                preloaded++;
+            }
+            if (!todoPage.hasNext()) {
+                break;
+            }
+        }
+
+        return preloaded;
+    }
+
+    private TodoRequest readRequest(String json) {
+        try {
+            return objectMapper.readValue(json, TodoRequest.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeValue(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- To-do
+-- 既存の開発用データベース（ddl-auto: update で作成済み）にも適用できるよう IF NOT EXISTS を指定する
+CREATE TABLE IF NOT EXISTS todos (
+    id         UUID         NOT NULL,
+    title      VARCHAR(100) NOT NULL,
+    completed  BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_todos PRIMARY KEY (id)
+);
+
+-- 一覧取得（ORDER BY updated_at DESC, id DESC）
+CREATE INDEX IF NOT EXISTS idx_todos_updated_at_id
+    ON todos (updated_at DESC, id DESC);
+
+-- 完了状態で絞り込んだ一覧取得（H2は部分インデックスに対応しないため先頭列に完了状態を置く）
+CREATE INDEX IF NOT EXISTS idx_todos_completed_updated_at_id
+    ON todos (completed, updated_at DESC, id DESC);
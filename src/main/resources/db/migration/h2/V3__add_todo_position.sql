@@ -0,0 +1,16 @@
+-- To-doの手動の並び順の位置キー
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS position VARCHAR(255);
+
+-- 既存のTo-doは作成日時順に並べる
+-- （'01' で始まるキーは、現在時刻から生成する末尾のキー（'08' 以降）より前に並ぶ）
+MERGE INTO todos t
+USING (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS rn FROM todos) r
+    ON t.id = r.id
+WHEN MATCHED THEN
+    UPDATE SET position = '01' || LPAD(CAST(r.rn AS VARCHAR), 12, '0') || 'V';
+
+ALTER TABLE todos ALTER COLUMN position SET NOT NULL;
+
+-- 手動の並び順の一覧取得（ORDER BY position, id）
+CREATE INDEX IF NOT EXISTS idx_todos_position_id
+    ON todos (position, id);
@@ -0,0 +1,14 @@
+-- 作成日時順の一覧取得（ORDER BY created_at, id、作成日時の範囲による絞り込みを含む）
+CREATE INDEX IF NOT EXISTS idx_todos_created_at_id
+    ON todos (created_at, id);
+
+-- タイトル順の一覧取得（ORDER BY title, id）
+CREATE INDEX IF NOT EXISTS idx_todos_title_id
+    ON todos (title, id);
+
+-- 完了状態で絞り込んだ一覧取得（H2は部分インデックスに対応しないため先頭列に完了状態を置く）
+CREATE INDEX IF NOT EXISTS idx_todos_completed_created_at_id
+    ON todos (completed, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_todos_completed_title_id
+    ON todos (completed, title, id);
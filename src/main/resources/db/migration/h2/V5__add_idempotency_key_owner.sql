@@ -0,0 +1,8 @@
+-- クライアントごとの範囲を含めた冪等キー（クライアント識別子の長さ・クライアント識別子・冪等キー）
+ALTER TABLE idempotency_keys ALTER COLUMN idempotency_key SET DATA TYPE VARCHAR(512);
+
+-- 予約したリクエストの識別子（完了と予約の解除の条件）
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS owner_token VARCHAR(36);
+
+-- 再送するレスポンスの整合性トークン（X-Consistency-Token）
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS consistency_token VARCHAR(32);
@@ -0,0 +1,22 @@
+-- To-do
+CREATE TABLE todos (
+    id         UUID         NOT NULL,
+    title      VARCHAR(100) NOT NULL,
+    completed  BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_todos PRIMARY KEY (id)
+);
+
+-- 一覧取得（ORDER BY updated_at DESC, id DESC）
+CREATE INDEX idx_todos_updated_at_id
+    ON todos (updated_at DESC, id DESC);
+
+-- 完了状態で絞り込んだ一覧取得
+CREATE INDEX idx_todos_open_updated_at_id
+    ON todos (updated_at DESC, id DESC)
+    WHERE completed = FALSE;
+
+CREATE INDEX idx_todos_done_updated_at_id
+    ON todos (updated_at DESC, id DESC)
+    WHERE completed = TRUE;
@@ -0,0 +1,15 @@
+-- 冪等キー
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255)                NOT NULL,
+    fingerprint     VARCHAR(64)                 NOT NULL,
+    status          INTEGER,
+    response_body   VARCHAR(4000),
+    etag            VARCHAR(255),
+    location        VARCHAR(2048),
+    expires_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
+
+-- 期限切れの記録の削除（DELETE ... WHERE expires_at < ?）
+CREATE INDEX idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
@@ -0,0 +1,16 @@
+-- To-doの手動の並び順の位置キー
+-- 位置キーは文字コード順で比較するため、照合順序は "C" にする
+ALTER TABLE todos ADD COLUMN position VARCHAR(255) COLLATE "C";
+
+-- 既存のTo-doは作成日時順に並べる
+-- （'01' で始まるキーは、現在時刻から生成する末尾のキー（'08' 以降）より前に並ぶ）
+UPDATE todos t
+SET position = '01' || LPAD(r.rn::text, 12, '0') || 'V'
+FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS rn FROM todos) r
+WHERE t.id = r.id;
+
+ALTER TABLE todos ALTER COLUMN position SET NOT NULL;
+
+-- 手動の並び順の一覧取得（ORDER BY position, id）
+CREATE INDEX idx_todos_position_id
+    ON todos (position, id);
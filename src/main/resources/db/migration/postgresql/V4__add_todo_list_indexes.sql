@@ -0,0 +1,24 @@
+-- 作成日時順の一覧取得（ORDER BY created_at, id、作成日時の範囲による絞り込みを含む）
+CREATE INDEX idx_todos_created_at_id
+    ON todos (created_at, id);
+
+-- タイトル順の一覧取得（ORDER BY title, id）
+CREATE INDEX idx_todos_title_id
+    ON todos (title, id);
+
+-- 完了状態で絞り込んだ一覧取得
+CREATE INDEX idx_todos_open_created_at_id
+    ON todos (created_at, id)
+    WHERE completed = FALSE;
+
+CREATE INDEX idx_todos_done_created_at_id
+    ON todos (created_at, id)
+    WHERE completed = TRUE;
+
+CREATE INDEX idx_todos_open_title_id
+    ON todos (title, id)
+    WHERE completed = FALSE;
+
+CREATE INDEX idx_todos_done_title_id
+    ON todos (title, id)
+    WHERE completed = TRUE;
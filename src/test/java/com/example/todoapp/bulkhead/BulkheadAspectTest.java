@@ -0,0 +1,107 @@
+package com.example.todoapp.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.bulkhead.exception.BulkheadFullException;
+import com.example.todoapp.replica.DataSourceRole;
+import com.example.todoapp.replica.DataSourceRoutingContext;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link BulkheadAspect} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>参照系の呼び出しが読み込み用の接続先で実行され、完了後に区画から出ること</li>
+ *   <li>コントローラが例外をスローした場合も、区画から出て接続先が戻されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>区画に入れない場合に、コントローラを呼び出さずに {@link BulkheadFullException} がスローされること</li>
+ * </ul>
+ */
+class BulkheadAspectTest {
+
+    private static final long RETRY_AFTER_SECONDS = 2L;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Counter readRejectedCounter = meterRegistry.counter("todo.bulkhead.rejected", "bulkhead", "read");
+    private final Counter writeRejectedCounter = meterRegistry.counter("todo.bulkhead.rejected", "bulkhead", "write");
+
+    private final Bulkhead readBulkhead = new Bulkhead("read", 1, 0, 0L);
+    private final Bulkhead writeBulkhead = new Bulkhead("write", 1, 0, 0L);
+    private final BulkheadAspect aspect = new BulkheadAspect(
+        readBulkhead,
+        writeBulkhead,
+        readRejectedCounter,
+        writeRejectedCounter,
+        RETRY_AFTER_SECONDS
+    );
+
+    /**
+     * 参照系の呼び出しが読み込み用の接続先で実行され、完了後に区画から出ることを検証する。
+     */
+    @Test
+    void isolateRead_shouldRouteToReplicaAndRelease() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            assertThat(readBulkhead.getActive()).isEqualTo(1);
+            return DataSourceRoutingContext.current();
+        });
+
+        // Act
+        Object role = aspect.isolateRead(joinPoint);
+
+        // Assert
+        assertThat(role).isEqualTo(DataSourceRole.REPLICA);
+        assertThat(readBulkhead.getActive()).isZero();
+        assertThat(DataSourceRoutingContext.current()).isNull();
+    }
+
+    /**
+     * コントローラが例外をスローした場合も、区画から出て接続先が戻されることを検証する。
+     */
+    @Test
+    void isolateWrite_shouldRelease_whenControllerThrows() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("failure"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> aspect.isolateWrite(joinPoint))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(writeBulkhead.getActive()).isZero();
+        assertThat(DataSourceRoutingContext.current()).isNull();
+    }
+
+    /**
+     * 区画に入れない場合に、コントローラを呼び出さずに {@link BulkheadFullException} がスローされることを検証する。
+     */
+    @Test
+    void isolateWrite_shouldThrow_whenBulkheadIsFull() throws Throwable {
+        // Arrange
+        writeBulkhead.tryAcquire();
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> aspect.isolateWrite(joinPoint))
+            .isInstanceOfSatisfying(BulkheadFullException.class, ex -> {
+                assertThat(ex.getBulkhead()).isEqualTo("write");
+                assertThat(ex.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+            });
+        assertThat(writeRejectedCounter.count()).isEqualTo(1);
+        assertThat(readRejectedCounter.count()).isZero();
+
+        // Assert: Mock
+        verify(joinPoint, never()).proceed();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.todoapp.bulkhead;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link Bulkhead} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>同時実行数の上限までは待機せずに入れること</li>
+ *   <li>待機中のリクエストが、実行中のリクエストの完了後に入れること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>待機数の上限が0の場合に、同時実行数の上限を超えたリクエストが即座に拒否されること</li>
+ *   <li>待機数の上限に達している場合に、リクエストが待機せずに拒否されること</li>
+ *   <li>最大待機時間を過ぎた場合に、リクエストが拒否されること</li>
+ * </ul>
+ */
+class BulkheadTest {
+
+    private static final long LONG_WAIT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 同時実行数の上限までは待機せずに入れることを検証する。
+     */
+    @Test
+    void shouldAcquire_untilMaxConcurrent() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("read", 2, 0, 0L);
+
+        // Act & Assert
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+
+        bulkhead.release();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+
+    /**
+     * 待機数の上限が0の場合に、同時実行数の上限を超えたリクエストが即座に拒否されることを検証する。
+     */
+    @Test
+    void shouldReject_whenFullAndQueueIsDisabled() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("write", 1, 0, LONG_WAIT_NANOS);
+        bulkhead.tryAcquire();
+
+        // Act & Assert
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getQueued()).isZero();
+    }
+
+    /**
+     * 待機中のリクエストが、実行中のリクエストの完了後に入れることを検証する。
+     */
+    @Test
+    void shouldAdmitQueued_whenReleased() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("write", 1, 1, LONG_WAIT_NANOS);
+        bulkhead.tryAcquire();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        awaitQueued(bulkhead, 1);
+
+        // Act
+        bulkhead.release();
+
+        // Assert
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.getQueued()).isZero();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+
+    /**
+     * 待機数の上限に達している場合に、リクエストが待機せずに拒否されることを検証する。
+     */
+    @Test
+    void shouldRejectWithoutWaiting_whenQueueIsFull() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("write", 1, 1, LONG_WAIT_NANOS);
+        bulkhead.tryAcquire();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        awaitQueued(bulkhead, 1);
+
+        // Act
+        long start = System.nanoTime();
+        boolean acquired = bulkhead.tryAcquire();
+        long elapsed = System.nanoTime() - start;
+
+        // Assert
+        assertThat(acquired).isFalse();
+        assertThat(elapsed).isLessThan(LONG_WAIT_NANOS / 2);
+        assertThat(bulkhead.getQueued()).isEqualTo(1);
+
+        bulkhead.release();
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * 最大待機時間を過ぎた場合に、リクエストが拒否されることを検証する。
+     */
+    @Test
+    void shouldReject_whenMaxWaitElapsed() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("read", 1, 1, TimeUnit.MILLISECONDS.toNanos(20));
+        bulkhead.tryAcquire();
+
+        // Act & Assert
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getQueued()).isZero();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+
+    private static void awaitQueued(Bulkhead bulkhead, int expected) {
+        long deadline = System.nanoTime() + LONG_WAIT_NANOS;
+        while (bulkhead.getQueued() < expected && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(bulkhead.getQueued()).isEqualTo(expected);
+    }
+}
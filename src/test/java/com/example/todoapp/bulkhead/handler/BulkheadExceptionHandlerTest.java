@@ -0,0 +1,81 @@
+package com.example.todoapp.bulkhead.handler;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.todoapp.bulkhead.exception.BulkheadFullException;
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link BulkheadExceptionHandler} のWeb層結合テスト
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>{@link BulkheadFullException} がスローされた場合に、
+ *       {@code Retry-After} ヘッダ付きの503 Service Unavailableが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class BulkheadExceptionHandlerTest {
+
+    private static final long RETRY_AFTER_SECONDS = 2L;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    TodoQueryService todoQueryService;
+
+    /**
+     * {@link BulkheadFullException} がスローされた場合に、
+     * {@code Retry-After} ヘッダ付きの503 Service Unavailableが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnServiceUnavailable_whenBulkheadIsFull() throws Exception {
+        // Arrange
+        when(todoQueryService.getTodo(TODO_ID_1))
+            .thenThrow(new BulkheadFullException("read", RETRY_AFTER_SECONDS));
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), TODO_ID_1))
+
+            // Assert
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", String.valueOf(RETRY_AFTER_SECONDS)))
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.BULKHEAD_FULL.getErrorCode()))
+            .andExpect(jsonPath("$.title").value("Bulkhead Full"))
+            .andExpect(jsonPath("$.detail").value(allOf(
+                containsString("read"),
+                containsString(String.valueOf(RETRY_AFTER_SECONDS))
+            )))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(BulkheadFullException.class);
+
+        // Assert: Mock
+        verify(todoQueryService, times(1)).getTodo(TODO_ID_1);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+}
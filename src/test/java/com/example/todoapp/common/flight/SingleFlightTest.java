@@ -0,0 +1,267 @@
+package com.example.todoapp.common.flight;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.deadline.DeadlineContext;
+import com.example.todoapp.deadline.exception.DeadlineExceededException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link SingleFlight} の単体テスト
+ * <p>
+ * 実行の開始時刻は固定の {@value #STARTED_AT} とし、リーダーはフォロワーが合流するまで完了しない。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>実行中の処理に合流したフォロワーが、リーダーの結果を共有すること</li>
+ *   <li>指定された時刻より後に開始していない処理には合流せず、自身で実行すること</li>
+ *   <li>待機の上限を超えた場合に、自身で実行すること</li>
+ *   <li>リーダーが自身の期限切れで失敗した場合に、フォロワーが例外を共有せずに自身で実行すること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>リーダーの例外が、合流したフォロワーに共有されること</li>
+ *   <li>フォロワーの期限が待機の上限より先に来る場合に、期限で {@link DeadlineExceededException} がスローされること</li>
+ *   <li>フォロワーの期限を過ぎている場合に、待機せずに {@link DeadlineExceededException} がスローされること</li>
+ * </ul>
+ */
+class SingleFlightTest {
+
+    private static final String KEY = "key";
+    private static final long STARTED_AT = 1_000L;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.clear();
+    }
+
+    /**
+     * 実行中の処理に合流したフォロワーが、リーダーの結果を共有することを検証する。
+     */
+    @Test
+    void shouldShareLeaderResult_whenFollowerJoins() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, untilFollowerJoins(started, () -> "leader"))
+        );
+        started.await(10, TimeUnit.SECONDS);
+
+        // Act
+        String result = flight.execute(KEY, STARTED_AT - 1, () -> "follower");
+
+        // Assert
+        assertThat(result).isEqualTo("leader");
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("leader");
+        assertThat(calls("leader")).isEqualTo(1);
+        assertThat(calls("follower")).isEqualTo(1);
+    }
+
+    /**
+     * 指定された時刻より後に開始していない処理には合流せず、自身で実行することを検証する。
+     */
+    @Test
+    void shouldExecuteOwn_whenFlightStartedBeforeNotBefore() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, () -> {
+                started.countDown();
+                await(release);
+                return "stale";
+            })
+        );
+        started.await(10, TimeUnit.SECONDS);
+
+        // Act
+        String result = flight.execute(KEY, STARTED_AT, () -> "fresh");
+        release.countDown();
+
+        // Assert
+        assertThat(result).isEqualTo("fresh");
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(calls("leader")).isEqualTo(2);
+        assertThat(calls("follower")).isZero();
+    }
+
+    /**
+     * 待機の上限を超えた場合に、自身で実行することを検証する。
+     */
+    @Test
+    void shouldExecuteOwn_whenJoinWaitExceeded() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, () -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            })
+        );
+        started.await(10, TimeUnit.SECONDS);
+
+        // Act
+        String result = flight.execute(KEY, () -> "own");
+        release.countDown();
+
+        // Assert
+        assertThat(result).isEqualTo("own");
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(meterRegistry.get("todo.singleflight.join.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * リーダーの例外が、合流したフォロワーに共有されることを検証する。
+     */
+    @Test
+    void shouldShareLeaderException_whenFollowerJoins() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("failure");
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, untilFollowerJoins(started, () -> {
+                throw failure;
+            }))
+        );
+        started.await(10, TimeUnit.SECONDS);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> flight.execute(KEY, () -> "follower"))
+            .isSameAs(failure);
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+            .hasCause(failure);
+    }
+
+    /**
+     * リーダーが自身の期限切れで失敗した場合に、フォロワーが例外を共有せずに自身で実行することを検証する。
+     */
+    @Test
+    void shouldExecuteOwn_whenLeaderFailedOnItsDeadline() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        IllegalStateException timeout = new IllegalStateException("query timeout");
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+            DeadlineContext.set(System.nanoTime() - 1);
+            try {
+                return flight.execute(KEY, untilFollowerJoins(started, () -> {
+                    throw timeout;
+                }));
+            } finally {
+                DeadlineContext.clear();
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        // Act
+        String result = flight.execute(KEY, () -> "follower");
+
+        // Assert
+        assertThat(result).isEqualTo("follower");
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+            .hasCause(timeout);
+        assertThat(calls("leader")).isEqualTo(2);
+    }
+
+    /**
+     * フォロワーの期限が待機の上限より先に来る場合に、期限で {@link DeadlineExceededException} がスローされることを検証する。
+     */
+    @Test
+    void shouldThrowDeadlineExceeded_whenFollowerDeadlineComesFirst() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, () -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            })
+        );
+        started.await(10, TimeUnit.SECONDS);
+        DeadlineContext.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> flight.execute(KEY, () -> "own"))
+            .isInstanceOf(DeadlineExceededException.class);
+        assertThat(meterRegistry.get("todo.singleflight.join.timeouts").counter().count()).isZero();
+
+        release.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    /**
+     * フォロワーの期限を過ぎている場合に、待機せずに {@link DeadlineExceededException} がスローされることを検証する。
+     */
+    @Test
+    void shouldThrowDeadlineExceeded_whenFollowerDeadlineHasPassed() throws Exception {
+        // Arrange
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+            () -> flight.execute(KEY, () -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            })
+        );
+        started.await(10, TimeUnit.SECONDS);
+        DeadlineContext.set(System.nanoTime() - 1);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> flight.execute(KEY, () -> "own"))
+            .isInstanceOf(DeadlineExceededException.class);
+
+        release.countDown();
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private SingleFlight<String, String> singleFlight(Duration maxJoinWait) {
+        return new SingleFlight<>("test", meterRegistry, maxJoinWait, () -> STARTED_AT);
+    }
+
+    private Supplier<String> untilFollowerJoins(CountDownLatch started, Supplier<String> result) {
+        return () -> {
+            started.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (calls("follower") == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return result.get();
+        };
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("todo.singleflight.calls").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.todoapp.common.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link FractionalIndex} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>2つの位置キーの間に並ぶ、有効な位置キーが生成されること</li>
+ *   <li>同じ場所への挿入を繰り返しても、並び順を保ち、キーが緩やかにしか長くならないこと</li>
+ *   <li>2つの位置キーの間に、指定された件数の位置キーが昇順に生成されること</li>
+ *   <li>位置キーの有効性が判定されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>位置キーが不正な場合、または下限が上限より前にない場合に、{@link IllegalArgumentException} がスローされること</li>
+ * </ul>
+ */
+class FractionalIndexTest {
+
+    /**
+     * 2つの位置キーの間に並ぶ、有効な位置キーが生成されることを検証する。
+     *
+     * @param lower 直前の位置キー
+     * @param upper 直後の位置キー
+     */
+    @ParameterizedTest
+    @MethodSource("provideBounds")
+    void between_shouldReturnKeyBetweenBounds(String lower, String upper) {
+        // Act
+        String key = FractionalIndex.between(lower, upper);
+
+        // Assert
+        assertThat(FractionalIndex.isValid(key)).isTrue();
+        if (lower != null) {
+            assertThat(key).isGreaterThan(lower);
+        }
+        if (upper != null) {
+            assertThat(key).isLessThan(upper);
+        }
+    }
+    static Stream<Arguments> provideBounds() {
+        return Stream.of(
+            // 両端なし
+            Arguments.of(null, null),
+            // 先頭・末尾
+            Arguments.of(null, "V"),
+            Arguments.of(null, "01"),
+            Arguments.of("V", null),
+            Arguments.of("zzz", null),
+            // 隣り合う桁
+            Arguments.of("a", "b"),
+            Arguments.of("Z", "a"),
+            Arguments.of("9", "A"),
+            // 接頭辞が共通
+            Arguments.of("a", "a1"),
+            Arguments.of("a1", "a2"),
+            Arguments.of("a0V", "a1"),
+            Arguments.of("ay", "az"),
+            // 長さが異なる
+            Arguments.of("azzz", "b"),
+            Arguments.of("a", "a0001")
+        );
+    }
+
+    /**
+     * 同じ場所への挿入を繰り返しても、並び順を保ち、キーが緩やかにしか長くならないことを検証する。
+     */
+    @Test
+    void between_shouldKeepOrder_whenInsertingRepeatedly() {
+        // Arrange
+        String lower = "a";
+        String upper = "b";
+        List<String> keys = new ArrayList<>();
+
+        // Act: 直前の行の直後への挿入を繰り返す
+        for (int i = 0; i < 120; i++) {
+            upper = FractionalIndex.between(lower, upper);
+            keys.add(upper);
+        }
+
+        // Assert
+        assertThat(keys).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(keys).doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key).isGreaterThan(lower));
+        assertThat(keys.get(keys.size() - 1)).hasSizeLessThanOrEqualTo(24);
+    }
+
+    /**
+     * 2つの位置キーの間に、指定された件数の位置キーが昇順に生成されることを検証する。
+     *
+     * @param lower 直前の位置キー
+     * @param upper 直後の位置キー
+     * @param count 生成する件数
+     */
+    @ParameterizedTest
+    @MethodSource("provideSpreads")
+    void spread_shouldReturnSortedKeysBetweenBounds(String lower, String upper, int count) {
+        // Act
+        List<String> keys = FractionalIndex.spread(lower, upper, count);
+
+        // Assert
+        assertThat(keys).hasSize(count);
+        assertThat(keys).isSorted();
+        assertThat(keys).doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> {
+            assertThat(FractionalIndex.isValid(key)).isTrue();
+            if (lower != null) {
+                assertThat(key).isGreaterThan(lower);
+            }
+            if (upper != null) {
+                assertThat(key).isLessThan(upper);
+            }
+        });
+        // 区間の両端の長さに件数の対数を加えた程度に収まる
+        int boundLength = Math.max(lower == null ? 0 : lower.length(), upper == null ? 0 : upper.length());
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(boundLength + 3));
+    }
+    static Stream<Arguments> provideSpreads() {
+        return Stream.of(
+            Arguments.of(null, null, 0),
+            Arguments.of(null, null, 1),
+            Arguments.of(null, null, 1000),
+            Arguments.of("a", "b", 100),
+            Arguments.of("a", "a0000001", 10),
+            Arguments.of("azzzzzzzzzzzzzzzzzzz", null, 50)
+        );
+    }
+
+    /**
+     * 位置キーの有効性が判定されることを検証する。
+     *
+     * @param key      位置キー
+     * @param expected 期待する判定結果
+     */
+    @ParameterizedTest
+    @MethodSource("provideKeys")
+    void isValid_shouldJudgeKey(String key, boolean expected) {
+        // Act & Assert
+        assertThat(FractionalIndex.isValid(key)).isEqualTo(expected);
+    }
+    static Stream<Arguments> provideKeys() {
+        return Stream.of(
+            Arguments.of("a", true),
+            Arguments.of("0a", true),
+            Arguments.of("09AZaz", true),
+            // 末尾が0
+            Arguments.of("a0", false),
+            Arguments.of("0", false),
+            // 桁に使用しない文字
+            Arguments.of("a-", false),
+            Arguments.of("á", false),
+            Arguments.of("a b", false),
+            // 空
+            Arguments.of("", false),
+            Arguments.of(null, false)
+        );
+    }
+
+    /**
+     * 位置キーが不正な場合、または下限が上限より前にない場合に、{@link IllegalArgumentException} がスローされることを検証する。
+     *
+     * @param lower 直前の位置キー
+     * @param upper 直後の位置キー
+     */
+    @ParameterizedTest
+    @MethodSource("provideInvalidBounds")
+    void between_shouldThrowException_whenBoundsAreInvalid(String lower, String upper) {
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> FractionalIndex.between(lower, upper))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalIndex.spread(lower, upper, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    static Stream<Arguments> provideInvalidBounds() {
+        return Stream.of(
+            // 不正な位置キー
+            Arguments.of("a0", null),
+            Arguments.of(null, ""),
+            Arguments.of("a-", "b"),
+            // 下限が上限より前にない
+            Arguments.of("b", "a"),
+            Arguments.of("a", "a")
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.todoapp.common.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link TailKeyGenerator} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>時刻が進むと、後から生成したキーほど後ろに並ぶこと</li>
+ *   <li>時刻が進まない・戻る場合も、生成したキーが単調増加すること</li>
+ *   <li>生成したキーが有効な位置キーで、末尾の0が除かれていること</li>
+ *   <li>生成したキーを上限として、その前に位置キーを生成できること</li>
+ * </ul>
+ */
+class TailKeyGeneratorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_735_689_600_000_000L);
+
+    private final TailKeyGenerator generator = new TailKeyGenerator(clock::get);
+
+    /**
+     * 時刻が進むと、後から生成したキーほど後ろに並ぶことを検証する。
+     */
+    @Test
+    void generate_shouldFollowClock() {
+        // Act
+        String first = generator.generate();
+        clock.addAndGet(1);
+        String second = generator.generate();
+        clock.addAndGet(1_000_000L);
+        String third = generator.generate();
+
+        // Assert
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+    }
+
+    /**
+     * 時刻が進まない・戻る場合も、生成したキーが単調増加することを検証する。
+     */
+    @Test
+    void generate_shouldIncrease_whenClockDoesNotAdvance() {
+        // Arrange
+        List<String> keys = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            keys.add(generator.generate());
+        }
+        clock.addAndGet(-1_000_000L);
+        for (int i = 0; i < 200; i++) {
+            keys.add(generator.generate());
+        }
+
+        // Assert
+        assertThat(keys).isSorted();
+        assertThat(keys).doesNotHaveDuplicates();
+    }
+
+    /**
+     * 生成したキーが有効な位置キーで、末尾の0が除かれていることを検証する。
+     */
+    @Test
+    void generate_shouldReturnValidKey_whenValueEndsWithZeroDigits() {
+        // Arrange: 62の倍数（62進数の末尾が0）
+        clock.set(62L * 62 * 62 * 1_000_000L);
+
+        // Act
+        String key = generator.generate();
+        String next = generator.generate();
+
+        // Assert
+        assertThat(FractionalIndex.isValid(key)).isTrue();
+        assertThat(key).hasSizeLessThan(10);
+        assertThat(FractionalIndex.isValid(next)).isTrue();
+        assertThat(next).hasSize(10);
+        assertThat(key).isLessThan(next);
+    }
+
+    /**
+     * 生成したキーを上限として、その前に位置キーを生成できることを検証する。
+     */
+    @Test
+    void generate_shouldBeUsableAsUpperBound() {
+        // Arrange
+        String tail = generator.generate();
+        String lower = FractionalIndex.between(null, tail);
+
+        // Act
+        String moved = FractionalIndex.between(lower, tail);
+        String appended = generator.generate();
+
+        // Assert
+        assertThat(moved).isGreaterThan(lower).isLessThan(tail);
+        assertThat(appended).isGreaterThan(moved);
+    }
+}
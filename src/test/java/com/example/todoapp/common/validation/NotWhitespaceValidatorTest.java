@@ -0,0 +1,130 @@
+package com.example.todoapp.common.validation;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.todoapp.todo.dto.TodoRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link NotWhitespaceValidator} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>空白以外の文字を含む場合、または {@code null} の場合に、検証に成功すること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>空白のみの場合に、検証に失敗すること</li>
+ *   <li>空白以外の文字がU+0020以下の制御文字のみの場合に、検証に失敗すること</li>
+ *   <li>制御文字のみのタイトルが、Bean Validationで {@link NotWhitespace} の違反になること</li>
+ * </ul>
+ */
+class NotWhitespaceValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+
+    private final NotWhitespaceValidator validator = new NotWhitespaceValidator();
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * 空白以外の文字を含む場合、または {@code null} の場合に、検証に成功することを検証する。
+     *
+     * @param value 検証対象の文字列
+     */
+    @ParameterizedTest
+    @MethodSource("provideValidValues")
+    void isValid_shouldReturnTrue_whenValueHasContent(String value) {
+        // Act & Assert
+        assertThat(validator.isValid(value, null)).isTrue();
+    }
+    static Stream<Arguments> provideValidValues() {
+        return Stream.of(
+            Arguments.of((String) null),
+            Arguments.of("a"),
+            Arguments.of("  Test Title  "),
+            Arguments.of("買い物"),
+            // 後続に空白以外の文字がある制御文字は範囲内に残る
+            Arguments.of("\u0001a"),
+            Arguments.of("\u3000\u0001\u3000"),
+            // 空白ではない不可視の文字
+            Arguments.of("\u00A0"),
+            Arguments.of("\u200B"),
+            Arguments.of("😀")
+        );
+    }
+
+    /**
+     * 空白のみの場合に、検証に失敗することを検証する。
+     *
+     * @param value 検証対象の文字列
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "", " ", " \t\n ", "\u3000", "\u2003 ", "\u001C\u001D\u001E\u001F" })
+    void isValid_shouldReturnFalse_whenValueIsWhitespace(String value) {
+        // Act & Assert
+        assertThat(validator.isValid(value, null)).isFalse();
+    }
+
+    /**
+     * 空白以外の文字がU+0020以下の制御文字のみの場合に、検証に失敗することを検証する。
+     * <p>
+     * 制御文字は {@link String#trim} で除かれるため、以前はBean Validationを通過し、
+     * タイトルの正規化で空白のみとして拒否されていた。
+     *
+     * @param value 検証対象の文字列
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "\u0000", "\u0001", " \u0001 ", "\u0001\u001C", "\t\u0007\n", "\u001C\u0001\u3000" })
+    void isValid_shouldReturnFalse_whenValueHasOnlyControlCharacters(String value) {
+        // Act & Assert
+        assertThat(validator.isValid(value, null)).isFalse();
+    }
+
+    /**
+     * 制御文字のみのタイトルが、Bean Validationで {@link NotWhitespace} の違反になることを検証する。
+     *
+     * @param title タイトル
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "\u0001", " \u0001 ", "\u0001\u001C" })
+    void validate_shouldReportNotWhitespace_whenTitleHasOnlyControlCharacters(String title) {
+        // Arrange
+        Validator beanValidator = validatorFactory.getValidator();
+
+        // Act
+        Set<ConstraintViolation<TodoRequest>> violations = beanValidator.validate(new TodoRequest(title, null));
+
+        // Assert
+        assertThat(violations)
+            .singleElement()
+            .satisfies(violation -> {
+                assertThat(violation.getPropertyPath()).hasToString("title");
+                assertThat(violation.getConstraintDescriptor().getAnnotation())
+                    .isInstanceOf(NotWhitespace.class);
+            });
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.todoapp.common.validation;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link TrimmedText} の単体テスト
+ * <p>
+ * 判定と範囲が {@code trim().isBlank()}・{@code trim()} と一致することを、JDKのメソッドと比較して検証する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>空白のみかの判定が {@code trim().isBlank()} と一致すること</li>
+ *   <li>範囲の文字列が {@code trim()} と一致すること</li>
+ *   <li>前後に空白がない場合に、同じ文字列がそのまま返ること</li>
+ *   <li>空白・制御文字・サロゲートを組み合わせた文字列で、判定と範囲がJDKのメソッドと一致すること</li>
+ * </ul>
+ */
+class TrimmedTextTest {
+
+    /** 組み合わせに使用する文字（前後の空白・制御文字・Unicodeの空白・サロゲート・通常の文字） */
+    private static final char[] ALPHABET = {
+        ' ', '\t', '\n', '\u0000', '\u0001', '\u001C', '\u001F', '\u0085', '\u00A0',
+        '\u2003', ' ', '\u200B', '\u3000', '\u007F', '\uD83D', '\uDE00', 'a', 'あ'
+    };
+
+    /**
+     * 空白のみかの判定と範囲の文字列が、{@code trim().isBlank()}・{@code trim()} と一致することを検証する。
+     *
+     * @param value 対象の文字列
+     */
+    @ParameterizedTest
+    @MethodSource("provideValues")
+    void scan_shouldMatchTrimAndIsBlank(String value) {
+        assertMatchesJdk(value);
+    }
+    static Stream<String> provideValues() {
+        return Stream.of(
+            // 空・空白のみ
+            "",
+            " ",
+            " \t\n\r ",
+            // 通常の文字
+            "a",
+            "  a  ",
+            "\ta b\n",
+            "買い物",
+            // U+0020以下の制御文字のみ（trimで除かれる）
+            "\u0000",
+            "\u0001",
+            " \u0001 ",
+            // 範囲内にあるかが後続の文字で決まる制御文字
+            "\u0001a",
+            "a\u0001",
+            " a\u0001 ",
+            "\u3000\u0001\u3000",
+            "\u2003\u0001",
+            "\u0001\u2003",
+            // U+001C～U+001F（Character#isWhitespace だがtrimで除かれる）
+            "\u001C",
+            "\u001C\u001D\u001E\u001F",
+            "\u001Fa\u001C",
+            "\u2003\u001C\u2003",
+            "\u0001\u001C",
+            "\u001C\u0001\u3000",
+            // Unicodeの空白（trimで除かれない）
+            "\u3000",
+            "\u2003  ",
+            "\u3000a\u3000",
+            // 空白ではない不可視の文字
+            "\u00A0",
+            "\u200B",
+            "\u0085",
+            "\u007F",
+            // サロゲート（ペア・単独）
+            "😀",
+            " 😀 ",
+            "\uD83D",
+            "\uDE00 ",
+            "\u3000\uD83D\u3000"
+        );
+    }
+
+    /**
+     * 前後に空白がない場合に、同じ文字列がそのまま返ることを検証する。
+     */
+    @Test
+    void substring_shouldReturnSameInstance_whenNotPadded() {
+        // Arrange
+        String value = "Test Title";
+
+        // Act
+        long range = TrimmedText.scan(value);
+
+        // Assert
+        assertThat(TrimmedText.begin(range)).isZero();
+        assertThat(TrimmedText.end(range)).isEqualTo(value.length());
+        assertThat(TrimmedText.length(range)).isEqualTo(value.length());
+        assertThat(TrimmedText.substring(value, range)).isSameAs(value);
+    }
+
+    /**
+     * 空白・制御文字・サロゲートを組み合わせた文字列で、判定と範囲がJDKのメソッドと一致することを検証する。
+     */
+    @Test
+    void scan_shouldMatchTrimAndIsBlank_forRandomCombinations() {
+        // Arrange: 再現できるように乱数の種を固定する
+        Random random = new Random(20250101L);
+
+        for (int i = 0; i < 100_000; i++) {
+            char[] chars = new char[random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+
+            // Act & Assert
+            assertMatchesJdk(new String(chars));
+        }
+    }
+
+    private static void assertMatchesJdk(String value) {
+        long range = TrimmedText.scan(value);
+        String description = value.chars().mapToObj("U+%04X"::formatted).toList().toString();
+
+        assertThat(TrimmedText.isBlank(value)).as(description).isEqualTo(value.trim().isBlank());
+        if (range != TrimmedText.BLANK) {
+            assertThat(TrimmedText.substring(value, range)).as(description).isEqualTo(value.trim());
+            assertThat(TrimmedText.length(range)).as(description).isEqualTo(value.trim().length());
+        }
+    }
+}
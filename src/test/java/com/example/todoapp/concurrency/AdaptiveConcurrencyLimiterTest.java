@@ -0,0 +1,187 @@
+package com.example.todoapp.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link AdaptiveConcurrencyLimiter} の単体テスト
+ * <p>
+ * 応答時間のサンプルは、同時実行の枠を上限まで取得した状態で1件返却することで与える
+ * （上限の半分以上が使われているため、必ず上限の調整に反映される）。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>応答時間が安定している場合に、上限が {@code √上限} 広がること</li>
+ *   <li>応答時間が長くなった場合に、勾配に応じて上限が縮むこと</li>
+ *   <li>勾配が下限を下回る場合に、下限の勾配で上限が縮むこと</li>
+ *   <li>上限が最小値と最大値の範囲に収まること</li>
+ *   <li>平滑化係数に応じて上限が更新されること</li>
+ *   <li>上限の半分も使われていない場合に、上限が調整されないこと</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>上限に達している場合に、同時実行の枠を取得できないこと</li>
+ * </ul>
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT_1MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long RTT_10MS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long RTT_20MS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long RTT_100MS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 応答時間が安定している場合に、上限が {@code √上限} 広がることを検証する。
+     */
+    @Test
+    void shouldIncreaseLimit_whenRttIsSteady() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(10, 4, 100, 1.0, 1);
+
+        // Act
+        sample(limiter, RTT_1MS);
+
+        // Assert: 10 + √10 = 13.16
+        assertThat(limiter.getLimit()).isEqualTo(13);
+    }
+
+    /**
+     * 応答時間が長くなった場合に、勾配に応じて上限が縮むことを検証する。
+     */
+    @Test
+    void shouldDecreaseLimit_whenRttIncreases() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 1.0, 1000);
+        sample(limiter, RTT_10MS);
+        assertThat(limiter.getLimit()).isEqualTo(110);
+
+        // Act
+        sample(limiter, RTT_20MS);
+
+        // Assert: 長期の応答時間 ≒ 10.02ms、勾配 ≒ 0.501 → 110 × 0.501 + √110 = 65.6
+        assertThat(limiter.getLimit()).isEqualTo(65);
+    }
+
+    /**
+     * 勾配が下限を下回る場合に、下限の勾配で上限が縮むことを検証する。
+     */
+    @Test
+    void shouldClampGradient_whenRttIncreasesSharply() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 1.0, 1000);
+        sample(limiter, RTT_10MS);
+
+        // Act
+        sample(limiter, RTT_100MS);
+
+        // Assert: 勾配 ≒ 0.10 は 0.5 に切り上げる → 110 × 0.5 + √110 = 65.5
+        assertThat(limiter.getLimit()).isEqualTo((int) (110 * 0.5 + Math.sqrt(110)));
+    }
+
+    /**
+     * 上限が最小値を下回らないことを検証する。
+     */
+    @Test
+    void shouldClampToMinLimit() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(10, 10, 200, 1.0, 1000);
+        sample(limiter, RTT_1MS);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, RTT_100MS);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * 上限が最大値を超えないことを検証する。
+     */
+    @Test
+    void shouldClampToMaxLimit() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(10, 1, 16, 1.0, 1000);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            sample(limiter, RTT_1MS);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(16);
+    }
+
+    /**
+     * 初期値が範囲外の場合に、最小値と最大値の範囲に収まることを検証する。
+     */
+    @Test
+    void shouldClampInitialLimit() {
+        // Act & Assert
+        assertThat(new AdaptiveConcurrencyLimiter(1, 4, 200, 0.2, 600).getLimit()).isEqualTo(4);
+        assertThat(new AdaptiveConcurrencyLimiter(500, 4, 200, 0.2, 600).getLimit()).isEqualTo(200);
+    }
+
+    /**
+     * 平滑化係数に応じて上限が更新されることを検証する。
+     */
+    @Test
+    void shouldSmoothLimitUpdate() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 0.2, 1000);
+
+        // Act
+        sample(limiter, RTT_1MS);
+
+        // Assert: 100 × 0.8 + (100 + √100) × 0.2 = 102
+        assertThat(limiter.getLimit()).isEqualTo(102);
+    }
+
+    /**
+     * 上限の半分も使われていない場合に、上限が調整されないことを検証する。
+     */
+    @Test
+    void shouldKeepLimit_whenUnderutilized() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 1.0, 1000);
+
+        // Act
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(RTT_1MS);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(100);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * 上限に達している場合に、同時実行の枠を取得できないことを検証する。
+     */
+    @Test
+    void shouldRejectAcquire_whenLimitReached() {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(4, 4, 200, 1.0, 1000);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    /**
+     * 同時実行の枠を上限まで取得した状態で1件返却し、応答時間のサンプルを与える。
+     */
+    private static void sample(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        while (limiter.tryAcquire()) {
+            // 上限まで取得する
+        }
+        limiter.release(rttNanos);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todoapp.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.concurrency.exception.ConcurrencyLimitExceededException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ConcurrencyLimitAspect} の単体テスト
+ * <p>
+ * 処理時間は差し替えた時刻の取得元で計測する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>サービスの処理時間が {@link AdaptiveConcurrencyLimiter} に渡されること</li>
+ *   <li>サービスが例外をスローした場合も、同時実行の枠が返却されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>上限に達している場合に、サービスを呼び出さずに {@link ConcurrencyLimitExceededException} がスローされること</li>
+ * </ul>
+ */
+class ConcurrencyLimitAspectTest {
+
+    private static final long RETRY_AFTER_SECONDS = 1L;
+    private static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000L);
+    private final Counter rejectedCounter = new SimpleMeterRegistry().counter("todo.concurrency.rejected");
+
+    /**
+     * サービスの処理時間が {@link AdaptiveConcurrencyLimiter} に渡されることを検証する。
+     */
+    @Test
+    void shouldReleaseWithMeasuredRtt() throws Throwable {
+        // Arrange
+        var limiter = spy(new AdaptiveConcurrencyLimiter(4, 4, 200, 1.0, 1000));
+        var aspect = new ConcurrencyLimitAspect(limiter, rejectedCounter, RETRY_AFTER_SECONDS, nanoTime::get);
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            nanoTime.addAndGet(RTT_NANOS);
+            return "result";
+        });
+
+        // Act
+        Object result = aspect.limit(joinPoint);
+
+        // Assert
+        assertThat(result).isEqualTo("result");
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(rejectedCounter.count()).isZero();
+
+        // Assert: Mock
+        verify(limiter, times(1)).release(RTT_NANOS);
+    }
+
+    /**
+     * サービスが例外をスローした場合も、同時実行の枠が返却されることを検証する。
+     */
+    @Test
+    void shouldRelease_whenServiceThrows() throws Throwable {
+        // Arrange
+        var limiter = spy(new AdaptiveConcurrencyLimiter(4, 4, 200, 1.0, 1000));
+        var aspect = new ConcurrencyLimitAspect(limiter, rejectedCounter, RETRY_AFTER_SECONDS, nanoTime::get);
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            nanoTime.addAndGet(RTT_NANOS);
+            throw new IllegalStateException("failure");
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> aspect.limit(joinPoint))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+
+        // Assert: Mock
+        verify(limiter, times(1)).release(RTT_NANOS);
+    }
+
+    /**
+     * 上限に達している場合に、サービスを呼び出さずに {@link ConcurrencyLimitExceededException} がスローされることを検証する。
+     */
+    @Test
+    void shouldThrow_whenLimitReached() throws Throwable {
+        // Arrange
+        var limiter = new AdaptiveConcurrencyLimiter(4, 4, 200, 1.0, 1000);
+        var aspect = new ConcurrencyLimitAspect(limiter, rejectedCounter, RETRY_AFTER_SECONDS, nanoTime::get);
+        while (limiter.tryAcquire()) {
+            // 上限まで取得する
+        }
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+        // Act & Assert
+        assertThatThrownBy(() -> aspect.limit(joinPoint))
+            .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class, ex -> {
+                assertThat(ex.getLimit()).isEqualTo(4);
+                assertThat(ex.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+            });
+        assertThat(rejectedCounter.count()).isEqualTo(1.0);
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+
+        // Assert: Mock
+        verify(joinPoint, never()).proceed();
+    }
+}
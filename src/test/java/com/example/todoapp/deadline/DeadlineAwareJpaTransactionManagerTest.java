@@ -0,0 +1,108 @@
+package com.example.todoapp.deadline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link DeadlineAwareJpaTransactionManager} の単体テスト
+ * <p>
+ * 期限は {@link DeadlineContext} に現在時刻からの相対時間で設定する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>期限までの残り時間が秒単位に切り上げられ、定義されたタイムアウトとの短い方になること</li>
+ *   <li>期限が設定されていない場合に、定義されたタイムアウトがそのまま使用されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>期限を過ぎている場合に、{@link TransactionTimedOutException} がスローされること</li>
+ * </ul>
+ */
+class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager =
+        new DeadlineAwareJpaTransactionManager(mock(EntityManagerFactory.class));
+
+    @AfterEach
+    void tearDown() {
+        DeadlineContext.clear();
+    }
+
+    /**
+     * 期限までの残り時間が秒単位に切り上げられ、定義されたタイムアウトとの短い方になることを検証する。
+     *
+     * @param remainingMillis 期限までの残り時間（ミリ秒）
+     * @param definedTimeout  定義されたタイムアウト（秒）
+     * @param expected        想定するタイムアウト（秒）
+     */
+    @ParameterizedTest
+    @MethodSource("provideRemainingTimes")
+    void determineTimeout_shouldRoundUpRemainingTime(long remainingMillis, int definedTimeout, int expected) {
+        // Arrange
+        DeadlineContext.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+
+        // Act
+        int timeout = transactionManager.determineTimeout(definition(definedTimeout));
+
+        // Assert
+        assertThat(timeout).isEqualTo(expected);
+    }
+    static Stream<Arguments> provideRemainingTimes() {
+        return Stream.of(
+            Arguments.of(100L, TransactionDefinition.TIMEOUT_DEFAULT, 1),
+            Arguments.of(1_000L, TransactionDefinition.TIMEOUT_DEFAULT, 1),
+            Arguments.of(1_500L, TransactionDefinition.TIMEOUT_DEFAULT, 2),
+            Arguments.of(4_500L, TransactionDefinition.TIMEOUT_DEFAULT, 5),
+            Arguments.of(4_500L, 3, 3),
+            Arguments.of(1_500L, 10, 2)
+        );
+    }
+
+    /**
+     * 期限が設定されていない場合に、定義されたタイムアウトがそのまま使用されることを検証する。
+     */
+    @Test
+    void determineTimeout_shouldKeepDefinedTimeout_whenNoDeadline() {
+        // Act & Assert
+        assertThat(transactionManager.determineTimeout(definition(TransactionDefinition.TIMEOUT_DEFAULT)))
+            .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+        assertThat(transactionManager.determineTimeout(definition(7))).isEqualTo(7);
+    }
+
+    /**
+     * 期限を過ぎている場合に、{@link TransactionTimedOutException} がスローされることを検証する。
+     */
+    @Test
+    void determineTimeout_shouldThrow_whenDeadlineHasPassed() {
+        // Arrange
+        DeadlineContext.set(System.nanoTime() - 1);
+        TransactionDefinition definition = definition(TransactionDefinition.TIMEOUT_DEFAULT);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> transactionManager.determineTimeout(definition))
+            .isInstanceOf(TransactionTimedOutException.class);
+    }
+
+    private static TransactionDefinition definition(int timeout) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(timeout);
+
+        return definition;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.todoapp.deadline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link DeadlineFilter} の単体テスト
+ * <p>
+ * デフォルトのタイムアウトは5秒、最大値は30秒とし、後続の処理で {@link DeadlineContext} の残り時間を取得する。
+ * 残り時間はヘッダの解析から取得までの経過時間だけ短くなるため、1秒の幅で検証する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>ヘッダの組み合わせに応じた期限が設定されること</li>
+ *   <li>後続の処理の完了後に期限が削除されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>過去の時刻の {@value DeadlineFilter#DEADLINE_HEADER} ヘッダで、期限切れとして扱われること</li>
+ * </ul>
+ */
+class DeadlineFilterTest {
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 5_000L;
+    private static final long MAX_TIMEOUT_MILLIS = 30_000L;
+
+    private final DeadlineFilter filter = new DeadlineFilter(DEFAULT_TIMEOUT_MILLIS, MAX_TIMEOUT_MILLIS);
+
+    /**
+     * ヘッダの組み合わせに応じた期限が設定されることを検証する。
+     *
+     * @param deadline              期限のヘッダ（現在時刻からのミリ秒、指定しない場合は {@code null}）
+     * @param timeout               タイムアウトのヘッダ（指定しない場合は {@code null}）
+     * @param expectedTimeoutMillis 想定するタイムアウト（ミリ秒）
+     */
+    @ParameterizedTest
+    @MethodSource("provideHeaders")
+    void shouldSetDeadline_fromHeaders(Long deadline, String timeout, long expectedTimeoutMillis)
+        throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        if (deadline != null) {
+            request.addHeader(
+                DeadlineFilter.DEADLINE_HEADER,
+                Long.toString(System.currentTimeMillis() + deadline)
+            );
+        }
+        if (timeout != null) {
+            request.addHeader(DeadlineFilter.TIMEOUT_HEADER, timeout);
+        }
+
+        // Act
+        long remainingNanos = remainingNanosDuring(request);
+
+        // Assert
+        long expectedNanos = TimeUnit.MILLISECONDS.toNanos(expectedTimeoutMillis);
+        assertThat(remainingNanos)
+            .isLessThanOrEqualTo(expectedNanos)
+            .isGreaterThan(expectedNanos - TimeUnit.SECONDS.toNanos(1));
+    }
+    static Stream<Arguments> provideHeaders() {
+        return Stream.of(
+            // ヘッダなし
+            Arguments.of(null, null, DEFAULT_TIMEOUT_MILLIS),
+
+            // タイムアウトのみ
+            Arguments.of(null, "2000", 2_000L),
+            Arguments.of(null, " 2000 ", 2_000L),
+
+            // 期限のみ
+            Arguments.of(10_000L, null, 10_000L),
+
+            // 早い方
+            Arguments.of(10_000L, "2000", 2_000L),
+            Arguments.of(3_000L, "20000", 3_000L),
+
+            // 最大値で切り詰め
+            Arguments.of(null, "60000", MAX_TIMEOUT_MILLIS),
+            Arguments.of(120_000L, null, MAX_TIMEOUT_MILLIS),
+
+            // 解析できない・負のタイムアウトは無視
+            Arguments.of(null, "abc", DEFAULT_TIMEOUT_MILLIS),
+            Arguments.of(null, "", DEFAULT_TIMEOUT_MILLIS),
+            Arguments.of(null, "-1", DEFAULT_TIMEOUT_MILLIS),
+            Arguments.of(10_000L, "abc", 10_000L)
+        );
+    }
+
+    /**
+     * 過去の時刻の {@value DeadlineFilter#DEADLINE_HEADER} ヘッダで、期限切れとして扱われることを検証する。
+     */
+    @Test
+    void shouldExpire_whenDeadlineHasPassed() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        request.addHeader(
+            DeadlineFilter.DEADLINE_HEADER,
+            Long.toString(System.currentTimeMillis() - 1_000L)
+        );
+
+        // Act
+        long remainingNanos = remainingNanosDuring(request);
+
+        // Assert
+        assertThat(remainingNanos).isNotPositive();
+    }
+
+    /**
+     * 後続の処理の完了後に期限が削除されることを検証する。
+     */
+    @Test
+    void shouldClearDeadline_afterChain() throws Exception {
+        // Act
+        remainingNanosDuring(new MockHttpServletRequest("GET", "/api/todos"));
+
+        // Assert
+        assertThat(DeadlineContext.remainingNanos()).isEqualTo(DeadlineContext.NO_DEADLINE);
+    }
+
+    private long remainingNanosDuring(MockHttpServletRequest request) throws Exception {
+        long[] remainingNanos = new long[1];
+        filter.doFilter(
+            request,
+            new MockHttpServletResponse(),
+            (servletRequest, servletResponse) -> remainingNanos[0] = DeadlineContext.remainingNanos()
+        );
+
+        return remainingNanos[0];
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.todoapp.deadline.handler;
+
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.deadline.DeadlineFilter;
+import com.example.todoapp.deadline.exception.DeadlineExceededException;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link DeadlineExceptionHandler} のWeb層結合テスト
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>開始前の取り消し・トランザクションのタイムアウト・クエリのタイムアウトが、
+ *       いずれも504 Gateway Timeoutとして返却されること</li>
+ *   <li>{@value DeadlineFilter#TIMEOUT_HEADER} ヘッダが0の場合に、サービスを開始せずに
+ *       504 Gateway Timeoutが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class DeadlineExceptionHandlerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    TodoQueryService todoQueryService;
+
+    /**
+     * 開始前の取り消し・トランザクションのタイムアウト・クエリのタイムアウトが、
+     * いずれも504 Gateway Timeoutとして返却されることを検証する。
+     *
+     * @param exception サービスがスローする例外
+     */
+    @ParameterizedTest
+    @MethodSource("provideDeadlineExceptions")
+    void shouldReturnGatewayTimeout_whenDeadlineExceeded(RuntimeException exception) throws Exception {
+        // Arrange
+        when(todoQueryService.getTodo(TODO_ID_1)).thenThrow(exception);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), TODO_ID_1))
+
+            // Assert
+            .andExpect(status().isGatewayTimeout())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.DEADLINE_EXCEEDED.getErrorCode()))
+            .andExpect(jsonPath("$.title").value("Deadline Exceeded"))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException()).isSameAs(exception);
+
+        // Assert: Mock
+        verify(todoQueryService, times(1)).getTodo(TODO_ID_1);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+    static Stream<RuntimeException> provideDeadlineExceptions() {
+        return Stream.of(
+            new DeadlineExceededException(),
+            new TransactionTimedOutException("Transaction timed out"),
+            new QueryTimeoutException("Query timed out")
+        );
+    }
+
+    /**
+     * {@value DeadlineFilter#TIMEOUT_HEADER} ヘッダが0の場合に、サービスを開始せずに
+     * 504 Gateway Timeoutが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnGatewayTimeout_whenTimeoutHeaderIsZero() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(DeadlineFilter.TIMEOUT_HEADER, "0")
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_1, null)))
+            )
+
+            // Assert
+            .andExpect(status().isGatewayTimeout())
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.DEADLINE_EXCEEDED.getErrorCode()))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(DeadlineExceededException.class);
+    }
+}
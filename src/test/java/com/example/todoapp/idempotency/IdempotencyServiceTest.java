@@ -0,0 +1,226 @@
+package com.example.todoapp.idempotency;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.example.todoapp.config.IdempotencyConfig;
+import com.example.todoapp.idempotency.dto.IdempotencyOutcome;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyInProgressException;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyReusedException;
+import com.example.todoapp.idempotency.exception.InvalidIdempotencyKeyException;
+import com.example.todoapp.idempotency.store.InMemoryIdempotencyStore;
+import com.example.todoapp.testutil.MutableClock;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link IdempotencyService} の単体テスト
+ * <p>
+ * {@link InMemoryIdempotencyStore} と時刻を進められる {@link MutableClock} を使用する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>同じ冪等キーと同じリクエストボディの再試行に、保存したレスポンスが再送されること</li>
+ *   <li>クライアントが異なる場合は、同じ冪等キーでも別々に処理されること</li>
+ *   <li>処理に失敗した場合に予約が解除され、同じ冪等キーで再試行できること</li>
+ *   <li>リースの期限切れ後に再試行が引き継ぎ、元のリクエストが引き継いだ記録を上書きしないこと</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>冪等キーが空または長すぎる場合に、{@link InvalidIdempotencyKeyException} がスローされること</li>
+ *   <li>同じ冪等キーのリクエストが処理中の場合に、{@link IdempotencyKeyInProgressException} がスローされること</li>
+ *   <li>冪等キーが異なるリクエストボディで使用済みの場合に、{@link IdempotencyKeyReusedException} がスローされること</li>
+ * </ul>
+ */
+class IdempotencyServiceTest {
+
+    private static final String CLIENT_1 = "ip:192.0.2.1";
+    private static final String CLIENT_2 = "ip:192.0.2.2";
+    private static final String KEY = "5f0c6a52-1d7e-4c39-9a53-0d6b1b8f2e11";
+
+    private static final TodoRequest REQUEST_1 = new TodoRequest(VALID_TITLE_1, null);
+    private static final TodoRequest REQUEST_2 = new TodoRequest(VALID_TITLE_2, null);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final IdempotencyConfig config = new IdempotencyConfig();
+    private final IdempotencyService service = new IdempotencyService(
+        new InMemoryIdempotencyStore(100, clock),
+        config,
+        clock
+    );
+
+    /**
+     * 同じ冪等キーと同じリクエストボディの再試行に、保存したレスポンスが再送されることを検証する。
+     */
+    @Test
+    void shouldReplayStoredResponse_whenSameKeyAndBody() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        StoredResponse response = response(TODO_ID_1, "1735689600000");
+
+        IdempotencyOutcome first = service.execute(CLIENT_1, KEY, REQUEST_1, counting(calls, response));
+
+        // Act
+        IdempotencyOutcome second = service.execute(CLIENT_1, KEY, REQUEST_1, counting(calls, response));
+
+        // Assert
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response()).isEqualTo(response);
+        assertThat(second.response().consistencyToken()).isEqualTo("1735689600000");
+        assertThat(calls).hasValue(1);
+    }
+
+    /**
+     * クライアントが異なる場合は、同じ冪等キーでも別々に処理されることを検証する。
+     */
+    @Test
+    void shouldScopeKeyPerClient() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        service.execute(CLIENT_1, KEY, REQUEST_1, counting(calls, response(TODO_ID_1, null)));
+
+        // Act
+        IdempotencyOutcome outcome = service.execute(
+            CLIENT_2,
+            KEY,
+            REQUEST_2,
+            counting(calls, response(TODO_ID_2, null))
+        );
+
+        // Assert
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(outcome.response().body().id()).isEqualTo(TODO_ID_2);
+        assertThat(calls).hasValue(2);
+    }
+
+    /**
+     * 冪等キーが空または長すぎる場合に、{@link InvalidIdempotencyKeyException} がスローされることを検証する。
+     *
+     * @param key 冪等キー
+     */
+    @ParameterizedTest
+    @MethodSource("provideInvalidKeys")
+    void shouldThrowInvalidKey_whenKeyIsBlankOrTooLong(String key) {
+        // Act & Assert
+        assertThatThrownBy(() -> service.execute(CLIENT_1, key, REQUEST_1, () -> {
+            throw new AssertionError("must not be called");
+        }))
+            .isInstanceOf(InvalidIdempotencyKeyException.class);
+    }
+    static Stream<String> provideInvalidKeys() {
+        return Stream.of(
+            "",
+            " ",
+            "a".repeat(IdempotencyService.MAX_KEY_LENGTH + 1)
+        );
+    }
+
+    /**
+     * 同じ冪等キーのリクエストが処理中の場合に、{@link IdempotencyKeyInProgressException} がスローされることを検証する。
+     */
+    @Test
+    void shouldThrowInProgress_whenSameKeyIsProcessing() {
+        // Arrange
+        StoredResponse response = response(TODO_ID_1, null);
+
+        // Act
+        IdempotencyOutcome outcome = service.execute(CLIENT_1, KEY, REQUEST_1, () -> {
+            assertThatThrownBy(() -> service.execute(CLIENT_1, KEY, REQUEST_1, () -> response))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+            return response;
+        });
+
+        // Assert
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(service.execute(CLIENT_1, KEY, REQUEST_1, () -> response).replayed()).isTrue();
+    }
+
+    /**
+     * 冪等キーが異なるリクエストボディで使用済みの場合に、{@link IdempotencyKeyReusedException} がスローされることを検証する。
+     */
+    @Test
+    void shouldThrowReused_whenBodyDiffers() {
+        // Arrange
+        service.execute(CLIENT_1, KEY, REQUEST_1, () -> response(TODO_ID_1, null));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.execute(CLIENT_1, KEY, REQUEST_2, () -> response(TODO_ID_2, null)))
+            .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    /**
+     * 処理に失敗した場合に予約が解除され、同じ冪等キーで再試行できることを検証する。
+     */
+    @Test
+    void shouldReleaseReservation_whenActionFails() {
+        // Arrange
+        assertThatThrownBy(() -> service.execute(CLIENT_1, KEY, REQUEST_1, () -> {
+            throw new IllegalStateException("failure");
+        }))
+            .isInstanceOf(IllegalStateException.class);
+
+        // Act
+        IdempotencyOutcome outcome = service.execute(CLIENT_1, KEY, REQUEST_1, () -> response(TODO_ID_1, null));
+
+        // Assert
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(outcome.response().body().id()).isEqualTo(TODO_ID_1);
+    }
+
+    /**
+     * リースの期限切れ後に再試行が引き継ぎ、元のリクエストが引き継いだ記録を上書きしないことを検証する。
+     */
+    @Test
+    void shouldHandOverExpiredLease_withoutOverwritingTheNewOwner() {
+        // Arrange
+        StoredResponse slow = response(TODO_ID_1, null);
+        StoredResponse retried = response(TODO_ID_2, null);
+
+        // Act
+        service.execute(CLIENT_1, KEY, REQUEST_1, () -> {
+            clock.advance(config.getLease().plus(Duration.ofSeconds(1)));
+
+            IdempotencyOutcome retry = service.execute(CLIENT_1, KEY, REQUEST_1, () -> retried);
+            assertThat(retry.replayed()).isFalse();
+            return slow;
+        });
+
+        // Assert
+        IdempotencyOutcome replay = service.execute(CLIENT_1, KEY, REQUEST_1, () -> slow);
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.response()).isEqualTo(retried);
+    }
+
+    private static StoredResponse response(UUID id, String consistencyToken) {
+        return new StoredResponse(
+            201,
+            new TodoResponse(id, VALID_TITLE_1, false, CREATED_DATE_1, CREATED_DATE_1),
+            E_TAG_1,
+            URI.create("http://localhost%s/%s".formatted(BASE_URL, id)),
+            consistencyToken
+        );
+    }
+
+    private static Supplier<StoredResponse> counting(AtomicInteger calls, StoredResponse response) {
+        return () -> {
+            calls.incrementAndGet();
+            return response;
+        };
+    }
+}
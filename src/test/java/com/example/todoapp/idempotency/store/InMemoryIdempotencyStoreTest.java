@@ -0,0 +1,133 @@
+package com.example.todoapp.idempotency.store;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.testutil.MutableClock;
+import com.example.todoapp.todo.dto.TodoResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link InMemoryIdempotencyStore} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>予約済みの冪等キーの予約に、既存の記録が返却されること</li>
+ *   <li>予約したリクエストだけが記録を完了できること</li>
+ *   <li>予約したリクエストだけが予約を解除でき、完了した記録は解除されないこと</li>
+ *   <li>リースの期限切れ後に引き継いだ予約を、元のリクエストが完了・解除できないこと</li>
+ * </ul>
+ */
+class InMemoryIdempotencyStoreTest {
+
+    private static final String KEY = "12:ip:192.0.2.1key-1";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, clock);
+
+    /**
+     * 予約済みの冪等キーの予約に、既存の記録が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnExisting_whenKeyIsReserved() {
+        // Arrange
+        assertThat(store.reserve(pending("owner-a"), clock.instant())).isEmpty();
+
+        // Act & Assert
+        assertThat(store.reserve(pending("owner-b"), clock.instant()))
+            .hasValueSatisfying(record -> {
+                assertThat(record.owner()).isEqualTo("owner-a");
+                assertThat(record.isCompleted()).isFalse();
+            });
+    }
+
+    /**
+     * 予約したリクエストだけが記録を完了できることを検証する。
+     */
+    @Test
+    void shouldCompleteOnlyByOwner() {
+        // Arrange
+        IdempotencyRecord reserved = pending("owner-a");
+        store.reserve(reserved, clock.instant());
+
+        // Act & Assert
+        assertThat(store.complete(pending("owner-b").complete(response(), expiresAfter(TTL)))).isFalse();
+        assertThat(store.complete(reserved.complete(response(), expiresAfter(TTL)))).isTrue();
+        assertThat(store.reserve(pending("owner-c"), clock.instant()))
+            .hasValueSatisfying(record -> assertThat(record.response()).isEqualTo(response()));
+    }
+
+    /**
+     * 予約したリクエストだけが予約を解除でき、完了した記録は解除されないことを検証する。
+     */
+    @Test
+    void shouldReleaseOnlyOwnedPendingRecord() {
+        // Arrange
+        IdempotencyRecord reserved = pending("owner-a");
+        store.reserve(reserved, clock.instant());
+
+        // Act & Assert
+        store.release(KEY, "owner-b");
+        assertThat(store.reserve(pending("owner-c"), clock.instant())).isPresent();
+
+        store.complete(reserved.complete(response(), expiresAfter(TTL)));
+        store.release(KEY, "owner-a");
+        assertThat(store.reserve(pending("owner-c"), clock.instant()))
+            .hasValueSatisfying(record -> assertThat(record.isCompleted()).isTrue());
+    }
+
+    /**
+     * リースの期限切れ後に引き継いだ予約を、元のリクエストが完了・解除できないことを検証する。
+     */
+    @Test
+    void shouldProtectTakenOverReservation_whenLeaseExpired() {
+        // Arrange
+        IdempotencyRecord original = pending("owner-a");
+        store.reserve(original, clock.instant());
+        clock.advance(LEASE.plusSeconds(1));
+
+        IdempotencyRecord takeover = pending("owner-b");
+        assertThat(store.reserve(takeover, clock.instant())).isEmpty();
+
+        // Act
+        store.release(KEY, "owner-a");
+        boolean completed = store.complete(original.complete(response(), expiresAfter(TTL)));
+
+        // Assert
+        assertThat(completed).isFalse();
+        assertThat(store.reserve(pending("owner-c"), clock.instant()))
+            .hasValueSatisfying(record -> {
+                assertThat(record.owner()).isEqualTo("owner-b");
+                assertThat(record.isCompleted()).isFalse();
+            });
+    }
+
+    private IdempotencyRecord pending(String owner) {
+        return IdempotencyRecord.pending(KEY, FINGERPRINT, owner, expiresAfter(LEASE));
+    }
+
+    private Instant expiresAfter(Duration duration) {
+        return clock.instant().plus(duration);
+    }
+
+    private static StoredResponse response() {
+        return new StoredResponse(
+            201,
+            new TodoResponse(TODO_ID_1, VALID_TITLE_1, false, CREATED_DATE_1, CREATED_DATE_1),
+            E_TAG_1,
+            URI.create("http://localhost%s/%s".formatted(BASE_URL, TODO_ID_1)),
+            "1735689600000"
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.todoapp.idempotency.store;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.todoapp.idempotency.dto.IdempotencyRecord;
+import com.example.todoapp.idempotency.dto.StoredResponse;
+import com.example.todoapp.idempotency.repository.IdempotencyKeyRepository;
+import com.example.todoapp.todo.dto.TodoResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link JpaIdempotencyStore} の結合テスト
+ * <p>
+ * マイグレーションを適用したH2データベースで、条件付きの更新による予約の引き継ぎ・完了・解除を検証する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>予約済みの冪等キーの予約に、既存の記録が返却されること</li>
+ *   <li>予約したリクエストだけが記録を完了でき、レスポンスと整合性トークンが保存されること</li>
+ *   <li>予約したリクエストだけが予約を解除でき、完了した記録は解除されないこと</li>
+ *   <li>リースの期限切れ後に引き継いだ予約を、元のリクエストが完了・解除できないこと</li>
+ *   <li>リースの期限切れで記録が削除されている場合に、完了した記録が登録されること</li>
+ * </ul>
+ */
+@SpringBootTest
+class JpaIdempotencyStoreTest {
+
+    private static final String KEY = "12:ip:192.0.2.1key-1";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Autowired
+    IdempotencyKeyRepository repository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private JpaIdempotencyStore store;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaIdempotencyStore(repository, objectMapper);
+        now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    /**
+     * 予約済みの冪等キーの予約に、既存の記録が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnExisting_whenKeyIsReserved() {
+        // Arrange
+        assertThat(store.reserve(pending("owner-a", now), now)).isEmpty();
+
+        // Act & Assert
+        assertThat(store.reserve(pending("owner-b", now), now))
+            .hasValueSatisfying(record -> {
+                assertThat(record.owner()).isEqualTo("owner-a");
+                assertThat(record.isCompleted()).isFalse();
+            });
+    }
+
+    /**
+     * 予約したリクエストだけが記録を完了でき、レスポンスと整合性トークンが保存されることを検証する。
+     */
+    @Test
+    void shouldCompleteOnlyByOwner() {
+        // Arrange
+        IdempotencyRecord reserved = pending("owner-a", now);
+        store.reserve(reserved, now);
+
+        // Act & Assert
+        assertThat(store.complete(pending("owner-b", now).complete(response(), now.plus(TTL)))).isFalse();
+        assertThat(store.complete(reserved.complete(response(), now.plus(TTL)))).isTrue();
+        assertThat(store.reserve(pending("owner-c", now), now))
+            .hasValueSatisfying(record -> {
+                assertThat(record.response()).isEqualTo(response());
+                assertThat(record.response().consistencyToken()).isEqualTo("1735689600000");
+            });
+    }
+
+    /**
+     * 予約したリクエストだけが予約を解除でき、完了した記録は解除されないことを検証する。
+     */
+    @Test
+    void shouldReleaseOnlyOwnedPendingRecord() {
+        // Arrange
+        IdempotencyRecord reserved = pending("owner-a", now);
+        store.reserve(reserved, now);
+
+        // Act & Assert
+        store.release(KEY, "owner-b");
+        assertThat(repository.existsById(KEY)).isTrue();
+
+        store.complete(reserved.complete(response(), now.plus(TTL)));
+        store.release(KEY, "owner-a");
+        assertThat(repository.existsById(KEY)).isTrue();
+    }
+
+    /**
+     * リースの期限切れ後に引き継いだ予約を、元のリクエストが完了・解除できないことを検証する。
+     */
+    @Test
+    void shouldProtectTakenOverReservation_whenLeaseExpired() {
+        // Arrange
+        IdempotencyRecord original = pending("owner-a", now);
+        store.reserve(original, now);
+
+        Instant later = now.plus(LEASE).plusSeconds(1);
+        assertThat(store.reserve(pending("owner-b", later), later)).isEmpty();
+
+        // Act
+        store.release(KEY, "owner-a");
+        boolean completed = store.complete(original.complete(response(), now.plus(TTL)));
+
+        // Assert
+        assertThat(completed).isFalse();
+        assertThat(store.reserve(pending("owner-c", later), later))
+            .hasValueSatisfying(record -> {
+                assertThat(record.owner()).isEqualTo("owner-b");
+                assertThat(record.isCompleted()).isFalse();
+            });
+    }
+
+    /**
+     * リースの期限切れで記録が削除されている場合に、完了した記録が登録されることを検証する。
+     */
+    @Test
+    void shouldInsertCompletedRecord_whenReservationWasPurged() {
+        // Arrange
+        IdempotencyRecord reserved = pending("owner-a", now);
+        store.reserve(reserved, now);
+        repository.deleteExpired(now.plus(LEASE));
+
+        // Act
+        boolean completed = store.complete(reserved.complete(response(), now.plus(TTL)));
+
+        // Assert
+        assertThat(completed).isTrue();
+        assertThat(store.reserve(pending("owner-b", now), now))
+            .hasValueSatisfying(record -> assertThat(record.response()).isEqualTo(response()));
+    }
+
+    private static IdempotencyRecord pending(String owner, Instant reservedAt) {
+        return IdempotencyRecord.pending(KEY, FINGERPRINT, owner, reservedAt.plus(LEASE));
+    }
+
+    private static StoredResponse response() {
+        return new StoredResponse(
+            201,
+            new TodoResponse(TODO_ID_1, VALID_TITLE_1, false, CREATED_DATE_1, CREATED_DATE_1),
+            E_TAG_1,
+            URI.create("http://localhost%s/%s".formatted(BASE_URL, TODO_ID_1)),
+            "1735689600000"
+        );
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.todoapp.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.testutil.TodoResponseFixture;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link RateLimitFilter} のWeb層結合テスト
+ * <p>
+ * {@code dev} プロファイルでは無効のため、プロパティで有効にし、
+ * 補充がテスト中に発生しない容量（参照系2件・更新系1件、1000秒に1件補充）で検証する。
+ * テストごとに接続元IPアドレスを分けて、バケットを共有しないようにする。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>参照系と更新系の制限が別々に適用されること</li>
+ *   <li>登録済みのAPIキーのクライアントは、接続元IPアドレスによらず同じ制限が適用されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>制限を超えた場合に、{@code Retry-After} ヘッダ付きの429 Too Many Requestsが返却されること</li>
+ *   <li>未登録のAPIキーを付け替えても、接続元IPアドレスの制限が適用されること</li>
+ * </ul>
+ */
+@SpringBootTest(properties = {
+    "app.rate-limit.enabled=true",
+    "app.rate-limit.read.capacity=2",
+    "app.rate-limit.read.refill-per-second=0.001",
+    "app.rate-limit.write.capacity=1",
+    "app.rate-limit.write.refill-per-second=0.001",
+    "app.client.api-keys.mobile=" + RateLimitFilterTest.API_KEY
+})
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    static final String API_KEY = "registered-api-key";
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    /** 補充間隔（1000秒）から求めた {@code Retry-After} の値 */
+    private static final String RETRY_AFTER_SECONDS = "1000";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    TodoResponseFixture todoResponseFixture;
+
+    @MockitoBean
+    TodoCommandService todoCommandService;
+
+    @MockitoBean
+    TodoQueryService todoQueryService;
+
+    @BeforeEach
+    void setUp() {
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            VALID_TITLE_1,
+            false,
+            CREATED_DATE_1,
+            UPDATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoQueryService.getTodo(TODO_ID_1)).thenReturn(response);
+        when(todoCommandService.createTodo(any())).thenReturn(response);
+    }
+
+    /**
+     * 制限を超えた場合に、{@code Retry-After} ヘッダ付きの429 Too Many Requestsが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnTooManyRequests_whenReadLimitExceeded() throws Exception {
+        // Arrange
+        String remoteAddr = "10.0.0.1";
+
+        getTodo(remoteAddr, null).andExpect(status().isOk());
+        getTodo(remoteAddr, null).andExpect(status().isOk());
+
+        // Act
+        getTodo(remoteAddr, null)
+
+            // Assert
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", RETRY_AFTER_SECONDS))
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(ErrorCode.RATE_LIMIT_EXCEEDED.getErrorCode()))
+            .andExpect(jsonPath("$.instance").value("%s/%s".formatted(BASE_URL, TODO_ID_1)));
+
+        // Assert: Mock
+        verify(todoQueryService, times(2)).getTodo(TODO_ID_1);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+
+    /**
+     * 参照系と更新系の制限が別々に適用されることを検証する。
+     */
+    @Test
+    void shouldLimitReadAndWriteSeparately() throws Exception {
+        // Arrange
+        String remoteAddr = "10.0.0.2";
+
+        createTodo(remoteAddr, null).andExpect(status().isCreated());
+
+        // Act & Assert
+        createTodo(remoteAddr, null)
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", RETRY_AFTER_SECONDS));
+        getTodo(remoteAddr, null)
+            .andExpect(status().isOk());
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(any());
+        verify(todoQueryService, times(1)).getTodo(TODO_ID_1);
+    }
+
+    /**
+     * 未登録のAPIキーを付け替えても、接続元IPアドレスの制限が適用されることを検証する。
+     */
+    @Test
+    void shouldKeyOnRemoteAddress_whenApiKeyIsNotRegistered() throws Exception {
+        // Arrange
+        createTodo("10.0.0.3", "rotated-key-1").andExpect(status().isCreated());
+
+        // Act & Assert
+        createTodo("10.0.0.3", "rotated-key-2")
+            .andExpect(status().isTooManyRequests());
+        createTodo("10.0.0.4", "rotated-key-2")
+            .andExpect(status().isCreated());
+
+        // Assert: Mock
+        verify(todoCommandService, times(2)).createTodo(any());
+    }
+
+    /**
+     * 登録済みのAPIキーのクライアントは、接続元IPアドレスによらず同じ制限が適用されることを検証する。
+     */
+    @Test
+    void shouldKeyOnClient_whenApiKeyIsRegistered() throws Exception {
+        // Arrange
+        createTodo("10.0.0.5", null).andExpect(status().isCreated());
+
+        // Act & Assert
+        createTodo("10.0.0.5", API_KEY)
+            .andExpect(status().isCreated());
+        createTodo("10.0.0.6", API_KEY)
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", RETRY_AFTER_SECONDS));
+
+        // Assert: Mock
+        verify(todoCommandService, times(2)).createTodo(any());
+    }
+
+    private ResultActions getTodo(String remoteAddr, String apiKey) throws Exception {
+        return mockMvc.perform(get("%s/{id}".formatted(BASE_URL), TODO_ID_1)
+            .with(request -> {
+                request.setRemoteAddr(remoteAddr);
+                if (apiKey != null) {
+                    request.addHeader(API_KEY_HEADER, apiKey);
+                }
+                return request;
+            })
+        );
+    }
+
+    private ResultActions createTodo(String remoteAddr, String apiKey) throws Exception {
+        return mockMvc.perform(post(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_1, null)))
+            .with(request -> {
+                request.setRemoteAddr(remoteAddr);
+                if (apiKey != null) {
+                    request.addHeader(API_KEY_HEADER, apiKey);
+                }
+                return request;
+            })
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todoapp.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link StripedTokenBuckets} の単体テスト
+ * <p>
+ * 現在時刻は引数で与え、1秒に1件補充・容量1件・1ストライプ・上限2クライアントで検証する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>容量を超えた場合に、次のトークンまでの待ち時間が返却されること</li>
+ *   <li>上限に達した後も、満杯のバケットを破棄して新しいクライアントを登録できること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>上限に達し満杯のバケットがない場合に、新しいクライアントが共有のバケットを使わずに拒否されること</li>
+ * </ul>
+ */
+class StripedTokenBucketsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE = TimeUnit.MINUTES.toNanos(10);
+    private static final long START = 1_000 * SECOND;
+
+    private final StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1.0, 1, 2, IDLE, START);
+
+    /**
+     * 容量を超えた場合に、次のトークンまでの待ち時間が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnWait_whenCapacityExceeded() {
+        // Act & Assert
+        assertThat(buckets.tryAcquire("ip:a", START)).isZero();
+        assertThat(buckets.tryAcquire("ip:a", START)).isEqualTo(SECOND);
+        assertThat(buckets.tryAcquire("ip:a", START + SECOND / 4)).isEqualTo(SECOND * 3 / 4);
+        assertThat(buckets.tryAcquire("ip:a", START + SECOND)).isZero();
+    }
+
+    /**
+     * 上限に達し満杯のバケットがない場合に、新しいクライアントが共有のバケットを使わずに拒否されることを検証する。
+     */
+    @Test
+    void shouldRejectNewClient_whenFullAndNoBucketIsReclaimable() {
+        // Arrange
+        buckets.tryAcquire("ip:a", START);
+        buckets.tryAcquire("ip:b", START);
+
+        // Act & Assert
+        assertThat(buckets.tryAcquire("ip:c", START + SECOND / 2)).isPositive();
+        assertThat(buckets.tryAcquire("ip:d", START + SECOND / 2)).isPositive();
+        assertThat(buckets.size()).isEqualTo(2);
+    }
+
+    /**
+     * 上限に達した後も、満杯のバケットを破棄して新しいクライアントを登録できることを検証する。
+     */
+    @Test
+    void shouldReclaimFullBuckets_whenLimitReached() {
+        // Arrange
+        buckets.tryAcquire("ip:a", START);
+        buckets.tryAcquire("ip:b", START);
+
+        // Act & Assert
+        long refilled = START + 2 * SECOND;
+        assertThat(buckets.tryAcquire("ip:c", refilled)).isZero();
+        assertThat(buckets.tryAcquire("ip:c", refilled)).isEqualTo(SECOND);
+        assertThat(buckets.size()).isEqualTo(1);
+
+        // 破棄されたクライアントは満杯の新しいバケットから再開する
+        assertThat(buckets.tryAcquire("ip:a", refilled)).isZero();
+    }
+}
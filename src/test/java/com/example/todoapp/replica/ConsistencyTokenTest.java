@@ -0,0 +1,75 @@
+package com.example.todoapp.replica;
+
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link ConsistencyToken} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>過去または時計のずれの範囲内の時刻のトークンが解析されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>未指定・解析できない・時計のずれを超えて先の時刻のトークンが無視されること</li>
+ * </ul>
+ */
+class ConsistencyTokenTest {
+
+    private static final long NOW = 1_735_689_600_000L;
+
+    /**
+     * 過去または時計のずれの範囲内の時刻のトークンが解析されることを検証する。
+     *
+     * @param token    整合性トークン
+     * @param expected 解析結果
+     */
+    @ParameterizedTest
+    @MethodSource("provideValidTokens")
+    void parse_shouldReturnWrittenAt_whenTokenIsValid(String token, long expected) {
+        // Act & Assert
+        assertThat(ConsistencyToken.parse(token, NOW)).hasValue(expected);
+    }
+    static Stream<Arguments> provideValidTokens() {
+        return Stream.of(
+            Arguments.of("0", 0L),
+            Arguments.of(Long.toString(NOW), NOW),
+            Arguments.of(" %d ".formatted(NOW - 1), NOW - 1),
+            Arguments.of(
+                Long.toString(NOW + ConsistencyToken.MAX_CLOCK_SKEW_MILLIS),
+                NOW + ConsistencyToken.MAX_CLOCK_SKEW_MILLIS
+            )
+        );
+    }
+
+    /**
+     * 未指定・解析できない・時計のずれを超えて先の時刻のトークンが無視されることを検証する。
+     *
+     * @param token 整合性トークン
+     */
+    @ParameterizedTest
+    @MethodSource("provideIgnoredTokens")
+    void parse_shouldReturnEmpty_whenTokenIsIgnored(String token) {
+        // Act & Assert
+        assertThat(ConsistencyToken.parse(token, NOW)).isEqualTo(OptionalLong.empty());
+    }
+    static Stream<String> provideIgnoredTokens() {
+        return Stream.of(
+            null,
+            "",
+            " ",
+            "abc",
+            "1.5",
+            Long.toString(NOW + ConsistencyToken.MAX_CLOCK_SKEW_MILLIS + 1),
+            Long.toString(Long.MAX_VALUE)
+        );
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.todoapp.replica;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.todoapp.common.order.TailKeyGenerator;
+import com.example.todoapp.todo.dto.TodoRequest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link ReplicaRoutingDataSource} と {@link ReplicaRoutingAspect} の結合テスト
+ * <p>
+ * プライマリとレプリカの代わりに独立した2つのH2インメモリデータベースを使用し、
+ * レプリカにはプライマリの書き込みが反映されない状態で振り分け先を検証する。
+ * 2次キャッシュからの取得はデータソースを経由しないため、2次キャッシュは無効にする。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>作成のレスポンスに整合性トークンが付与されること</li>
+ *   <li>整合性トークンのない取得がレプリカから読み込まれること</li>
+ *   <li>最大遅延内の整合性トークンを指定した取得がプライマリから読み込まれること</li>
+ *   <li>最大遅延を過ぎた整合性トークンを指定した取得がレプリカから読み込まれること</li>
+ *   <li>時計のずれを超えて先の時刻の整合性トークンを指定した取得がレプリカから読み込まれること</li>
+ *   <li>一覧取得がレプリカから読み込まれること</li>
+ * </ul>
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica_routing_primary;DB_CLOSE_DELAY=-1",
+    "app.replica.enabled=true",
+    "app.replica.max-lag=1h",
+    "app.replica.replicas[0].url=jdbc:h2:mem:replica_routing_replica;DB_CLOSE_DELAY=-1",
+    "app.replica.replicas[0].username=sa",
+    "app.replica.replicas[0].password=",
+    "app.second-level-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    private static final String CONSISTENCY_TOKEN_HEADER = ReplicaRoutingAspect.CONSISTENCY_TOKEN_HEADER;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ReplicaRoutingDataSource dataSource;
+
+    JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(dataSource.getReplicas().get(0));
+        replica.execute("""
+            CREATE TABLE IF NOT EXISTS todos (
+                id UUID PRIMARY KEY,
+                title VARCHAR(100) NOT NULL,
+                completed BOOLEAN NOT NULL,
+                created_at TIMESTAMP(6),
+                updated_at TIMESTAMP(6),
+                position VARCHAR(255) NOT NULL
+            )
+            """);
+        replica.update("DELETE FROM todos");
+    }
+
+    /**
+     * 作成のレスポンスに整合性トークンが付与されることを検証する。
+     */
+    @Test
+    void createTodo_shouldIssueConsistencyToken() throws Exception {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        MvcResult result = create(VALID_TITLE_1);
+
+        // Assert
+        String token = result.getResponse().getHeader(CONSISTENCY_TOKEN_HEADER);
+        assertThat(token).isNotNull();
+        assertThat(Long.parseLong(token)).isGreaterThanOrEqualTo(before);
+    }
+
+    /**
+     * 整合性トークンのない取得がレプリカから読み込まれ、未反映のTo-doが見つからないことを検証する。
+     */
+    @Test
+    void getTodo_withoutToken_shouldReadFromReplica() throws Exception {
+        // Arrange
+        String id = idOf(create(VALID_TITLE_1));
+
+        // Act & Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 最大遅延内の整合性トークンを指定した取得がプライマリから読み込まれることを検証する。
+     */
+    @Test
+    void getTodo_withFreshToken_shouldReadFromPrimary() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        String token = created.getResponse().getHeader(CONSISTENCY_TOKEN_HEADER);
+
+        // Act & Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), idOf(created))
+                .header(CONSISTENCY_TOKEN_HEADER, token)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(VALID_TITLE_1));
+    }
+
+    /**
+     * 最大遅延を過ぎた整合性トークンを指定した取得がレプリカから読み込まれることを検証する。
+     */
+    @Test
+    void getTodo_withExpiredToken_shouldReadFromReplica() throws Exception {
+        // Arrange
+        String id = idOf(create(VALID_TITLE_1));
+
+        // Act & Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id)
+                .header(CONSISTENCY_TOKEN_HEADER, "0")
+            )
+            .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 時計のずれを超えて先の時刻の整合性トークンを指定した取得がレプリカから読み込まれることを検証する。
+     */
+    @Test
+    void getTodo_withFutureToken_shouldReadFromReplica() throws Exception {
+        // Arrange
+        String id = idOf(create(VALID_TITLE_1));
+        long future = System.currentTimeMillis() + 60_000L;
+
+        // Act & Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id)
+                .header(CONSISTENCY_TOKEN_HEADER, Long.toString(future))
+            )
+            .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 一覧取得がレプリカから読み込まれることを検証する。
+     */
+    @Test
+    void getTodos_withoutToken_shouldReadFromReplica() throws Exception {
+        // Arrange
+        create(VALID_TITLE_1);
+        LocalDateTime now = LocalDateTime.now();
+        replica.update(
+            "INSERT INTO todos (id, title, completed, created_at, updated_at, position) VALUES (?, ?, ?, ?, ?, ?)",
+            UUID.randomUUID(), VALID_TITLE_2, false, now, now, TailKeyGenerator.next()
+        );
+
+        // Act & Assert
+        mockMvc
+            .perform(get(BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].data.title").value(VALID_TITLE_2));
+    }
+
+    private MvcResult create(String title) throws Exception {
+        return mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn();
+    }
+
+    private String idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todoapp.testutil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * テストで時刻を進められる {@link Clock}
+ */
+public final class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    /**
+     * 指定された時刻の {@link Clock} を生成する。
+     *
+     * @param instant 現在時刻
+     */
+    public MutableClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    /**
+     * 時刻を進める。
+     *
+     * @param duration 進める時間
+     */
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todoapp.testutil;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * テスト中のHTTPリクエスト1件あたりのSQLステートメント数の上限を宣言するアノテーション
+ * <p>
+ * 上限を超えたリクエストがある場合、{@link SqlStatementBudgetExtension} がテストを失敗させる。
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /** リクエスト1件あたりのSQLステートメント数の上限 */
+    int value();
+
+    /** 対象とするHTTPメソッド（空の場合はすべてのリクエスト） */
+    String method() default "";
+}
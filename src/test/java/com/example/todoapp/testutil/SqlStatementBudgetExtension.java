@@ -0,0 +1,69 @@
+package com.example.todoapp.testutil;
+
+import java.util.List;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import com.example.todoapp.common.sql.SqlStatementCounter;
+
+/**
+ * {@link SqlStatementBudget} で宣言された上限を超えるHTTPリクエストがあればテストを失敗させる拡張
+ * <p>
+ * テストメソッドの実行中に計測スコープを開き、
+ * {@code SqlDiagnosticsFilter} が記録したリクエストごとのステートメント数を検証する。
+ */
+public class SqlStatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(
+            context.getUniqueId(),
+            SqlStatementCounter.open(context.getDisplayName())
+        );
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE).remove(
+            context.getUniqueId(),
+            SqlStatementCounter.Scope.class
+        );
+        scope.close();
+
+        SqlStatementBudget budget = findBudget(context);
+        List<String> violations = scope.getChildren().stream()
+            .filter(request -> budget.method().isEmpty()
+                || request.getName().startsWith(budget.method() + " "))
+            .filter(request -> request.getStatementCount() > budget.value())
+            .map(request -> "%s executed %d statements (budget: %d)".formatted(
+                request.getName(),
+                request.getStatementCount(),
+                budget.value()
+            ))
+            .toList();
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError(
+                "SQL statement budget exceeded: " + String.join(", ", violations)
+            );
+        }
+    }
+
+    private static SqlStatementBudget findBudget(ExtensionContext context) {
+        return AnnotationSupport
+            .findAnnotation(context.getRequiredTestMethod(), SqlStatementBudget.class)
+            .or(() -> AnnotationSupport.findAnnotation(
+                context.getRequiredTestClass(),
+                SqlStatementBudget.class
+            ))
+            .orElseThrow(() -> new IllegalStateException(
+                "@SqlStatementBudget is not declared on %s".formatted(context.getDisplayName())
+            ));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.todoapp.todo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.todoapp.todo.dto.TodoRequest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@code /api/todos} の作成・取得・一覧取得・更新・削除の結合テスト
+ * <p>
+ * サービスとバリデータをモックせずに、コントローラから永続化方式までを通して検証する。
+ * ネイティブイメージのテスト（{@code nativeTest}）と、インメモリストアでのテスト（{@code memoryTest}）でも実行する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>作成したTo-doが、作成時と同じETagで取得できること</li>
+ *   <li>作成したTo-doが、同じETagで一覧に含まれること</li>
+ *   <li>更新したTo-doが、更新後の内容と新しいETagで取得できること</li>
+ *   <li>削除したTo-doが、取得できなくなること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>更新前のETagで更新・削除した場合に、412 Precondition Failedが返却されること</li>
+ *   <li>削除済みのTo-doを削除した場合に、404 Not Foundが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoControllerCrudTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 作成したTo-doが、作成時と同じETagで取得できることを検証する。
+     */
+    @Test
+    void createTodo_shouldBeReadableWithSameETag() throws Exception {
+        // Act
+        MvcResult created = create(VALID_TITLE_1);
+
+        // Assert
+        String id = body(created).get("id").asText();
+        String eTag = created.getResponse().getHeader("ETag");
+        assertThat(eTag).isNotBlank();
+        assertThat(body(created).get("title").asText()).isEqualTo(VALID_TITLE_1);
+        assertThat(body(created).get("completed").asBoolean()).isFalse();
+
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", eTag))
+            .andExpect(jsonPath("$.id").value(id))
+            .andExpect(jsonPath("$.title").value(VALID_TITLE_1))
+            .andExpect(jsonPath("$.completed").value(false));
+    }
+
+    /**
+     * 作成したTo-doが、同じETagで一覧に含まれることを検証する。
+     */
+    @Test
+    void getTodos_shouldContainCreatedTodo() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        String id = body(created).get("id").asText();
+        String eTag = created.getResponse().getHeader("ETag");
+
+        // Act: 更新日時の降順の先頭ページ
+        MvcResult listed = mockMvc
+            .perform(get(BASE_URL).param("size", String.valueOf(MIN_PAGE_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andReturn();
+
+        // Assert
+        JsonNode page = body(listed);
+        assertThat(page.get("totalElements").asLong()).isPositive();
+        assertThat(page.get("content"))
+            .filteredOn(element -> element.get("data").get("id").asText().equals(id))
+            .singleElement()
+            .satisfies(element -> {
+                assertThat(element.get("etag").asText()).isEqualTo(eTag);
+                assertThat(element.get("data").get("title").asText()).isEqualTo(VALID_TITLE_1);
+            });
+    }
+
+    /**
+     * 更新したTo-doが更新後の内容と新しいETagで取得でき、更新前のETagでの更新が拒否されることを検証する。
+     */
+    @Test
+    void updateTodo_shouldReturnNewETag_andRejectStaleETag() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        String id = body(created).get("id").asText();
+        String staleETag = created.getResponse().getHeader("ETag");
+
+        // Act
+        MvcResult updated = performUpdate(id, new TodoRequest(VALID_TITLE_2, true), staleETag)
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // Assert
+        String freshETag = updated.getResponse().getHeader("ETag");
+        assertThat(freshETag).isNotBlank().isNotEqualTo(staleETag);
+        assertThat(body(updated).get("completed").asBoolean()).isTrue();
+
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", freshETag))
+            .andExpect(jsonPath("$.title").value(body(updated).get("title").asText()))
+            .andExpect(jsonPath("$.completed").value(true));
+
+        // Act & Assert: 更新前のETag
+        performUpdate(id, new TodoRequest(VALID_TITLE_1, false), staleETag)
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    /**
+     * 削除したTo-doが取得できなくなり、更新前のETagでの削除と削除済みのTo-doの削除が拒否されることを検証する。
+     */
+    @Test
+    void deleteTodo_shouldRemoveTodo_andRejectStaleETag() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        String id = body(created).get("id").asText();
+        String staleETag = created.getResponse().getHeader("ETag");
+        String freshETag = performUpdate(id, new TodoRequest(VALID_TITLE_2, true), staleETag)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        // Act & Assert: 更新前のETag
+        performDelete(id, staleETag)
+            .andExpect(status().isPreconditionFailed());
+
+        // Act
+        performDelete(id, freshETag)
+            .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isNotFound());
+        performDelete(id, freshETag)
+            .andExpect(status().isNotFound());
+    }
+
+    private MvcResult create(String title) throws Exception {
+        return mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(header().exists("ETag"))
+            .andReturn();
+    }
+
+    private ResultActions performUpdate(
+        String id,
+        TodoRequest request,
+        String ifMatch
+    ) throws Exception {
+        return mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("If-Match", ifMatch)
+            );
+    }
+
+    private ResultActions performDelete(String id, String ifMatch) throws Exception {
+        return mockMvc
+            .perform(delete("%s/{id}".formatted(BASE_URL), id)
+                .header("If-Match", ifMatch)
+            );
+    }
+
+    private JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
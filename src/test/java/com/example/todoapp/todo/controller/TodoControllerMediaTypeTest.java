@@ -0,0 +1,348 @@
+package com.example.todoapp.todo.controller;
+
+import java.time.ZoneId;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.config.WebConfig;
+import com.example.todoapp.testutil.TodoPageResponseFixture;
+import com.example.todoapp.testutil.TodoResponseFixture;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.dto.proto.ProblemDetailMessage;
+import com.example.todoapp.todo.dto.proto.TodoPageResponseMessage;
+import com.example.todoapp.todo.dto.proto.TodoRequestMessage;
+import com.example.todoapp.todo.dto.proto.TodoResponseMessage;
+import com.example.todoapp.todo.dto.protobuf.TodoProtobufHttpMessageConverter;
+import com.example.todoapp.todo.repository.TodoListFilter;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+import com.example.todoapp.todo.service.query.TodoSortKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link WebConfig} で登録したCBOR・Smile・Protocol BuffersのHTTPメッセージコンバータのWeb層結合テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>CBOR・Smileのリクエストを読み込み、同じ形式でJSONと同じ項目のレスポンスが返却されること</li>
+ *   <li>Protocol Buffersで {@link TodoResponse} が返却され、日時がサーバーのタイムゾーンのエポック秒であること</li>
+ *   <li>Protocol Buffersで {@link TodoResponse} のページが返却されること</li>
+ *   <li>Protocol Buffersのリクエストを読み込み、201 Createdが返却されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>Protocol Buffersのリクエストの検証に失敗した場合に、400 Bad Requestの {@code ProblemDetail} がProtocol Buffersで返却されること</li>
+ *   <li>Protocol Buffersのリクエストが不正な場合に、400 Bad Requestが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class TodoControllerMediaTypeTest {
+
+    private static final MediaType APPLICATION_CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType APPLICATION_PROTOBUF = TodoProtobufHttpMessageConverter.PROTOBUF;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TodoResponseFixture todoResponseFixture;
+
+    @Autowired
+    TodoPageResponseFixture todoPageResponseFixture;
+
+    @MockitoBean
+    TodoCommandService todoCommandService;
+
+    @MockitoBean
+    TodoQueryService todoQueryService;
+
+    /**
+     * CBOR・Smileのリクエストを読み込み、同じ形式でJSONと同じ項目のレスポンスが返却されることを検証する。
+     *
+     * @param mediaType メディアタイプ
+     * @param mapper    メディアタイプに対応する {@link ObjectMapper}
+     */
+    @ParameterizedTest
+    @MethodSource("provideJacksonMediaTypes")
+    void shouldReadAndWriteJacksonBinaryFormat(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        // Arrange
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            VALID_TITLE_1,
+            false,
+            CREATED_DATE_1,
+            UPDATED_DATE_1,
+            E_TAG_1
+        );
+        TodoResponse todoResponse = response.data();
+
+        when(todoCommandService.createTodo(eq(request))).thenReturn(response);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(mediaType)
+                .accept(mediaType)
+                .content(mapper.writeValueAsBytes(request))
+            )
+
+            // Assert
+            .andExpect(status().isCreated())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andExpect(header().string("ETag", response.etag()))
+            .andReturn();
+
+        JsonNode body = mapper.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("id").asText()).isEqualTo(todoResponse.id().toString());
+        assertThat(body.get("title").asText()).isEqualTo(todoResponse.title());
+        assertThat(body.get("completed").asBoolean()).isEqualTo(todoResponse.completed());
+        assertThat(body.get("createdAt").asText())
+            .isEqualTo(todoResponse.createdAt().format(DATE_TIME_FORMATTER));
+        assertThat(body.get("updatedAt").asText())
+            .isEqualTo(todoResponse.updatedAt().format(DATE_TIME_FORMATTER));
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+    static Stream<Arguments> provideJacksonMediaTypes() {
+        return Stream.of(
+            Arguments.of(APPLICATION_CBOR, new CBORMapper()),
+            Arguments.of(APPLICATION_SMILE, new SmileMapper())
+        );
+    }
+
+    /**
+     * Protocol Buffersで {@link TodoResponse} が返却され、日時がサーバーのタイムゾーンのエポック秒であることを検証する。
+     */
+    @Test
+    void shouldWriteProtobufTodo() throws Exception {
+        // Arrange
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            VALID_TITLE_1,
+            true,
+            CREATED_DATE_1,
+            UPDATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoQueryService.getTodo(TODO_ID_1)).thenReturn(response);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), TODO_ID_1)
+                .accept(APPLICATION_PROTOBUF)
+            )
+
+            // Assert
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROTOBUF))
+            .andExpect(header().string("ETag", response.etag()))
+            .andReturn();
+
+        var message = TodoResponseMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(message.getId()).isEqualTo(TODO_ID_1.toString());
+        assertThat(message.getTitle()).isEqualTo(VALID_TITLE_1);
+        assertThat(message.getCompleted()).isTrue();
+        assertThat(message.getCreatedAt())
+            .isEqualTo(CREATED_DATE_1.atZone(ZoneId.systemDefault()).toEpochSecond());
+        assertThat(message.getUpdatedAt())
+            .isEqualTo(UPDATED_DATE_1.atZone(ZoneId.systemDefault()).toEpochSecond());
+
+        // Assert: Mock
+        verify(todoQueryService, times(1)).getTodo(TODO_ID_1);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+
+    /**
+     * Protocol Buffersで {@link TodoResponse} のページが返却されることを検証する。
+     */
+    @Test
+    void shouldWriteProtobufPage() throws Exception {
+        // Arrange
+        var response = todoPageResponseFixture.create(DEFAULT_PAGE, DEFAULT_PAGE_SIZE);
+
+        when(todoQueryService.getTodoPage(
+            DEFAULT_PAGE,
+            DEFAULT_PAGE_SIZE,
+            TodoSortKey.UPDATED_AT,
+            TodoListFilter.NONE
+        )).thenReturn(response);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(get(BASE_URL)
+                .accept(APPLICATION_PROTOBUF)
+            )
+
+            // Assert
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROTOBUF))
+            .andReturn();
+
+        var message = TodoPageResponseMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(message.getNumber()).isEqualTo(DEFAULT_PAGE);
+        assertThat(message.getSize()).isEqualTo(DEFAULT_PAGE_SIZE);
+        assertThat(message.getTotalElements()).isEqualTo(response.getTotalElements());
+        assertThat(message.getTotalPages()).isEqualTo(response.getTotalPages());
+        assertThat(message.getContentList())
+            .extracting(element -> element.getData().getId(), element -> element.getEtag())
+            .containsExactly(
+                tuple(TODO_ID_1.toString(), E_TAG_1),
+                tuple(TODO_ID_2.toString(), E_TAG_2)
+            );
+
+        // Assert: Mock
+        verify(todoQueryService, times(1)).getTodoPage(
+            DEFAULT_PAGE,
+            DEFAULT_PAGE_SIZE,
+            TodoSortKey.UPDATED_AT,
+            TodoListFilter.NONE
+        );
+        verifyNoMoreInteractions(todoQueryService);
+    }
+
+    /**
+     * Protocol Buffersのリクエストを読み込み、201 Createdが返却されることを検証する。
+     */
+    @Test
+    void shouldReadProtobufRequest() throws Exception {
+        // Arrange
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            VALID_TITLE_1,
+            false,
+            CREATED_DATE_1,
+            CREATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoCommandService.createTodo(eq(request))).thenReturn(response);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(APPLICATION_PROTOBUF)
+                .accept(APPLICATION_PROTOBUF)
+                .content(TodoRequestMessage.newBuilder()
+                    .setTitle(VALID_TITLE_1)
+                    .build()
+                    .toByteArray()
+                )
+            )
+
+            // Assert
+            .andExpect(status().isCreated())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROTOBUF))
+            .andExpect(header().string("ETag", response.etag()))
+            .andReturn();
+
+        var message = TodoResponseMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(message.getId()).isEqualTo(TODO_ID_1.toString());
+        assertThat(message.getTitle()).isEqualTo(VALID_TITLE_1);
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+
+    /**
+     * Protocol Buffersのリクエストの検証に失敗した場合に、
+     * 400 Bad Requestの {@code ProblemDetail} がProtocol Buffersで返却されることを検証する。
+     */
+    @Test
+    void shouldWriteProtobufProblemDetail_whenTitleIsBlank() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(APPLICATION_PROTOBUF)
+                .accept(APPLICATION_PROTOBUF)
+                .content(TodoRequestMessage.newBuilder()
+                    .setTitle(BLANK_TITLE_2)
+                    .build()
+                    .toByteArray()
+                )
+            )
+
+            // Assert
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROTOBUF))
+            .andReturn();
+
+        var message = ProblemDetailMessage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertThat(message.getStatus()).isEqualTo(400);
+        assertThat(message.getTitle()).isEqualTo(REQUEST_VALIDATION_ERROR_TITLE);
+        assertThat(message.getDetail()).contains(REQUEST_VALIDATION_ERROR_DETAIL);
+        assertThat(message.getInstance()).isEqualTo(BASE_URL);
+        assertThat(message.getPropertiesMap())
+            .containsEntry("errorCode", ErrorCode.REQUEST_VALIDATION_FAILURE.getErrorCode());
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(MethodArgumentNotValidException.class);
+
+        // Assert: Mock
+        verifyNoInteractions(todoCommandService);
+    }
+
+    /**
+     * Protocol Buffersのリクエストが不正な場合に、400 Bad Requestが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnBadRequest_whenProtobufIsMalformed() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(APPLICATION_PROTOBUF)
+                .content(new byte[] { (byte) 0x0A, (byte) 0xFF })
+            )
+
+            // Assert
+            .andExpect(status().isBadRequest())
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(HttpMessageNotReadableException.class);
+
+        // Assert: Mock
+        verifyNoInteractions(todoCommandService);
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.todoapp.todo.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoRepository;
+import com.example.todoapp.todo.repository.memory.InMemoryTodoRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * インメモリストア（{@code memory} プロファイル）に対する {@code /api/todos} の結合テスト
+ * <p>
+ * サービスとリポジトリをモックせずに、HTTPの作成・取得・一覧取得・更新・削除が
+ * {@link InMemoryTodoRepository} と {@code MvccTodoStore} に届き、ETagが保存された版と一致することを検証する。
+ * プロファイルを固定するため、{@code test} と {@code memoryTest} のどちらでもインメモリストアで実行する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>作成・更新・削除がストアに反映され、レスポンスのETagが保存された版のETagと一致すること</li>
+ *   <li>作成したTo-doが、同じETagで一覧に含まれること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>同じETagで並行して更新した場合に、1件だけが成功し、残りは412 Precondition Failedが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@ActiveProfiles({ "dev", "memory" })
+@AutoConfigureMockMvc
+class TodoControllerMemoryEngineTest {
+
+    /** 並行して更新するリクエストの数 */
+    private static final int CONCURRENT_UPDATES = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ETagGenerator<TodoEntity> eTagGenerator;
+
+    /**
+     * 作成・更新・削除がストアに反映され、レスポンスのETagが保存された版のETagと一致することを検証する。
+     */
+    @Test
+    void crud_shouldReachInMemoryStore() throws Exception {
+        // Arrange
+        assertThat(todoRepository).isInstanceOf(InMemoryTodoRepository.class);
+
+        // Act: 作成
+        MvcResult created = create(VALID_TITLE_1);
+
+        // Assert
+        UUID id = UUID.fromString(body(created).get("id").asText());
+        String createdETag = created.getResponse().getHeader("ETag");
+        assertThat(storedETag(id)).isEqualTo(createdETag);
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", createdETag))
+            .andExpect(jsonPath("$.title").value(VALID_TITLE_1));
+
+        // Act: 更新
+        MvcResult updated = mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_2, true)))
+                .header("If-Match", createdETag)
+            )
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // Assert
+        String updatedETag = updated.getResponse().getHeader("ETag");
+        assertThat(updatedETag).isNotEqualTo(createdETag).isEqualTo(storedETag(id));
+        assertThat(todoRepository.findById(id)).get()
+            .extracting(TodoEntity::isCompleted)
+            .isEqualTo(true);
+
+        // Act & Assert: 更新前のETagでの削除
+        mockMvc
+            .perform(delete("%s/{id}".formatted(BASE_URL), id)
+                .header("If-Match", createdETag)
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        // Act: 削除
+        mockMvc
+            .perform(delete("%s/{id}".formatted(BASE_URL), id)
+                .header("If-Match", updatedETag)
+            )
+            .andExpect(status().isNoContent());
+
+        // Assert
+        assertThat(todoRepository.findById(id)).isEmpty();
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 作成したTo-doが、同じETagで一覧に含まれることを検証する。
+     */
+    @Test
+    void getTodos_shouldListStoredTodo() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        String id = body(created).get("id").asText();
+        String eTag = created.getResponse().getHeader("ETag");
+
+        // Act: 更新日時の降順の先頭ページ
+        JsonNode page = body(mockMvc
+            .perform(get(BASE_URL).param("size", String.valueOf(MIN_PAGE_SIZE)))
+            .andExpect(status().isOk())
+            .andReturn()
+        );
+
+        // Assert
+        assertThat(page.get("content")).singleElement().satisfies(element -> {
+            assertThat(element.get("data").get("id").asText()).isEqualTo(id);
+            assertThat(element.get("etag").asText()).isEqualTo(eTag);
+        });
+    }
+
+    /**
+     * 同じETagで並行して更新した場合に、1件だけが成功し、残りは412 Precondition Failedが返却されることを検証する。
+     * <p>
+     * ETagの検証を通過した更新どうしは、ストアの比較・交換で1件だけが書き込まれる。
+     */
+    @Test
+    void updateTodo_shouldAcceptOnlyOneUpdate_whenSameETagIsUsedConcurrently() throws Exception {
+        // Arrange
+        MvcResult created = create(VALID_TITLE_1);
+        UUID id = UUID.fromString(body(created).get("id").asText());
+        String eTag = created.getResponse().getHeader("ETag");
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Callable<Integer>> updates = new ArrayList<>(CONCURRENT_UPDATES);
+        for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+            TodoRequest request = new TodoRequest(VALID_TITLE_2 + " " + i, true);
+            updates.add(() -> {
+                start.await();
+                return mockMvc
+                    .perform(put("%s/{id}".formatted(BASE_URL), id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("If-Match", eTag)
+                    )
+                    .andReturn()
+                    .getResponse()
+                    .getStatus();
+            });
+        }
+
+        // Act
+        List<Integer> statuses = new ArrayList<>(CONCURRENT_UPDATES);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPDATES);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(CONCURRENT_UPDATES);
+            for (Callable<Integer> update : updates) {
+                futures.add(executor.submit(update));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status != 200).containsOnly(412);
+        assertThat(storedETag(id)).isNotEqualTo(eTag);
+    }
+
+    private MvcResult create(String title) throws Exception {
+        return mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn();
+    }
+
+    private String storedETag(UUID id) {
+        return eTagGenerator.generate(todoRepository.findById(id).orElseThrow());
+    }
+
+    private JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.todoapp.todo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.todoapp.testutil.SqlStatementBudget;
+import com.example.todoapp.todo.dto.TodoRequest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@code /api/todos} のエンドポイントごとのSQLステートメント数の結合テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>各エンドポイントが宣言されたステートメント数の上限内で完了すること</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoControllerSqlStatementBudgetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    /**
+     * 作成が1ステートメント（INSERT）で完了することを検証する。
+     */
+    @Test
+    @SqlStatementBudget(value = 1, method = "POST")
+    void createTodo_shouldStayWithinBudget() throws Exception {
+        // Act & Assert
+        create(VALID_TITLE_1);
+    }
+
+    /**
+     * 取得が1ステートメント（SELECT）で完了することを検証する。
+     */
+    @Test
+    @SqlStatementBudget(value = 1, method = "GET")
+    void getTodo_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        JsonNode created = create(VALID_TITLE_1);
+
+        // Act & Assert
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), created.get("id").asText()))
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * 一覧取得が2ステートメント（SELECT、COUNT）以内で完了することを検証する。
+     */
+    @Test
+    @SqlStatementBudget(value = 2, method = "GET")
+    void getTodos_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        create(VALID_TITLE_1);
+
+        // Act & Assert
+        mockMvc
+            .perform(get(BASE_URL).param("size", String.valueOf(MIN_PAGE_SIZE)))
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * 更新が3ステートメント（検索のSELECT、マージのSELECT、UPDATE）以内で完了することを検証する。
+     */
+    @Test
+    @SqlStatementBudget(value = 3, method = "PUT")
+    void updateTodo_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        String id = create(VALID_TITLE_1).get("id").asText();
+        String eTag = currentETag(id);
+
+        // Act & Assert
+        mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_2, true)))
+                .header("If-Match", eTag)
+            )
+            .andExpect(status().isOk());
+    }
+
+    /**
+     * 削除が3ステートメント（検索のSELECT、削除前のSELECT、DELETE）以内で完了することを検証する。
+     */
+    @Test
+    @SqlStatementBudget(value = 3, method = "DELETE")
+    void deleteTodo_shouldStayWithinBudget() throws Exception {
+        // Arrange
+        String id = create(VALID_TITLE_1).get("id").asText();
+        String eTag = currentETag(id);
+
+        // Act & Assert
+        mockMvc
+            .perform(delete("%s/{id}".formatted(BASE_URL), id)
+                .header("If-Match", eTag)
+            )
+            .andExpect(status().isNoContent());
+    }
+
+    private JsonNode create(String title) throws Exception {
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String currentETag(String id) throws Exception {
+        return mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.todoapp.todo.controller.command;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyInProgressException;
+import com.example.todoapp.idempotency.exception.IdempotencyKeyReusedException;
+import com.example.todoapp.idempotency.exception.InvalidIdempotencyKeyException;
+import com.example.todoapp.replica.ReplicaRoutingAspect;
+import com.example.todoapp.testutil.TodoResponseFixture;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link TodoCommandController#createTodo} の {@code Idempotency-Key} ヘッダに関するWeb層結合テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>同じ冪等キーの再試行に、最初のレスポンスが整合性トークンとともに再送されること</li>
+ *   <li>送信元のクライアントが異なる場合に、同じ冪等キーでもそれぞれ処理されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>冪等キーが空白または長すぎる場合に、400 Bad Requestが返却されること</li>
+ *   <li>同じ冪等キーのリクエストが処理中の場合に、409 Conflictが返却されること</li>
+ *   <li>同じ冪等キーが異なるリクエストボディで再利用された場合に、422 Unprocessable Entityが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class TodoCommandControllerIdempotencyTest {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String CONSISTENCY_TOKEN = "1735689600000";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TodoResponseFixture todoResponseFixture;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    TodoCommandService todoCommandService;
+
+    /**
+     * 同じ冪等キーの再試行に、最初のレスポンスが整合性トークンとともに再送されることを検証する。
+     */
+    @Test
+    void shouldReplayFirstResponse_whenSameKeyIsRetried() throws Exception {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            request.title(),
+            false,
+            CREATED_DATE_1,
+            CREATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoCommandService.createTodo(eq(request))).thenAnswer(invocation -> {
+            ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getResponse()
+                .setHeader(ReplicaRoutingAspect.CONSISTENCY_TOKEN_HEADER, CONSISTENCY_TOKEN);
+            return response;
+        });
+
+        mockMvc
+            .perform(create(key, request))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(TodoCommandController.IDEMPOTENT_REPLAYED_HEADER));
+
+        // Act
+        mockMvc
+            .perform(create(key, request))
+
+            // Assert
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(TODO_ID_1.toString()))
+            .andExpect(header().string(TodoCommandController.IDEMPOTENT_REPLAYED_HEADER, "true"))
+            .andExpect(header().string(ReplicaRoutingAspect.CONSISTENCY_TOKEN_HEADER, CONSISTENCY_TOKEN))
+            .andExpect(header().string("ETag", E_TAG_1))
+            .andExpect(header().string(
+                "Location",
+                containsString("%s/%s".formatted(BASE_URL, TODO_ID_1))
+            ));
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+
+    /**
+     * 送信元のクライアントが異なる場合に、同じ冪等キーでもそれぞれ処理されることを検証する。
+     */
+    @Test
+    void shouldProcessEachClient_whenSameKeyIsUsedByAnotherClient() throws Exception {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            request.title(),
+            false,
+            CREATED_DATE_1,
+            CREATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoCommandService.createTodo(eq(request))).thenReturn(response);
+
+        mockMvc
+            .perform(create(key, request, "192.0.2.1"))
+            .andExpect(status().isCreated());
+
+        // Act
+        mockMvc
+            .perform(create(key, request, "192.0.2.2"))
+
+            // Assert
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(TodoCommandController.IDEMPOTENT_REPLAYED_HEADER));
+
+        // Assert: Mock
+        verify(todoCommandService, times(2)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+
+    /**
+     * 冪等キーが空白または長すぎる場合に、400 Bad Requestが返却されることを検証する。
+     *
+     * @param key 冪等キー
+     */
+    @ParameterizedTest
+    @MethodSource("provideInvalidKeys")
+    void shouldReturnBadRequest_whenKeyIsInvalid(String key) throws Exception {
+        // Arrange
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(create(key, request))
+
+            // Assert
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(
+                ErrorCode.IDEMPOTENCY_KEY_INVALID.getErrorCode()
+            ))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(InvalidIdempotencyKeyException.class);
+
+        // Assert: Mock
+        verifyNoInteractions(todoCommandService);
+    }
+    static Stream<String> provideInvalidKeys() {
+        return Stream.of(
+            " ",
+            "a".repeat(256)
+        );
+    }
+
+    /**
+     * 同じ冪等キーのリクエストが処理中の場合に、409 Conflictが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnConflict_whenSameKeyIsInProgress() throws Exception {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            request.title(),
+            false,
+            CREATED_DATE_1,
+            CREATED_DATE_1,
+            E_TAG_1
+        );
+        MvcResult[] concurrent = new MvcResult[1];
+
+        when(todoCommandService.createTodo(eq(request))).thenAnswer(invocation -> {
+            concurrent[0] = mockMvc.perform(create(key, request)).andReturn();
+            return response;
+        });
+
+        // Act
+        mockMvc
+            .perform(create(key, request))
+            .andExpect(status().isCreated());
+
+        // Assert
+        assertThat(concurrent[0].getResponse().getStatus()).isEqualTo(409);
+        assertThat(concurrent[0].getResponse().getContentAsString())
+            .contains(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode());
+
+        // Assert: Exception
+        assertThat(concurrent[0].getResolvedException())
+            .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+
+    /**
+     * 同じ冪等キーが異なるリクエストボディで再利用された場合に、422 Unprocessable Entityが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnUnprocessableEntity_whenKeyIsReusedWithDifferentBody() throws Exception {
+        // Arrange
+        String key = UUID.randomUUID().toString();
+        TodoRequest request = new TodoRequest(VALID_TITLE_1, null);
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            request.title(),
+            false,
+            CREATED_DATE_1,
+            CREATED_DATE_1,
+            E_TAG_1
+        );
+
+        when(todoCommandService.createTodo(eq(request))).thenReturn(response);
+
+        mockMvc
+            .perform(create(key, request))
+            .andExpect(status().isCreated());
+
+        // Act
+        MvcResult result = mockMvc
+            .perform(create(key, new TodoRequest(VALID_TITLE_2, null)))
+
+            // Assert
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(
+                ErrorCode.IDEMPOTENCY_KEY_REUSED.getErrorCode()
+            ))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(IdempotencyKeyReusedException.class);
+
+        // Assert: Mock
+        verify(todoCommandService, times(1)).createTodo(eq(request));
+        verifyNoMoreInteractions(todoCommandService);
+    }
+
+    private MockHttpServletRequestBuilder create(String key, TodoRequest request) throws Exception {
+        return create(key, request, "127.0.0.1");
+    }
+
+    private MockHttpServletRequestBuilder create(
+        String key,
+        TodoRequest request,
+        String remoteAddr
+    ) throws Exception {
+        return post(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(IDEMPOTENCY_KEY_HEADER, key)
+            .content(objectMapper.writeValueAsString(request))
+            .with(servletRequest -> {
+                servletRequest.setRemoteAddr(remoteAddr);
+                return servletRequest;
+            });
+    }
+}
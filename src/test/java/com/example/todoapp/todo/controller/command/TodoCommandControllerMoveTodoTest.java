@@ -0,0 +1,116 @@
+package com.example.todoapp.todo.controller.command;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.etag.validation.ETagValidator;
+import com.example.todoapp.testutil.TodoResponseFixture;
+import com.example.todoapp.todo.dto.TodoMoveRequest;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link TodoCommandController#moveTodo} のWeb層結合テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>{@link TodoMoveRequest#after} を指定した場合に、移動後の {@link ETagResponse} が返却されること</li>
+ *   <li>{@link TodoMoveRequest#after} が {@code null} の場合に、先頭へ移動した {@link ETagResponse} が返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class TodoCommandControllerMoveTodoTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TodoResponseFixture todoResponseFixture;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    TodoCommandService todoCommandService;
+
+    @MockitoBean
+    ETagValidator eTagValidator;
+
+    /**
+     * {@link TodoMoveRequest#after} を指定した場合に、移動後の {@link ETagResponse} が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnResponse_whenAfterIsSpecified() throws Exception {
+        assertMoved(new TodoMoveRequest(TODO_ID_2));
+    }
+
+    /**
+     * {@link TodoMoveRequest#after} が {@code null} の場合に、先頭へ移動した {@link ETagResponse} が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnResponse_whenAfterIsNull() throws Exception {
+        assertMoved(new TodoMoveRequest(null));
+    }
+
+    private void assertMoved(TodoMoveRequest request) throws Exception {
+        // Arrange
+        UUID id = TODO_ID_1;
+        String ifMatch = E_TAG_1;
+
+        var response = todoResponseFixture.create(
+            TODO_ID_1,
+            VALID_TITLE_1,
+            false,
+            CREATED_DATE_1,
+            UPDATED_DATE_1,
+            E_TAG_2
+        );
+        TodoResponse todoResponse = response.data();
+
+        doNothing().when(eTagValidator).assertETagPresent(ifMatch);
+        when(todoCommandService.moveTodo(eq(id), eq(request), eq(ifMatch)))
+            .thenReturn(response);
+
+        // Act
+        mockMvc
+            .perform(put("%s/{id}/position".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("If-Match", ifMatch)
+            )
+
+            // Assert
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.id").value(todoResponse.id().toString()))
+            .andExpect(jsonPath("$.title").value(todoResponse.title()))
+            .andExpect(jsonPath("$.position").doesNotExist())
+            .andExpect(header().string("ETag", "%s".formatted(response.etag())));
+
+        // Assert: Mock
+        verify(eTagValidator, times(1)).assertETagPresent(ifMatch);
+        verify(todoCommandService, times(1))
+            .moveTodo(eq(id), eq(request), eq(ifMatch));
+        verifyNoMoreInteractions(eTagValidator, todoCommandService);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.todoapp.todo.controller.query;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.example.todoapp.common.dto.CursorPageResponse;
+import com.example.todoapp.common.error.ErrorCode;
+import com.example.todoapp.testutil.TodoResponseFixture;
+import com.example.todoapp.todo.service.query.TodoPositionCursor;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link TodoQueryController#getTodosByPosition} のWeb層結合テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>カーソルに基づいた {@link CursorPageResponse} が返却されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>カーソルの形式が不正な場合に、400 Bad Requestが返却されること</li>
+ * </ul>
+ */
+@SpringBootTest
+@DisabledInAotMode
+@AutoConfigureMockMvc
+class TodoQueryControllerGetTodosByPositionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoResponseFixture todoResponseFixture;
+
+    @MockitoBean
+    private TodoQueryService todoQueryService;
+
+    /**
+     * カーソルに基づいた {@link CursorPageResponse} が返却されることを検証する。
+     */
+    @Test
+    void shouldReturnCursorPage_whenValidCursor() throws Exception {
+        // Arrange
+        int size = MIN_PAGE_SIZE;
+        TodoPositionCursor cursor = new TodoPositionCursor("V", TODO_ID_1);
+        TodoPositionCursor nextCursor = new TodoPositionCursor("k", TODO_ID_2);
+
+        var response = new CursorPageResponse<>(
+            List.of(todoResponseFixture.create(
+                TODO_ID_2,
+                VALID_TITLE_2,
+                false,
+                CREATED_DATE_2,
+                UPDATED_DATE_2,
+                E_TAG_2
+            )),
+            size,
+            nextCursor.encode()
+        );
+
+        when(todoQueryService.getTodoPositionPage(cursor, size)).thenReturn(response);
+
+        // Act
+        mockMvc
+            .perform(get(BASE_URL)
+                .param("sort", "position")
+                .param("cursor", cursor.encode())
+                .param("size", String.valueOf(size))
+            )
+
+            // Assert
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(TODO_ID_2.toString()))
+            .andExpect(jsonPath("$.size").value(size))
+            .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        // Assert: Mock
+        verify(todoQueryService, times(1)).getTodoPositionPage(cursor, size);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+
+    /**
+     * カーソルの形式が不正な場合に、400 Bad Requestが返却されることを検証する。
+     */
+    @Test
+    void shouldReturnBadRequest_whenInvalidCursor() throws Exception {
+        // Act
+        MvcResult result = mockMvc
+            .perform(get(BASE_URL)
+                .param("sort", "position")
+                .param("cursor", NON_NUMERIC_QUERY_PARAM)
+            )
+
+            // Assert
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(
+                ErrorCode.REQUEST_VALIDATION_FAILURE.getErrorCode()
+            ))
+            .andExpect(jsonPath("$.title").value(REQUEST_VALIDATION_ERROR_TITLE))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(MethodArgumentTypeMismatchException.class);
+
+        // Assert: Mock
+        verifyNoInteractions(todoQueryService);
+    }
+}
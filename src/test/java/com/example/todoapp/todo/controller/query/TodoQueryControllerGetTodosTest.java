@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -17,6 +18,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -26,7 +28,9 @@ import com.example.todoapp.common.error.ErrorCode;
 import com.example.todoapp.etag.dto.ETagResponse;
 import com.example.todoapp.testutil.TodoPageResponseFixture;
 import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.repository.TodoListFilter;
 import com.example.todoapp.todo.service.query.TodoQueryService;
+import com.example.todoapp.todo.service.query.TodoSortKey;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,15 +48,18 @@ import static com.example.todoapp.testutil.TestConstants.*;
  *   <li>クエリパラメータに基づいた {@link Page} が返却されること</li>
  *   <li>クエリパラメータの指定がない場合に、デフォルトの {@link Page} が返却されること</li>
  *   <li>ページ番号が総ページ数を超える場合に、空の {@link Page} が返却されること</li>
+ *   <li>並び順と絞り込み条件がサービスに渡されること</li>
  * </ul>
  * <p>
  * 異常系：
  * <ul>
  *   <li>指定されたクエリパラメータが無効な場合に、400 Bad Requestが返却されること</li>
  *   <li>クエリパラメータが数値ではない場合に、400 Bad Requestが返却されること</li>
+ *   <li>並び順が許可されていない場合に、400 Bad Requestが返却されること</li>
  * </ul>
  */
 @SpringBootTest
+@DisabledInAotMode
 @AutoConfigureMockMvc
 class TodoQueryControllerGetTodosTest {
 
@@ -78,7 +85,8 @@ class TodoQueryControllerGetTodosTest {
         var response = todoPageResponseFixture.create(page, size);
         int contentSize = response.getContent().size();
 
-        when(todoQueryService.getTodoPage(page, size)).thenReturn(response);
+        when(todoQueryService.getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE))
+            .thenReturn(response);
 
         // Act
         mockMvc
@@ -95,11 +103,12 @@ class TodoQueryControllerGetTodosTest {
             .andExpect(jsonPath("$.totalElements").value(contentSize))
             .andExpect(jsonPath("$.number").value(page))
             .andExpect(jsonPath("$.size").value(size))
-            .andExpect(jsonPath("$.pageable.pageNumber").value(page))
-            .andExpect(jsonPath("$.pageable.pageSize").value(size));
+            .andExpect(jsonPath("$.totalPages").value(response.getTotalPages()))
+            .andExpect(jsonPath("$.pageable").doesNotExist());
 
         // Assert: Mock
-        verify(todoQueryService, times(1)).getTodoPage(page, size);
+        verify(todoQueryService, times(1))
+            .getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE);
         verifyNoMoreInteractions(todoQueryService);
     }
     static Stream<Arguments> provideValidQueryParams() {
@@ -129,7 +138,8 @@ class TodoQueryControllerGetTodosTest {
         var response = todoPageResponseFixture.create(page, size);
         int contentSize = response.getContent().size();
 
-        when(todoQueryService.getTodoPage(page, size)).thenReturn(response);
+        when(todoQueryService.getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE))
+            .thenReturn(response);
 
         // Act
         mockMvc
@@ -143,11 +153,12 @@ class TodoQueryControllerGetTodosTest {
             .andExpect(jsonPath("$.totalElements").value(contentSize))
             .andExpect(jsonPath("$.number").value(page))
             .andExpect(jsonPath("$.size").value(size))
-            .andExpect(jsonPath("$.pageable.pageNumber").value(page))
-            .andExpect(jsonPath("$.pageable.pageSize").value(size));
+            .andExpect(jsonPath("$.totalPages").value(response.getTotalPages()))
+            .andExpect(jsonPath("$.pageable").doesNotExist());
 
         // Assert: Mock
-        verify(todoQueryService, times(1)).getTodoPage(page, size);
+        verify(todoQueryService, times(1))
+            .getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE);
         verifyNoMoreInteractions(todoQueryService);
     }
 
@@ -172,7 +183,8 @@ class TodoQueryControllerGetTodosTest {
             totalElements
         );
 
-        when(todoQueryService.getTodoPage(page, size)).thenReturn(response);
+        when(todoQueryService.getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE))
+            .thenReturn(response);
 
         // Act
         mockMvc
@@ -188,11 +200,12 @@ class TodoQueryControllerGetTodosTest {
             .andExpect(jsonPath("$.content.length()").value(0))
             .andExpect(jsonPath("$.number").value(page))
             .andExpect(jsonPath("$.size").value(size))
-            .andExpect(jsonPath("$.pageable.pageNumber").value(page))
-            .andExpect(jsonPath("$.pageable.pageSize").value(size));
+            .andExpect(jsonPath("$.totalPages").value(response.getTotalPages()))
+            .andExpect(jsonPath("$.pageable").doesNotExist());
 
         // Assert: Mock
-        verify(todoQueryService, times(1)).getTodoPage(page, size);
+        verify(todoQueryService, times(1))
+            .getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE);
         verifyNoMoreInteractions(todoQueryService);
     }
     static Stream<Arguments> providePageExceedingTotalPages() {
@@ -203,6 +216,98 @@ class TodoQueryControllerGetTodosTest {
         );
     }
 
+    /**
+     * 並び順と絞り込み条件がサービスに渡されることを検証する。
+     *
+     * @param sort   並び順のクエリパラメータ
+     * @param params 絞り込み条件のクエリパラメータ（名前と値の組）
+     * @param filter サービスに渡される絞り込み条件
+     */
+    @ParameterizedTest
+    @MethodSource("provideSortAndFilterParams")
+    void shouldPassSortAndFilter_whenSortAndFilterParamsProvided(
+        TodoSortKey sort,
+        List<String> params,
+        TodoListFilter filter
+    ) throws Exception {
+        // Arrange
+        var response = todoPageResponseFixture.create(DEFAULT_PAGE, DEFAULT_PAGE_SIZE);
+
+        when(todoQueryService.getTodoPage(DEFAULT_PAGE, DEFAULT_PAGE_SIZE, sort, filter))
+            .thenReturn(response);
+
+        var request = get(BASE_URL).param("sort", sort.parameter());
+        for (int i = 0; i < params.size(); i += 2) {
+            request.param(params.get(i), params.get(i + 1));
+        }
+
+        // Act
+        mockMvc
+            .perform(request)
+
+            // Assert
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(response.getContent().size()));
+
+        // Assert: Mock
+        verify(todoQueryService, times(1))
+            .getTodoPage(DEFAULT_PAGE, DEFAULT_PAGE_SIZE, sort, filter);
+        verifyNoMoreInteractions(todoQueryService);
+    }
+    static Stream<Arguments> provideSortAndFilterParams() {
+        return Stream.of(
+            Arguments.of(TodoSortKey.UPDATED_AT, List.of(), TodoListFilter.NONE),
+            Arguments.of(
+                TodoSortKey.UPDATED_AT,
+                List.of("completed", "false"),
+                new TodoListFilter(false, null, null)
+            ),
+            Arguments.of(
+                TodoSortKey.TITLE,
+                List.of("completed", "true"),
+                new TodoListFilter(true, null, null)
+            ),
+            Arguments.of(
+                TodoSortKey.CREATED_AT,
+                List.of("createdAfter", "2024-12-31T00:00:00", "createdBefore", "2025-01-01T06:15:15"),
+                new TodoListFilter(null, CREATED_DATE_1, UPDATED_DATE_1)
+            ),
+            Arguments.of(
+                TodoSortKey.CREATED_AT,
+                List.of("completed", "false", "createdAfter", "2024-12-31T00:00:00"),
+                new TodoListFilter(false, CREATED_DATE_1, null)
+            )
+        );
+    }
+
+    /**
+     * 並び順が許可されていない場合に、400 Bad Requestが返却されることを検証する。
+     *
+     * @param sort 並び順のクエリパラメータ
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "id", "completed", "updatedAt,asc" })
+    void shouldReturnBadRequest_whenSortNotAllowed(String sort) throws Exception {
+        // Act
+        MvcResult result = mockMvc
+            .perform(get(BASE_URL).param("sort", sort))
+
+            // Assert
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.errorCode").value(
+                ErrorCode.REQUEST_VALIDATION_FAILURE.getErrorCode()
+            ))
+            .andReturn();
+
+        // Assert: Exception
+        assertThat(result.getResolvedException())
+            .isInstanceOf(ConstraintViolationException.class);
+
+        // Assert: Mock
+        verifyNoInteractions(todoQueryService);
+    }
+
     /**
      * 指定されたクエリパラメータが無効な場合に、400 Bad Requestが返却されることを検証する。
      *
@@ -239,7 +344,8 @@ class TodoQueryControllerGetTodosTest {
             .isInstanceOf(ConstraintViolationException.class);
 
         // Assert: Mock
-        verify(todoQueryService, never()).getTodoPage(page, size);
+        verify(todoQueryService, never())
+            .getTodoPage(page, size, TodoSortKey.UPDATED_AT, TodoListFilter.NONE);
         verifyNoMoreInteractions(todoQueryService);
     }
     static Stream<Arguments> provideInvalidQueryParams() {
@@ -292,7 +398,7 @@ class TodoQueryControllerGetTodosTest {
             .isInstanceOf(MethodArgumentTypeMismatchException.class);
 
         // Assert: Mock
-        verify(todoQueryService, never()).getTodoPage(anyInt(), anyInt());
+        verify(todoQueryService, never()).getTodoPage(anyInt(), anyInt(), any(), any());
         verifyNoMoreInteractions(todoQueryService);
     }
     static Stream<Arguments> provideNotNumberQueryParams() {
@@ -0,0 +1,162 @@
+package com.example.todoapp.todo.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.todoapp.common.sql.CountingStatementInspector;
+import com.example.todoapp.common.sql.SqlStatementCounter;
+import com.example.todoapp.todo.service.query.TodoSortKey;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link JpaTodoRepository} による一覧取得の実行計画のテスト
+ * <p>
+ * {@link TodoSortKey} と絞り込み条件の許可された組み合わせごとに、
+ * {@link JpaTodoRepository#findAll(TodoListFilter, org.springframework.data.domain.Pageable)} を実行して
+ * Hibernateが出力したSQLを {@link CountingStatementInspector} で取得し、同じ値をバインドしてH2の {@code EXPLAIN} にかける。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>完了状態がバインド変数ではなく定数の条件として出力され、並び順の先頭に完了状態が加わること</li>
+ *   <li>許可された組み合わせの一覧取得が、想定したインデックスの順序で読み込まれること</li>
+ * </ul>
+ */
+@SpringBootTest
+class TodoListQueryPlanTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    JpaTodoRepository jpaTodoRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    /**
+     * 許可された組み合わせの一覧取得が、想定したインデックスの順序で読み込まれることを検証する。
+     *
+     * @param filter        絞り込み条件
+     * @param sortKey       並び順
+     * @param expectedIndex 想定したインデックスの名前
+     */
+    @ParameterizedTest
+    @MethodSource("provideListQueries")
+    void listQuery_shouldUseIndexOrder(TodoListFilter filter, TodoSortKey sortKey, String expectedIndex) {
+        // Arrange
+        String sql;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.capture("findAll")) {
+            jpaTodoRepository.findAll(filter, PageRequest.of(0, PAGE_SIZE, sortKey.sort()));
+            sql = scope.getStatements().stream()
+                .filter(statement -> statement.toLowerCase().contains("order by"))
+                .findFirst()
+                .orElseThrow();
+        }
+
+        // Assert: 完了状態は定数の条件で、並び順の先頭に加わる
+        assertThat(sql).doesNotContainPattern("(?i)completed\\s*=\\s*\\?");
+        if (filter.completed() != null) {
+            assertThat(sql)
+                .containsPattern("(?i)completed\\s*=\\s*" + filter.completed())
+                .containsPattern("(?i)order by \\w+\\.completed");
+        }
+
+        // Act
+        String plan = new JdbcTemplate(dataSource).queryForObject(
+            "EXPLAIN " + sql,
+            String.class,
+            bindValues(sql, filter)
+        );
+
+        // Assert
+        assertThat(plan)
+            .containsIgnoringCase(expectedIndex)
+            .containsIgnoringCase("index sorted");
+    }
+
+    static Stream<Arguments> provideListQueries() {
+        LocalDateTime january = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime february = LocalDateTime.of(2025, 2, 1, 0, 0);
+        return Stream.of(
+            // sort=updatedAt
+            Arguments.of(
+                TodoListFilter.NONE,
+                TodoSortKey.UPDATED_AT,
+                "IDX_TODOS_UPDATED_AT_ID"
+            ),
+            Arguments.of(
+                new TodoListFilter(false, null, null),
+                TodoSortKey.UPDATED_AT,
+                "IDX_TODOS_COMPLETED_UPDATED_AT_ID"
+            ),
+
+            // sort=createdAt
+            Arguments.of(
+                TodoListFilter.NONE,
+                TodoSortKey.CREATED_AT,
+                "IDX_TODOS_CREATED_AT_ID"
+            ),
+            Arguments.of(
+                new TodoListFilter(null, january, february),
+                TodoSortKey.CREATED_AT,
+                "IDX_TODOS_CREATED_AT_ID"
+            ),
+            Arguments.of(
+                new TodoListFilter(true, january, null),
+                TodoSortKey.CREATED_AT,
+                "IDX_TODOS_COMPLETED_CREATED_AT_ID"
+            ),
+
+            // sort=title
+            Arguments.of(
+                TodoListFilter.NONE,
+                TodoSortKey.TITLE,
+                "IDX_TODOS_TITLE_ID"
+            ),
+            Arguments.of(
+                new TodoListFilter(false, null, null),
+                TodoSortKey.TITLE,
+                "IDX_TODOS_COMPLETED_TITLE_ID"
+            )
+        );
+    }
+
+    /**
+     * Hibernateがバインドした値を、SQLのバインド変数の順に並べる。
+     * <p>
+     * 作成日時の範囲（開始・終了の順）の後に、ページの位置（先頭ページでは省略される）と件数が続く。
+     */
+    private static Object[] bindValues(String sql, TodoListFilter filter) {
+        List<Object> values = new ArrayList<>();
+        if (filter.createdAfter() != null) {
+            values.add(filter.createdAfter());
+        }
+        if (filter.createdBefore() != null) {
+            values.add(filter.createdBefore());
+        }
+
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        assertThat(placeholders - values.size())
+            .as("page parameters in %s", sql)
+            .isBetween(1L, 2L);
+        if (placeholders - values.size() == 2) {
+            values.add(0);
+        }
+        values.add(PAGE_SIZE);
+
+        return values.toArray();
+    }
+}
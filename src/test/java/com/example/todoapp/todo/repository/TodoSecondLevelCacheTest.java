@@ -0,0 +1,248 @@
+package com.example.todoapp.todo.repository;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.todoapp.config.SecondLevelCacheConfig;
+import com.example.todoapp.todo.dto.TodoMoveRequest;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.model.TodoEntity;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link TodoEntity} の2次キャッシュ（{@link SecondLevelCacheConfig}）の結合テスト
+ * <p>
+ * 作成・更新・移動・削除の各経路の後に、キャッシュからの取得がデータベースの状態と一致することを検証する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>取得したTo-doがキャッシュに格納され、以降の取得がキャッシュから読み込まれること</li>
+ *   <li>更新後の取得が更新後の内容とETagを返却し、更新前のETagが拒否されること</li>
+ *   <li>移動後の取得が移動後のETagを返却し、キャッシュの位置キーがデータベースと一致し、移動前のETagが拒否されること</li>
+ *   <li>移動がほかのTo-doのキャッシュを無効にしないこと</li>
+ *   <li>削除後にキャッシュから取り除かれ、取得が見つからないこと</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoSecondLevelCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 取得したTo-doがキャッシュに格納され、以降の取得がキャッシュから読み込まれることを検証する。
+     */
+    @Test
+    void getTodo_shouldReadFromCache() throws Exception {
+        // Arrange
+        String id = create(VALID_TITLE_1).get("id").asText();
+        currentETag(id);
+        long hits = regionStatistics().getHitCount();
+
+        // Act
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.title").value(VALID_TITLE_1));
+
+        // Assert
+        assertThat(isCached(id)).isTrue();
+        assertThat(regionStatistics().getHitCount()).isGreaterThan(hits);
+    }
+
+    /**
+     * 更新後の取得が更新後の内容とETagを返却し、更新前のETagが拒否されることを検証する。
+     */
+    @Test
+    void updateTodo_shouldRefreshCachedEntry() throws Exception {
+        // Arrange
+        String id = create(VALID_TITLE_1).get("id").asText();
+        String staleETag = currentETag(id);
+
+        // Act
+        MvcResult updated = mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_2, true)))
+                .header("If-Match", staleETag)
+            )
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // Assert
+        String freshETag = updated.getResponse().getHeader("ETag");
+        String freshTitle = objectMapper.readTree(updated.getResponse().getContentAsString()).get("title").asText();
+        assertThat(freshETag).isNotEqualTo(staleETag);
+
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", freshETag))
+            .andExpect(jsonPath("$.title").value(freshTitle))
+            .andExpect(jsonPath("$.completed").value(true));
+
+        mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_1, false)))
+                .header("If-Match", staleETag)
+            )
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    /**
+     * 移動後の取得が移動後のETagを返却し、キャッシュの位置キーがデータベースと一致し、移動前のETagが拒否されることを検証する。
+     * <p>
+     * 移動は移動したTo-doの1件だけを更新し、ほかのTo-doのキャッシュを無効にしないことも検証する。
+     */
+    @Test
+    void moveTodo_shouldRefreshCachedEntry() throws Exception {
+        // Arrange
+        String other = create(VALID_TITLE_1).get("id").asText();
+        currentETag(other);
+        String id = create(VALID_TITLE_1).get("id").asText();
+        String staleETag = currentETag(id);
+        String stalePosition = storedPosition(id);
+
+        // Act: 先頭に移動
+        MvcResult moved = mockMvc
+            .perform(put("%s/{id}/position".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoMoveRequest(null)))
+                .header("If-Match", staleETag)
+            )
+            .andExpect(status().isOk())
+            .andReturn();
+
+        // Assert
+        String freshETag = moved.getResponse().getHeader("ETag");
+        assertThat(freshETag).isNotEqualTo(staleETag);
+
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", freshETag));
+        assertThat(storedPosition(id)).isNotEqualTo(stalePosition);
+        assertThat(cachedPosition(id)).isEqualTo(storedPosition(id));
+        assertThat(isCached(other)).as("move must not invalidate the whole region").isTrue();
+
+        mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_2, true)))
+                .header("If-Match", staleETag)
+            )
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    /**
+     * 削除後にキャッシュから取り除かれ、取得が見つからないことを検証する。
+     */
+    @Test
+    void deleteTodo_shouldEvictCachedEntry() throws Exception {
+        // Arrange
+        String id = create(VALID_TITLE_1).get("id").asText();
+        String eTag = currentETag(id);
+
+        // Act
+        mockMvc
+            .perform(delete("%s/{id}".formatted(BASE_URL), id)
+                .header("If-Match", eTag)
+            )
+            .andExpect(status().isNoContent());
+
+        // Assert
+        assertThat(isCached(id)).isFalse();
+
+        mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isNotFound());
+    }
+
+    private CacheRegionStatistics regionStatistics() {
+        return entityManagerFactory
+            .unwrap(SessionFactory.class)
+            .getStatistics()
+            .getDomainDataRegionStatistics(TodoEntity.CACHE_REGION);
+    }
+
+    private boolean isCached(String id) {
+        return entityManagerFactory.getCache().contains(TodoEntity.class, UUID.fromString(id));
+    }
+
+    /**
+     * 永続化コンテキストを新しく作成して取得したTo-doの位置キーを返す（2次キャッシュにあればキャッシュから読み込む）。
+     */
+    private String cachedPosition(String id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(TodoEntity.class, UUID.fromString(id)).getPosition();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 2次キャッシュを経由せず、データベースから読み込んだTo-doの位置キーを返す。
+     */
+    private String storedPosition(String id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return (String) entityManager
+                .createNativeQuery("SELECT position FROM todos WHERE id = :id")
+                .setParameter("id", UUID.fromString(id))
+                .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private JsonNode create(String title) throws Exception {
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String currentETag(String id) throws Exception {
+        return mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+    }
+}
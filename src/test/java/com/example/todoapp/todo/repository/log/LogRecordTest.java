@@ -0,0 +1,103 @@
+package com.example.todoapp.todo.repository.log;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link LogRecord} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>符号化した本体を復号すると、元の記録に戻ること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>形式のバージョンが未対応の場合に、{@link IllegalArgumentException} がスローされること</li>
+ *   <li>記録の種類が不明な場合に、{@link IllegalArgumentException} がスローされること</li>
+ * </ul>
+ */
+class LogRecordTest {
+
+    private static final UUID ID = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+
+    /**
+     * 符号化した本体を復号すると、元の記録に戻ることを検証する。
+     *
+     * @param record 記録
+     */
+    @ParameterizedTest
+    @MethodSource("provideRecords")
+    void decodeBody_shouldRestoreEncodedRecord(LogRecord record) {
+        // Act
+        LogRecord decoded = LogRecord.decodeBody(ByteBuffer.wrap(record.encodeBody()));
+
+        // Assert
+        assertThat(decoded).isEqualTo(record);
+    }
+    static Stream<Arguments> provideRecords() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 30, 15, 123_456_000);
+        return Stream.of(
+            // 追加・更新
+            Arguments.of(new LogRecord(false, ID, "Test Title", false, "a0", createdAt, createdAt)),
+            Arguments.of(new LogRecord(false, ID, "買い物に行く（牛乳）", true, "a0V", createdAt, createdAt.plusDays(1))),
+            Arguments.of(new LogRecord(false, ID, "😀 emoji", true, "Zz", createdAt, createdAt)),
+            // エポックより前の日時
+            Arguments.of(new LogRecord(
+                false,
+                ID,
+                "Old",
+                false,
+                "a0",
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000),
+                createdAt
+            )),
+            // 削除
+            Arguments.of(new LogRecord(true, ID, "Test Title", false, "a0", createdAt, createdAt))
+        );
+    }
+
+    /**
+     * 形式のバージョンが未対応の場合に、{@link IllegalArgumentException} がスローされることを検証する。
+     */
+    @Test
+    void decodeBody_shouldThrowException_whenVersionIsUnsupported() {
+        // Arrange
+        byte[] body = record().encodeBody();
+        body[0] = LogRecord.FORMAT_VERSION + 1;
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> LogRecord.decodeBody(ByteBuffer.wrap(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+
+    /**
+     * 記録の種類が不明な場合に、{@link IllegalArgumentException} がスローされることを検証する。
+     */
+    @Test
+    void decodeBody_shouldThrowException_whenTypeIsUnknown() {
+        // Arrange
+        byte[] body = record().encodeBody();
+        body[1] = 9;
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> LogRecord.decodeBody(ByteBuffer.wrap(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("type");
+    }
+
+    private static LogRecord record() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return new LogRecord(false, ID, "Test Title", false, "a0", now, now);
+    }
+}
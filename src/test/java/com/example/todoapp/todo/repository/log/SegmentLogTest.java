@@ -0,0 +1,390 @@
+package com.example.todoapp.todo.repository.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.common.audit.MicrosecondDateTimeProvider;
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.memory.InMemoryTodoRepository;
+import com.example.todoapp.todo.repository.memory.MvccTodoStore;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link SegmentLog} の単体テスト
+ * <p>
+ * 一時ディレクトリに {@value #SEGMENT_SIZE} バイトのセグメントを作成し、
+ * {@link InMemoryTodoRepository} を通して書き込んだ内容を、ログを開き直して復元する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>開き直したログから、IDごとの最新の版が復元されること</li>
+ *   <li>最後のセグメントの末尾にある書き込み途中の記録が切り捨てられ、その位置から追記されること</li>
+ *   <li>コンパクションで最新の記録だけが書き写され、最も古いセグメントの削除の記録が取り除かれること</li>
+ *   <li>コンパクションで、より古いセグメントの版を打ち消す削除の記録が残ること</li>
+ *   <li>書き写しの後、セグメントの削除の前に停止した場合も、同じ内容が復元されること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>最後のセグメントの途中の記録が壊れている場合に、{@link IllegalStateException} がスローされること</li>
+ *   <li>最後以外のセグメントの記録が壊れている場合に、{@link IllegalStateException} がスローされること</li>
+ *   <li>CRCが一致する記録を復号できない場合に、{@link IllegalStateException} がスローされること</li>
+ * </ul>
+ */
+class SegmentLogTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final double COMPACTION_THRESHOLD = 0.5;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * 開き直したログから、IDごとの最新の版が復元されることを検証する。
+     */
+    @Test
+    void open_shouldRestoreLatestVersions() {
+        // Arrange
+        UUID kept;
+        UUID deleted;
+        try (Opened opened = open()) {
+            TodoEntity todo = opened.save("before", "a0");
+            kept = todo.getId();
+            deleted = opened.save("deleted", "a1").getId();
+            todo.setTitle("after");
+            todo.setCompleted(true);
+            opened.repository().save(todo);
+            opened.repository().delete(opened.repository().findById(deleted).orElseThrow());
+        }
+
+        // Act
+        try (Opened reopened = open()) {
+            // Assert
+            assertThat(reopened.restored()).isEqualTo(1);
+            assertThat(reopened.store().size()).isEqualTo(1);
+            assertThat(reopened.repository().findById(kept)).get()
+                .extracting(TodoEntity::getTitle, TodoEntity::isCompleted, TodoEntity::getPosition)
+                .containsExactly("after", true, "a0");
+            assertThat(reopened.repository().findById(deleted)).isEmpty();
+        }
+    }
+
+    /**
+     * 最後のセグメントの末尾にある書き込み途中の記録が切り捨てられ、その位置から追記されることを検証する。
+     */
+    @Test
+    void open_shouldTruncateTornTail() throws IOException {
+        // Arrange
+        UUID first;
+        int tail;
+        try (Opened opened = open()) {
+            first = opened.save("first", "a0").getId();
+            tail = (int) opened.log().getUsedBytes();
+        }
+        // CRCを書き込む前に停止した記録
+        overwrite(segmentPath(1), tail, ByteBuffer.allocate(20).putInt(0).putInt(40).putInt(0x0101_0101));
+
+        // Act
+        UUID second;
+        try (Opened reopened = open()) {
+            // Assert
+            assertThat(reopened.restored()).isEqualTo(1);
+            assertThat(reopened.log().getUsedBytes()).isEqualTo(tail);
+            second = reopened.save("second", "a1").getId();
+        }
+
+        // Assert: 切り捨てた位置に追記した記録が復元される
+        try (Opened reopened = open()) {
+            assertThat(reopened.restored()).isEqualTo(2);
+            assertThat(reopened.repository().findById(first)).isPresent();
+            assertThat(reopened.repository().findById(second)).isPresent();
+        }
+    }
+
+    /**
+     * 最後のセグメントの途中の記録が壊れている場合に、{@link IllegalStateException} がスローされることを検証する。
+     */
+    @Test
+    void open_shouldThrowException_whenMiddleRecordIsCorrupted() throws IOException {
+        // Arrange
+        try (Opened opened = open()) {
+            opened.save("first", "a0");
+            opened.save("second", "a1");
+            opened.save("third", "a2");
+        }
+        // 1件目の記録のIDを書き換える
+        int offset = LogRecord.HEADER_SIZE + 2;
+        byte original = Files.readAllBytes(segmentPath(1))[offset];
+        overwrite(segmentPath(1), offset, ByteBuffer.allocate(1).put((byte) ~original));
+
+        // Act & Assert: Exception
+        assertThatThrownBy(this::open)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("followed by intact records");
+    }
+
+    /**
+     * 最後以外のセグメントの記録が壊れている場合に、{@link IllegalStateException} がスローされることを検証する。
+     */
+    @Test
+    void open_shouldThrowException_whenRecordInOlderSegmentIsCorrupted() throws IOException {
+        // Arrange
+        try (Opened opened = open()) {
+            for (int i = 0; opened.log().getSegmentCount() < 2; i++) {
+                opened.save("title " + i, "a" + i);
+            }
+        }
+        // 1つ目のセグメントの最後の記録の長さを書き換える
+        int last = lastRecordOffset(segmentPath(1));
+        overwrite(segmentPath(1), last + 4, ByteBuffer.allocate(4).putInt(SEGMENT_SIZE));
+
+        // Act & Assert: Exception
+        assertThatThrownBy(this::open)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Corrupted record");
+    }
+
+    /**
+     * CRCが一致する記録を復号できない場合に、{@link IllegalStateException} がスローされることを検証する。
+     */
+    @Test
+    void open_shouldThrowException_whenIntactRecordIsUndecodable() throws IOException {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        byte[] body = new LogRecord(false, UUID.randomUUID(), "title", false, "a0", now, now).encodeBody();
+        body[0] = LogRecord.FORMAT_VERSION + 1;
+        try (Segment segment = Segment.open(1, segmentPath(1), SEGMENT_SIZE)) {
+            segment.append(body, true);
+        }
+
+        // Act & Assert: Exception
+        assertThatThrownBy(this::open)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Undecodable record")
+            .hasRootCauseInstanceOf(IllegalArgumentException.class);
+
+        // Assert: 記録は切り捨てられない
+        assertThat(ByteBuffer.wrap(Files.readAllBytes(segmentPath(1))).getInt(4)).isEqualTo(body.length);
+    }
+
+    /**
+     * コンパクションで最新の記録だけが書き写され、最も古いセグメントの削除の記録が取り除かれることを検証する。
+     */
+    @Test
+    void compact_shouldCopyLiveRecordsAndDropTombstonesInOldestSegment() throws IOException {
+        // Arrange
+        Expected expected;
+        try (Opened opened = open()) {
+            expected = writeSupersededSegments(opened);
+
+            // Act
+            opened.log().compact();
+
+            // Assert
+            assertThat(opened.log().getSegmentCount()).isEqualTo(1);
+            assertThat(segmentFiles()).hasSize(1);
+        }
+
+        // Assert: 開き直しても同じ内容が復元される
+        try (Opened reopened = open()) {
+            expected.assertRestored(reopened);
+        }
+    }
+
+    /**
+     * コンパクションで、より古いセグメントの版を打ち消す削除の記録が残ることを検証する。
+     */
+    @Test
+    void compact_shouldKeepTombstonesShadowingOlderSegments() {
+        // Arrange
+        UUID deleted;
+        List<UUID> kept = new ArrayList<>();
+        try (Opened opened = open()) {
+            deleted = opened.save("deleted", "a").getId();
+            while (opened.log().getSegmentCount() < 2) {
+                kept.add(opened.save("kept", "b").getId());
+            }
+            // 2つ目のセグメントに削除の記録を書き込み、更新の繰り返しで不要な記録を増やす
+            opened.repository().delete(opened.repository().findById(deleted).orElseThrow());
+            TodoEntity hot = opened.save("hot", "c");
+            kept.add(hot.getId());
+            while (opened.log().getSegmentCount() < 3) {
+                opened.repository().save(hot);
+            }
+
+            // Act
+            opened.log().compact();
+
+            // Assert
+            assertThat(opened.log().getSegmentCount()).isEqualTo(2);
+        }
+
+        // Assert: 1つ目のセグメントに残る版は復元されない
+        try (Opened reopened = open()) {
+            assertThat(reopened.repository().findById(deleted)).isEmpty();
+            assertThat(reopened.restored()).isEqualTo(kept.size());
+        }
+    }
+
+    /**
+     * 書き写しの後、セグメントの削除の前に停止した場合も、同じ内容が復元されることを検証する。
+     * <p>
+     * コンパクション前のセグメントを退避しておき、コンパクション後に削除されたものを戻して再現する。
+     */
+    @Test
+    void open_shouldRestoreSameContent_whenStoppedBetweenCopyAndDelete(@TempDir Path backup) throws IOException {
+        // Arrange
+        Expected expected;
+        try (Opened opened = open()) {
+            expected = writeSupersededSegments(opened);
+            for (Path path : segmentFiles()) {
+                Files.copy(path, backup.resolve(path.getFileName()));
+            }
+            opened.log().compact();
+        }
+        try (Stream<Path> files = Files.list(backup)) {
+            for (Path path : files.toList()) {
+                Path original = directory.resolve(path.getFileName());
+                if (Files.notExists(original)) {
+                    Files.copy(path, original);
+                }
+            }
+        }
+
+        // Act
+        try (Opened reopened = open()) {
+            // Assert
+            expected.assertRestored(reopened);
+
+            // Assert: 残ったセグメントは次のコンパクションで削除される
+            reopened.log().compact();
+            assertThat(reopened.log().getSegmentCount()).isEqualTo(1);
+        }
+        try (Opened reopened = open()) {
+            expected.assertRestored(reopened);
+        }
+    }
+
+    /**
+     * 1つ目のセグメントに削除の記録を含め、最後以外のセグメントの記録がすべて不要になるまで更新を繰り返す。
+     */
+    private static Expected writeSupersededSegments(Opened opened) {
+        UUID live = opened.save("live", "a").getId();
+        TodoEntity deleted = opened.save("deleted", "b");
+        opened.repository().delete(deleted);
+        TodoEntity hot = opened.save("hot", "c");
+        int updates = 0;
+        while (opened.log().getSegmentCount() < 4) {
+            hot.setTitle("hot " + updates++);
+            opened.repository().save(hot);
+        }
+
+        return new Expected(live, deleted.getId(), hot.getId(), hot.getTitle());
+    }
+
+    private Opened open() {
+        SegmentLog log = SegmentLog.open(directory, SEGMENT_SIZE, false, COMPACTION_THRESHOLD);
+        MvccTodoStore store = new MvccTodoStore(log);
+        int restored = log.restoreInto(store);
+        InMemoryTodoRepository repository = new InMemoryTodoRepository(
+            store,
+            new MicrosecondDateTimeProvider(),
+            new ETagGenerator<>(),
+            new SimpleMeterRegistry().counter("todo.storage.conflicts")
+        );
+
+        return new Opened(log, store, repository, restored);
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve("segment-%020d.log".formatted(sequence));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static int lastRecordOffset(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int offset = 0;
+        int last = 0;
+        while (offset + LogRecord.HEADER_SIZE <= buffer.capacity() && buffer.getInt(offset + 4) != 0) {
+            last = offset;
+            offset += LogRecord.HEADER_SIZE + buffer.getInt(offset + 4);
+        }
+
+        return last;
+    }
+
+    private static void overwrite(Path path, int offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(bytes.flip(), offset);
+        }
+    }
+
+    /**
+     * 開いたログとストア
+     *
+     * @param log        {@link SegmentLog}
+     * @param store      復元先の {@link MvccTodoStore}
+     * @param repository ストアを使用する {@link InMemoryTodoRepository}
+     * @param restored   復元した件数
+     */
+    private record Opened(
+        SegmentLog log,
+        MvccTodoStore store,
+        InMemoryTodoRepository repository,
+        int restored
+    ) implements AutoCloseable {
+
+        TodoEntity save(String title, String position) {
+            TodoEntity todo = new TodoEntity(title);
+            todo.setPosition(position);
+
+            return repository.save(todo);
+        }
+
+        @Override
+        public void close() {
+            log.close();
+        }
+    }
+
+    /**
+     * 復元されるべき内容
+     *
+     * @param live     更新していないTo-doのID
+     * @param deleted  削除したTo-doのID
+     * @param hot      更新を繰り返したTo-doのID
+     * @param hotTitle 更新を繰り返したTo-doの最後のタイトル
+     */
+    private record Expected(UUID live, UUID deleted, UUID hot, String hotTitle) {
+
+        void assertRestored(Opened opened) {
+            assertThat(opened.restored()).isEqualTo(2);
+            assertThat(opened.repository().findById(live)).isPresent();
+            assertThat(opened.repository().findById(deleted)).isEmpty();
+            assertThat(opened.repository().findById(hot)).get()
+                .extracting(TodoEntity::getTitle)
+                .isEqualTo(hotTitle);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.todoapp.todo.repository.memory;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.common.audit.MicrosecondDateTimeProvider;
+import com.example.todoapp.etag.exception.ETagMismatchException;
+import com.example.todoapp.etag.factory.ETagGenerator;
+import com.example.todoapp.todo.exception.TodoEntityNotFoundException;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.TodoListFilter;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link InMemoryTodoRepository} の単体テスト
+ * <p>
+ * 取得した {@link TodoEntity} を2つ用意し、一方を保存した後にもう一方を保存・削除することで、
+ * ETagの検証から保存までの間に他のリクエストが更新・削除した場合を再現する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>新規のTo-doを保存した場合に、IDと作成・更新日時が設定されること</li>
+ *   <li>取得したTo-doへの変更が、保存するまでストアに反映されないこと</li>
+ *   <li>絞り込み条件と手動の並び順で取得できること</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>取得後に他のリクエストが更新したTo-doを保存した場合に、{@link ETagMismatchException} がスローされること</li>
+ *   <li>取得後に他のリクエストが更新したTo-doを削除した場合に、{@link ETagMismatchException} がスローされること</li>
+ *   <li>取得後に他のリクエストが削除したTo-doを保存した場合に、{@link TodoEntityNotFoundException} がスローされること</li>
+ *   <li>取得後に他のリクエストが削除したTo-doを削除した場合に、{@link TodoEntityNotFoundException} がスローされること</li>
+ * </ul>
+ */
+class InMemoryTodoRepositoryTest {
+
+    private final ETagGenerator<TodoEntity> eTagGenerator = new ETagGenerator<>();
+
+    private final Counter conflictCounter = new SimpleMeterRegistry().counter("todo.storage.conflicts");
+
+    private final InMemoryTodoRepository repository = new InMemoryTodoRepository(
+        new MvccTodoStore(),
+        new MicrosecondDateTimeProvider(),
+        eTagGenerator,
+        conflictCounter
+    );
+
+    /**
+     * 新規のTo-doを保存した場合に、IDと作成・更新日時が設定されることを検証する。
+     */
+    @Test
+    void save_shouldAssignIdAndAuditInfo_whenNew() {
+        // Arrange
+        TodoEntity todo = todo("title", false, "a");
+
+        // Act
+        TodoEntity saved = repository.save(todo);
+
+        // Assert
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getCreatedAt()).isNotNull();
+        assertThat(saved.getUpdatedAt()).isEqualTo(saved.getCreatedAt());
+        assertThat(repository.findById(saved.getId())).get()
+            .extracting(TodoEntity::getTitle, TodoEntity::getUpdatedAt)
+            .containsExactly("title", saved.getUpdatedAt());
+    }
+
+    /**
+     * 取得したTo-doへの変更が、保存するまでストアに反映されないことを検証する。
+     */
+    @Test
+    void findById_shouldReturnDetachedCopy() {
+        // Arrange
+        TodoEntity saved = repository.save(todo("before", false, "a"));
+        TodoEntity found = repository.findById(saved.getId()).orElseThrow();
+
+        // Act
+        found.setTitle("after");
+
+        // Assert
+        assertThat(repository.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("before");
+
+        // Act
+        TodoEntity updated = repository.save(found);
+
+        // Assert
+        assertThat(updated.getUpdatedAt()).isAfter(saved.getUpdatedAt());
+        assertThat(repository.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("after");
+    }
+
+    /**
+     * 絞り込み条件と手動の並び順で取得できることを検証する。
+     */
+    @Test
+    void findAll_shouldApplyFilterAndPositionOrder() {
+        // Arrange
+        TodoEntity first = repository.save(todo("title 1", true, "b"));
+        TodoEntity second = repository.save(todo("title 2", false, "a"));
+        TodoEntity third = repository.save(todo("title 3", true, "c"));
+
+        // Act
+        Page<TodoEntity> completed = repository.findAll(
+            new TodoListFilter(true, null, null),
+            PageRequest.of(0, 10, MvccTodoStore.INDEX_ORDER)
+        );
+        List<TodoEntity> byPosition = repository.findPositionPage(Limit.of(2));
+        List<TodoEntity> afterSecond = repository.findPositionPageAfter("a", second.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(completed.getContent()).extracting(TodoEntity::getId)
+            .containsExactly(third.getId(), first.getId());
+        assertThat(completed.getTotalElements()).isEqualTo(2);
+        assertThat(byPosition).extracting(TodoEntity::getId).containsExactly(second.getId(), first.getId());
+        assertThat(afterSecond).extracting(TodoEntity::getId).containsExactly(first.getId(), third.getId());
+        assertThat(repository.findFirstPosition(second.getId())).contains("b");
+        assertThat(repository.findNextPosition("b", null)).contains("c");
+    }
+
+    /**
+     * 取得後に他のリクエストが更新したTo-doを保存した場合に、{@link ETagMismatchException} がスローされることを検証する。
+     */
+    @Test
+    void save_shouldThrowETagMismatchException_whenUpdatedConcurrently() {
+        // Arrange
+        TodoEntity saved = repository.save(todo("title", false, "a"));
+        TodoEntity winner = repository.findById(saved.getId()).orElseThrow();
+        TodoEntity loser = repository.findById(saved.getId()).orElseThrow();
+        String loserETag = eTagGenerator.generate(loser);
+        winner.setTitle("winner");
+        repository.save(winner);
+        loser.setTitle("loser");
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> repository.save(loser))
+            .isInstanceOfSatisfying(ETagMismatchException.class, e -> {
+                assertThat(e.getETag()).isEqualTo(loserETag);
+                assertThat(e.getExpected()).isEqualTo(eTagGenerator.generate(winner));
+            });
+
+        // Assert
+        assertThat(repository.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("winner");
+        assertThat(conflictCounter.count()).isEqualTo(1);
+    }
+
+    /**
+     * 取得後に他のリクエストが更新したTo-doを削除した場合に、{@link ETagMismatchException} がスローされることを検証する。
+     */
+    @Test
+    void delete_shouldThrowETagMismatchException_whenUpdatedConcurrently() {
+        // Arrange
+        TodoEntity saved = repository.save(todo("title", false, "a"));
+        TodoEntity winner = repository.findById(saved.getId()).orElseThrow();
+        TodoEntity loser = repository.findById(saved.getId()).orElseThrow();
+        winner.setCompleted(true);
+        repository.save(winner);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> repository.delete(loser))
+            .isInstanceOf(ETagMismatchException.class);
+
+        // Assert
+        assertThat(repository.findById(saved.getId())).isPresent();
+        assertThat(conflictCounter.count()).isEqualTo(1);
+    }
+
+    /**
+     * 取得後に他のリクエストが削除したTo-doを保存した場合に、{@link TodoEntityNotFoundException} がスローされることを検証する。
+     */
+    @Test
+    void save_shouldThrowTodoEntityNotFoundException_whenDeletedConcurrently() {
+        // Arrange
+        TodoEntity saved = repository.save(todo("title", false, "a"));
+        TodoEntity winner = repository.findById(saved.getId()).orElseThrow();
+        TodoEntity loser = repository.findById(saved.getId()).orElseThrow();
+        repository.delete(winner);
+        loser.setTitle("loser");
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> repository.save(loser))
+            .isInstanceOf(TodoEntityNotFoundException.class);
+
+        // Assert
+        assertThat(repository.findById(saved.getId())).isEmpty();
+        assertThat(conflictCounter.count()).isEqualTo(1);
+    }
+
+    /**
+     * 取得後に他のリクエストが削除したTo-doを削除した場合に、{@link TodoEntityNotFoundException} がスローされることを検証する。
+     */
+    @Test
+    void delete_shouldThrowTodoEntityNotFoundException_whenDeletedConcurrently() {
+        // Arrange
+        TodoEntity saved = repository.save(todo("title", false, "a"));
+        TodoEntity winner = repository.findById(saved.getId()).orElseThrow();
+        TodoEntity loser = repository.findById(saved.getId()).orElseThrow();
+        repository.delete(winner);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> repository.delete(loser))
+            .isInstanceOf(TodoEntityNotFoundException.class);
+
+        // Assert
+        assertThat(conflictCounter.count()).isEqualTo(1);
+    }
+
+    private static TodoEntity todo(String title, boolean completed, String position) {
+        TodoEntity todo = new TodoEntity(title, completed);
+        todo.setPosition(position);
+
+        return todo;
+    }
+}
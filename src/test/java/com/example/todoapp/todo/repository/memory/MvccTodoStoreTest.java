@@ -0,0 +1,359 @@
+package com.example.todoapp.todo.repository.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.example.todoapp.todo.repository.TodoListFilter;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@link MvccTodoStore} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>更新・削除の前に取得した版が、その時点の内容を保つこと</li>
+ *   <li>読み取りビューがなくなった後に、置き換えられた版と削除済みの印が回収されること</li>
+ *   <li>更新日時が現在の版より後になるよう、更新日時が補正されること</li>
+ *   <li>インデックスの並び順とその逆順で、ページを取得できること</li>
+ *   <li>絞り込む場合の総件数が、条件に一致する件数になること</li>
+ *   <li>インデックス以外の並び順で、条件に一致する版を並べ替えて取得できること</li>
+ *   <li>手動の並び順で、指定された行より後の版を取得できること</li>
+ *   <li>書き込みと並行する読み取りが、ひとつのコミット時点の一貫した内容を返すこと</li>
+ * </ul>
+ * <p>
+ * 異常系：
+ * <ul>
+ *   <li>更新日時が期待値と異なる場合に、更新・削除が行われないこと</li>
+ *   <li>削除済みのTo-doの更新・削除が行われないこと</li>
+ *   <li>同じIDのTo-doを追加した場合に、{@link IllegalStateException} がスローされること</li>
+ *   <li>ログへの記録に失敗した場合に、コミットが反映されないこと</li>
+ * </ul>
+ */
+class MvccTodoStoreTest {
+
+    private static final UUID ID_1 = UUID.fromString("00000000-0000-7000-8000-000000000001");
+    private static final UUID ID_2 = UUID.fromString("00000000-0000-7000-8000-000000000002");
+    private static final UUID ID_3 = UUID.fromString("00000000-0000-7000-8000-000000000003");
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+
+    private final MvccTodoStore store = new MvccTodoStore();
+
+    /**
+     * 更新・削除の前に取得した版が、その時点の内容を保つことを検証する。
+     */
+    @Test
+    void versionReadBeforeWrite_shouldKeepItsContent() {
+        // Arrange
+        store.insert(ID_1, "before", false, "a", NOW);
+        TodoVersion read = store.get(ID_1);
+
+        // Act
+        TodoVersion updated = store.compareAndSet(ID_1, NOW, "after", true, "b", NOW.plusSeconds(1));
+        store.compareAndDelete(ID_1, updated.updatedAt());
+
+        // Assert
+        assertThat(read.title()).isEqualTo("before");
+        assertThat(read.completed()).isFalse();
+        assertThat(read.position()).isEqualTo("a");
+        assertThat(read.updatedAt()).isEqualTo(NOW);
+        assertThat(store.get(ID_1)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    /**
+     * 読み取りビューがなくなった後に、置き換えられた版と削除済みの印が回収されることを検証する。
+     * <p>
+     * 回収前であれば、置き換えた版から古いコミット時点の版をたどれる。
+     */
+    @Test
+    void retiredVersions_shouldBeReclaimed_whenNoReadViewRemains() {
+        // Arrange
+        TodoVersion inserted = store.insert(ID_1, "before", false, "a", NOW);
+
+        // Act
+        TodoVersion updated = store.compareAndSet(ID_1, NOW, "after", false, "a", NOW.plusSeconds(1));
+        store.insert(ID_2, "other", false, "b", NOW.plusSeconds(2));
+        store.compareAndDelete(ID_2, NOW.plusSeconds(2));
+        store.insert(ID_3, "next", false, "c", NOW.plusSeconds(3));
+
+        // Assert
+        assertThat(updated.visibleAt(inserted.commit())).isNull();
+        assertThat(store.findPage(TodoListFilter.NONE, Pageable.unpaged()).getContent())
+            .extracting(TodoVersion::id)
+            .containsExactly(ID_3, ID_1);
+
+        // Assert: 削除済みの印が回収され、同じIDで追加できる
+        assertThatNoException().isThrownBy(() -> store.insert(ID_2, "again", false, "d", NOW.plusSeconds(4)));
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    /**
+     * 更新日時が現在の版より後になるよう、更新日時が補正されることを検証する。
+     */
+    @Test
+    void compareAndSet_shouldAdvanceUpdatedAt_whenClockDidNotMove() {
+        // Arrange
+        store.insert(ID_1, "title", false, "a", NOW);
+
+        // Act
+        TodoVersion updated = store.compareAndSet(ID_1, NOW, "title", true, "a", NOW);
+
+        // Assert
+        assertThat(updated.updatedAt()).isEqualTo(NOW.plusNanos(1_000));
+        assertThat(updated.createdAt()).isEqualTo(NOW);
+        assertThat(store.get(ID_1).completed()).isTrue();
+    }
+
+    /**
+     * 更新日時が期待値と異なる場合に、更新・削除が行われないことを検証する。
+     */
+    @Test
+    void compareAndSet_shouldNotWrite_whenUpdatedAtDiffers() {
+        // Arrange
+        store.insert(ID_1, "title", false, "a", NOW);
+        store.compareAndSet(ID_1, NOW, "winner", false, "a", NOW.plusSeconds(1));
+
+        // Act
+        TodoVersion updated = store.compareAndSet(ID_1, NOW, "loser", false, "a", NOW.plusSeconds(2));
+        boolean deleted = store.compareAndDelete(ID_1, NOW);
+
+        // Assert
+        assertThat(updated).isNull();
+        assertThat(deleted).isFalse();
+        assertThat(store.get(ID_1).title()).isEqualTo("winner");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    /**
+     * 削除済みのTo-doの更新・削除が行われないことを検証する。
+     */
+    @Test
+    void compareAndSet_shouldNotWrite_whenDeleted() {
+        // Arrange
+        store.insert(ID_1, "title", false, "a", NOW);
+        store.compareAndDelete(ID_1, NOW);
+
+        // Act
+        TodoVersion updated = store.compareAndSet(ID_1, NOW, "title", true, "a", NOW.plusSeconds(1));
+        boolean deleted = store.compareAndDelete(ID_1, NOW);
+
+        // Assert
+        assertThat(updated).isNull();
+        assertThat(deleted).isFalse();
+        assertThat(store.get(ID_1)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    /**
+     * 同じIDのTo-doを追加した場合に、{@link IllegalStateException} がスローされることを検証する。
+     */
+    @Test
+    void insert_shouldThrowException_whenIdExists() {
+        // Arrange
+        store.insert(ID_1, "title", false, "a", NOW);
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> store.insert(ID_1, "title", false, "b", NOW))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    /**
+     * ログへの記録に失敗した場合に、コミットが反映されないことを検証する。
+     */
+    @Test
+    void insert_shouldNotCommit_whenCommitLogFails() {
+        // Arrange
+        MvccTodoStore failing = new MvccTodoStore(version -> {
+            throw new IllegalStateException("disk full");
+        });
+
+        // Act & Assert: Exception
+        assertThatThrownBy(() -> failing.insert(ID_1, "title", false, "a", NOW))
+            .isInstanceOf(IllegalStateException.class);
+
+        // Assert
+        assertThat(failing.get(ID_1)).isNull();
+        assertThat(failing.size()).isZero();
+    }
+
+    /**
+     * インデックスの並び順とその逆順で、ページを取得できることを検証する。
+     */
+    @Test
+    void findPage_shouldScanIndex_whenSortedByIndexOrder() {
+        // Arrange
+        store.insert(ID_1, "title 1", false, "a", NOW);
+        store.insert(ID_2, "title 2", false, "b", NOW.plusSeconds(1));
+        store.insert(ID_3, "title 3", false, "c", NOW.plusSeconds(2));
+
+        // Act
+        Page<TodoVersion> descending = store.findPage(
+            TodoListFilter.NONE,
+            PageRequest.of(0, 2, MvccTodoStore.INDEX_ORDER)
+        );
+        Page<TodoVersion> ascending = store.findPage(
+            TodoListFilter.NONE,
+            PageRequest.of(1, 2, MvccTodoStore.INDEX_ORDER.ascending())
+        );
+
+        // Assert
+        assertThat(descending.getContent()).extracting(TodoVersion::id).containsExactly(ID_3, ID_2);
+        assertThat(descending.getTotalElements()).isEqualTo(3);
+        assertThat(ascending.getContent()).extracting(TodoVersion::id).containsExactly(ID_3);
+        assertThat(ascending.getTotalElements()).isEqualTo(3);
+    }
+
+    /**
+     * 絞り込む場合の総件数が、条件に一致する件数になることを検証する。
+     */
+    @Test
+    void findPage_shouldCountMatchingVersions_whenFiltered() {
+        // Arrange
+        store.insert(ID_1, "title 1", true, "a", NOW);
+        store.insert(ID_2, "title 2", false, "b", NOW.plusDays(1));
+        store.insert(ID_3, "title 3", true, "c", NOW.plusDays(2));
+        store.compareAndSet(ID_2, NOW.plusDays(1), "title 2", true, "b", NOW.plusDays(3));
+
+        // Act
+        Page<TodoVersion> completed = store.findPage(
+            new TodoListFilter(true, null, null),
+            PageRequest.of(0, 1, MvccTodoStore.INDEX_ORDER)
+        );
+        Page<TodoVersion> created = store.findPage(
+            new TodoListFilter(true, NOW, NOW.plusDays(2)),
+            PageRequest.of(0, 10, MvccTodoStore.INDEX_ORDER)
+        );
+        Page<TodoVersion> incomplete = store.findPage(
+            new TodoListFilter(false, null, null),
+            PageRequest.of(0, 10, MvccTodoStore.INDEX_ORDER)
+        );
+
+        // Assert
+        assertThat(completed.getContent()).extracting(TodoVersion::id).containsExactly(ID_2);
+        assertThat(completed.getTotalElements()).isEqualTo(3);
+        assertThat(created.getContent()).extracting(TodoVersion::id).containsExactly(ID_2, ID_1);
+        assertThat(created.getTotalElements()).isEqualTo(2);
+        assertThat(incomplete.getContent()).isEmpty();
+        assertThat(incomplete.getTotalElements()).isZero();
+    }
+
+    /**
+     * インデックス以外の並び順で、条件に一致する版を並べ替えて取得できることを検証する。
+     */
+    @Test
+    void findPage_shouldSortMatchingVersions_whenSortedByOtherOrder() {
+        // Arrange
+        store.insert(ID_1, "b", false, "a", NOW);
+        store.insert(ID_2, "c", false, "b", NOW.plusSeconds(1));
+        store.insert(ID_3, "a", true, "c", NOW.plusSeconds(2));
+
+        // Act
+        Page<TodoVersion> page = store.findPage(
+            new TodoListFilter(false, null, null),
+            PageRequest.of(0, 1, Sort.by("title", "id"))
+        );
+
+        // Assert
+        assertThat(page.getContent()).extracting(TodoVersion::id).containsExactly(ID_1);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    /**
+     * 手動の並び順で、指定された行より後の版を取得できることを検証する。
+     */
+    @Test
+    void findByPosition_shouldReturnVersionsAfterRow() {
+        // Arrange
+        store.insert(ID_1, "title 1", false, "b", NOW);
+        store.insert(ID_2, "title 2", false, "b", NOW.plusSeconds(1));
+        store.insert(ID_3, "title 3", false, "a", NOW.plusSeconds(2));
+
+        // Act
+        List<TodoVersion> first = store.findByPosition(null, null, 2);
+        List<TodoVersion> next = store.findByPosition("b", ID_1, 2);
+
+        // Assert
+        assertThat(first).extracting(TodoVersion::id).containsExactly(ID_3, ID_1);
+        assertThat(next).extracting(TodoVersion::id).containsExactly(ID_2);
+        assertThat(store.findNextPosition(null, ID_3)).isEqualTo("b");
+        assertThat(store.findNextPosition("b", null)).isNull();
+    }
+
+    /**
+     * 書き込みと並行する読み取りが、ひとつのコミット時点の一貫した内容を返すことを検証する。
+     * <p>
+     * 書き込み側は同じTo-doの更新（インデックス上の位置が移動する）と、別のTo-doの追加・削除を繰り返す。
+     * 読み取り側は、更新中のTo-doが常に見えること、一覧に同じIDが重複しないこと、
+     * 一覧の件数と総件数が一致することを確認する。
+     */
+    @Test
+    void concurrentReads_shouldSeeConsistentSnapshot() throws Exception {
+        // Arrange
+        int rows = 8;
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            UUID id = new UUID(0, i + 1);
+            ids.add(id);
+            store.insert(id, "title " + i, false, "p" + i, NOW);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            LocalDateTime now = NOW;
+            for (int i = 0; running.get(); i++) {
+                UUID id = ids.get(i % rows);
+                TodoVersion current = store.get(id);
+                now = now.plusNanos(1_000);
+                store.compareAndSet(id, current.updatedAt(), current.title(), i % 2 == 0, current.position(), now);
+                if (i % 3 == 0) {
+                    UUID transientId = new UUID(1, i);
+                    TodoVersion inserted = store.insert(transientId, "transient", true, "z", now);
+                    store.compareAndDelete(transientId, inserted.updatedAt());
+                }
+            }
+        });
+
+        // Act
+        List<CompletableFuture<Void>> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            readers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    for (UUID id : ids) {
+                        assertThat(store.get(id)).isNotNull();
+                    }
+                    Page<TodoVersion> page = store.findPage(TodoListFilter.NONE, Pageable.unpaged());
+                    Set<UUID> seen = new HashSet<>();
+                    page.getContent().forEach(version -> assertThat(seen.add(version.id())).isTrue());
+                    assertThat(seen).containsAll(ids);
+                    assertThat(page.getContent()).hasSize((int) page.getTotalElements());
+                }
+            }));
+        }
+
+        // Assert
+        try {
+            CompletableFuture.allOf(readers.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            running.set(false);
+        }
+        writer.get(10, TimeUnit.SECONDS);
+        assertThat(store.size()).isEqualTo(rows);
+        assertThat(store.findPage(TodoListFilter.NONE, Pageable.unpaged()).getContent()).hasSize(rows);
+    }
+}
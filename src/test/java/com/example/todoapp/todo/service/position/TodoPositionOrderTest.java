@@ -0,0 +1,266 @@
+package com.example.todoapp.todo.service.position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.todoapp.todo.dto.TodoMoveRequest;
+import com.example.todoapp.todo.dto.TodoRequest;
+import com.example.todoapp.todo.model.TodoEntity;
+import com.example.todoapp.todo.repository.JpaTodoRepository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * 手動の並び順の移動と一覧取得の結合テスト
+ * <p>
+ * サービスとリポジトリをモックせず、移動後の並び順を {@code sort=position} の一覧取得で検証する。
+ * {@link TodoPositionRebalancer} と {@link JpaTodoRepository} を使用するため、
+ * インメモリストアで実行する {@code memoryTest} の対象（コントローラのパッケージ）には含めない。
+ * データベースは他のテストと共有するため、作成したTo-doどうしの相対的な並び順のみを比較する。
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>作成したTo-doが作成順に並ぶこと</li>
+ *   <li>移動したTo-doが指定されたTo-doの直後・先頭に並ぶこと</li>
+ *   <li>位置キーを割り当て直しても、並び順が変わらずキーが短くなること</li>
+ *   <li>区間の行が上限の件数を超える場合も、割り当て直しを繰り返すと並び順が変わらずキーが短くなること</li>
+ *   <li>移動前に取得したTo-doを更新しても、移動後の位置キーが変わらないこと</li>
+ * </ul>
+ */
+@SpringBootTest(properties = {
+    "app.position.max-key-length=12",
+    "app.position.target-key-length=10",
+    "app.position.rebalance-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class TodoPositionOrderTest {
+
+    /** カーソルで一覧を辿る際の表示件数 */
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JpaTodoRepository jpaTodoRepository;
+
+    @Autowired
+    private TodoPositionRebalancer todoPositionRebalancer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 作成したTo-doが作成順に並び、移動したTo-doが指定されたTo-doの直後・先頭に並ぶことを検証する。
+     */
+    @Test
+    void moveTodo_shouldReorderPositionList() throws Exception {
+        // Arrange
+        String first = create(VALID_TITLE_1);
+        String second = create(VALID_TITLE_1);
+        String third = create(VALID_TITLE_1);
+        List<String> ids = List.of(first, second, third);
+
+        // Assert: 作成順
+        assertThat(positionOrder(ids)).containsExactly(first, second, third);
+
+        // Act
+        move(third, first);
+
+        // Assert
+        assertThat(positionOrder(ids)).containsExactly(first, third, second);
+
+        // Act
+        move(second, null);
+
+        // Assert
+        assertThat(positionOrder(ids)).containsExactly(second, first, third);
+    }
+
+    /**
+     * 位置キーを割り当て直しても、並び順が変わらずキーが短くなることを検証する。
+     */
+    @Test
+    void rebalance_shouldShortenKeysWithoutChangingOrder() throws Exception {
+        // Arrange: 同じ場所（先頭のTo-doの直後）への移動を繰り返し、位置キーを長くする
+        String anchor = create(VALID_TITLE_1);
+        String second = create(VALID_TITLE_1);
+        String third = create(VALID_TITLE_1);
+        List<String> ids = List.of(anchor, second, third);
+        for (int i = 0; i < 36; i++) {
+            move(i % 2 == 0 ? third : second, anchor);
+        }
+        assertThat(positionOrder(ids)).containsExactly(anchor, second, third);
+        assertThat(position(second)).hasSizeGreaterThan(12);
+
+        // Act
+        todoPositionRebalancer.rebalance();
+
+        // Assert
+        assertThat(positionOrder(ids)).containsExactly(anchor, second, third);
+        assertThat(position(second)).hasSizeLessThanOrEqualTo(12);
+        assertThat(position(third)).hasSizeLessThanOrEqualTo(12);
+    }
+
+    /**
+     * 区間の行が上限の件数を超える場合に、1回で区間のすべての行を割り当て直さず、
+     * 繰り返すと並び順が変わらずキーが短くなることを検証する。
+     */
+    @Test
+    void rebalance_shouldCapIntervalAtBatchSize() throws Exception {
+        // Arrange: 先頭のTo-doの直後への移動を繰り返し、上限の件数（2件）を超える行の位置キーを長くする
+        String anchor = create(VALID_TITLE_1);
+        List<String> moved = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            moved.add(create(VALID_TITLE_1));
+        }
+        for (int i = 0; i < 36; i++) {
+            move(moved.get(i % moved.size()), anchor);
+        }
+        List<String> ids = new ArrayList<>(moved);
+        ids.add(0, anchor);
+        List<String> order = positionOrder(ids);
+        assertThat(moved).anySatisfy(id -> assertThat(position(id)).hasSizeGreaterThan(12));
+
+        TodoPositionRebalancer rebalancer = new TodoPositionRebalancer(
+            jpaTodoRepository,
+            new TransactionTemplate(transactionManager),
+            12,
+            10,
+            2,
+            Counter.builder("todo.position.rebalanced").register(new SimpleMeterRegistry())
+        );
+
+        // Act
+        List<Integer> counts = new ArrayList<>();
+        do {
+            counts.add(rebalancer.rebalance());
+            assertThat(positionOrder(ids)).isEqualTo(order);
+        } while (counts.get(counts.size() - 1) > 0 && counts.size() < 10);
+
+        // Assert
+        assertThat(counts.get(0)).isPositive().isLessThan(moved.size());
+        assertThat(moved).allSatisfy(id -> assertThat(position(id)).hasSizeLessThanOrEqualTo(12));
+    }
+
+    /**
+     * 移動前に取得したTo-doを更新しても、移動後の位置キーが変わらないことを検証する。
+     */
+    @Test
+    void updateTodo_shouldNotOverwritePosition() throws Exception {
+        // Arrange
+        String first = create(VALID_TITLE_1);
+        String second = create(VALID_TITLE_1);
+        List<String> ids = List.of(first, second);
+        move(second, null);
+        String moved = position(second);
+
+        // Act
+        mockMvc
+            .perform(put("%s/{id}".formatted(BASE_URL), second)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(VALID_TITLE_2, true)))
+                .header("If-Match", currentETag(second))
+            )
+            .andExpect(status().isOk());
+
+        // Assert
+        assertThat(position(second)).isEqualTo(moved);
+        assertThat(positionOrder(ids)).containsExactly(second, first);
+    }
+
+    private String create(String title) throws Exception {
+        MvcResult result = mockMvc
+            .perform(post(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoRequest(title, null)))
+            )
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private void move(String id, String after) throws Exception {
+        mockMvc
+            .perform(put("%s/{id}/position".formatted(BASE_URL), id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new TodoMoveRequest(after == null ? null : UUID.fromString(after))
+                ))
+                .header("If-Match", currentETag(id))
+            )
+            .andExpect(status().isOk());
+    }
+
+    private String currentETag(String id) throws Exception {
+        return mockMvc
+            .perform(get("%s/{id}".formatted(BASE_URL), id))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+    }
+
+    private String position(String id) {
+        return jpaTodoRepository.findById(UUID.fromString(id)).map(TodoEntity::getPosition).orElseThrow();
+    }
+
+    /**
+     * 手動の並び順の一覧をカーソルで最後まで辿り、指定されたTo-doのIDを並び順で返す。
+     */
+    private List<String> positionOrder(List<String> ids) throws Exception {
+        List<String> order = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(BASE_URL)
+                .param("sort", "position")
+                .param("size", String.valueOf(PAGE_SIZE));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc
+                .perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+            );
+            for (JsonNode element : page.get("content")) {
+                String id = element.get("data").get("id").asText();
+                if (ids.contains(id)) {
+                    order.add(id);
+                }
+            }
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        return order;
+    }
+}
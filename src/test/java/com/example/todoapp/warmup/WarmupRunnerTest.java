@@ -0,0 +1,132 @@
+package com.example.todoapp.warmup;
+
+import java.util.List;
+
+import jakarta.validation.Validator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.todoapp.etag.dto.ETagResponse;
+import com.example.todoapp.todo.dto.TodoResponse;
+import com.example.todoapp.todo.service.command.TodoCommandService;
+import com.example.todoapp.todo.service.query.TodoQueryService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import static com.example.todoapp.testutil.TestConstants.*;
+
+/**
+ * {@link WarmupRunner} の単体テスト
+ * <p>
+ * 正常系：
+ * <ul>
+ *   <li>トランザクションマネージャがある場合に、繰り返しごとにロールバックするトランザクション内で作業用データを操作すること</li>
+ *   <li>トランザクションマネージャがない場合に、作業用データを書き込まずに読み込みだけを繰り返すこと</li>
+ * </ul>
+ */
+class WarmupRunnerTest {
+
+    private static final int ITERATIONS = 3;
+
+    private final TodoQueryService todoQueryService = mock(TodoQueryService.class);
+    private final TodoCommandService todoCommandService = mock(TodoCommandService.class);
+    private final Validator validator = mock(Validator.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        ETagResponse<TodoResponse> todo = new ETagResponse<>(
+            new TodoResponse(TODO_ID_1, VALID_TITLE_1, false, CREATED_DATE_1, CREATED_DATE_1),
+            E_TAG_1
+        );
+        Page<ETagResponse<TodoResponse>> page = new PageImpl<>(List.of());
+
+        when(todoCommandService.createTodo(any())).thenReturn(todo);
+        when(todoCommandService.updateTodo(any(), any(), any())).thenReturn(todo);
+        when(todoQueryService.getTodo(any())).thenReturn(todo);
+        when(todoQueryService.getTodoPage(anyInt(), anyInt(), any(), any())).thenReturn(page);
+    }
+
+    /**
+     * トランザクションマネージャがある場合に、繰り返しごとにロールバックするトランザクション内で作業用データを操作することを検証する。
+     */
+    @Test
+    void shouldExerciseWritesInRollbackTransactionPerIteration() {
+        // Arrange
+        RecordingTransactionOperations rollbackTemplate = new RecordingTransactionOperations();
+        WarmupRunner runner = runner(rollbackTemplate);
+
+        // Act
+        runner.run(null);
+
+        // Assert
+        assertThat(rollbackTemplate.transactions).isEqualTo(ITERATIONS);
+        assertThat(rollbackTemplate.rolledBack).isEqualTo(ITERATIONS);
+
+        // Assert: Mock
+        verify(todoCommandService, times(ITERATIONS)).createTodo(any());
+        verify(todoCommandService, times(ITERATIONS)).updateTodo(any(), any(), any());
+        verify(todoCommandService, times(ITERATIONS)).deleteTodo(any(), any());
+    }
+
+    /**
+     * トランザクションマネージャがない場合に、作業用データを書き込まずに読み込みだけを繰り返すことを検証する。
+     */
+    @Test
+    void shouldSkipWrites_whenNoTransactionManager() {
+        // Arrange
+        WarmupRunner runner = runner(null);
+
+        // Act
+        runner.run(null);
+
+        // Assert: Mock
+        verifyNoInteractions(todoCommandService);
+        verify(todoQueryService, atLeast(ITERATIONS)).getTodoPage(anyInt(), anyInt(), any(), any());
+    }
+
+    private WarmupRunner runner(TransactionOperations rollbackTemplate) {
+        return new WarmupRunner(
+            todoQueryService,
+            todoCommandService,
+            rollbackTemplate,
+            objectMapper,
+            validator,
+            ITERATIONS,
+            1,
+            20
+        );
+    }
+
+    /**
+     * 開始したトランザクションとロールバックを指示されたトランザクションの数を記録する {@link TransactionOperations}
+     */
+    private static final class RecordingTransactionOperations implements TransactionOperations {
+
+        private int transactions;
+        private int rolledBack;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            transactions++;
+            TransactionStatus status = new SimpleTransactionStatus();
+            T result = action.doInTransaction(status);
+            if (status.isRollbackOnly()) {
+                rolledBack++;
+            }
+
+            return result;
+        }
+    }
+}